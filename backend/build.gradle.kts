@@ -56,6 +56,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-cache")
     implementation("org.springframework.session:spring-session-data-redis")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310") // 날짜 직렬화
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile") // 이벤트 바이너리 직렬화
 
     // --- JWT ---
     implementation("io.jsonwebtoken:jjwt-api:0.12.6")
@@ -91,6 +92,11 @@ dependencies {
     // --- WebFlux ---
     implementation("org.springframework.boot:spring-boot-starter-webflux")
 
+    // --- Resilience4j (PG 호출 서킷 브레이커 / 벌크헤드) ---
+    implementation("io.github.resilience4j:resilience4j-circuitbreaker:2.2.0")
+    implementation("io.github.resilience4j:resilience4j-bulkhead:2.2.0")
+    implementation("io.github.resilience4j:resilience4j-reactor:2.2.0")
+
     // --- Kafka ---
     implementation("org.springframework.kafka:spring-kafka")
 
@@ -114,4 +120,24 @@ dependencies {
 
 tasks.withType<Test> {
     useJUnitPlatform()
+}
+
+tasks.named<Test>("test") {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+// 성능 비교용 테스트 (@Tag("benchmark")) - ./gradlew benchmark
+tasks.register<Test>("benchmark") {
+    description = "Runs benchmark-tagged tests."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
 }
\ No newline at end of file
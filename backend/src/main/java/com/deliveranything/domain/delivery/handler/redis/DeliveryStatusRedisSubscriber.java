@@ -4,52 +4,39 @@ import com.deliveranything.domain.delivery.entity.Delivery;
 import com.deliveranything.domain.delivery.event.dto.DeliveryStatusEvent;
 import com.deliveranything.domain.delivery.repository.DeliveryRepository;
 import com.deliveranything.domain.notification.subscriber.delivery.DeliveryStatusNotifier;
+import com.deliveranything.global.event.EventChannel;
+import com.deliveranything.global.event.EventDispatcher;
+import com.deliveranything.global.event.EventGroup;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.PatternTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Component
 @RequiredArgsConstructor
-public class DeliveryStatusRedisSubscriber implements MessageListener {
+public class DeliveryStatusRedisSubscriber {
 
-  private static final String CHANNEL = "delivery-status-events";
-
-  private final ObjectMapper objectMapper;
   private final DeliveryStatusNotifier deliveryStatusNotifier;
-  private final RedisMessageListenerContainer container;
+  private final EventDispatcher eventDispatcher;
+  private final TransactionTemplate transactionTemplate;
   private final DeliveryRepository deliveryRepository;
   private final RedisTemplate<String, Object> redisTemplate;
 
   @PostConstruct
   public void subscribe() {
-    container.addMessageListener(this, new PatternTopic(CHANNEL));
+    eventDispatcher.subscribe(EventChannel.DELIVERY_STATUS, EventGroup.DELIVERY, this::handle);
   }
 
-  @Override
-  @Transactional
-  public void onMessage(Message message, byte[] pattern) {
-    try {
-      String body = new String(message.getBody());
-      DeliveryStatusEvent event = objectMapper.readValue(body, DeliveryStatusEvent.class);
-
-      // 1️⃣ 상태 변경 처리
-      handleStatusChange(event);
-      // 2️⃣ SSE 알림 전송
-      deliveryStatusNotifier.publish(event);
-
-    } catch (Exception e) {
-      throw new CustomException(ErrorCode.REDIS_MESSAGE_PROCESSING_ERROR);
-    }
+  // 디스패처는 프록시를 거치지 않으므로 트랜잭션은 템플릿으로 직접 연다
+  private void handle(DeliveryStatusEvent event) {
+    // 1️⃣ 상태 변경 처리
+    transactionTemplate.executeWithoutResult(status -> handleStatusChange(event));
+    // 2️⃣ SSE 알림 전송
+    deliveryStatusNotifier.publish(event);
   }
 
   // 상태 변경 처리
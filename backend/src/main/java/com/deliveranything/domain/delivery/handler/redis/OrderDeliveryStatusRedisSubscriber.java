@@ -9,24 +9,21 @@ import com.deliveranything.domain.notification.subscriber.delivery.OrderDelivery
 import com.deliveranything.domain.order.entity.Order;
 import com.deliveranything.domain.order.enums.OrderStatus;
 import com.deliveranything.domain.order.service.DeliveryOrderService;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deliveranything.global.event.EventChannel;
+import com.deliveranything.global.event.EventDispatcher;
+import com.deliveranything.global.event.EventGroup;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.PatternTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Component
 @RequiredArgsConstructor
-public class OrderDeliveryStatusRedisSubscriber implements MessageListener {
+public class OrderDeliveryStatusRedisSubscriber {
 
   private final NotificationService notificationService;
-  private final ObjectMapper objectMapper;
-  private final RedisMessageListenerContainer container;
+  private final EventDispatcher eventDispatcher;
+  private final TransactionTemplate transactionTemplate;
   private final DeliveryOrderService deliveryOrderService;
   private final DeliveryRepository deliveryRepository;
   private final DeliveryService deliveryService;
@@ -34,24 +31,15 @@ public class OrderDeliveryStatusRedisSubscriber implements MessageListener {
 
   @PostConstruct
   public void subscribe() {
-    container.addMessageListener(this, new PatternTopic("order-delivery-status"));
+    eventDispatcher.subscribe(EventChannel.ORDER_DELIVERY_STATUS, EventGroup.DELIVERY,
+        this::handle);
   }
 
-  @Override
-  @Transactional
-  public void onMessage(Message message, byte[] pattern) {
-    try {
-      String body = new String(message.getBody());
-      OrderStatusUpdateEvent event = objectMapper.readValue(body, OrderStatusUpdateEvent.class);
-
-      // 1️⃣ 상태 변경 처리 (이벤트 기반)
-      handleStatusChange(event);
-      // 2️⃣ 알림 전송
-      sendNotifications(event);
-
-    } catch (JsonProcessingException e) {
-      e.printStackTrace();
-    }
+  private void handle(OrderStatusUpdateEvent event) {
+    // 1️⃣ 상태 변경 처리 (이벤트 기반, 주문 상태 변경과 Delivery 생성을 한 트랜잭션으로)
+    transactionTemplate.executeWithoutResult(status -> handleStatusChange(event));
+    // 2️⃣ 알림 전송
+    sendNotifications(event);
   }
 
   // 상태 변경 처리
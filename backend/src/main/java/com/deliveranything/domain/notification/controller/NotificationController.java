@@ -1,9 +1,11 @@
 package com.deliveranything.domain.notification.controller;
 
-import com.deliveranything.domain.notification.entity.Notification;
+import com.deliveranything.domain.notification.dto.NotificationResponse;
 import com.deliveranything.domain.notification.repository.EmitterRepository;
 import com.deliveranything.domain.notification.service.NotificationService;
+import com.deliveranything.domain.notification.sse.SseBroadcaster;
 import com.deliveranything.global.common.ApiResponse;
+import com.deliveranything.global.common.CursorPageResponse;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
 import com.deliveranything.global.security.auth.SecurityUser;
@@ -11,7 +13,6 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -32,6 +33,7 @@ public class NotificationController {
 
   private final NotificationService notificationService;
   private final EmitterRepository emitterRepository;
+  private final SseBroadcaster sseBroadcaster;
 
   @Operation(summary = "SSE 구독", description = "SSE를 통해 실시간 알림을 구독합니다. 각 기기별로 고유한 deviceId를 헤더(X-Device-ID)에 담아 요청해야 합니다.")
   @GetMapping("/stream")
@@ -47,35 +49,41 @@ public class NotificationController {
 
     SseEmitter emitter = new SseEmitter(60 * 1000L);
     emitterRepository.save(profileId, deviceId, emitter);
+    // 다른 노드에서 발행한 이벤트도 받도록 프로필 채널 구독
+    sseBroadcaster.subscribe(profileId);
 
     // 연결 종료 시 Emitter 제거
-    emitter.onCompletion(() -> emitterRepository.remove(profileId, deviceId));
-    emitter.onTimeout(() -> emitterRepository.remove(profileId, deviceId));
+    emitter.onCompletion(() -> disconnect(profileId, deviceId));
+    emitter.onTimeout(() -> disconnect(profileId, deviceId));
 
     // 최초 연결 확인 이벤트 전송
     try {
       emitter.send(
           SseEmitter.event().name("connect").data("SSE connected with deviceId: " + deviceId));
     } catch (Exception e) {
-      emitterRepository.remove(profileId, deviceId);
+      disconnect(profileId, deviceId);
     }
 
     return emitter;
   }
 
-  @Operation(summary = "알림 목록 조회", description = "사용자의 알림 목록을 조회합니다. isRead 파라미터로 읽음/안읽음 필터링이 가능합니다.")
+  @Operation(summary = "알림 목록 조회", description = "사용자의 알림 목록을 최신순 커서 기반으로 조회합니다. isRead 파라미터로 읽음/안읽음 필터링이 가능합니다.")
   @GetMapping
-  public ResponseEntity<ApiResponse<List<Notification>>> getNotifications(
+  public ResponseEntity<ApiResponse<CursorPageResponse<NotificationResponse>>> getNotifications(
       @AuthenticationPrincipal SecurityUser securityUser,
       @Parameter(description = "읽음 상태 필터 (true: 읽음, false: 안읽음, 미포함: 전체)")
-      @RequestParam(required = false) Boolean isRead
+      @RequestParam(required = false) Boolean isRead,
+      @Parameter(description = "다음 페이지 토큰 (첫 페이지 조회 시 미포함)")
+      @RequestParam(required = false) String nextPageToken,
+      @Parameter(description = "페이지 크기")
+      @RequestParam(defaultValue = "20") int size
   ) {
     Long profileId = securityUser.getCurrentActiveProfileIdSafe();
     if (profileId == null) {
       throw new CustomException(ErrorCode.PROFILE_REQUIRED);
     }
-    return ResponseEntity.ok(
-        ApiResponse.success(notificationService.getNotifications(profileId, isRead)));
+    return ResponseEntity.ok(ApiResponse.success(
+        notificationService.getNotifications(profileId, isRead, nextPageToken, size)));
   }
 
   @Operation(summary = "알림 읽음 처리", description = "특정 알림을 읽음으로 표시합니다.")
@@ -92,6 +100,18 @@ public class NotificationController {
     return ResponseEntity.ok(ApiResponse.success());
   }
 
+  @Operation(summary = "알림 전체 읽음 처리", description = "사용자의 읽지 않은 알림을 모두 읽음으로 표시합니다.")
+  @PostMapping("/read-all")
+  public ResponseEntity<ApiResponse<Integer>> markAllAsRead(
+      @AuthenticationPrincipal SecurityUser securityUser
+  ) {
+    Long profileId = securityUser.getCurrentActiveProfileIdSafe();
+    if (profileId == null) {
+      throw new CustomException(ErrorCode.PROFILE_REQUIRED);
+    }
+    return ResponseEntity.ok(ApiResponse.success(notificationService.markAllAsRead(profileId)));
+  }
+
   @Operation(summary = "읽지 않은 알림 수 조회", description = "사용자의 읽지 않은 알림 수를 조회합니다.")
   @GetMapping("/unread-count")
   public ResponseEntity<ApiResponse<Long>> getUnreadCount(
@@ -103,4 +123,9 @@ public class NotificationController {
     }
     return ResponseEntity.ok(ApiResponse.success(notificationService.getUnreadCount(profileId)));
   }
-}
\ No newline at end of file
+
+  private void disconnect(Long profileId, String deviceId) {
+    emitterRepository.remove(profileId, deviceId);
+    sseBroadcaster.unsubscribeIfIdle(profileId);
+  }
+}
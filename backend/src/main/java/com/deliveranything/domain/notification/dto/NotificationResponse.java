@@ -0,0 +1,26 @@
+package com.deliveranything.domain.notification.dto;
+
+import com.deliveranything.domain.notification.entity.Notification;
+import com.deliveranything.domain.notification.enums.NotificationType;
+import java.time.LocalDateTime;
+
+public record NotificationResponse(
+    Long id,
+    NotificationType type,
+    String message,
+    String data,
+    boolean isRead,
+    LocalDateTime createdAt
+) {
+
+  public static NotificationResponse from(Notification notification) {
+    return new NotificationResponse(
+        notification.getId(),
+        notification.getType(),
+        notification.getMessage(),
+        notification.getData(),
+        notification.isRead(),
+        notification.getCreatedAt()
+    );
+  }
+}
@@ -0,0 +1,9 @@
+package com.deliveranything.domain.notification.dto.projection;
+
+public record NotificationRetentionProjection(
+    Long id,
+    Long recipientId,
+    boolean isRead
+) {
+
+}
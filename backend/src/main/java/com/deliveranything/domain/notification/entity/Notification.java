@@ -20,7 +20,10 @@ import lombok.Setter;
 @Builder
 @Table(
     name = "notifications",
-    indexes = @Index(name = "idx_notification_recipient_id_created_at", columnList = "recipientId, createdAt")
+    indexes = {
+        @Index(name = "idx_notification_recipient_id_created_at", columnList = "recipientId, createdAt"),
+        @Index(name = "idx_notification_type_created_at", columnList = "type, createdAt")
+    }
 )
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,50 @@
+package com.deliveranything.domain.notification.entity;
+
+import com.deliveranything.domain.notification.enums.NotificationType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 보관 기간이 지난 알림 이력 (notifications 테이블에서 이동, 원본 ID 유지)
+@Entity
+@Getter
+@Table(
+    name = "notifications_archive",
+    indexes = @Index(name = "idx_notification_archive_recipient_id_created_at", columnList = "recipientId, createdAt")
+)
+@NoArgsConstructor
+public class NotificationArchive {
+
+  @Id
+  private Long id;
+
+  @Column(nullable = false)
+  private Long recipientId; // Profile ID
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 30)
+  private NotificationType type;
+
+  @Column(nullable = false, length = 255)
+  private String message;
+
+  @Column(length = 500)
+  private String data; // JSON
+
+  @Column(nullable = false)
+  private boolean isRead;
+
+  @Column(name = "created_at")
+  private LocalDateTime createdAt;
+
+  @Column(nullable = false)
+  private LocalDateTime archivedAt;
+
+}
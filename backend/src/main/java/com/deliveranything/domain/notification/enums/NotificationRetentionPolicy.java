@@ -0,0 +1,7 @@
+package com.deliveranything.domain.notification.enums;
+
+// 보관 기간이 지난 알림의 처리 방식
+public enum NotificationRetentionPolicy {
+  ARCHIVE,  // 읽은 알림을 notifications_archive 로 이동 (이력 보존)
+  DELETE    // 읽음 여부와 관계없이 삭제 (배차 요청 등 시효가 짧은 알림)
+}
@@ -1,23 +1,32 @@
 package com.deliveranything.domain.notification.enums;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
 // 예시 입니다 - 필요에 따라 알림 유형을 추가하거나 수정하세요.
+// retentionDays: notifications 테이블(핫 데이터)에 남겨둘 기간, 이후 retentionPolicy 에 따라 이동/삭제
+@AllArgsConstructor
+@Getter
 public enum NotificationType {
-  NEW_REVIEW,         // 판매자 or 배달원에게 새 리뷰 알림
-  ORDER_CREATED_CUSTOMER,
-  ORDER_CREATED_FAILED_CUSTOMER,
-  ORDER_PAID_CUSTOMER,
-  ORDER_PAID_SELLER,
-  ORDER_PREPARING_CUSTOMER,
-  ORDER_PREPARING_SELLER,
-  ORDER_PAYMENT_FAILED_CUSTOMER,
-  ORDER_CANCELED_CUSTOMER,
-  ORDER_CANCELED_SELLER,
-  ORDER_CANCEL_FAILED_CUSTOMER,
-  ORDER_CANCEL_FAILED_SELLER,
-  ORDER_STATUS_CHANGED_CUSTOMER,
-  ORDER_STATUS_CHANGED_SELLER,
-  RIDER_STATUS_CHANGED,
-  RIDER_ACCEPTED_ORDER,
-  RIDER_DECISION,
-  ORDER_ASSIGN_FAILED
-}
\ No newline at end of file
+  NEW_REVIEW(30, NotificationRetentionPolicy.ARCHIVE),         // 판매자 or 배달원에게 새 리뷰 알림
+  ORDER_CREATED_CUSTOMER(30, NotificationRetentionPolicy.ARCHIVE),
+  ORDER_CREATED_FAILED_CUSTOMER(7, NotificationRetentionPolicy.DELETE),
+  ORDER_PAID_CUSTOMER(30, NotificationRetentionPolicy.ARCHIVE),
+  ORDER_PAID_SELLER(30, NotificationRetentionPolicy.ARCHIVE),
+  ORDER_PREPARING_CUSTOMER(14, NotificationRetentionPolicy.ARCHIVE),
+  ORDER_PREPARING_SELLER(14, NotificationRetentionPolicy.ARCHIVE),
+  ORDER_PAYMENT_FAILED_CUSTOMER(7, NotificationRetentionPolicy.DELETE),
+  ORDER_CANCELED_CUSTOMER(30, NotificationRetentionPolicy.ARCHIVE),
+  ORDER_CANCELED_SELLER(30, NotificationRetentionPolicy.ARCHIVE),
+  ORDER_CANCEL_FAILED_CUSTOMER(30, NotificationRetentionPolicy.ARCHIVE),
+  ORDER_CANCEL_FAILED_SELLER(30, NotificationRetentionPolicy.ARCHIVE),
+  ORDER_STATUS_CHANGED_CUSTOMER(14, NotificationRetentionPolicy.ARCHIVE),
+  ORDER_STATUS_CHANGED_SELLER(14, NotificationRetentionPolicy.ARCHIVE),
+  RIDER_STATUS_CHANGED(1, NotificationRetentionPolicy.DELETE),
+  RIDER_ACCEPTED_ORDER(1, NotificationRetentionPolicy.DELETE), // 라이더별 배차 요청 (주문당 라이더 수만큼 생성)
+  RIDER_DECISION(14, NotificationRetentionPolicy.ARCHIVE),
+  ORDER_ASSIGN_FAILED(7, NotificationRetentionPolicy.DELETE);
+
+  private final int retentionDays;
+  private final NotificationRetentionPolicy retentionPolicy;
+}
@@ -1,6 +1,7 @@
 package com.deliveranything.domain.notification.handler;
 
 import com.deliveranything.domain.notification.repository.EmitterRepository;
+import com.deliveranything.domain.notification.sse.SseBroadcaster;
 import com.deliveranything.domain.user.profile.event.ActiveProfileChangedEvent;
 import com.deliveranything.domain.user.user.event.UserLoggedOutEvent;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class NotificationEventListener {
 
   private final EmitterRepository emitterRepository;
+  private final SseBroadcaster sseBroadcaster;
 
   @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
   public void handleUserLogout(UserLoggedOutEvent event) {
@@ -36,6 +38,7 @@ public class NotificationEventListener {
         log.warn("Error while completing SseEmitter for profileId: {}, deviceId: {}. Message: {}",
             profileId, deviceId, e.getMessage());
         emitterRepository.remove(profileId, deviceId);
+        sseBroadcaster.unsubscribeIfIdle(profileId);
       }
     } else {
       log.info("No active SSE emitter found for profileId: {}, deviceId: {} to terminate.",
@@ -49,5 +52,7 @@ public class NotificationEventListener {
         "Handling active profile changed event for deviceId: {}. Moving from profile {} to {}",
         event.deviceId(), event.oldProfileId(), event.newProfileId());
     emitterRepository.move(event.oldProfileId(), event.newProfileId(), event.deviceId());
+    sseBroadcaster.subscribe(event.newProfileId());
+    sseBroadcaster.unsubscribeIfIdle(event.oldProfileId());
   }
 }
@@ -0,0 +1,24 @@
+package com.deliveranything.domain.notification.repository;
+
+import com.deliveranything.domain.notification.entity.NotificationArchive;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationArchiveRepository extends JpaRepository<NotificationArchive, Long> {
+
+  // 엔티티 로딩 없이 INSERT ... SELECT 로 한 번에 이동
+  @Modifying
+  @Query(value = """
+      INSERT INTO notifications_archive
+          (id, recipient_id, type, message, data, is_read, created_at, archived_at)
+      SELECT n.id, n.recipient_id, n.type, n.message, n.data, n.is_read, n.created_at, :archivedAt
+      FROM notifications n
+      WHERE n.id IN (:ids)
+      """, nativeQuery = true)
+  int copyFromNotifications(@Param("ids") List<Long> ids,
+      @Param("archivedAt") LocalDateTime archivedAt);
+}
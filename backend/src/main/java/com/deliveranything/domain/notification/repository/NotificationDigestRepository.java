@@ -0,0 +1,102 @@
+package com.deliveranything.domain.notification.repository;
+
+import com.deliveranything.domain.notification.enums.NotificationType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 1시간 단위 집계 알림 카운터 (Redis)
+ * <p>
+ * 프로필별 카운트는 {@code notifications:hourly:profile:{profileId}} 해시에, 카운트가 증가한 프로필 ID 는
+ * {@code notifications:hourly:dirty} 셋에 기록합니다. 스케줄러는 dirty 셋만 비우면서 처리하므로 작업량이 전체 사용자 수가 아닌 실제 수신자
+ * 수에 비례합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationDigestRepository {
+
+  private static final String COUNT_KEY_PREFIX = "notifications:hourly:profile:";
+  private static final String DIRTY_KEY = "notifications:hourly:dirty";
+  private static final long COUNT_TTL_HOURS = 2;
+
+  // 여러 프로필의 카운트 해시를 한 번에 읽고 삭제 (조회-삭제 사이에 들어온 증가분 유실 방지)
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static final RedisScript<List> DRAIN_COUNTS_SCRIPT = new DefaultRedisScript<>("""
+      local result = {}
+      for i, key in ipairs(KEYS) do
+        result[i] = redis.call('HGETALL', key)
+        redis.call('DEL', key)
+      end
+      return result
+      """, List.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  /**
+   * 집계 대상 알림 카운트 증가 (한 번의 왕복으로 HINCRBY + EXPIRE + SADD)
+   */
+  public void increment(Long profileId, NotificationType type) {
+    String key = COUNT_KEY_PREFIX + profileId;
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      connection.hashCommands().hIncrBy(key.getBytes(), type.name().getBytes(), 1);
+      connection.keyCommands().expire(key.getBytes(), TimeUnit.HOURS.toSeconds(COUNT_TTL_HOURS));
+      connection.setCommands().sAdd(DIRTY_KEY.getBytes(), profileId.toString().getBytes());
+      return null;
+    });
+  }
+
+  /**
+   * 카운트가 증가한 프로필 ID 를 최대 batchSize 개 꺼냄 (SPOP)
+   */
+  public List<Long> popDirtyProfileIds(int batchSize) {
+    List<String> members = redisTemplate.opsForSet().pop(DIRTY_KEY, batchSize);
+    if (members == null) {
+      return List.of();
+    }
+    return members.stream().map(Long::valueOf).toList();
+  }
+
+  /**
+   * 프로필별 카운트를 읽고 초기화 (배치당 1회 왕복)
+   *
+   * @return profileId -> (알림 유형 -> 건수)
+   */
+  @SuppressWarnings("unchecked")
+  public Map<Long, Map<String, Integer>> drainCounts(Collection<Long> profileIds) {
+    if (profileIds.isEmpty()) {
+      return Map.of();
+    }
+
+    List<Long> ids = new ArrayList<>(profileIds);
+    List<String> keys = ids.stream().map(id -> COUNT_KEY_PREFIX + id).toList();
+    List<Object> replies = redisTemplate.execute(DRAIN_COUNTS_SCRIPT, keys);
+
+    Map<Long, Map<String, Integer>> counts = new HashMap<>();
+    if (replies == null) {
+      return counts;
+    }
+
+    for (int i = 0; i < ids.size() && i < replies.size(); i++) {
+      List<Object> flatHash = (List<Object>) replies.get(i);
+      if (flatHash == null || flatHash.isEmpty()) {
+        continue;
+      }
+      Map<String, Integer> typeCounts = new HashMap<>();
+      for (int j = 0; j + 1 < flatHash.size(); j += 2) {
+        typeCounts.put(flatHash.get(j).toString(), Integer.parseInt(flatHash.get(j + 1).toString()));
+      }
+      counts.put(ids.get(i), typeCounts);
+    }
+    return counts;
+  }
+}
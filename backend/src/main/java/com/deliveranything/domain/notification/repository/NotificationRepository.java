@@ -1,19 +1,65 @@
 package com.deliveranything.domain.notification.repository;
 
+import com.deliveranything.domain.notification.dto.projection.NotificationRetentionProjection;
 import com.deliveranything.domain.notification.entity.Notification;
+import com.deliveranything.domain.notification.enums.NotificationType;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-  List<Notification> findByRecipientIdOrderByCreatedAtDesc(Long profileId);
-
-  List<Notification> findByRecipientIdAndIsReadOrderByCreatedAtDesc(Long profileId, boolean isRead);
-
   Optional<Notification> findByIdAndRecipientId(Long id, Long profileId);
 
   long countByRecipientIdAndIsReadFalse(Long profileId);
-}
 
+  @Modifying(clearAutomatically = true)
+  @Query("""
+      UPDATE Notification n
+      SET n.isRead = true
+      WHERE n.id = :id AND n.recipientId = :profileId AND n.isRead = false
+      """)
+  int markAsRead(@Param("id") Long id, @Param("profileId") Long profileId);
+
+  @Modifying(clearAutomatically = true)
+  @Query("""
+      UPDATE Notification n
+      SET n.isRead = true
+      WHERE n.recipientId = :profileId AND n.isRead = false
+      """)
+  int markAllAsRead(@Param("profileId") Long profileId);
+
+  // 보관 기간이 지난 읽은 알림 (ARCHIVE 정책)
+  @Query("""
+      SELECT new com.deliveranything.domain.notification.dto.projection.NotificationRetentionProjection(
+          n.id, n.recipientId, n.isRead
+      )
+      FROM Notification n
+      WHERE n.type = :type AND n.isRead = true AND n.createdAt < :cutoff
+      ORDER BY n.id ASC
+      """)
+  List<NotificationRetentionProjection> findReadExpired(@Param("type") NotificationType type,
+      @Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+  // 보관 기간이 지난 모든 알림 (DELETE 정책)
+  @Query("""
+      SELECT new com.deliveranything.domain.notification.dto.projection.NotificationRetentionProjection(
+          n.id, n.recipientId, n.isRead
+      )
+      FROM Notification n
+      WHERE n.type = :type AND n.createdAt < :cutoff
+      ORDER BY n.id ASC
+      """)
+  List<NotificationRetentionProjection> findExpired(@Param("type") NotificationType type,
+      @Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+  @Modifying
+  @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+  int deleteAllByIds(@Param("ids") List<Long> ids);
+}
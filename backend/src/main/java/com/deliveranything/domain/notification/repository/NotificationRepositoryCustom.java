@@ -0,0 +1,51 @@
+package com.deliveranything.domain.notification.repository;
+
+import com.deliveranything.domain.notification.entity.Notification;
+import com.deliveranything.domain.notification.entity.QNotification;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class NotificationRepositoryCustom {
+
+  private final JPAQueryFactory queryFactory;
+
+  // idx_notification_recipient_id_created_at (recipientId, createdAt) 인덱스를 타는 최신순 키셋 조회
+  public List<Notification> findByRecipientIdByCursor(Long profileId, Boolean isRead,
+      LocalDateTime lastCreatedAt, Long lastNotificationId, int size) {
+    QNotification notification = QNotification.notification;
+
+    return queryFactory.selectFrom(notification)
+        .where(
+            notification.recipientId.eq(profileId),
+            isReadEq(isRead),
+            cursorCondition(lastCreatedAt, lastNotificationId)
+        )
+        .orderBy(notification.createdAt.desc(), notification.id.desc())
+        .limit(size)
+        .fetch();
+  }
+
+  private BooleanExpression isReadEq(Boolean isRead) {
+    return isRead != null ? QNotification.notification.isRead.eq(isRead) : null;
+  }
+
+  // 최신순 커서
+  private BooleanExpression cursorCondition(LocalDateTime lastCreatedAt, Long lastNotificationId) {
+    // 첫 페이지 조회 시 커서 조건 없음
+    if (lastCreatedAt == null || lastNotificationId == null) {
+      return null;
+    }
+
+    QNotification notification = QNotification.notification;
+
+    // 1. 생성 시간 비교 2. 알림 ID 비교
+    return notification.createdAt.lt(lastCreatedAt)
+        .or(notification.createdAt.eq(lastCreatedAt).and(notification.id.lt(lastNotificationId)));
+  }
+}
@@ -0,0 +1,127 @@
+package com.deliveranything.domain.notification.repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 프로필별 읽지 않은 알림 수 캐시 (Redis)
+ * <p>
+ * 키가 없으면 DB COUNT 결과로 한 번만 채우고, 이후에는 알림 발송/읽음 처리 시 증감만 합니다. 키가 존재할 때만 증감하므로 캐시가 비어 있는 동안
+ * 발생한 변경은 다음 조회 시 DB 값으로 다시 맞춰집니다. 트랜잭션 안에서 호출한 증감/초기화는 커밋된 뒤에 반영되어 롤백된 변경이 캐시에 남지
+ * 않습니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class NotificationUnreadCountRepository {
+
+  private static final String KEY_PREFIX = "notifications:unread:profile:";
+  private static final long TTL_DAYS = 7;
+
+  // 키가 존재할 때만 증감, 음수로 내려가지 않도록 보정
+  private static final RedisScript<Long> ADJUST_IF_PRESENT_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return -1
+      end
+      local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+      if value < 0 then
+        redis.call('SET', KEYS[1], 0, 'KEEPTTL')
+        value = 0
+      end
+      return value
+      """, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  /**
+   * 읽지 않은 알림 수 조회 (캐시 미스 시 loader 결과로 채움)
+   *
+   * @param profileId 사용자 프로필 ID
+   * @param loader    캐시 미스 시 호출할 DB COUNT
+   * @return 읽지 않은 알림 수
+   */
+  public long get(Long profileId, LongSupplier loader) {
+    String key = KEY_PREFIX + profileId;
+    String cached = redisTemplate.opsForValue().get(key);
+    if (cached != null) {
+      return Long.parseLong(cached);
+    }
+
+    long count = loader.getAsLong();
+    redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), TTL_DAYS, TimeUnit.DAYS);
+    return count;
+  }
+
+  /**
+   * 읽지 않은 알림 수 증가 (알림 발송 시)
+   */
+  public void increment(Long profileId) {
+    adjust(profileId, 1);
+  }
+
+  /**
+   * 읽지 않은 알림 수 감소 (단건 읽음 처리 시)
+   */
+  public void decrement(Long profileId) {
+    adjust(profileId, -1);
+  }
+
+  /**
+   * 읽지 않은 알림 수 초기화 (전체 읽음 처리 시)
+   */
+  public void reset(Long profileId) {
+    afterCommit(() -> redisTemplate.opsForValue()
+        .set(KEY_PREFIX + profileId, "0", TTL_DAYS, TimeUnit.DAYS));
+  }
+
+  /**
+   * 캐시 제거 (다음 조회 시 DB 값으로 재계산)
+   */
+  public void evict(Long profileId) {
+    redisTemplate.delete(KEY_PREFIX + profileId);
+  }
+
+  /**
+   * 커밋 후 캐시 제거 (커밋 전에 비우면 그사이 조회가 삭제 전 값으로 다시 채울 수 있음)
+   */
+  public void evictAfterCommit(Long profileId) {
+    afterCommit(() -> evict(profileId));
+  }
+
+  private void adjust(Long profileId, long delta) {
+    List<String> keys = Collections.singletonList(KEY_PREFIX + profileId);
+    afterCommit(() -> {
+      try {
+        redisTemplate.execute(ADJUST_IF_PRESENT_SCRIPT, keys, String.valueOf(delta));
+      } catch (Exception e) {
+        // 증감 실패 시 캐시를 비워 다음 조회에서 DB 값으로 맞춤
+        log.warn("Unread count adjust failed for profileId {}: {}", profileId, e.getMessage());
+        evict(profileId);
+      }
+    });
+  }
+
+  // 트랜잭션 밖이면 바로 실행
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
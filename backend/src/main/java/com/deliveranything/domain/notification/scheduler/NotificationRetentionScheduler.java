@@ -0,0 +1,56 @@
+package com.deliveranything.domain.notification.scheduler;
+
+import com.deliveranything.domain.notification.enums.NotificationType;
+import com.deliveranything.domain.notification.service.NotificationRetentionService;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionScheduler {
+
+  private final NotificationRetentionService notificationRetentionService;
+
+  @Value("${custom.notification.retention.chunk-size:1000}")
+  private int chunkSize;
+
+  @Value("${custom.notification.retention.max-chunks-per-type:500}")
+  private int maxChunksPerType;
+
+  // 매일 새벽 4시 실행 (트래픽이 적은 시간대)
+  @Scheduled(cron = "0 0 4 * * *")
+  public void purgeExpiredNotifications() {
+    log.info("===== 알림 보관 기간 정리 시작 =====");
+    LocalDateTime now = LocalDateTime.now();
+
+    for (NotificationType type : NotificationType.values()) {
+      int total = 0;
+      int chunks = 0;
+
+      try {
+        int processed;
+        do {
+          processed = notificationRetentionService.processChunk(type, now, chunkSize);
+          total += processed;
+          chunks++;
+        } while (processed == chunkSize && chunks < maxChunksPerType);
+      } catch (Exception e) {
+        // 실패한 청크만 롤백, 다음 실행에서 이어서 처리
+        log.error("알림 보관 기간 정리 실패: type={}, processed={}", type, total, e);
+        continue;
+      }
+
+      if (total > 0) {
+        log.info("알림 보관 기간 정리: type={}, policy={}, count={}",
+            type, type.getRetentionPolicy(), total);
+      }
+    }
+
+    log.info("===== 알림 보관 기간 정리 종료 =====");
+  }
+}
@@ -1,16 +1,20 @@
 package com.deliveranything.domain.notification.scheduler;
 
+import com.deliveranything.domain.notification.repository.NotificationDigestRepository;
 import com.deliveranything.domain.user.profile.entity.Profile;
 import com.deliveranything.domain.user.profile.repository.ProfileRepository;
-import com.deliveranything.domain.user.user.entity.User;
-import com.deliveranything.domain.user.user.repository.UserRepository;
 import com.deliveranything.global.infra.SmsService;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -19,79 +23,103 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class NotificationScheduler {
 
-  private final UserRepository userRepository;
   private final ProfileRepository profileRepository;
-  private final RedisTemplate<String, String> redisTemplate;
+  private final NotificationDigestRepository notificationDigestRepository;
   private final SmsService smsService;
 
+  @Value("${custom.notification.digest.batch-size:500}")
+  private int batchSize;
+
+  @Value("${custom.notification.digest.sms-concurrency:20}")
+  private int smsConcurrency;
+
   // 1시간마다 실행
   @Scheduled(cron = "0 0 * * * *")
   public void sendReviewNotificationsHourly() {
     log.info("===== 1시간 알림 스케줄 시작 =====");
 
-    // 1. SMS 발송 대상 사용자 조회 (판매자 + 라이더 등)
-    List<User> allUsers = userRepository.findAll();
-
-    for (User user : allUsers) {
-      // 유저가 가진 모든 프로필 조회
-      List<Profile> profiles = profileRepository.findAllByUser(user);
-
-      Map<String, Integer> totalCounts = new HashMap<>();
-
-      for (Profile profile : profiles) {
-        String redisKey = "notifications:hourly:profile:" + profile.getId();
+    // 1. 지난 1시간 동안 카운트가 증가한 프로필만 배치 단위로 꺼내 사용자 단위로 합산
+    // 한 사용자의 여러 프로필이 서로 다른 SPOP 배치에 나뉠 수 있으므로 모든 배치를 합산한 뒤 발송
+    Map<Long, UserDigest> digestsByUser = new LinkedHashMap<>();
+    List<Long> profileIds;
+    while (!(profileIds = notificationDigestRepository.popDirtyProfileIds(batchSize)).isEmpty()) {
+
+      // 2. Redis 카운트 일괄 조회 + 초기화 (배치당 1회 왕복)
+      Map<Long, Map<String, Integer>> countsByProfile =
+          notificationDigestRepository.drainCounts(profileIds);
+      if (countsByProfile.isEmpty()) {
+        continue;
+      }
 
-        // 2. Redis 에서 해당 프로필의 알림 카운트 조회
-        Map<Object, Object> counts = redisTemplate.opsForHash().entries(redisKey);
+      // 3. 프로필 + 사용자 일괄 조회 후 프로필 유형별로 합산
+      for (Profile profile : profileRepository.findAllWithUserByIdIn(countsByProfile.keySet())) {
+        UserDigest digest = digestsByUser.computeIfAbsent(profile.getUser().getId(),
+            userId -> new UserDigest(profile.getUser().getPhoneNumber(), new HashMap<>()));
 
-        counts.forEach((type, count) -> {
-          int value = count != null ? Integer.parseInt(count.toString()) : 0;
-          String key = type.toString() + ":" + profile.getType().name();
-          totalCounts.merge(key, value, Integer::sum);
+        countsByProfile.get(profile.getId()).forEach((type, count) -> {
+          String key = type + ":" + profile.getType().name();
+          digest.totalCounts().merge(key, count, Integer::sum);
         });
-
-        // 3. 한 프로필 처리 후 Redis 초기화
-        if (!counts.isEmpty()) {
-          redisTemplate.delete(redisKey);
-        }
       }
+    }
 
-      // 4. 합산된 결과로 SMS 발송
-      if (!totalCounts.isEmpty()) {
-        StringBuilder message = new StringBuilder("지난 1시간 동안 새 알림: ");
-
-        totalCounts.forEach((key, count) -> {
-          String[] parts = key.split(":");
-          String type = parts[0];
-          String profileType = parts[1];
-          String displayType = switch (type) {
-            case "NEW_REVIEW" -> displayType = "리뷰";
-            // 1시간 집계 알림 확장 시 추가 요망
-            default -> displayType = type;
-          };
-
-          message.append(displayType)
-              .append("(")
-              .append(profileType)
-              .append(") ")
-              .append(count)
-              .append("건, ");
-        });
-
-        // 마지막 쉼표 제거
-        if (message.length() > 2) {
-          message.setLength(message.length() - 2);
-        }
+    AtomicInteger sent = new AtomicInteger();
+    Semaphore permits = new Semaphore(smsConcurrency);
 
+    // 4. 사용자마다 한 번 SMS 발송 (Virtual Thread 로 동시 처리, 동시 요청 수는 smsConcurrency 로 제한)
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      digestsByUser.values().forEach(digest -> executor.submit(() -> {
+        String message = buildMessage(digest.totalCounts());
         try {
-          smsService.sendSms(user.getPhoneNumber(), message.toString());
-          log.info("SMS 전송 완료: {}, 내용: {}", user.getPhoneNumber(), message);
+          permits.acquire();
+          try {
+            smsService.sendSms(digest.phoneNumber(), message);
+          } finally {
+            permits.release();
+          }
+          sent.incrementAndGet();
+          log.info("SMS 전송 완료: {}, 내용: {}", digest.phoneNumber(), message);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
         } catch (Exception e) {
-          log.error("SMS 전송 실패: {}", user.getPhoneNumber(), e);
+          log.error("SMS 전송 실패: {}", digest.phoneNumber(), e);
         }
-      }
+      }));
+    }
+
+    log.info("===== 1시간 단위 알림 스케줄러 종료 (SMS {}건) =====", sent.get());
+  }
+
+  private String buildMessage(Map<String, Integer> totalCounts) {
+    StringBuilder message = new StringBuilder("지난 1시간 동안 새 알림: ");
+
+    totalCounts.forEach((key, count) -> {
+      String[] parts = key.split(":");
+      String type = parts[0];
+      String profileType = parts[1];
+      String displayType = switch (type) {
+        case "NEW_REVIEW" -> "리뷰";
+        // 1시간 집계 알림 확장 시 추가 요망
+        default -> type;
+      };
+
+      message.append(displayType)
+          .append("(")
+          .append(profileType)
+          .append(") ")
+          .append(count)
+          .append("건, ");
+    });
+
+    // 마지막 쉼표 제거
+    if (message.length() > 2) {
+      message.setLength(message.length() - 2);
     }
 
-    log.info("===== 1시간 단위 알림 스케줄러 종료 =====");
+    return message.toString();
+  }
+
+  private record UserDigest(String phoneNumber, Map<String, Integer> totalCounts) {
+
   }
-}
\ No newline at end of file
+}
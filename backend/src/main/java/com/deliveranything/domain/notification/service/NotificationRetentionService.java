@@ -0,0 +1,66 @@
+package com.deliveranything.domain.notification.service;
+
+import com.deliveranything.domain.notification.dto.projection.NotificationRetentionProjection;
+import com.deliveranything.domain.notification.enums.NotificationRetentionPolicy;
+import com.deliveranything.domain.notification.enums.NotificationType;
+import com.deliveranything.domain.notification.repository.NotificationArchiveRepository;
+import com.deliveranything.domain.notification.repository.NotificationRepository;
+import com.deliveranything.domain.notification.repository.NotificationUnreadCountRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionService {
+
+  private final NotificationRepository notificationRepository;
+  private final NotificationArchiveRepository notificationArchiveRepository;
+  private final NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+  /**
+   * 보관 기간이 지난 알림 한 청크를 정책에 따라 이동/삭제 (청크 단위 커밋)
+   *
+   * @param type      알림 유형
+   * @param now       기준 시각
+   * @param chunkSize 한 번에 처리할 최대 건수
+   * @return 처리된 건수 (chunkSize 보다 작으면 해당 유형 처리 완료)
+   */
+  @Transactional
+  public int processChunk(NotificationType type, LocalDateTime now, int chunkSize) {
+    LocalDateTime cutoff = now.minusDays(type.getRetentionDays());
+    NotificationRetentionPolicy policy = type.getRetentionPolicy();
+
+    List<NotificationRetentionProjection> targets = switch (policy) {
+      case ARCHIVE -> notificationRepository.findReadExpired(type, cutoff, Limit.of(chunkSize));
+      case DELETE -> notificationRepository.findExpired(type, cutoff, Limit.of(chunkSize));
+    };
+
+    if (targets.isEmpty()) {
+      return 0;
+    }
+
+    List<Long> ids = targets.stream().map(NotificationRetentionProjection::id).toList();
+
+    if (policy == NotificationRetentionPolicy.ARCHIVE) {
+      notificationArchiveRepository.copyFromNotifications(ids, now);
+    }
+    notificationRepository.deleteAllByIds(ids);
+
+    // 안읽은 알림이 삭제된 프로필은 커밋 후 카운터를 비워 다음 조회 시 재계산
+    targets.stream()
+        .filter(target -> !target.isRead())
+        .map(NotificationRetentionProjection::recipientId)
+        .distinct()
+        .forEach(notificationUnreadCountRepository::evictAfterCommit);
+
+    log.debug("Notification retention chunk processed: type={}, policy={}, count={}",
+        type, policy, ids.size());
+    return ids.size();
+  }
+}
@@ -1,15 +1,22 @@
 package com.deliveranything.domain.notification.service;
 
+import com.deliveranything.domain.notification.dto.NotificationResponse;
 import com.deliveranything.domain.notification.entity.Notification;
 import com.deliveranything.domain.notification.enums.NotificationType;
-import com.deliveranything.domain.notification.repository.EmitterRepository;
 import com.deliveranything.domain.notification.repository.NotificationRepository;
+import com.deliveranything.domain.notification.repository.NotificationRepositoryCustom;
+import com.deliveranything.domain.notification.repository.NotificationUnreadCountRepository;
+import com.deliveranything.domain.notification.sse.SseBroadcaster;
+import com.deliveranything.global.common.CursorPageResponse;
+import com.deliveranything.global.util.CursorUtil;
 import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -17,7 +24,9 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class NotificationService {
 
   private final NotificationRepository notificationRepository;
-  private final EmitterRepository emitterRepository;
+  private final NotificationRepositoryCustom notificationRepositoryCustom;
+  private final NotificationUnreadCountRepository notificationUnreadCountRepository;
+  private final SseBroadcaster sseBroadcaster;
 
   // 알림 생성 및 전송 (모든 디바이스에 브로드캐스트)
   public Notification sendNotification(Long profileId, NotificationType type, String message, String data) {
@@ -29,7 +38,8 @@ public class NotificationService {
         .build();
 
     notificationRepository.save(notification);
-    broadcastToEmitters(profileId, notification, "notification");
+    notificationUnreadCountRepository.increment(profileId);
+    afterCommit(() -> broadcastToEmitters(profileId, notification, "notification"));
 
     return notification;
   }
@@ -37,55 +47,100 @@ public class NotificationService {
   // 알림 읽음 처리 및 다른 디바이스에 동기화
   @Transactional
   public void markAsRead(Long notificationId, Long profileId) {
-    Notification notification = notificationRepository.findById(notificationId)
+    // 안읽음 -> 읽음 전환이 실제로 일어난 경우에만 카운터 감소 (중복 요청 시 이중 차감 방지)
+    if (notificationRepository.markAsRead(notificationId, profileId) > 0) {
+      notificationUnreadCountRepository.decrement(profileId);
+      afterCommit(() -> broadcastToEmitters(profileId, notificationId, "notification-read"));
+      return;
+    }
+
+    notificationRepository.findByIdAndRecipientId(notificationId, profileId)
         .orElseThrow(() -> new IllegalArgumentException("Notification not found"));
+  }
 
-    if (!notification.getRecipientId().equals(profileId)) {
-      throw new IllegalArgumentException("Invalid recipient for this notification");
-    }
+  // 모든 알림 읽음 처리 (단일 UPDATE)
+  @Transactional
+  public int markAllAsRead(Long profileId) {
+    int updated = notificationRepository.markAllAsRead(profileId);
+    notificationUnreadCountRepository.reset(profileId);
 
-    if (!notification.isRead()) {
-      notification.setRead(true);
-      broadcastToEmitters(profileId, notificationId, "notification-read");
+    if (updated > 0) {
+      afterCommit(() -> broadcastToEmitters(profileId, "all", "notification-read-all"));
     }
+    return updated;
   }
 
-  // 알림 목록 조회
-  public List<Notification> getNotifications(Long profileId, Boolean isRead) {
-    return (isRead == null)
-        ? notificationRepository.findByRecipientIdOrderByCreatedAtDesc(profileId)
-        : notificationRepository.findByRecipientIdAndIsReadOrderByCreatedAtDesc(profileId, isRead);
+  // 알림 목록 커서 조회 (createdAt, id 기준 최신순)
+  public CursorPageResponse<NotificationResponse> getNotifications(Long profileId, Boolean isRead,
+      String nextPageToken, int size) {
+    LocalDateTime lastCreatedAt = null;
+    Long lastNotificationId = null;
+    Object[] decodedParts = CursorUtil.decode(nextPageToken);
+
+    if (decodedParts != null && decodedParts.length == 2) {
+      try {
+        lastCreatedAt = LocalDateTime.parse(decodedParts[0].toString());
+        lastNotificationId = Long.parseLong(decodedParts[1].toString());
+      } catch (RuntimeException e) {
+        lastCreatedAt = null;
+        lastNotificationId = null;
+      }
+    }
+
+    List<Notification> notifications = notificationRepositoryCustom.findByRecipientIdByCursor(
+        profileId, isRead, lastCreatedAt, lastNotificationId, size + 1);
+
+    List<NotificationResponse> responses = notifications.stream()
+        .limit(size)
+        .map(NotificationResponse::from)
+        .toList();
+
+    boolean hasNext = notifications.size() > size;
+    String nextPageToken = null;
+
+    // nextPageToken 구조: [createdAt, notificationId]
+    if (hasNext && !responses.isEmpty()) {
+      NotificationResponse last = responses.getLast();
+      nextPageToken = CursorUtil.encode(last.createdAt().toString(), last.id());
+    }
+
+    return new CursorPageResponse<>(responses, nextPageToken, hasNext);
   }
 
-  // 읽지 않은 알림 개수 조회
+  // 읽지 않은 알림 개수 조회 (Redis 캐시, 미스 시 DB COUNT)
   public long getUnreadCount(Long profileId) {
-    return notificationRepository.countByRecipientIdAndIsReadFalse(profileId);
+    return notificationUnreadCountRepository.get(profileId,
+        () -> notificationRepository.countByRecipientIdAndIsReadFalse(profileId));
   }
 
-  // 프로필 ID 기준 모든 SSE Emitter에 브로드캐스트
-  private void broadcastToEmitters(Long profileId, Object payload, String eventName) {
-    List<SseEmitter> emitters = emitterRepository.getAllForProfile(profileId);
-
-    for (SseEmitter emitter : emitters) {
-      try {
-        SseEmitter.SseEventBuilder event = SseEmitter.event()
-            .id(resolveEventId(payload))
-            .name(eventName)
-            .data(payload);
+  // 알림으로 저장하지 않고 SSE 로만 전달 (화면 갱신용 데이터)
+  public void push(Long profileId, String eventName, Object payload) {
+    broadcastToEmitters(profileId, payload, eventName);
+  }
 
-        emitter.send(event);
+  // 프로필의 SSE 연결이 어느 노드에 있든 모든 기기로 전달되도록 Redis 채널로 발행
+  private void broadcastToEmitters(Long profileId, Object payload, String eventName) {
+    sseBroadcaster.publish(profileId, eventName, resolveEventId(payload), payload);
+  }
 
-      } catch (Exception e) {
-        log.warn("SSE send failed for profileId {}: {}. Completing emitter.", profileId, e.getMessage());
-        emitter.complete(); // onCompletion 콜백 유도
-      }
+  // 커밋되지 않은 변경을 다른 기기에 알리지 않도록 커밋 후 전송 (트랜잭션 밖이면 바로 전송)
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
     }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
   }
 
   // payload에 따른 SSE 이벤트 ID 생성
   private String resolveEventId(Object payload) {
     if (payload instanceof Notification notification) {
-      return notification.getId().toString();
+      return String.valueOf(notification.getId());
     }
     return payload.toString();
   }
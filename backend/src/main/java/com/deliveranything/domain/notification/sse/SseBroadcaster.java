@@ -0,0 +1,109 @@
+package com.deliveranything.domain.notification.sse;
+
+import com.deliveranything.domain.notification.repository.EmitterRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 노드 간 SSE 전달 (Redis pub/sub)
+ * <p>
+ * SSE 연결은 연결을 받은 노드의 메모리에만 있고 이벤트는 컨슈머 그룹에서 노드 하나만 처리하므로, 보낼 이벤트를 프로필별 채널에 발행하고
+ * 해당 프로필의 연결을 가진 노드들이 구독해 각자의 Emitter 로 보냅니다. 노드는 연결이 있는 프로필 채널만 구독하며, pub/sub 은 저장되지 않으므로
+ * 연결이 끊겨 있는 동안의 이벤트는 알림 목록 조회로 보충합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseBroadcaster implements MessageListener {
+
+  private static final String CHANNEL_PREFIX = "notifications:sse:profile:";
+
+  private final EmitterRepository emitterRepository;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 프로필의 모든 노드, 모든 기기에 SSE 이벤트 발행
+   */
+  public void publish(Long profileId, String eventName, String eventId, Object payload) {
+    try {
+      SseMessage message = payload instanceof CharSequence text
+          ? new SseMessage(eventId, eventName, text.toString(), false)
+          : new SseMessage(eventId, eventName, objectMapper.writeValueAsString(payload), true);
+      redisTemplate.convertAndSend(channel(profileId), objectMapper.writeValueAsString(message));
+    } catch (Exception e) {
+      // 실시간 전달만 놓침 - 알림 자체는 저장되어 있음
+      log.warn("SSE publish failed for profileId {}: {}", profileId, e.getMessage());
+    }
+  }
+
+  /**
+   * 이 노드에 프로필의 연결이 생기면 채널 구독 (이미 구독 중이면 그대로)
+   */
+  public synchronized void subscribe(Long profileId) {
+    listenerContainer.addMessageListener(this, new ChannelTopic(channel(profileId)));
+  }
+
+  /**
+   * 이 노드에 프로필의 연결이 더 없으면 구독 해제
+   * <p>
+   * 연결 저장 후 subscribe 를 부르므로, 해제와 새 연결이 겹쳐도 새 연결이 다시 구독함
+   */
+  public synchronized void unsubscribeIfIdle(Long profileId) {
+    if (emitterRepository.getAllForProfile(profileId).isEmpty()) {
+      listenerContainer.removeMessageListener(this, new ChannelTopic(channel(profileId)));
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+    Long profileId = Long.valueOf(channel.substring(CHANNEL_PREFIX.length()));
+    try {
+      deliver(profileId, objectMapper.readValue(message.getBody(), SseMessage.class));
+    } catch (IOException e) {
+      log.warn("Invalid SSE message on {}: {}", channel, e.getMessage());
+    }
+  }
+
+  // 이 노드에 연결된 프로필의 모든 Emitter 로 전송
+  private void deliver(Long profileId, SseMessage message) {
+    List<SseEmitter> emitters = emitterRepository.getAllForProfile(profileId);
+    MediaType mediaType = message.json() ? MediaType.APPLICATION_JSON : MediaType.TEXT_PLAIN;
+
+    for (SseEmitter emitter : emitters) {
+      try {
+        emitter.send(SseEmitter.event()
+            .id(message.id())
+            .name(message.name())
+            .data(message.data(), mediaType));
+      } catch (Exception e) {
+        log.warn("SSE send failed for profileId {}: {}. Completing emitter.", profileId,
+            e.getMessage());
+        emitter.complete(); // onCompletion 콜백 유도
+      }
+    }
+  }
+
+  private static String channel(Long profileId) {
+    return CHANNEL_PREFIX + profileId;
+  }
+
+  // 채널로 주고받는 SSE 이벤트 (data 는 직렬화된 본문)
+  record SseMessage(String id, String name, String data, boolean json) {
+
+  }
+}
@@ -4,47 +4,37 @@ import com.deliveranything.domain.notification.enums.NotificationMessage;
 import com.deliveranything.domain.notification.enums.NotificationType;
 import com.deliveranything.domain.notification.service.NotificationService;
 import com.deliveranything.domain.order.event.sse.customer.OrderPaidForCustomerEvent;
+import com.deliveranything.global.event.EventChannel;
+import com.deliveranything.global.event.EventDispatcher;
+import com.deliveranything.global.event.EventGroup;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderPaidCustomerNotifier implements MessageListener {
+public class OrderPaidCustomerNotifier {
 
-  private final RedisMessageListenerContainer container;
+  private final EventDispatcher eventDispatcher;
   private final ObjectMapper objectMapper;
   private final NotificationService notificationService;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("order-paid-for-customer-event"));
+    eventDispatcher.subscribe(EventChannel.ORDER_PAID_FOR_CUSTOMER, EventGroup.NOTIFICATION,
+        this::handle);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    try {
-      OrderPaidForCustomerEvent event = objectMapper.readValue(message.getBody(),
-          OrderPaidForCustomerEvent.class);
-      notificationService.sendNotification(
-          event.customerId(),
-          NotificationType.ORDER_PAID_CUSTOMER,
-          NotificationMessage.ORDER_PAID_CUSTOMER.getMessage(),
-          objectMapper.writeValueAsString(event)
-      );
-    } catch (Exception e) {
-      log.error("Failed to process order paid for customer event from Redis", e);
-    }
+  private void handle(OrderPaidForCustomerEvent event) throws JsonProcessingException {
+    notificationService.sendNotification(
+        event.customerId(),
+        NotificationType.ORDER_PAID_CUSTOMER,
+        NotificationMessage.ORDER_PAID_CUSTOMER.getMessage(),
+        objectMapper.writeValueAsString(event)
+    );
   }
 }
-
-
-
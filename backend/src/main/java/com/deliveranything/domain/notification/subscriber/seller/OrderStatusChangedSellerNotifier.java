@@ -4,44 +4,37 @@ import com.deliveranything.domain.notification.enums.NotificationMessage;
 import com.deliveranything.domain.notification.enums.NotificationType;
 import com.deliveranything.domain.notification.service.NotificationService;
 import com.deliveranything.domain.order.event.sse.seller.OrderStatusChangedForSellerEvent;
+import com.deliveranything.global.event.EventChannel;
+import com.deliveranything.global.event.EventDispatcher;
+import com.deliveranything.global.event.EventGroup;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderStatusChangedSellerNotifier implements MessageListener {
+public class OrderStatusChangedSellerNotifier {
 
-  private final RedisMessageListenerContainer container;
+  private final EventDispatcher eventDispatcher;
   private final ObjectMapper objectMapper;
   private final NotificationService notificationService;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("order-status-changed-for-seller-event"));
+    eventDispatcher.subscribe(EventChannel.ORDER_STATUS_CHANGED_FOR_SELLER, EventGroup.NOTIFICATION,
+        this::handle);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    try {
-      OrderStatusChangedForSellerEvent event = objectMapper.readValue(message.getBody(),
-          OrderStatusChangedForSellerEvent.class);
-      notificationService.sendNotification(
-          event.sellerId(),
-          NotificationType.ORDER_STATUS_CHANGED_SELLER,
-          NotificationMessage.getMessageByOrderStatus(event.orderStatus()),
-          objectMapper.writeValueAsString(event)
-      );
-    } catch (Exception e) {
-      log.error("Failed to process order status changed for seller event from Redis", e);
-    }
+  private void handle(OrderStatusChangedForSellerEvent event) throws JsonProcessingException {
+    notificationService.sendNotification(
+        event.sellerId(),
+        NotificationType.ORDER_STATUS_CHANGED_SELLER,
+        NotificationMessage.getMessageByOrderStatus(event.orderStatus()),
+        objectMapper.writeValueAsString(event)
+    );
   }
 }
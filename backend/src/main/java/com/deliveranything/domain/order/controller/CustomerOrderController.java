@@ -6,6 +6,7 @@ import com.deliveranything.domain.order.dto.OrderCreateResponse;
 import com.deliveranything.domain.order.dto.OrderPayRequest;
 import com.deliveranything.domain.order.dto.OrderResponse;
 import com.deliveranything.domain.order.service.CustomerOrderService;
+import com.deliveranything.domain.order.service.OrderIdempotencyService;
 import com.deliveranything.domain.order.service.PaymentOrderService;
 import com.deliveranything.global.common.ApiResponse;
 import com.deliveranything.global.common.CursorPageResponse;
@@ -22,6 +23,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -34,18 +36,20 @@ public class CustomerOrderController {
 
   private final CustomerOrderService customerOrderService;
   private final PaymentOrderService paymentOrderService;
+  private final OrderIdempotencyService orderIdempotencyService;
 
   @PostMapping
   @Operation(summary = "주문 생성", description = "소비자가 상점에 주문을 요청한 경우")
   @PreAuthorize("@profileSecurity.isCustomer(#securityUser)")
   public ResponseEntity<ApiResponse<OrderCreateResponse>> create(
       @AuthenticationPrincipal SecurityUser securityUser,
+      @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
       @Valid @RequestBody OrderCreateRequest orderCreateRequest
   ) {
 
     return ResponseEntity.ok().body(ApiResponse.success("주문이 접수되어 처리중입니다.",
-        customerOrderService.createOrder(securityUser.getCurrentActiveProfileIdSafe(),
-            orderCreateRequest)));
+        orderIdempotencyService.createOrder(securityUser.getCurrentActiveProfileIdSafe(),
+            idempotencyKey, orderCreateRequest)));
   }
 
   @GetMapping
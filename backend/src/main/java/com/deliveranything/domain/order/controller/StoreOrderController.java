@@ -1,6 +1,9 @@
 package com.deliveranything.domain.order.controller;
 
 import com.deliveranything.domain.order.dto.OrderResponse;
+import com.deliveranything.domain.order.dto.PrepTimeStatsResponse;
+import com.deliveranything.domain.order.service.OrderBoardService;
+import com.deliveranything.domain.order.service.OrderStatusStatsService;
 import com.deliveranything.domain.order.service.StoreOrderService;
 import com.deliveranything.global.common.ApiResponse;
 import com.deliveranything.global.common.CursorPageResponse;
@@ -26,6 +29,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class StoreOrderController {
 
   private final StoreOrderService storeOrderService;
+  private final OrderBoardService orderBoardService;
+  private final OrderStatusStatsService orderStatusStatsService;
 
   @GetMapping("/history")
   @Operation(summary = "주문 내역 조회", description = "판매자가 주문 이력을 요청한 경우")
@@ -48,7 +53,7 @@ public class StoreOrderController {
       @PathVariable Long storeId
   ) {
     return ResponseEntity.ok().body(ApiResponse.success("상점의 주문 수락 대기 목록 조회 성공",
-        storeOrderService.getPendingOrders(storeId)));
+        orderBoardService.getPendingOrders(storeId)));
   }
 
   @GetMapping("/accepted")
@@ -59,7 +64,18 @@ public class StoreOrderController {
       @PathVariable Long storeId
   ) {
     return ResponseEntity.ok().body(ApiResponse.success("상점의 주문 현황 목록 조회 성공",
-        storeOrderService.getAcceptedOrders(storeId)));
+        orderBoardService.getAcceptedOrders(storeId)));
+  }
+
+  @GetMapping("/prep-time")
+  @Operation(summary = "조리 시간 통계 조회", description = "판매자가 최근 주문의 조리 시간 분포를 요청한 경우")
+  @PreAuthorize("@profileSecurity.isSeller(#securityUser) and @storeSecurity.isOwner(#storeId,#securityUser)")
+  public ResponseEntity<ApiResponse<PrepTimeStatsResponse>> getPrepTimeStats(
+      @AuthenticationPrincipal SecurityUser securityUser,
+      @PathVariable Long storeId
+  ) {
+    return ResponseEntity.ok().body(ApiResponse.success("상점의 조리 시간 통계 조회 성공",
+        orderStatusStatsService.getPrepTimeStats(storeId)));
   }
 
   @PatchMapping("/{orderId}/accept")
@@ -0,0 +1,24 @@
+package com.deliveranything.domain.order.dto;
+
+import com.deliveranything.domain.order.enums.OrderBoardChange;
+import com.deliveranything.domain.order.enums.OrderStatus;
+
+public record OrderBoardDeltaResponse(
+    OrderBoardChange change,
+    Long orderId,
+    OrderStatus status,
+    OrderResponse order
+) {
+
+  public static OrderBoardDeltaResponse added(OrderResponse order) {
+    return new OrderBoardDeltaResponse(OrderBoardChange.ADDED, order.id(), order.status(), order);
+  }
+
+  public static OrderBoardDeltaResponse updated(Long orderId, OrderStatus status) {
+    return new OrderBoardDeltaResponse(OrderBoardChange.UPDATED, orderId, status, null);
+  }
+
+  public static OrderBoardDeltaResponse removed(Long orderId, OrderStatus status) {
+    return new OrderBoardDeltaResponse(OrderBoardChange.REMOVED, orderId, status, null);
+  }
+}
@@ -1,6 +1,8 @@
 package com.deliveranything.domain.order.dto;
 
+import com.deliveranything.domain.order.dto.projection.OrderSummaryProjection;
 import com.deliveranything.domain.order.entity.Order;
+import com.deliveranything.domain.order.entity.OrderArchive;
 import com.deliveranything.domain.order.enums.OrderStatus;
 import com.deliveranything.domain.order.event.dto.OrderItemInfo;
 import java.time.LocalDateTime;
@@ -37,4 +39,38 @@ public record OrderResponse(
         order.getCreatedAt()
     );
   }
+
+  public static OrderResponse from(OrderArchive order) {
+    return new OrderResponse(
+        order.getId(),
+        order.getOrderItems().stream().map(OrderItemInfo::fromArchivedItem).toList(),
+        order.getStatus(),
+        order.getMerchantId(),
+        order.getStore().getName(),
+        order.getAddress(),
+        order.getRiderNote(),
+        order.getStoreNote(),
+        order.getTotalPrice(),
+        order.getStorePrice(),
+        order.getDeliveryPrice(),
+        order.getCreatedAt()
+    );
+  }
+
+  public static OrderResponse from(OrderSummaryProjection order, List<OrderItemInfo> orderItems) {
+    return new OrderResponse(
+        order.id(),
+        orderItems,
+        order.status(),
+        order.merchantId(),
+        order.storeName(),
+        order.address(),
+        order.riderNote(),
+        order.storeNote(),
+        order.totalPrice(),
+        order.storePrice(),
+        order.deliveryPrice(),
+        order.createdAt()
+    );
+  }
 }
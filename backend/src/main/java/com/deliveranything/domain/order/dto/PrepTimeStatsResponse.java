@@ -0,0 +1,35 @@
+package com.deliveranything.domain.order.dto;
+
+// 분 단위 조리 시간 백분위 (집계된 주문이 없으면 null)
+public record PrepTimeStatsResponse(
+    long count,
+    Integer p50Minutes,
+    Integer p90Minutes,
+    Integer p99Minutes
+) {
+
+  // buckets[i]: 조리 시간이 i 분대인 주문 수
+  public static PrepTimeStatsResponse from(long[] buckets) {
+    long count = 0;
+    for (long bucket : buckets) {
+      count += bucket;
+    }
+    if (count == 0) {
+      return new PrepTimeStatsResponse(0, null, null, null);
+    }
+    return new PrepTimeStatsResponse(count, percentile(buckets, count, 0.5),
+        percentile(buckets, count, 0.9), percentile(buckets, count, 0.99));
+  }
+
+  private static int percentile(long[] buckets, long count, double quantile) {
+    long rank = (long) Math.ceil(count * quantile);
+    long seen = 0;
+    for (int minute = 0; minute < buckets.length; minute++) {
+      seen += buckets[minute];
+      if (seen >= rank) {
+        return minute;
+      }
+    }
+    return buckets.length - 1;
+  }
+}
@@ -0,0 +1,9 @@
+package com.deliveranything.domain.order.dto.projection;
+
+public record OrderItemProjection(
+    Long orderId,
+    Long productId,
+    Integer quantity
+) {
+
+}
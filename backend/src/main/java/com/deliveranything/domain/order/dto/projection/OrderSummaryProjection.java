@@ -0,0 +1,21 @@
+package com.deliveranything.domain.order.dto.projection;
+
+import com.deliveranything.domain.order.enums.OrderStatus;
+import java.time.LocalDateTime;
+
+// 주문 목록 한 행 (상점은 이름만 조회)
+public record OrderSummaryProjection(
+    Long id,
+    OrderStatus status,
+    String merchantId,
+    String storeName,
+    String address,
+    String riderNote,
+    String storeNote,
+    Long totalPrice,
+    Long storePrice,
+    Long deliveryPrice,
+    LocalDateTime createdAt
+) {
+
+}
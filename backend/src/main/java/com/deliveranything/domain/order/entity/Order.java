@@ -2,6 +2,7 @@ package com.deliveranything.domain.order.entity;
 
 import com.deliveranything.domain.delivery.entity.Delivery;
 import com.deliveranything.domain.order.enums.OrderStatus;
+import com.deliveranything.domain.order.event.dto.OrderStatusChange;
 import com.deliveranything.domain.store.store.entity.Store;
 import com.deliveranything.domain.user.profile.entity.CustomerProfile;
 import com.deliveranything.global.entity.BaseEntity;
@@ -10,17 +11,22 @@ import com.deliveranything.global.exception.ErrorCode;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -31,7 +37,18 @@ import org.locationtech.jts.geom.Point;
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name = "orders")
+@EntityListeners(OrderStatusLogListener.class)
+@Table(
+    name = "orders",
+    indexes = {
+        // 소비자 주문 내역 커서 조회 (정렬 컬럼까지 포함해 filesort 없이 범위 스캔)
+        @Index(name = "idx_orders_customer_id_created_at_id",
+            columnList = "customer_id, created_at, id"),
+        // 상점 주문 이력/현황 조회
+        @Index(name = "idx_orders_store_id_status_created_at",
+            columnList = "store_id, status, created_at")
+    }
+)
 public class Order extends BaseEntity {
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -79,6 +96,14 @@ public class Order extends BaseEntity {
 
   private String cancellationReason;
 
+  // 현재 상태에 들어온 시각 (상태별 체류 시간 측정용, 기존 주문은 null)
+  private LocalDateTime statusChangedAt;
+
+  // 아직 상태 로그로 넘기지 않은 상태 변경 (flush 시 OrderStatusLogListener 가 가져감)
+  @Transient
+  @Getter(AccessLevel.NONE)
+  private final List<OrderStatusChange> statusChanges = new ArrayList<>();
+
   @Builder
   public Order(CustomerProfile customer, Store store, String address, Point destination,
       String riderNote, String storeNote, Long totalPrice, Long storePrice, Long deliveryPrice) {
@@ -93,6 +118,9 @@ public class Order extends BaseEntity {
     this.deliveryPrice = deliveryPrice;
     this.status = OrderStatus.CREATED;
     this.merchantId = UUID.randomUUID().toString();
+    this.statusChangedAt = LocalDateTime.now();
+    this.statusChanges.add(new OrderStatusChange(null, OrderStatus.CREATED, null,
+        this.statusChangedAt));
   }
 
   public void addOrderItem(OrderItem orderItem) {
@@ -105,7 +133,17 @@ public class Order extends BaseEntity {
       log.warn("order status can't be transited at {} to {} ", this.status, status);
     }
 
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime enteredAt = this.statusChangedAt != null ? this.statusChangedAt : getCreatedAt();
+    this.statusChanges.add(new OrderStatusChange(this.status, status, enteredAt, now));
     this.status = status;
+    this.statusChangedAt = now;
+  }
+
+  public List<OrderStatusChange> pullStatusChanges() {
+    List<OrderStatusChange> changes = List.copyOf(this.statusChanges);
+    this.statusChanges.clear();
+    return changes;
   }
 
   public void isPayable() {
@@ -115,7 +153,7 @@ public class Order extends BaseEntity {
   }
 
   public void isCancelable() {
-    if (this.status != OrderStatus.PENDING) {
+    if (this.status != OrderStatus.PENDING && this.status != OrderStatus.CANCEL_FAILED) {
       throw new CustomException(ErrorCode.ORDER_CANCEL_UNAVAILABLE);
     }
   }
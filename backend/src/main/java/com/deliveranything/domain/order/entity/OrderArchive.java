@@ -0,0 +1,87 @@
+package com.deliveranything.domain.order.entity;
+
+import com.deliveranything.domain.order.enums.OrderStatus;
+import com.deliveranything.domain.store.store.entity.Store;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.locationtech.jts.geom.Point;
+
+// 보관 기간이 지난 종료 주문 (orders 테이블에서 이동, 원본 ID 유지, 읽기 전용)
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(
+    name = "orders_archive",
+    indexes = {
+        @Index(name = "idx_orders_archive_customer_id_created_at_id",
+            columnList = "customerId, createdAt, id"),
+        @Index(name = "idx_orders_archive_customer_id_id", columnList = "customerId, id")
+    }
+)
+public class OrderArchive {
+
+  @Id
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "store_id", nullable = false)
+  private Store store;
+
+  @Column(nullable = false)
+  private Long customerId;
+
+  private Long deliveryId;
+
+  @OneToMany(mappedBy = "order", fetch = FetchType.LAZY)
+  private List<OrderItemArchive> orderItems = new ArrayList<>();
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private OrderStatus status;
+
+  @Column(nullable = false, length = 200)
+  private String merchantId;
+
+  @Column(nullable = false, length = 100)
+  private String address;
+
+  @Column(columnDefinition = "geometry", nullable = false)
+  private Point destination;
+
+  @Column(length = 30)
+  private String riderNote;
+
+  @Column(length = 30)
+  private String storeNote;
+
+  @Column(nullable = false)
+  private Long totalPrice;
+
+  @Column(nullable = false)
+  private Long storePrice;
+
+  @Column(nullable = false)
+  private Long deliveryPrice;
+
+  private String cancellationReason;
+
+  @Column(name = "created_at")
+  private LocalDateTime createdAt;
+
+  @Column(nullable = false)
+  private LocalDateTime archivedAt;
+}
@@ -1,11 +1,10 @@
 package com.deliveranything.domain.order.entity;
 
 import com.deliveranything.domain.product.product.entity.Product;
+import com.deliveranything.global.entity.Tsid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -20,8 +19,9 @@ import lombok.NoArgsConstructor;
 @Table(name = "order_items")
 public class OrderItem {
 
+  // 주문 상품은 한 주문에 여러 건이 함께 저장되므로 IDENTITY 대신 TSID 로 INSERT 를 배치 처리
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Tsid
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
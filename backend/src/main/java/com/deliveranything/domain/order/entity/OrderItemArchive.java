@@ -0,0 +1,35 @@
+package com.deliveranything.domain.order.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 보관된 주문의 상품 (order_items 테이블에서 이동, 원본 ID 유지)
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "order_items_archive")
+public class OrderItemArchive {
+
+  @Id
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "order_id", nullable = false)
+  private OrderArchive order;
+
+  @Column(nullable = false)
+  private Long productId;
+
+  @Column(nullable = false)
+  private Integer price;
+
+  @Column(nullable = false)
+  private Integer quantity;
+}
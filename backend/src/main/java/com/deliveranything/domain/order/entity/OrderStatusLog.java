@@ -0,0 +1,68 @@
+package com.deliveranything.domain.order.entity;
+
+import com.deliveranything.domain.order.enums.OrderStatus;
+import com.deliveranything.domain.order.event.dto.OrderStatusChange;
+import com.deliveranything.global.entity.Tsid;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 주문 상태 변경 이력 (추가만 하고 수정하지 않음, orders 와 FK 없이 ID 만 보관)
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(
+    name = "order_status_logs",
+    indexes = {
+        @Index(name = "idx_order_status_logs_order_id", columnList = "orderId"),
+        @Index(name = "idx_order_status_logs_store_id_changed_at",
+            columnList = "storeId, changedAt")
+    }
+)
+public class OrderStatusLog {
+
+  // 여러 건을 한 번에 INSERT 하므로 TSID 사용
+  @Id
+  @Tsid
+  private Long id;
+
+  @Column(nullable = false)
+  private Long orderId;
+
+  @Column(nullable = false)
+  private Long storeId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(length = 30)
+  private OrderStatus fromStatus;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 30)
+  private OrderStatus toStatus;
+
+  @Column(nullable = false)
+  private LocalDateTime changedAt;
+
+  // fromStatus 에 머문 시간
+  private Long elapsedMs;
+
+  private OrderStatusLog(Long orderId, Long storeId, OrderStatusChange change) {
+    this.orderId = orderId;
+    this.storeId = storeId;
+    this.fromStatus = change.from();
+    this.toStatus = change.to();
+    this.changedAt = change.changedAt();
+    this.elapsedMs = change.elapsedMillis();
+  }
+
+  public static OrderStatusLog of(Long orderId, Long storeId, OrderStatusChange change) {
+    return new OrderStatusLog(orderId, storeId, change);
+  }
+}
@@ -0,0 +1,35 @@
+package com.deliveranything.domain.order.entity;
+
+import com.deliveranything.domain.order.event.dto.OrderStatusChange;
+import com.deliveranything.domain.order.service.OrderStatusLogService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문이 INSERT/UPDATE 될 때 쌓인 상태 변경을 상태 로그 버퍼로 넘깁니다.
+ * <p>
+ * 서비스마다 로그 코드를 넣지 않아도 {@link Order#updateStatus} 를 거친 변경은 모두 기록됩니다.
+ * 리스너는 EntityManagerFactory 생성 중에 만들어지므로 서비스는 처음 사용할 때 꺼냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStatusLogListener {
+
+  private final ObjectProvider<OrderStatusLogService> orderStatusLogService;
+
+  @PostPersist
+  @PostUpdate
+  public void onSaved(Order order) {
+    List<OrderStatusChange> changes = order.pullStatusChanges();
+    if (changes.isEmpty()) {
+      return;
+    }
+    // JPA 슬라이스 테스트처럼 서비스 빈이 없는 컨텍스트에서는 기록하지 않음
+    orderStatusLogService.ifAvailable(
+        service -> service.append(order.getId(), order.getStore().getId(), changes));
+  }
+}
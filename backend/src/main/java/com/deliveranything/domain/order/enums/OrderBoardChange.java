@@ -0,0 +1,7 @@
+package com.deliveranything.domain.order.enums;
+
+public enum OrderBoardChange {
+  ADDED,
+  UPDATED,
+  REMOVED
+}
@@ -0,0 +1,44 @@
+package com.deliveranything.domain.order.enums;
+
+import java.time.Duration;
+
+/**
+ * 주문 사가 단계
+ * <p>
+ * rank 는 단계의 진행 순서로, 더 낮거나 같은 rank 로의 전이는 재전달된 이전 메시지로 보고 무시합니다.
+ * 체크아웃이 끝난 주문(COMPLETED)과 결제 취소가 실패한 주문(CANCEL_FAILED)은 취소 흐름으로 다시 진행할 수 있습니다.
+ * timeout 이 없는 단계는 다른 주체(고객 결제, 재고 예약 만료 스위퍼)가 진행을 맡습니다.
+ */
+public enum OrderSagaStep {
+  RESERVING_STOCK(1, Duration.ofSeconds(30)),    // 주문 생성 → 재고 예약 대기
+  AWAITING_PAYMENT(2, null),                     // 재고 예약 완료 → 고객 결제 대기
+  CONFIRMING_PAYMENT(3, Duration.ofMinutes(2)),  // 결제 요청 → PG 승인 대기
+  COMMITTING_STOCK(4, Duration.ofSeconds(30)),   // 결제 성공 → 재고 확정 대기
+  RELEASING_STOCK(4, Duration.ofSeconds(30)),    // 결제 실패 → 재고 해제 대기
+  COMPLETED(5, null),                            // 결제 완료 (주문 PENDING)
+  FAILED(5, null),                               // 재고 예약 실패 / 결제 실패
+  CANCELING_PAYMENT(6, Duration.ofMinutes(2)),   // 취소 요청 → 결제 취소 대기
+  REPLENISHING_STOCK(7, Duration.ofSeconds(30)), // 결제 취소 성공 → 재고 복구 대기
+  CANCELED(8, null),                             // 취소 완료
+  CANCEL_FAILED(5, null);                        // 결제 취소 실패 (재취소 요청 가능)
+
+  private final int rank;
+  private final Duration timeout;
+
+  OrderSagaStep(int rank, Duration timeout) {
+    this.rank = rank;
+    this.timeout = timeout;
+  }
+
+  public int rank() {
+    return rank;
+  }
+
+  public Duration timeout() {
+    return timeout;
+  }
+
+  public boolean hasTimeout() {
+    return timeout != null;
+  }
+}
@@ -22,7 +22,9 @@ public enum OrderStatus {
       case RIDER_ASSIGNED -> next == DELIVERING;
       case DELIVERING -> next == COMPLETED;
       case CANCELLATION_REQUESTED -> next == PENDING || next == CANCEL_FAILED;
-      case COMPLETED, REJECTED, CANCELED, CANCEL_FAILED, PAYMENT_FAILED -> false;
+      // 결제 취소가 실패한 주문은 다시 취소를 요청할 수 있음 (결제는 새 멱등 키로 재취소)
+      case CANCEL_FAILED -> next == CANCELLATION_REQUESTED;
+      case COMPLETED, REJECTED, CANCELED, PAYMENT_FAILED -> false;
     };
   }
 }
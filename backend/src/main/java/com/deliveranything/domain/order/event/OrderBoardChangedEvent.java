@@ -0,0 +1,27 @@
+package com.deliveranything.domain.order.event;
+
+import com.deliveranything.domain.order.dto.OrderResponse;
+import com.deliveranything.domain.order.entity.Order;
+import com.deliveranything.domain.order.enums.OrderStatus;
+
+/**
+ * 판매자 주문 현황판에 반영할 주문 상태 변경 (order 는 새로 들어온 PENDING 주문일 때만 채움)
+ */
+public record OrderBoardChangedEvent(
+    Long storeId,
+    Long sellerId,
+    Long orderId,
+    OrderStatus status,
+    OrderResponse order
+) {
+
+  public static OrderBoardChangedEvent from(Order order) {
+    return new OrderBoardChangedEvent(
+        order.getStore().getId(),
+        order.getStore().getSellerProfileId(),
+        order.getId(),
+        order.getStatus(),
+        order.getStatus() == OrderStatus.PENDING ? OrderResponse.from(order) : null
+    );
+  }
+}
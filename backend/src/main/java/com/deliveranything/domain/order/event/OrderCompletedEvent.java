@@ -1,22 +1,32 @@
 package com.deliveranything.domain.order.event;
 
 import com.deliveranything.domain.order.entity.Order;
+import com.deliveranything.domain.store.store.entity.Store;
+import java.time.LocalDateTime;
 
+// v2: 수수료 규칙 적용을 위해 상점, 카테고리, 완료 시각 추가 (v1 이벤트는 null)
 public record OrderCompletedEvent(
     Long orderId,
     Long riderProfileId,
     Long sellerProfileId,
     Long storePrice,
-    Long deliveryPrice
+    Long deliveryPrice,
+    Long storeId,
+    Long storeCategoryId,
+    LocalDateTime completedAt
 ) {
 
   public static OrderCompletedEvent fromOrder(Order order, Long riderId, Long sellerId) {
+    Store store = order.getStore();
     return new OrderCompletedEvent(
         order.getId(),
         riderId,
         sellerId,
         order.getStorePrice(),
-        order.getDeliveryPrice()
+        order.getDeliveryPrice(),
+        store.getId(),
+        store.getStoreCategory().getId(),
+        LocalDateTime.now()
     );
   }
 }
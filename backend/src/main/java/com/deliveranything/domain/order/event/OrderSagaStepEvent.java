@@ -0,0 +1,24 @@
+package com.deliveranything.domain.order.event;
+
+import com.deliveranything.domain.order.enums.OrderSagaStep;
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import java.util.List;
+
+// 주문 사가 단계 진입 (노드 내부 이벤트 - 커밋 후 사가 상태 기록용)
+// storeId/items 는 사가 시작 시에만 담아 재고 단계 재시도에 사용
+public record OrderSagaStepEvent(
+    Long orderId,
+    OrderSagaStep step,
+    Long storeId,
+    List<OrderItemInfo> items
+) {
+
+  public static OrderSagaStepEvent of(Long orderId, OrderSagaStep step) {
+    return new OrderSagaStepEvent(orderId, step, null, null);
+  }
+
+  public static OrderSagaStepEvent started(OrderCreatedEvent event) {
+    return new OrderSagaStepEvent(event.orderId(), OrderSagaStep.RESERVING_STOCK,
+        event.storeId(), event.orderItems());
+  }
+}
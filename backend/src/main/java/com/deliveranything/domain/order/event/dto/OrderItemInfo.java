@@ -1,6 +1,10 @@
 package com.deliveranything.domain.order.event.dto;
 
 import com.deliveranything.domain.order.entity.OrderItem;
+import com.deliveranything.domain.order.entity.OrderItemArchive;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 public record OrderItemInfo(
     Long productId,
@@ -13,4 +17,28 @@ public record OrderItemInfo(
         orderItem.getQuantity()
     );
   }
+
+  public static OrderItemInfo fromArchivedItem(OrderItemArchive orderItem) {
+    return new OrderItemInfo(orderItem.getProductId(), orderItem.getQuantity());
+  }
+
+  // Redis 저장용 "productId:quantity,productId:quantity" 형식
+  public static String encode(List<OrderItemInfo> items) {
+    return items.stream()
+        .map(item -> item.productId() + ":" + item.quantity())
+        .collect(Collectors.joining(","));
+  }
+
+  public static List<OrderItemInfo> decode(String value) {
+    List<OrderItemInfo> items = new ArrayList<>();
+    if (value == null || value.isEmpty()) {
+      return items;
+    }
+    for (String token : value.split(",")) {
+      int separator = token.indexOf(':');
+      items.add(new OrderItemInfo(Long.valueOf(token.substring(0, separator)),
+          Integer.valueOf(token.substring(separator + 1))));
+    }
+    return items;
+  }
 }
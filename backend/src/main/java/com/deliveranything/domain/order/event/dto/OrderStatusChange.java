@@ -0,0 +1,22 @@
+package com.deliveranything.domain.order.event.dto;
+
+import com.deliveranything.domain.order.enums.OrderStatus;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// from 이 null 이면 주문 생성, enteredAt 이 null 이면 이전 상태 진입 시각을 모름
+public record OrderStatusChange(
+    OrderStatus from,
+    OrderStatus to,
+    LocalDateTime enteredAt,
+    LocalDateTime changedAt
+) {
+
+  // 이전 상태에 머문 시간 (ms)
+  public Long elapsedMillis() {
+    if (enteredAt == null) {
+      return null;
+    }
+    return Math.max(0, Duration.between(enteredAt, changedAt).toMillis());
+  }
+}
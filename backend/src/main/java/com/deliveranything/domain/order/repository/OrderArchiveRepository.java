@@ -0,0 +1,44 @@
+package com.deliveranything.domain.order.repository;
+
+import com.deliveranything.domain.order.entity.OrderArchive;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface OrderArchiveRepository extends JpaRepository<OrderArchive, Long> {
+
+  @Query("""
+      SELECT o
+      FROM OrderArchive o
+      JOIN FETCH o.store
+      WHERE o.id = :orderId AND o.customerId = :customerId
+      """)
+  Optional<OrderArchive> findOrderWithStoreByIdAndCustomerId(Long orderId, Long customerId);
+
+  // 엔티티 로딩 없이 INSERT ... SELECT 로 한 번에 이동
+  @Modifying
+  @Query(value = """
+      INSERT INTO orders_archive
+          (id, store_id, customer_id, delivery_id, status, merchant_id, address, destination,
+           rider_note, store_note, total_price, store_price, delivery_price, cancellation_reason,
+           created_at, archived_at)
+      SELECT o.id, o.store_id, o.customer_id, o.delivery_id, o.status, o.merchant_id, o.address,
+             o.destination, o.rider_note, o.store_note, o.total_price, o.store_price,
+             o.delivery_price, o.cancellation_reason, o.created_at, :archivedAt
+      FROM orders o
+      WHERE o.id IN (:ids)
+      """, nativeQuery = true)
+  int copyFromOrders(List<Long> ids, LocalDateTime archivedAt);
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO order_items_archive (id, order_id, product_id, price, quantity)
+      SELECT i.id, i.order_id, i.product_id, i.price, i.quantity
+      FROM order_items i
+      WHERE i.order_id IN (:ids)
+      """, nativeQuery = true)
+  int copyItemsFromOrders(List<Long> ids);
+}
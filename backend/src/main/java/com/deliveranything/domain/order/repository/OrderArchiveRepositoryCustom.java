@@ -0,0 +1,96 @@
+package com.deliveranything.domain.order.repository;
+
+import com.deliveranything.domain.order.dto.projection.OrderItemProjection;
+import com.deliveranything.domain.order.dto.projection.OrderSummaryProjection;
+import com.deliveranything.domain.order.entity.QOrderArchive;
+import com.deliveranything.domain.order.entity.QOrderItemArchive;
+import com.deliveranything.domain.order.enums.OrderStatus;
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.store.store.entity.QStore;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+// 보관 주문 조회 - OrderRepositoryCustom 의 소비자 커서 조회와 같은 조건/정렬/프로젝션
+@RequiredArgsConstructor
+@Repository
+public class OrderArchiveRepositoryCustom {
+
+  private final JPAQueryFactory queryFactory;
+
+  public List<OrderSummaryProjection> findOrderSummariesByCustomerId(Long customerId,
+      Long cursor, int size) {
+    QOrderArchive order = QOrderArchive.orderArchive;
+
+    return queryFactory.select(summary())
+        .from(order)
+        .join(order.store, QStore.store)
+        .where(
+            order.customerId.eq(customerId),
+            cursor != null ? order.id.lt(cursor) : null
+        )
+        .orderBy(order.id.desc())
+        .limit(size)
+        .fetch();
+  }
+
+  public List<OrderSummaryProjection> findOrderSummariesByCustomerId(Long customerId,
+      List<OrderStatus> statuses, LocalDateTime lastCreatedAt, Long lastOrderId, int size) {
+    QOrderArchive order = QOrderArchive.orderArchive;
+
+    return queryFactory.select(summary())
+        .from(order)
+        .join(order.store, QStore.store)
+        .where(
+            order.customerId.eq(customerId),
+            statuses != null && !statuses.isEmpty() ? order.status.in(statuses) : null,
+            cursorCondition(lastCreatedAt, lastOrderId)
+        )
+        .orderBy(order.createdAt.desc(), order.id.desc())
+        .limit(size)
+        .fetch();
+  }
+
+  public Map<Long, List<OrderItemInfo>> findItemsByOrderIds(Collection<Long> orderIds) {
+    if (orderIds.isEmpty()) {
+      return Map.of();
+    }
+    QOrderItemArchive orderItem = QOrderItemArchive.orderItemArchive;
+
+    return queryFactory.select(Projections.constructor(OrderItemProjection.class,
+            orderItem.order.id, orderItem.productId, orderItem.quantity))
+        .from(orderItem)
+        .where(orderItem.order.id.in(orderIds))
+        .orderBy(orderItem.id.asc())
+        .fetch().stream()
+        .collect(Collectors.groupingBy(OrderItemProjection::orderId,
+            Collectors.mapping(item -> new OrderItemInfo(item.productId(), item.quantity()),
+                Collectors.toList())));
+  }
+
+  private ConstructorExpression<OrderSummaryProjection> summary() {
+    QOrderArchive order = QOrderArchive.orderArchive;
+    return Projections.constructor(OrderSummaryProjection.class,
+        order.id, order.status, order.merchantId, QStore.store.name, order.address,
+        order.riderNote, order.storeNote, order.totalPrice, order.storePrice,
+        order.deliveryPrice, order.createdAt);
+  }
+
+  private BooleanExpression cursorCondition(LocalDateTime lastCreatedAt, Long lastOrderId) {
+    if (lastCreatedAt == null || lastOrderId == null) {
+      return null;
+    }
+
+    QOrderArchive order = QOrderArchive.orderArchive;
+    return order.createdAt.lt(lastCreatedAt)
+        .or(order.createdAt.eq(lastCreatedAt).and(order.id.lt(lastOrderId)));
+  }
+}
@@ -0,0 +1,183 @@
+package com.deliveranything.domain.order.repository;
+
+import com.deliveranything.domain.order.dto.OrderResponse;
+import com.deliveranything.domain.order.enums.OrderStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 판매자 주문 현황판 (Redis)
+ * <p>
+ * 상점마다 {@code order:board:{storeId}} 해시(주문 ID → 주문 JSON)와
+ * {@code order:board:{storeId}:status} 해시(주문 ID → 상태)를 둡니다. 상태 변경은 상태 해시만 고치고,
+ * {@code order:board:{storeId}:loaded} 키가 만료되면 DB 에서 통째로 다시 적재합니다.
+ * <p>
+ * 변경분을 반영할 때마다 {@code order:board:{storeId}:generation} 을 올려, DB 를 읽는 사이 들어온 변경분을
+ * 다시 적재가 덮어쓰지 못하게 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderBoardRepository {
+
+  private static final String KEY_PREFIX = "order:board:";
+
+  // ARGV[1]: 적재 유효 시간(ms), ARGV[2]: DB 를 읽기 전 세대, 이후 (주문 ID, 주문 JSON, 상태) 반복
+  // 그사이 변경분이 반영돼 세대가 바뀌었으면 적재하지 않음
+  private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+      if (redis.call('GET', KEYS[4]) or '0') ~= ARGV[2] then
+        return 0
+      end
+      redis.call('DEL', KEYS[1], KEYS[2])
+      for i = 3, #ARGV, 3 do
+        redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+        redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 2])
+      end
+      redis.call('SET', KEYS[3], '1', 'PX', ARGV[1])
+      return 1
+      """, Long.class);
+
+  private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('INCR', KEYS[4])
+      redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+      redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+      return 1
+      """, Long.class);
+
+  // 현황판에 있는 주문만 상태 변경
+  private static final RedisScript<Long> UPDATE_STATUS_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('INCR', KEYS[4])
+      if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+        return 0
+      end
+      redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+      return 1
+      """, Long.class);
+
+  private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('INCR', KEYS[4])
+      redis.call('HDEL', KEYS[2], ARGV[1])
+      return redis.call('HDEL', KEYS[1], ARGV[1])
+      """, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 현황판 전체 조회 (적재되지 않았거나 적재 유효 시간이 지났으면 empty)
+   */
+  public Optional<List<OrderResponse>> findAll(Long storeId) {
+    if (!Boolean.TRUE.equals(redisTemplate.hasKey(loadedKey(storeId)))) {
+      return Optional.empty();
+    }
+
+    Map<Object, Object> orders = redisTemplate.opsForHash().entries(ordersKey(storeId));
+    Map<Object, Object> statuses = redisTemplate.opsForHash().entries(statusKey(storeId));
+
+    List<OrderResponse> responses = new ArrayList<>();
+    orders.forEach((orderId, json) -> {
+      Object status = statuses.get(orderId);
+      if (status != null) {
+        responses.add(withStatus(read(json.toString()), OrderStatus.valueOf(status.toString())));
+      }
+    });
+    return Optional.of(responses);
+  }
+
+  /**
+   * 현황판 세대 (변경분이 반영될 때마다 증가, DB 를 읽기 전에 조회해 {@link #replaceAll} 에 넘김)
+   */
+  public long currentGeneration(Long storeId) {
+    String generation = redisTemplate.opsForValue().get(generationKey(storeId));
+    return generation != null ? Long.parseLong(generation) : 0L;
+  }
+
+  /**
+   * 현황판 통째로 적재 (세대가 {@code generation} 에서 바뀌었으면 적재하지 않고 false)
+   */
+  public boolean replaceAll(Long storeId, List<OrderResponse> orders, Duration validFor,
+      long generation) {
+    List<String> args = new ArrayList<>();
+    args.add(String.valueOf(validFor.toMillis()));
+    args.add(String.valueOf(generation));
+    for (OrderResponse order : orders) {
+      args.add(String.valueOf(order.id()));
+      args.add(write(order));
+      args.add(order.status().name());
+    }
+    Long result = redisTemplate.execute(REPLACE_SCRIPT, keys(storeId), args.toArray());
+    return Long.valueOf(1).equals(result);
+  }
+
+  public void put(Long storeId, OrderResponse order) {
+    redisTemplate.execute(PUT_SCRIPT, keys(storeId), String.valueOf(order.id()), write(order),
+        order.status().name());
+  }
+
+  public boolean updateStatus(Long storeId, Long orderId, OrderStatus status) {
+    Long result = redisTemplate.execute(UPDATE_STATUS_SCRIPT, keys(storeId),
+        String.valueOf(orderId), status.name());
+    return Long.valueOf(1).equals(result);
+  }
+
+  public void remove(Long storeId, Long orderId) {
+    redisTemplate.execute(REMOVE_SCRIPT, keys(storeId), String.valueOf(orderId));
+  }
+
+  // 다음 조회 때 DB 에서 다시 적재하도록 함
+  public void invalidate(Long storeId) {
+    redisTemplate.delete(loadedKey(storeId));
+  }
+
+  private OrderResponse withStatus(OrderResponse order, OrderStatus status) {
+    return new OrderResponse(order.id(), order.orderItems(), status, order.merchantId(),
+        order.storeName(), order.address(), order.riderNote(), order.storeNote(),
+        order.totalPrice(), order.storePrice(), order.deliveryPrice(), order.createdAt());
+  }
+
+  private String write(OrderResponse order) {
+    try {
+      return objectMapper.writeValueAsString(order);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize order board entry", e);
+    }
+  }
+
+  private OrderResponse read(String json) {
+    try {
+      return objectMapper.readValue(json, OrderResponse.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to deserialize order board entry", e);
+    }
+  }
+
+  private List<String> keys(Long storeId) {
+    return List.of(ordersKey(storeId), statusKey(storeId), loadedKey(storeId),
+        generationKey(storeId));
+  }
+
+  private String ordersKey(Long storeId) {
+    return KEY_PREFIX + storeId;
+  }
+
+  private String statusKey(Long storeId) {
+    return KEY_PREFIX + storeId + ":status";
+  }
+
+  private String loadedKey(Long storeId) {
+    return KEY_PREFIX + storeId + ":loaded";
+  }
+
+  private String generationKey(Long storeId) {
+    return KEY_PREFIX + storeId + ":generation";
+  }
+}
@@ -0,0 +1,109 @@
+package com.deliveranything.domain.order.repository;
+
+import com.deliveranything.domain.order.dto.OrderCreateResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 주문 생성 요청 키 (Redis)
+ * <p>
+ * {@code order:idempotency:{customerId}:{key}} 해시에 요청 지문(fingerprint)과 처리 결과(orderId, merchantId)를
+ * 저장합니다. 결과가 없는 동안은 짧은 TTL 의 처리 중 잠금으로, 결과가 저장되면 긴 TTL 의 응답 캐시로 동작합니다.
+ * <p>
+ * 선점한 요청마다 토큰을 기록하고, 결과 저장과 잠금 해제는 토큰이 같을 때만 합니다. 잠금 TTL 이 지나 다른 요청이 키를 선점한
+ * 뒤에 늦게 끝난 요청이 그 잠금을 지우거나 결과를 덮어쓰지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderIdempotencyRepository {
+
+  private static final String KEY_PREFIX = "order:idempotency:";
+
+  // ARGV[1]: 지문, ARGV[2]: 잠금 TTL(ms), ARGV[3]: 토큰
+  // 키가 없으면 지문과 토큰을 기록하고 잠금 TTL 설정 후 {} 반환, 있으면 {fingerprint, orderId, merchantId}
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 1 then
+        return redis.call('HMGET', KEYS[1], 'fingerprint', 'orderId', 'merchantId')
+      end
+      redis.call('HSET', KEYS[1], 'fingerprint', ARGV[1], 'token', ARGV[3])
+      redis.call('PEXPIRE', KEYS[1], ARGV[2])
+      return {}
+      """, List.class);
+
+  // ARGV[1]: 토큰, ARGV[2]: orderId, ARGV[3]: merchantId, ARGV[4]: 결과 TTL(ms)
+  // 결과 기록과 TTL 연장을 함께 해, 결과는 있는데 잠금 TTL 로 곧 사라지는 상태가 없도록 함
+  private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('HGET', KEYS[1], 'token') ~= ARGV[1] then
+        return 0
+      end
+      redis.call('HSET', KEYS[1], 'orderId', ARGV[2], 'merchantId', ARGV[3])
+      redis.call('PEXPIRE', KEYS[1], ARGV[4])
+      return 1
+      """, Long.class);
+
+  // ARGV[1]: 토큰
+  private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('HGET', KEYS[1], 'token') ~= ARGV[1] then
+        return 0
+      end
+      return redis.call('DEL', KEYS[1])
+      """, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  /**
+   * 요청 키를 {@code token} 으로 선점 (선점하면 empty, 이미 있으면 기존 기록)
+   */
+  @SuppressWarnings("unchecked")
+  public Optional<IdempotencyRecord> acquire(Long customerId, String key, String fingerprint,
+      String token, Duration lockTtl) {
+    List<Object> reply = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(key(customerId, key)),
+        fingerprint, String.valueOf(lockTtl.toMillis()), token);
+
+    if (reply == null || reply.isEmpty()) {
+      return Optional.empty();
+    }
+    Object orderId = reply.get(1);
+    return Optional.of(new IdempotencyRecord(
+        reply.get(0) == null ? null : reply.get(0).toString(),
+        orderId == null ? null : new OrderCreateResponse(Long.valueOf(orderId.toString()),
+            reply.get(2).toString())));
+  }
+
+  /**
+   * 선점한 요청이면 결과를 저장하고 결과 TTL 로 연장 (잠금을 잃었으면 false)
+   */
+  public boolean complete(Long customerId, String key, String token, OrderCreateResponse response,
+      Duration resultTtl) {
+    Long result = redisTemplate.execute(COMPLETE_SCRIPT, List.of(key(customerId, key)), token,
+        String.valueOf(response.orderId()), response.merchantId(),
+        String.valueOf(resultTtl.toMillis()));
+    return Long.valueOf(1).equals(result);
+  }
+
+  /**
+   * 선점한 요청이면 키 삭제 (잠금을 잃었으면 다른 요청의 잠금이므로 그대로 둠)
+   */
+  public boolean release(Long customerId, String key, String token) {
+    Long result = redisTemplate.execute(RELEASE_SCRIPT, List.of(key(customerId, key)), token);
+    return Long.valueOf(1).equals(result);
+  }
+
+  private String key(Long customerId, String key) {
+    return KEY_PREFIX + customerId + ":" + key;
+  }
+
+  /**
+   * @param response 처리 중이면 null
+   */
+  public record IdempotencyRecord(String fingerprint, OrderCreateResponse response) {
+
+  }
+}
@@ -2,9 +2,12 @@ package com.deliveranything.domain.order.repository;
 
 import com.deliveranything.domain.order.entity.Order;
 import com.deliveranything.domain.order.enums.OrderStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -42,9 +45,26 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
       SELECT o
       FROM Order o
       JOIN FETCH o.store s
-      WHERE s.id = :customerId AND o.status IN :statuses
+      WHERE o.customer.id = :customerId AND o.status IN :statuses
       ORDER BY o.createdAt DESC
       """)
   List<Order> findOrdersWithStoreByCustomerIdAndStatuses(Long customerId,
       List<OrderStatus> statuses);
+
+  // 보관 기간이 지난 종료 주문 (오래된 것부터)
+  @Query("""
+      SELECT o.id
+      FROM Order o
+      WHERE o.status IN :statuses AND o.createdAt < :cutoff
+      ORDER BY o.id ASC
+      """)
+  List<Long> findArchivableIds(List<OrderStatus> statuses, LocalDateTime cutoff, Limit limit);
+
+  @Modifying
+  @Query("DELETE FROM OrderItem i WHERE i.order.id IN :orderIds")
+  int deleteItemsByOrderIds(List<Long> orderIds);
+
+  @Modifying
+  @Query("DELETE FROM Order o WHERE o.id IN :ids")
+  int deleteAllByIds(List<Long> ids);
 }
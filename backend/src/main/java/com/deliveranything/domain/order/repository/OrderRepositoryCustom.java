@@ -1,28 +1,44 @@
 package com.deliveranything.domain.order.repository;
 
-import com.deliveranything.domain.order.entity.Order;
+import com.deliveranything.domain.order.dto.projection.OrderItemProjection;
+import com.deliveranything.domain.order.dto.projection.OrderSummaryProjection;
 import com.deliveranything.domain.order.entity.QOrder;
+import com.deliveranything.domain.order.entity.QOrderItem;
 import com.deliveranything.domain.order.enums.OrderStatus;
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
 import com.deliveranything.domain.store.store.entity.QStore;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+/**
+ * 주문 목록 커서 조회
+ * <p>
+ * 목록에는 상점 이름만 필요하므로 엔티티 대신 필요한 컬럼만 DTO 로 조회하고(상점 description 등 제외),
+ * 주문 상품은 페이지의 주문 ID 로 한 번에 조회합니다. 소비자 조회는 (customer_id, created_at, id),
+ * 상점 조회는 (store_id, status, created_at) 인덱스를 탑니다.
+ */
 @RequiredArgsConstructor
 @Repository
 public class OrderRepositoryCustom {
 
   private final JPAQueryFactory queryFactory;
 
-  public List<Order> findOrdersWithStoreByCustomerId(Long customerId, Long cursor, int size) {
+  public List<OrderSummaryProjection> findOrderSummariesByCustomerId(Long customerId, Long cursor,
+      int size) {
     QOrder order = QOrder.order;
-    QStore store = QStore.store;
 
-    return queryFactory.selectFrom(order)
-        .join(order.store, store).fetchJoin()
+    return queryFactory.select(summary())
+        .from(order)
+        .join(order.store, QStore.store)
         .where(
             order.customer.id.eq(customerId),
             cursor != null ? order.id.lt(cursor) : null
@@ -32,13 +48,13 @@ public class OrderRepositoryCustom {
         .fetch();
   }
 
-  public List<Order> findOrdersWithStoreByStoreId(Long storeId, List<OrderStatus> statuses,
-      LocalDateTime lastCreatedAt, Long lastOrderId, int size) {
+  public List<OrderSummaryProjection> findOrderSummariesByStoreId(Long storeId,
+      List<OrderStatus> statuses, LocalDateTime lastCreatedAt, Long lastOrderId, int size) {
     QOrder order = QOrder.order;
-    QStore store = QStore.store;
 
-    return queryFactory.selectFrom(order)
-        .join(order.store, store).fetchJoin()
+    return queryFactory.select(summary())
+        .from(order)
+        .join(order.store, QStore.store)
         .where(
             order.store.id.eq(storeId),
             statusIn(statuses),
@@ -49,13 +65,13 @@ public class OrderRepositoryCustom {
         .fetch();
   }
 
-  public List<Order> findOrdersWithStoreByCustomerId(Long customerId, List<OrderStatus> statuses,
-      LocalDateTime lastCreatedAt, Long lastOrderId, int size) {
+  public List<OrderSummaryProjection> findOrderSummariesByCustomerId(Long customerId,
+      List<OrderStatus> statuses, LocalDateTime lastCreatedAt, Long lastOrderId, int size) {
     QOrder order = QOrder.order;
-    QStore store = QStore.store;
 
-    return queryFactory.selectFrom(order)
-        .join(order.store, store).fetchJoin()
+    return queryFactory.select(summary())
+        .from(order)
+        .join(order.store, QStore.store)
         .where(
             order.customer.id.eq(customerId),
             statusIn(statuses),
@@ -66,6 +82,32 @@ public class OrderRepositoryCustom {
         .fetch();
   }
 
+  // 주문 ID 별 주문 상품 (order_items 만 조회, 상품/주문 조인 없음)
+  public Map<Long, List<OrderItemInfo>> findItemsByOrderIds(Collection<Long> orderIds) {
+    if (orderIds.isEmpty()) {
+      return Map.of();
+    }
+    QOrderItem orderItem = QOrderItem.orderItem;
+
+    return queryFactory.select(Projections.constructor(OrderItemProjection.class,
+            orderItem.order.id, orderItem.product.id, orderItem.quantity))
+        .from(orderItem)
+        .where(orderItem.order.id.in(orderIds))
+        .orderBy(orderItem.id.asc())
+        .fetch().stream()
+        .collect(Collectors.groupingBy(OrderItemProjection::orderId,
+            Collectors.mapping(item -> new OrderItemInfo(item.productId(), item.quantity()),
+                Collectors.toList())));
+  }
+
+  private ConstructorExpression<OrderSummaryProjection> summary() {
+    QOrder order = QOrder.order;
+    return Projections.constructor(OrderSummaryProjection.class,
+        order.id, order.status, order.merchantId, QStore.store.name, order.address,
+        order.riderNote, order.storeNote, order.totalPrice, order.storePrice,
+        order.deliveryPrice, order.createdAt);
+  }
+
   private BooleanExpression statusIn(List<OrderStatus> statuses) {
     return statuses != null && !statuses.isEmpty() ? QOrder.order.status.in(statuses) : null;
   }
@@ -0,0 +1,181 @@
+package com.deliveranything.domain.order.repository;
+
+import com.deliveranything.domain.order.enums.OrderSagaStep;
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 주문 사가 상태 (Redis)
+ * <p>
+ * 주문마다 {@code order:saga:{orderId}} 해시(step, rank, enteredAt, attempts, store, items)를 두고, 제한 시간이 있는
+ * 단계는 orderId 로 샤딩한 {@code order:saga:deadlines:{shard}} ZSET 에 마감 시각을 score 로 등록합니다. 상태 전이와 마감 등록은
+ * Lua 스크립트 한 번으로 원자적으로 처리됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderSagaRepository {
+
+  private static final String SAGA_KEY_PREFIX = "order:saga:";
+  private static final String DEADLINE_KEY_PREFIX = "order:saga:deadlines:";
+  private static final long SAGA_TTL_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+  // KEYS[1]: 사가 해시, KEYS[2]: 마감 ZSET
+  // ARGV: step, rank, enteredAt, deadline('' 이면 없음), store, items, TTL, orderId
+  // 반환: {} 이전/중복 단계라 무시, {이전 step, 이전 enteredAt} 전이 ('' 이면 새 사가)
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> ADVANCE_SCRIPT = new DefaultRedisScript<>("""
+      local current = redis.call('HMGET', KEYS[1], 'step', 'rank', 'enteredAt')
+      if current[2] and tonumber(current[2]) >= tonumber(ARGV[2]) then
+        return {}
+      end
+      redis.call('HSET', KEYS[1], 'step', ARGV[1], 'rank', ARGV[2], 'enteredAt', ARGV[3],
+          'attempts', 0)
+      if ARGV[5] ~= '' then
+        redis.call('HSET', KEYS[1], 'store', ARGV[5], 'items', ARGV[6])
+      end
+      if ARGV[4] == '' then
+        redis.call('ZREM', KEYS[2], ARGV[8])
+      else
+        redis.call('ZADD', KEYS[2], ARGV[4], ARGV[8])
+      end
+      redis.call('EXPIRE', KEYS[1], ARGV[7])
+      return {current[1] or '', current[3] or ''}
+      """, List.class);
+
+  // 같은 단계에 머물러 있을 때만 시도 횟수를 올리고 마감을 다시 등록
+  private static final RedisScript<Long> REARM_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('HGET', KEYS[1], 'step') ~= ARGV[1] then
+        return 0
+      end
+      redis.call('HINCRBY', KEYS[1], 'attempts', 1)
+      redis.call('ZADD', KEYS[2], ARGV[2], ARGV[3])
+      return 1
+      """, Long.class);
+
+  // 마감이 지난 사가를 꺼내면서 인덱스에서 제거 (여러 노드가 같은 사가를 처리하지 않도록)
+  // 반환: {orderId, step, enteredAt, attempts, store, items, ...}
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CLAIM_EXPIRED_SCRIPT = new DefaultRedisScript<>("""
+      local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+      local result = {}
+      for _, id in ipairs(ids) do
+        redis.call('ZREM', KEYS[1], id)
+        local saga = redis.call('HMGET', ARGV[3] .. id, 'step', 'enteredAt', 'attempts', 'store',
+            'items')
+        if saga[1] then
+          table.insert(result, id)
+          table.insert(result, saga[1])
+          table.insert(result, saga[2])
+          table.insert(result, saga[3] or '0')
+          table.insert(result, saga[4] or '')
+          table.insert(result, saga[5] or '')
+        end
+      end
+      return result
+      """, List.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  @Value("${custom.order.saga.shards:16}")
+  private int shards;
+
+  public int shards() {
+    return shards;
+  }
+
+  /**
+   * 다음 단계로 전이하고 직전 단계를 반환 (새 사가이거나 이전/중복 단계면 empty)
+   */
+  @SuppressWarnings("unchecked")
+  public Optional<StepEntry> advance(Long orderId, OrderSagaStep step, Instant now,
+      Instant deadline, Long storeId, List<OrderItemInfo> items) {
+    List<Object> reply = redisTemplate.execute(ADVANCE_SCRIPT,
+        List.of(SAGA_KEY_PREFIX + orderId, deadlineKey(orderId)),
+        step.name(), String.valueOf(step.rank()), String.valueOf(now.toEpochMilli()),
+        deadline == null ? "" : String.valueOf(deadline.toEpochMilli()),
+        storeId == null ? "" : String.valueOf(storeId),
+        items == null ? "" : OrderItemInfo.encode(items),
+        String.valueOf(SAGA_TTL_SECONDS), String.valueOf(orderId));
+
+    if (reply == null || reply.size() < 2 || reply.get(0).toString().isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(new StepEntry(OrderSagaStep.valueOf(reply.get(0).toString()),
+        Instant.ofEpochMilli(Long.parseLong(reply.get(1).toString()))));
+  }
+
+  /**
+   * 현재 단계가 step 일 때만 재시도 횟수를 올리고 마감을 다시 등록
+   */
+  public boolean rearm(Long orderId, OrderSagaStep step, Instant deadline) {
+    Long result = redisTemplate.execute(REARM_SCRIPT,
+        List.of(SAGA_KEY_PREFIX + orderId, deadlineKey(orderId)),
+        step.name(), String.valueOf(deadline.toEpochMilli()), String.valueOf(orderId));
+    return Long.valueOf(1).equals(result);
+  }
+
+  public boolean isAt(Long orderId, OrderSagaStep step) {
+    Object current = redisTemplate.opsForHash().get(SAGA_KEY_PREFIX + orderId, "step");
+    return step.name().equals(current);
+  }
+
+  public Optional<OrderSagaStep> findStep(Long orderId) {
+    Object current = redisTemplate.opsForHash().get(SAGA_KEY_PREFIX + orderId, "step");
+    return Optional.ofNullable(current).map(step -> OrderSagaStep.valueOf(step.toString()));
+  }
+
+  /**
+   * 샤드에서 now 이전에 마감된 사가를 최대 batchSize 개 꺼냄
+   */
+  @SuppressWarnings("unchecked")
+  public List<SagaTimeout> claimExpired(int shard, Instant now, int batchSize) {
+    List<Object> reply = redisTemplate.execute(CLAIM_EXPIRED_SCRIPT,
+        List.of(DEADLINE_KEY_PREFIX + shard),
+        String.valueOf(now.toEpochMilli()), String.valueOf(batchSize), SAGA_KEY_PREFIX);
+
+    List<SagaTimeout> timeouts = new ArrayList<>();
+    if (reply == null) {
+      return timeouts;
+    }
+    for (int i = 0; i + 5 < reply.size(); i += 6) {
+      String store = reply.get(i + 4).toString();
+      timeouts.add(new SagaTimeout(
+          Long.valueOf(reply.get(i).toString()),
+          OrderSagaStep.valueOf(reply.get(i + 1).toString()),
+          Instant.ofEpochMilli(Long.parseLong(reply.get(i + 2).toString())),
+          Integer.parseInt(reply.get(i + 3).toString()),
+          store.isEmpty() ? null : Long.valueOf(store),
+          OrderItemInfo.decode(reply.get(i + 5).toString())));
+    }
+    return timeouts;
+  }
+
+  private String deadlineKey(Long orderId) {
+    return DEADLINE_KEY_PREFIX + Math.floorMod(orderId, shards);
+  }
+
+  public record StepEntry(OrderSagaStep step, Instant enteredAt) {
+
+  }
+
+  public record SagaTimeout(
+      Long orderId,
+      OrderSagaStep step,
+      Instant enteredAt,
+      int attempts,
+      Long storeId,
+      List<OrderItemInfo> items
+  ) {
+
+  }
+}
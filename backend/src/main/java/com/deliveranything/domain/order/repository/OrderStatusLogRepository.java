@@ -0,0 +1,8 @@
+package com.deliveranything.domain.order.repository;
+
+import com.deliveranything.domain.order.entity.OrderStatusLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrderStatusLogRepository extends JpaRepository<OrderStatusLog, Long> {
+
+}
@@ -0,0 +1,76 @@
+package com.deliveranything.domain.order.repository;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 상점별 조리 시간 분포 (Redis)
+ * <p>
+ * 조리 시간은 PREPARING 과 RIDER_ASSIGNED 에 머문 시간의 합(주문 수락 ~ 픽업)입니다. 두 구간은
+ * {@code order:prep:{orderId}} 해시에 순서와 무관하게 더해지고, 둘 다 모이면 일자별
+ * {@code order:prep-time:{storeId}:{yyyyMMdd}} 해시의 분 단위 버킷 카운트를 1 올립니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StorePrepTimeRepository {
+
+  // 마지막 버킷은 MAX_MINUTES 분 이상을 모두 포함
+  public static final int MAX_MINUTES = 120;
+  private static final int PARTS = 2;
+
+  private static final String ORDER_KEY_PREFIX = "order:prep:";
+  private static final String STORE_KEY_PREFIX = "order:prep-time:";
+  private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+  private static final long ORDER_TTL_SECONDS = TimeUnit.DAYS.toSeconds(1);
+  private static final long STORE_TTL_SECONDS = TimeUnit.DAYS.toSeconds(8);
+
+  // KEYS[1]: 주문 해시, KEYS[2]: 일자별 버킷 해시
+  // ARGV: 구간 시간(ms), 구간 수, 최대 버킷, 주문 TTL, 버킷 TTL
+  // 반환: -1 아직 모이지 않음, 그 외 기록한 버킷
+  private static final RedisScript<Long> ACCUMULATE_SCRIPT = new DefaultRedisScript<>("""
+      local ms = redis.call('HINCRBY', KEYS[1], 'ms', ARGV[1])
+      local parts = redis.call('HINCRBY', KEYS[1], 'parts', 1)
+      if parts < tonumber(ARGV[2]) then
+        redis.call('EXPIRE', KEYS[1], ARGV[4])
+        return -1
+      end
+      redis.call('DEL', KEYS[1])
+      local bucket = math.min(math.floor(ms / 60000), tonumber(ARGV[3]))
+      redis.call('HINCRBY', KEYS[2], bucket, 1)
+      redis.call('EXPIRE', KEYS[2], ARGV[5])
+      return bucket
+      """, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  public void accumulate(Long orderId, Long storeId, long elapsedMs, LocalDate day) {
+    redisTemplate.execute(ACCUMULATE_SCRIPT,
+        List.of(ORDER_KEY_PREFIX + orderId, storeKey(storeId, day)),
+        String.valueOf(elapsedMs), String.valueOf(PARTS), String.valueOf(MAX_MINUTES),
+        String.valueOf(ORDER_TTL_SECONDS), String.valueOf(STORE_TTL_SECONDS));
+  }
+
+  // today 포함 최근 days 일의 버킷 합계 (인덱스 = 분)
+  public long[] findBuckets(Long storeId, LocalDate today, int days) {
+    long[] buckets = new long[MAX_MINUTES + 1];
+    for (int i = 0; i < days; i++) {
+      Map<Object, Object> entries = redisTemplate.opsForHash()
+          .entries(storeKey(storeId, today.minusDays(i)));
+      entries.forEach((minute, count) ->
+          buckets[Integer.parseInt(minute.toString())] += Long.parseLong(count.toString()));
+    }
+    return buckets;
+  }
+
+  private String storeKey(Long storeId, LocalDate day) {
+    return STORE_KEY_PREFIX + storeId + ":" + day.format(DAY_FORMAT);
+  }
+}
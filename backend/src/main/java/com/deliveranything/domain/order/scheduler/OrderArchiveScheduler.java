@@ -0,0 +1,46 @@
+package com.deliveranything.domain.order.scheduler;
+
+import com.deliveranything.domain.order.service.OrderArchiveService;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderArchiveScheduler {
+
+  private final OrderArchiveService orderArchiveService;
+
+  @Value("${custom.order.archive.chunk-size:500}")
+  private int chunkSize;
+
+  @Value("${custom.order.archive.max-chunks:1000}")
+  private int maxChunks;
+
+  // 매일 새벽 4시 30분 실행 (알림 정리와 겹치지 않게)
+  @Scheduled(cron = "0 30 4 * * *")
+  public void archiveClosedOrders() {
+    log.info("===== 종료 주문 보관 시작 =====");
+    LocalDateTime now = LocalDateTime.now();
+    int total = 0;
+    int chunks = 0;
+
+    try {
+      int processed;
+      do {
+        processed = orderArchiveService.processChunk(now, chunkSize);
+        total += processed;
+        chunks++;
+      } while (processed == chunkSize && chunks < maxChunks);
+    } catch (Exception e) {
+      // 실패한 청크만 롤백, 다음 실행에서 이어서 처리
+      log.error("종료 주문 보관 실패: processed={}", total, e);
+    }
+
+    log.info("===== 종료 주문 보관 종료: count={} =====", total);
+  }
+}
@@ -0,0 +1,53 @@
+package com.deliveranything.domain.order.scheduler;
+
+import com.deliveranything.domain.order.repository.OrderSagaRepository;
+import com.deliveranything.domain.order.repository.OrderSagaRepository.SagaTimeout;
+import com.deliveranything.domain.order.service.OrderSagaOrchestrator;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마감이 지난 주문 사가 처리
+ * <p>
+ * 샤드(orderId 기준)마다 마감된 사가를 배치로 꺼내 오케스트레이터에 넘깁니다. 처리 중 오류가 나면 잠시 뒤 다시 보도록 마감을 재등록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSagaTimeoutScheduler {
+
+  private final OrderSagaRepository orderSagaRepository;
+  private final OrderSagaOrchestrator orderSagaOrchestrator;
+
+  @Value("${custom.order.saga.sweep.batch-size:100}")
+  private int batchSize;
+
+  @Value("${custom.order.saga.sweep.retry-delay:30s}")
+  private Duration retryDelay;
+
+  @Scheduled(fixedDelayString = "${custom.order.saga.sweep.interval-ms:5000}")
+  public void sweep() {
+    Instant now = Instant.now();
+    for (int shard = 0; shard < orderSagaRepository.shards(); shard++) {
+      List<SagaTimeout> timeouts = orderSagaRepository.claimExpired(shard, now, batchSize);
+      timeouts.forEach(this::handle);
+    }
+  }
+
+  private void handle(SagaTimeout timeout) {
+    try {
+      orderSagaOrchestrator.handleTimeout(timeout);
+    } catch (Exception e) {
+      log.error("Failed to handle order saga timeout, orderId={}, step={}", timeout.orderId(),
+          timeout.step(), e);
+      orderSagaRepository.rearm(timeout.orderId(), timeout.step(),
+          Instant.now().plus(retryDelay));
+    }
+  }
+}
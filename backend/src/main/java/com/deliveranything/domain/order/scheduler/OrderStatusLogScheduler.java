@@ -0,0 +1,39 @@
+package com.deliveranything.domain.order.scheduler;
+
+import com.deliveranything.domain.order.service.OrderStatusLogService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatusLogScheduler {
+
+  private final OrderStatusLogService orderStatusLogService;
+
+  @Value("${custom.order.status-log.batch-size:500}")
+  private int batchSize;
+
+  @Scheduled(fixedDelayString = "${custom.order.status-log.flush-interval-ms:1000}")
+  public void flush() {
+    try {
+      // 버퍼가 빌 때까지 배치 단위로 저장
+      int flushed;
+      do {
+        flushed = orderStatusLogService.flush(batchSize);
+      } while (flushed == batchSize);
+    } catch (Exception e) {
+      log.error("주문 상태 로그 저장 실패", e);
+    }
+  }
+
+  // 종료 전에 남은 로그 저장
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+}
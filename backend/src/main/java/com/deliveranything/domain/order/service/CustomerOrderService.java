@@ -4,12 +4,18 @@ import com.deliveranything.domain.order.dto.OrderCreateRequest;
 import com.deliveranything.domain.order.dto.OrderCreateResponse;
 import com.deliveranything.domain.order.dto.OrderItemRequest;
 import com.deliveranything.domain.order.dto.OrderResponse;
+import com.deliveranything.domain.order.dto.projection.OrderSummaryProjection;
 import com.deliveranything.domain.order.entity.Order;
 import com.deliveranything.domain.order.entity.OrderItem;
 import com.deliveranything.domain.order.enums.OrderStatus;
 import com.deliveranything.domain.order.event.OrderCreatedEvent;
+import com.deliveranything.domain.order.event.OrderSagaStepEvent;
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.order.repository.OrderArchiveRepository;
+import com.deliveranything.domain.order.repository.OrderArchiveRepositoryCustom;
 import com.deliveranything.domain.order.repository.OrderRepository;
 import com.deliveranything.domain.order.repository.OrderRepositoryCustom;
+import com.deliveranything.domain.product.product.entity.Product;
 import com.deliveranything.domain.product.product.service.ProductService;
 import com.deliveranything.domain.store.store.service.StoreService;
 import com.deliveranything.domain.user.profile.service.CustomerProfileService;
@@ -19,8 +25,13 @@ import com.deliveranything.global.exception.ErrorCode;
 import com.deliveranything.global.util.CursorUtil;
 import com.deliveranything.global.util.PointUtil;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -36,6 +47,8 @@ public class CustomerOrderService {
 
   private final OrderRepository orderRepository;
   private final OrderRepositoryCustom orderRepositoryCustom;
+  private final OrderArchiveRepository orderArchiveRepository;
+  private final OrderArchiveRepositoryCustom orderArchiveRepositoryCustom;
 
   private final ApplicationEventPublisher eventPublisher;
 
@@ -53,9 +66,16 @@ public class CustomerOrderService {
         .deliveryPrice(orderCreateRequest.deliveryPrice())
         .build();
 
+    // 상품은 IN 쿼리 한 번으로 조회하고, 주문 상품 INSERT 는 flush 시 배치로 나감
+    Map<Long, Product> products = productService.getProductsByIds(orderCreateRequest.storeId(),
+        orderCreateRequest.orderItemRequests().stream()
+            .map(OrderItemRequest::productId)
+            .collect(Collectors.toSet()));
+    validatePrices(orderCreateRequest, products);
+
     for (OrderItemRequest orderItemRequest : orderCreateRequest.orderItemRequests()) {
       OrderItem orderItem = OrderItem.builder()
-          .product(productService.getProductById(orderItemRequest.productId()))
+          .product(products.get(orderItemRequest.productId()))
           .price(orderItemRequest.price())
           .quantity(orderItemRequest.quantity())
           .build();
@@ -65,7 +85,9 @@ public class CustomerOrderService {
 
     Order savedOrder = orderRepository.save(order);
 
-    eventPublisher.publishEvent(OrderCreatedEvent.from(savedOrder));
+    OrderCreatedEvent createdEvent = OrderCreatedEvent.from(savedOrder);
+    eventPublisher.publishEvent(createdEvent);
+    eventPublisher.publishEvent(OrderSagaStepEvent.started(createdEvent));
 
     return OrderCreateResponse.from(savedOrder);
   }
@@ -76,12 +98,13 @@ public class CustomerOrderService {
       Long cursor,
       int size
   ) {
-    List<Order> orders = orderRepositoryCustom.findOrdersWithStoreByCustomerId(customerId, cursor,
-        size + 1);
+    List<OrderResponse> orders = mergeWithArchive(
+        orderRepositoryCustom.findOrderSummariesByCustomerId(customerId, cursor, size + 1),
+        orderArchiveRepositoryCustom.findOrderSummariesByCustomerId(customerId, cursor, size + 1),
+        Comparator.comparing(OrderSummaryProjection::id).reversed(), size + 1);
 
     List<OrderResponse> orderResponses = orders.stream()
         .limit(size)
-        .map(OrderResponse::from)
         .toList();
 
     boolean hasNext = orders.size() > size;
@@ -100,9 +123,11 @@ public class CustomerOrderService {
 
   @Transactional(readOnly = true)
   public OrderResponse getCustomerOrder(Long orderId, Long customerId) {
-    return OrderResponse.from(
-        orderRepository.findOrderWithStoreByIdAndCustomerId(orderId, customerId)
-            .orElseThrow(() -> new CustomException(ErrorCode.CUSTOMER_ORDER_NOT_FOUND)));
+    return orderRepository.findOrderWithStoreByIdAndCustomerId(orderId, customerId)
+        .map(OrderResponse::from)
+        .or(() -> orderArchiveRepository.findOrderWithStoreByIdAndCustomerId(orderId, customerId)
+            .map(OrderResponse::from))
+        .orElseThrow(() -> new CustomException(ErrorCode.CUSTOMER_ORDER_NOT_FOUND));
   }
 
   @Transactional(readOnly = true)
@@ -134,12 +159,17 @@ public class CustomerOrderService {
       }
     }
 
-    List<Order> cursorOrders = orderRepositoryCustom.findOrdersWithStoreByCustomerId(customerId,
-        List.of(OrderStatus.COMPLETED), lastCreatedAt, lastOrderId, size + 1);
+    List<OrderStatus> statuses = List.of(OrderStatus.COMPLETED);
+    List<OrderResponse> cursorOrders = mergeWithArchive(
+        orderRepositoryCustom.findOrderSummariesByCustomerId(customerId, statuses,
+            lastCreatedAt, lastOrderId, size + 1),
+        orderArchiveRepositoryCustom.findOrderSummariesByCustomerId(customerId, statuses,
+            lastCreatedAt, lastOrderId, size + 1),
+        Comparator.comparing(OrderSummaryProjection::createdAt)
+            .thenComparing(OrderSummaryProjection::id).reversed(), size + 1);
 
     List<OrderResponse> cursorResponses = cursorOrders.stream()
         .limit(size)
-        .map(OrderResponse::from)
         .toList();
 
     boolean hasNext = cursorOrders.size() > size;
@@ -155,4 +185,52 @@ public class CustomerOrderService {
       return new CursorPageResponse<>(cursorResponses, null, hasNext);
     }
   }
+
+  // 클라이언트가 보낸 금액을 그대로 믿지 않고 상품 가격으로 다시 계산해 비교
+  private void validatePrices(OrderCreateRequest request, Map<Long, Product> products) {
+    long storePrice = 0;
+    for (OrderItemRequest item : request.orderItemRequests()) {
+      int price = products.get(item.productId()).getPrice();
+      if (item.price() != price) {
+        throw new CustomException(ErrorCode.ORDER_PRICE_MISMATCH);
+      }
+      storePrice += (long) price * item.quantity();
+    }
+
+    if (request.storePrice() != storePrice
+        || request.totalPrice() != request.storePrice() + request.deliveryPrice()) {
+      throw new CustomException(ErrorCode.ORDER_PRICE_MISMATCH);
+    }
+  }
+
+  // 운영 테이블과 보관 테이블 결과를 같은 정렬로 합쳐 limit 건만 남기고, 남은 주문의 상품을 붙임
+  private List<OrderResponse> mergeWithArchive(List<OrderSummaryProjection> orders,
+      List<OrderSummaryProjection> archived, Comparator<OrderSummaryProjection> ordering,
+      int limit) {
+    List<OrderSummaryProjection> merged;
+    // 대부분의 페이지는 한쪽에만 결과가 있으므로 정렬 없이 사용
+    if (archived.isEmpty()) {
+      merged = orders;
+    } else if (orders.isEmpty()) {
+      merged = archived;
+    } else {
+      merged = Stream.concat(orders.stream(), archived.stream())
+          .sorted(ordering)
+          .limit(limit)
+          .toList();
+    }
+
+    List<Long> orderIds = merged.stream().map(OrderSummaryProjection::id).toList();
+    Map<Long, List<OrderItemInfo>> items = new HashMap<>();
+    if (!orders.isEmpty()) {
+      items.putAll(orderRepositoryCustom.findItemsByOrderIds(orderIds));
+    }
+    if (!archived.isEmpty()) {
+      items.putAll(orderArchiveRepositoryCustom.findItemsByOrderIds(orderIds));
+    }
+
+    return merged.stream()
+        .map(order -> OrderResponse.from(order, items.getOrDefault(order.id(), List.of())))
+        .toList();
+  }
 }
@@ -0,0 +1,55 @@
+package com.deliveranything.domain.order.service;
+
+import com.deliveranything.domain.order.enums.OrderStatus;
+import com.deliveranything.domain.order.repository.OrderArchiveRepository;
+import com.deliveranything.domain.order.repository.OrderRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderArchiveService {
+
+  // 더 이상 상태가 바뀌지 않는 주문만 보관
+  private static final List<OrderStatus> ARCHIVABLE_STATUSES = List.of(OrderStatus.COMPLETED,
+      OrderStatus.REJECTED, OrderStatus.CANCELED, OrderStatus.CANCEL_FAILED,
+      OrderStatus.PAYMENT_FAILED);
+
+  private final OrderRepository orderRepository;
+  private final OrderArchiveRepository orderArchiveRepository;
+
+  @Value("${custom.order.archive.retention-days:90}")
+  private int retentionDays;
+
+  /**
+   * 보관 기간이 지난 종료 주문 한 청크를 주문 상품과 함께 보관 테이블로 이동 (청크 단위 커밋)
+   *
+   * @param now       기준 시각
+   * @param chunkSize 한 번에 처리할 최대 주문 수
+   * @return 이동한 주문 수 (chunkSize 보다 작으면 처리 완료)
+   */
+  @Transactional
+  public int processChunk(LocalDateTime now, int chunkSize) {
+    List<Long> ids = orderRepository.findArchivableIds(ARCHIVABLE_STATUSES,
+        now.minusDays(retentionDays), Limit.of(chunkSize));
+
+    if (ids.isEmpty()) {
+      return 0;
+    }
+
+    orderArchiveRepository.copyFromOrders(ids, now);
+    orderArchiveRepository.copyItemsFromOrders(ids);
+    orderRepository.deleteItemsByOrderIds(ids);
+    orderRepository.deleteAllByIds(ids);
+
+    log.debug("Order archive chunk processed: count={}", ids.size());
+    return ids.size();
+  }
+}
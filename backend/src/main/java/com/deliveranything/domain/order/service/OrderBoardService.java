@@ -0,0 +1,101 @@
+package com.deliveranything.domain.order.service;
+
+import com.deliveranything.domain.notification.service.NotificationService;
+import com.deliveranything.domain.order.dto.OrderBoardDeltaResponse;
+import com.deliveranything.domain.order.dto.OrderResponse;
+import com.deliveranything.domain.order.enums.OrderStatus;
+import com.deliveranything.domain.order.event.OrderBoardChangedEvent;
+import com.deliveranything.domain.order.repository.OrderBoardRepository;
+import com.deliveranything.domain.order.repository.OrderRepository;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 판매자 주문 현황판
+ * <p>
+ * 수락 대기/처리 중 주문을 상점별 Redis 현황판에서 읽고, 주문 상태가 바뀔 때마다 현황판을 고친 뒤 변경분만 판매자에게 SSE 로 보냅니다.
+ * DB 는 현황판이 비었거나 적재 유효 시간이 지났을 때만 읽습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderBoardService {
+
+  private static final String BOARD_EVENT_NAME = "order-board";
+  private static final List<OrderStatus> PENDING_STATUSES = List.of(OrderStatus.PENDING);
+  private static final List<OrderStatus> ACCEPTED_STATUSES = List.of(OrderStatus.PREPARING,
+      OrderStatus.RIDER_ASSIGNED, OrderStatus.DELIVERING);
+  private static final List<OrderStatus> BOARD_STATUSES = List.of(OrderStatus.PENDING,
+      OrderStatus.PREPARING, OrderStatus.RIDER_ASSIGNED, OrderStatus.DELIVERING);
+
+  private final OrderBoardRepository orderBoardRepository;
+  private final OrderRepository orderRepository;
+  private final NotificationService notificationService;
+  private final TransactionTemplate transactionTemplate;
+
+  // 놓친 이벤트가 있어도 이 주기마다 DB 기준으로 바로잡힘
+  @Value("${custom.order.board.reload-interval:30m}")
+  private Duration reloadInterval;
+
+  public List<OrderResponse> getPendingOrders(Long storeId) {
+    return getOrders(storeId, PENDING_STATUSES);
+  }
+
+  public List<OrderResponse> getAcceptedOrders(Long storeId) {
+    return getOrders(storeId, ACCEPTED_STATUSES);
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onBoardChanged(OrderBoardChangedEvent event) {
+    Long storeId = event.storeId();
+    Long orderId = event.orderId();
+
+    OrderBoardDeltaResponse delta;
+    if (!BOARD_STATUSES.contains(event.status())) {
+      orderBoardRepository.remove(storeId, orderId);
+      delta = OrderBoardDeltaResponse.removed(orderId, event.status());
+    } else if (event.order() != null) {
+      orderBoardRepository.put(storeId, event.order());
+      delta = OrderBoardDeltaResponse.added(event.order());
+    } else {
+      if (!orderBoardRepository.updateStatus(storeId, orderId, event.status())) {
+        // 현황판에 없는 주문 - 다음 조회 때 DB 에서 다시 적재
+        log.info("Order {} missing from board of store {}, invalidating", orderId, storeId);
+        orderBoardRepository.invalidate(storeId);
+      }
+      delta = OrderBoardDeltaResponse.updated(orderId, event.status());
+    }
+
+    notificationService.push(event.sellerId(), BOARD_EVENT_NAME, delta);
+  }
+
+  private List<OrderResponse> getOrders(Long storeId, List<OrderStatus> statuses) {
+    return orderBoardRepository.findAll(storeId).orElseGet(() -> reload(storeId)).stream()
+        .filter(order -> statuses.contains(order.status()))
+        .sorted(Comparator.comparing(OrderResponse::createdAt)
+            .thenComparing(OrderResponse::id))
+        .toList();
+  }
+
+  private List<OrderResponse> reload(Long storeId) {
+    // DB 를 읽기 전 세대를 잡아 두고, 그사이 변경분이 반영됐으면 적재하지 않음
+    long generation = orderBoardRepository.currentGeneration(storeId);
+    List<OrderResponse> orders = transactionTemplate.execute(status ->
+        orderRepository.findOrdersWithStoreByStoreIdAndStatuses(storeId, BOARD_STATUSES).stream()
+            .map(OrderResponse::from)
+            .toList());
+    if (!orderBoardRepository.replaceAll(storeId, orders, reloadInterval, generation)) {
+      // 이번 조회는 DB 결과로 응답하고, 다음 조회 때 다시 적재 (변경분은 SSE 로 이미 전송됨)
+      log.info("Order board of store {} changed during reload, skipping", storeId);
+    }
+    return orders;
+  }
+}
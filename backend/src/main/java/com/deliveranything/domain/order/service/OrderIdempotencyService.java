@@ -0,0 +1,115 @@
+package com.deliveranything.domain.order.service;
+
+import com.deliveranything.domain.order.dto.OrderCreateRequest;
+import com.deliveranything.domain.order.dto.OrderCreateResponse;
+import com.deliveranything.domain.order.repository.OrderIdempotencyRepository;
+import com.deliveranything.domain.order.repository.OrderIdempotencyRepository.IdempotencyRecord;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 요청 키(Idempotency-Key) 기반 주문 생성
+ * <p>
+ * 같은 키로 들어온 재시도는 주문을 다시 만들지 않고 첫 요청의 결과를 돌려줍니다. 첫 요청이 아직 처리 중이면 결과가 저장될 때까지 잠시 기다리고,
+ * 처리에 실패하면 키를 지워 다음 재시도가 새로 처리하도록 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderIdempotencyService {
+
+  private final CustomerOrderService customerOrderService;
+  private final OrderIdempotencyRepository orderIdempotencyRepository;
+
+  @Value("${custom.order.idempotency.lock-ttl:10s}")
+  private Duration lockTtl;
+
+  @Value("${custom.order.idempotency.result-ttl:24h}")
+  private Duration resultTtl;
+
+  @Value("${custom.order.idempotency.wait-timeout:5s}")
+  private Duration waitTimeout;
+
+  @Value("${custom.order.idempotency.poll-interval:50ms}")
+  private Duration pollInterval;
+
+  public OrderCreateResponse createOrder(Long customerId, String idempotencyKey,
+      OrderCreateRequest request) {
+    if (idempotencyKey == null || idempotencyKey.isBlank()) {
+      return customerOrderService.createOrder(customerId, request);
+    }
+
+    String fingerprint = fingerprint(request);
+    String token = UUID.randomUUID().toString();
+    long deadline = System.nanoTime() + waitTimeout.toNanos();
+    Optional<IdempotencyRecord> existing;
+    while ((existing = orderIdempotencyRepository.acquire(customerId, idempotencyKey, fingerprint,
+        token, lockTtl)).isPresent()) {
+      IdempotencyRecord record = existing.get();
+      if (!fingerprint.equals(record.fingerprint())) {
+        throw new CustomException(ErrorCode.ORDER_IDEMPOTENCY_KEY_REUSED);
+      }
+      if (record.response() != null) {
+        log.info("Duplicate order request, returning first result, customerId={}, orderId={}",
+            customerId, record.response().orderId());
+        return record.response();
+      }
+      if (System.nanoTime() > deadline) {
+        throw new CustomException(ErrorCode.ORDER_REQUEST_IN_PROGRESS);
+      }
+      sleep();
+    }
+
+    OrderCreateResponse response;
+    try {
+      response = customerOrderService.createOrder(customerId, request);
+    } catch (RuntimeException e) {
+      orderIdempotencyRepository.release(customerId, idempotencyKey, token);
+      throw e;
+    }
+
+    // 주문은 이미 커밋되었으므로 결과 저장 실패로 요청을 실패시키지 않음
+    try {
+      if (!orderIdempotencyRepository.complete(customerId, idempotencyKey, token, response,
+          resultTtl)) {
+        log.warn("Order idempotency lock lost before storing result, customerId={}, orderId={}",
+            customerId, response.orderId());
+      }
+    } catch (RuntimeException e) {
+      log.error("Failed to store order idempotency result, customerId={}, orderId={}",
+          customerId, response.orderId(), e);
+    }
+    return response;
+  }
+
+  private void sleep() {
+    try {
+      Thread.sleep(pollInterval);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.ORDER_REQUEST_IN_PROGRESS);
+    }
+  }
+
+  // 같은 키로 다른 내용의 주문을 보낸 경우를 구분하기 위한 요청 지문
+  private String fingerprint(OrderCreateRequest request) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(request.toString().getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.deliveranything.domain.order.service;
+
+import com.deliveranything.domain.order.enums.OrderSagaStep;
+import com.deliveranything.domain.order.event.OrderCancelSucceededEvent;
+import com.deliveranything.domain.order.event.OrderCreatedEvent;
+import com.deliveranything.domain.order.event.OrderPaymentFailedEvent;
+import com.deliveranything.domain.order.event.OrderPaymentSucceededEvent;
+import com.deliveranything.domain.order.event.OrderSagaStepEvent;
+import com.deliveranything.domain.order.repository.OrderSagaRepository;
+import com.deliveranything.domain.order.repository.OrderSagaRepository.SagaTimeout;
+import com.deliveranything.domain.payment.event.PaymentMismatchDetectedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 사가 오케스트레이터
+ * <p>
+ * 주문 측 처리가 커밋될 때마다 사가 단계를 기록하고 단계별 소요 시간을 {@code order.saga.step} 히스토그램으로 남깁니다. 제한 시간 안에 다음
+ * 단계로 넘어가지 못한 재고 단계는 저장된 주문 상품으로 명령 이벤트를 다시 발행하고(재고 측은 주문·명령별로 멱등), 재시도를 모두 소진하면 보상하거나
+ * 운영자 확인이 필요한 상태로 남깁니다. 결제 단계는 PG 호출이 멱등하지 않아 재시도하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderSagaOrchestrator {
+
+  private static final String RESERVE_TIMEOUT_REASON = "재고 예약 시간 초과";
+
+  private final OrderSagaRepository orderSagaRepository;
+  private final OrderService orderService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${custom.order.saga.max-attempts:3}")
+  private int maxAttempts;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onStep(OrderSagaStepEvent event) {
+    Instant now = Instant.now();
+    OrderSagaStep step = event.step();
+    orderSagaRepository.advance(event.orderId(), step, now, deadlineOf(step, now),
+            event.storeId(), event.items())
+        .ifPresent(previous -> record(previous.step(), "completed",
+            Duration.between(previous.enteredAt(), now)));
+  }
+
+  public void handleTimeout(SagaTimeout timeout) {
+    Long orderId = timeout.orderId();
+    OrderSagaStep step = timeout.step();
+    if (!orderSagaRepository.isAt(orderId, step)) {
+      // 마감을 꺼낸 사이 다음 단계로 진행됨
+      return;
+    }
+    record(step, "timeout", Duration.between(timeout.enteredAt(), Instant.now()));
+
+    Object command = retryCommand(timeout);
+    if (command != null && timeout.attempts() < maxAttempts) {
+      if (orderSagaRepository.rearm(orderId, step, deadlineOf(step, Instant.now()))) {
+        log.warn("Order saga step {} timed out, retrying (attempt {}), orderId={}", step,
+            timeout.attempts() + 1, orderId);
+        eventPublisher.publishEvent(command);
+      }
+      return;
+    }
+
+    if (step == OrderSagaStep.RESERVING_STOCK) {
+      // 결제 전이므로 주문 생성 실패로 보상 (늦게 잡힌 예약은 재고 예약 만료 스위퍼가 해제)
+      log.warn("Order saga gave up reserving stock, orderId={}", orderId);
+      orderService.processStockReserveFailed(orderId, RESERVE_TIMEOUT_REASON);
+      return;
+    }
+
+    log.error("Order saga stuck at {} after {} attempts, orderId={}", step, timeout.attempts(),
+        orderId);
+    meterRegistry.counter("order.saga.stuck", "step", step.name()).increment();
+  }
+
+  /**
+   * 결제 대사에서 찾은 불일치를 사가에 반영
+   * <p>
+   * PG 응답을 못 받아 결제 단계(승인/취소 대기)에 멈춘 사가는 대사 결과로 원인이 드러나므로 운영자 확인 대상으로 남기고,
+   * 불일치 유형과 사가 단계별로 {@code order.saga.payment.mismatch} 를 셉니다. 결제 상태 보정은 하지 않습니다.
+   */
+  public void handlePaymentMismatch(PaymentMismatchDetectedEvent event) {
+    Optional<Long> orderId = orderService.findOrderIdByMerchantId(event.merchantUid());
+    String step = orderId.flatMap(orderSagaRepository::findStep)
+        .map(OrderSagaStep::name)
+        .orElse("NONE");
+
+    if (OrderSagaStep.CONFIRMING_PAYMENT.name().equals(step)
+        || OrderSagaStep.CANCELING_PAYMENT.name().equals(step)) {
+      log.error("Order saga stuck at {} has payment mismatch {}, orderId={}, pg={}", step,
+          event.type(), orderId.get(), event.pgStatus());
+    } else {
+      log.warn("Payment mismatch {} for merchantUid={}, orderId={}, sagaStep={}", event.type(),
+          event.merchantUid(), orderId.orElse(null), step);
+    }
+    meterRegistry.counter("order.saga.payment.mismatch", "type", event.type().name(),
+        "step", step).increment();
+  }
+
+  // 재고 단계만 재시도 - 사가 시작 시 저장한 상점/상품으로 명령 이벤트를 다시 만듦
+  private Object retryCommand(SagaTimeout timeout) {
+    if (timeout.storeId() == null || timeout.items().isEmpty()) {
+      return null;
+    }
+    return switch (timeout.step()) {
+      case RESERVING_STOCK ->
+          new OrderCreatedEvent(timeout.orderId(), timeout.storeId(), timeout.items());
+      case COMMITTING_STOCK ->
+          new OrderPaymentSucceededEvent(timeout.orderId(), timeout.storeId(), timeout.items());
+      case RELEASING_STOCK ->
+          new OrderPaymentFailedEvent(timeout.orderId(), timeout.storeId(), timeout.items());
+      case REPLENISHING_STOCK ->
+          new OrderCancelSucceededEvent(timeout.orderId(), timeout.storeId(), timeout.items());
+      default -> null;
+    };
+  }
+
+  private Instant deadlineOf(OrderSagaStep step, Instant now) {
+    return step.hasTimeout() ? now.plus(step.timeout()) : null;
+  }
+
+  private void record(OrderSagaStep step, String outcome, Duration elapsed) {
+    Timer.builder("order.saga.step")
+        .tag("step", step.name())
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(elapsed);
+  }
+}
@@ -1,12 +1,16 @@
 package com.deliveranything.domain.order.service;
 
 import com.deliveranything.domain.order.entity.Order;
+import com.deliveranything.domain.order.enums.OrderSagaStep;
 import com.deliveranything.domain.order.enums.OrderStatus;
 import com.deliveranything.domain.order.enums.Publisher;
+import com.deliveranything.domain.order.event.OrderBoardChangedEvent;
+import com.deliveranything.domain.order.event.OrderCancelEvent;
 import com.deliveranything.domain.order.event.OrderCancelSucceededEvent;
 import com.deliveranything.domain.order.event.OrderCompletedEvent;
 import com.deliveranything.domain.order.event.OrderPaymentFailedEvent;
 import com.deliveranything.domain.order.event.OrderPaymentSucceededEvent;
+import com.deliveranything.domain.order.event.OrderSagaStepEvent;
 import com.deliveranything.domain.order.event.sse.customer.OrderCancelFailedForCustomerEvent;
 import com.deliveranything.domain.order.event.sse.customer.OrderCanceledForCustomerEvent;
 import com.deliveranything.domain.order.event.sse.customer.OrderCreateFailedForCustomerEvent;
@@ -23,6 +27,7 @@ import com.deliveranything.domain.order.event.sse.seller.OrderStatusChangedForSe
 import com.deliveranything.domain.order.repository.OrderRepository;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -41,6 +46,8 @@ public class OrderService {
   public void processPaymentCompletion(String merchantUid) {
     Order order = getOrderWithStoreByMerchantId(merchantUid);
     eventPublisher.publishEvent(OrderPaymentSucceededEvent.fromOrder(order));
+    eventPublisher.publishEvent(
+        OrderSagaStepEvent.of(order.getId(), OrderSagaStep.COMMITTING_STOCK));
   }
 
   @Transactional
@@ -50,6 +57,19 @@ public class OrderService {
 
     eventPublisher.publishEvent(OrderPaidForCustomerEvent.fromOrder(order));
     eventPublisher.publishEvent(OrderPaidForSellerEvent.fromOrder(order));
+    eventPublisher.publishEvent(OrderBoardChangedEvent.from(order));
+    eventPublisher.publishEvent(OrderSagaStepEvent.of(order.getId(), OrderSagaStep.COMPLETED));
+  }
+
+  // 결제 승인 뒤 재고 예약이 이미 만료 해제된 주문 - 결제를 취소(환불)하는 취소 흐름으로 보냄
+  @Transactional
+  public void processStockCommitFailed(Long orderId, String reason) {
+    Order order = getOrderById(orderId);
+    log.warn("주문 [{}] 재고 확정 실패로 결제 환불 요청. 사유: {}", orderId, reason);
+
+    eventPublisher.publishEvent(OrderCancelEvent.from(order, reason, Publisher.CUSTOMER));
+    eventPublisher.publishEvent(
+        OrderSagaStepEvent.of(order.getId(), OrderSagaStep.CANCELING_PAYMENT));
   }
 
   @Transactional
@@ -59,12 +79,15 @@ public class OrderService {
 
     eventPublisher.publishEvent(OrderPreparingForCustomerEvent.fromOrder(order));
     eventPublisher.publishEvent(OrderPreparingForSellerEvent.fromOrder(order));
+    eventPublisher.publishEvent(OrderBoardChangedEvent.from(order));
   }
 
   @Transactional
   public void processPaymentFailure(String merchantUid) {
     Order order = getOrderByMerchantId(merchantUid);
     eventPublisher.publishEvent(OrderPaymentFailedEvent.fromOrder(order));
+    eventPublisher.publishEvent(
+        OrderSagaStepEvent.of(order.getId(), OrderSagaStep.RELEASING_STOCK));
   }
 
   @Transactional
@@ -73,6 +96,7 @@ public class OrderService {
     order.updateStatus(OrderStatus.PAYMENT_FAILED);
 
     eventPublisher.publishEvent(OrderPaymentFailedForCustomerEvent.fromOrder(order));
+    eventPublisher.publishEvent(OrderSagaStepEvent.of(order.getId(), OrderSagaStep.FAILED));
   }
 
   @Transactional
@@ -86,6 +110,9 @@ public class OrderService {
     }
 
     eventPublisher.publishEvent(OrderCancelSucceededEvent.fromOrder(order));
+    eventPublisher.publishEvent(OrderBoardChangedEvent.from(order));
+    eventPublisher.publishEvent(
+        OrderSagaStepEvent.of(order.getId(), OrderSagaStep.REPLENISHING_STOCK));
   }
 
   @Transactional
@@ -94,6 +121,7 @@ public class OrderService {
 
     eventPublisher.publishEvent(OrderCanceledForCustomerEvent.fromOrder(order));
     eventPublisher.publishEvent(OrderCanceledForSellerEvent.fromOrder(order));
+    eventPublisher.publishEvent(OrderSagaStepEvent.of(order.getId(), OrderSagaStep.CANCELED));
   }
 
   @Transactional
@@ -103,6 +131,8 @@ public class OrderService {
 
     eventPublisher.publishEvent(OrderCancelFailedForCustomerEvent.fromOrder(order));
     eventPublisher.publishEvent(OrderCancelFailedForSellerEvent.fromOrder(order));
+    eventPublisher.publishEvent(OrderBoardChangedEvent.from(order));
+    eventPublisher.publishEvent(OrderSagaStepEvent.of(order.getId(), OrderSagaStep.CANCEL_FAILED));
   }
 
   @Transactional
@@ -112,6 +142,7 @@ public class OrderService {
 
     eventPublisher.publishEvent(OrderStatusChangedForCustomerEvent.fromOrder(order));
     eventPublisher.publishEvent(OrderStatusChangedForSellerEvent.fromOrder(order));
+    eventPublisher.publishEvent(OrderBoardChangedEvent.from(order));
   }
 
   @Transactional
@@ -121,6 +152,7 @@ public class OrderService {
 
     eventPublisher.publishEvent(OrderStatusChangedForCustomerEvent.fromOrder(order));
     eventPublisher.publishEvent(OrderStatusChangedForSellerEvent.fromOrder(order));
+    eventPublisher.publishEvent(OrderBoardChangedEvent.from(order));
   }
 
   @Transactional
@@ -131,14 +163,23 @@ public class OrderService {
     eventPublisher.publishEvent(OrderCompletedEvent.fromOrder(order, riderId, sellerId));
     eventPublisher.publishEvent(OrderStatusChangedForCustomerEvent.fromOrder(order));
     eventPublisher.publishEvent(OrderStatusChangedForSellerEvent.fromOrder(order));
+    eventPublisher.publishEvent(OrderBoardChangedEvent.from(order));
   }
 
-  @Transactional(readOnly = true)
+  // 발행하는 이벤트가 outbox 에 기록되므로 읽기 전용 트랜잭션이면 안 됨
+  @Transactional
   public void processStockReserved(Long orderId) {
     Order order = getOrderById(orderId);
+    if (order.getStatus() != OrderStatus.CREATED) {
+      // 사가 시간 초과로 이미 생성 실패 처리된 주문에 늦게 도착한 예약 결과
+      log.info("주문 [{}] 이 {} 상태라 재고 예약 결과를 무시합니다.", orderId, order.getStatus());
+      return;
+    }
     log.info("주문 재고 홀드 됨. 클라이언트에게 주문 생성 관련 정보 전달.");
 
     eventPublisher.publishEvent(OrderCreatedForCustomerEvent.fromOrder(order));
+    eventPublisher.publishEvent(
+        OrderSagaStepEvent.of(order.getId(), OrderSagaStep.AWAITING_PAYMENT));
   }
 
   @Transactional
@@ -148,10 +189,16 @@ public class OrderService {
     Order order = getOrderById(orderId);
     order.cancel(reason);
     eventPublisher.publishEvent(OrderCreateFailedForCustomerEvent.fromOrder(order));
+    eventPublisher.publishEvent(OrderSagaStepEvent.of(order.getId(), OrderSagaStep.FAILED));
 
     log.info("주문 [{}] 취소 처리 완료.", orderId);
   }
 
+  @Transactional(readOnly = true)
+  public Optional<Long> findOrderIdByMerchantId(String merchantUid) {
+    return orderRepository.findByMerchantId(merchantUid).map(Order::getId);
+  }
+
   private Order getOrderWithStoreByMerchantId(String merchantUid) {
     return orderRepository.findOrderWithStoreByMerchantId(merchantUid)
         .orElseThrow(() -> new CustomException(
@@ -0,0 +1,101 @@
+package com.deliveranything.domain.order.service;
+
+import com.deliveranything.domain.order.entity.OrderStatusLog;
+import com.deliveranything.domain.order.event.dto.OrderStatusChange;
+import com.deliveranything.domain.order.repository.OrderStatusLogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 주문 상태 로그 버퍼
+ * <p>
+ * 상태 변경은 커밋된 뒤 메모리 버퍼에 쌓이고, 스케줄러가 주기적으로 꺼내 배치 INSERT 합니다. 주문 처리
+ * 트랜잭션은 로그 INSERT 를 기다리지 않습니다. 분석/감사용 기록이므로 노드가 비정상 종료되면 마지막 flush
+ * 이후 변경은 유실될 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderStatusLogService {
+
+  private final OrderStatusLogRepository orderStatusLogRepository;
+  private final OrderStatusStatsService orderStatusStatsService;
+  private final MeterRegistry meterRegistry;
+
+  private final Queue<OrderStatusLog> buffer = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger buffered = new AtomicInteger();
+
+  @Value("${custom.order.status-log.buffer-capacity:100000}")
+  private int bufferCapacity;
+
+  // 롤백된 상태 변경이 남지 않도록 커밋 후에 버퍼에 넣음
+  public void append(Long orderId, Long storeId, List<OrderStatusChange> changes) {
+    List<OrderStatusLog> logs = changes.stream()
+        .map(change -> OrderStatusLog.of(orderId, storeId, change))
+        .toList();
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      enqueue(logs);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        enqueue(logs);
+      }
+    });
+  }
+
+  /**
+   * 버퍼에서 최대 batchSize 건을 꺼내 저장하고 프로젝션에 반영
+   *
+   * @return 저장한 건수
+   */
+  public int flush(int batchSize) {
+    List<OrderStatusLog> batch = new ArrayList<>(batchSize);
+    OrderStatusLog entry;
+    while (batch.size() < batchSize && (entry = buffer.poll()) != null) {
+      batch.add(entry);
+    }
+    if (batch.isEmpty()) {
+      return 0;
+    }
+    buffered.addAndGet(-batch.size());
+
+    try {
+      orderStatusLogRepository.saveAll(batch);
+    } catch (RuntimeException e) {
+      // 다음 flush 에서 다시 시도
+      enqueue(batch);
+      throw e;
+    }
+
+    try {
+      orderStatusStatsService.apply(batch);
+    } catch (RuntimeException e) {
+      // 로그는 이미 저장됐으므로 다시 넣지 않음 (통계만 일부 누락)
+      log.error("Failed to apply order status logs to stats, size={}", batch.size(), e);
+    }
+    return batch.size();
+  }
+
+  private void enqueue(List<OrderStatusLog> logs) {
+    if (buffered.addAndGet(logs.size()) > bufferCapacity) {
+      buffered.addAndGet(-logs.size());
+      meterRegistry.counter("order.status.log.dropped").increment(logs.size());
+      log.warn("Order status log buffer is full, dropped={}", logs.size());
+      return;
+    }
+    buffer.addAll(logs);
+  }
+}
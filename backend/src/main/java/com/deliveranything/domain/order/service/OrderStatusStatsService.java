@@ -0,0 +1,57 @@
+package com.deliveranything.domain.order.service;
+
+import com.deliveranything.domain.order.dto.PrepTimeStatsResponse;
+import com.deliveranything.domain.order.entity.OrderStatusLog;
+import com.deliveranything.domain.order.enums.OrderStatus;
+import com.deliveranything.domain.order.repository.StorePrepTimeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상태 로그 프로젝션
+ * <p>
+ * 저장된 상태 로그만 보고 상태별 체류 시간(전체)과 상점별 조리 시간 분포를 누적합니다. orders 테이블은 조회하지
+ * 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderStatusStatsService {
+
+  private final StorePrepTimeRepository storePrepTimeRepository;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${custom.order.prep-time.stats-days:7}")
+  private int statsDays;
+
+  public void apply(List<OrderStatusLog> logs) {
+    for (OrderStatusLog statusLog : logs) {
+      OrderStatus from = statusLog.getFromStatus();
+      Long elapsedMs = statusLog.getElapsedMs();
+      if (from == null || elapsedMs == null) {
+        continue;
+      }
+
+      Timer.builder("order.status.duration")
+          .tag("status", from.name())
+          .publishPercentileHistogram()
+          .register(meterRegistry)
+          .record(elapsedMs, TimeUnit.MILLISECONDS);
+
+      if (from == OrderStatus.PREPARING || from == OrderStatus.RIDER_ASSIGNED) {
+        storePrepTimeRepository.accumulate(statusLog.getOrderId(), statusLog.getStoreId(),
+            elapsedMs, statusLog.getChangedAt().toLocalDate());
+      }
+    }
+  }
+
+  public PrepTimeStatsResponse getPrepTimeStats(Long storeId) {
+    return PrepTimeStatsResponse.from(
+        storePrepTimeRepository.findBuckets(storeId, LocalDate.now(), statsDays));
+  }
+}
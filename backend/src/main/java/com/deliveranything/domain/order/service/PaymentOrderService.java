@@ -1,9 +1,12 @@
 package com.deliveranything.domain.order.service;
 
 import com.deliveranything.domain.order.entity.Order;
+import com.deliveranything.domain.order.enums.OrderSagaStep;
 import com.deliveranything.domain.order.enums.Publisher;
+import com.deliveranything.domain.order.event.OrderBoardChangedEvent;
 import com.deliveranything.domain.order.event.OrderCancelEvent;
 import com.deliveranything.domain.order.event.OrderPaymentRequestedEvent;
+import com.deliveranything.domain.order.event.OrderSagaStepEvent;
 import com.deliveranything.domain.order.repository.OrderRepository;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
@@ -26,6 +29,8 @@ public class PaymentOrderService {
 
     eventPublisher.publishEvent(
         OrderPaymentRequestedEvent.fromOrderAndPaymentKey(order, paymentKey));
+    eventPublisher.publishEvent(
+        OrderSagaStepEvent.of(order.getId(), OrderSagaStep.CONFIRMING_PAYMENT));
   }
 
   @Transactional
@@ -34,6 +39,9 @@ public class PaymentOrderService {
     order.cancellationRequest(cancelReason);
 
     eventPublisher.publishEvent(OrderCancelEvent.from(order, cancelReason, Publisher.CUSTOMER));
+    eventPublisher.publishEvent(OrderBoardChangedEvent.from(order));
+    eventPublisher.publishEvent(
+        OrderSagaStepEvent.of(order.getId(), OrderSagaStep.CANCELING_PAYMENT));
   }
 
   private Order getOrderByMerchantId(String merchantId) {
@@ -1,11 +1,16 @@
 package com.deliveranything.domain.order.service;
 
 import com.deliveranything.domain.order.dto.OrderResponse;
+import com.deliveranything.domain.order.dto.projection.OrderSummaryProjection;
 import com.deliveranything.domain.order.entity.Order;
+import com.deliveranything.domain.order.enums.OrderSagaStep;
 import com.deliveranything.domain.order.enums.OrderStatus;
 import com.deliveranything.domain.order.enums.Publisher;
 import com.deliveranything.domain.order.event.OrderAcceptedEvent;
+import com.deliveranything.domain.order.event.OrderBoardChangedEvent;
 import com.deliveranything.domain.order.event.OrderRejectedEvent;
+import com.deliveranything.domain.order.event.OrderSagaStepEvent;
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
 import com.deliveranything.domain.order.repository.OrderRepository;
 import com.deliveranything.domain.order.repository.OrderRepositoryCustom;
 import com.deliveranything.global.common.CursorPageResponse;
@@ -14,6 +19,7 @@ import com.deliveranything.global.exception.ErrorCode;
 import com.deliveranything.global.util.CursorUtil;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -52,12 +58,17 @@ public class StoreOrderService {
       }
     }
 
-    List<Order> cursorOrders = orderRepositoryCustom.findOrdersWithStoreByStoreId(storeId,
-        List.of(OrderStatus.COMPLETED, OrderStatus.REJECTED), lastCreatedAt, lastOrderId, size + 1);
+    List<OrderSummaryProjection> cursorOrders = orderRepositoryCustom.findOrderSummariesByStoreId(
+        storeId, List.of(OrderStatus.COMPLETED, OrderStatus.REJECTED), lastCreatedAt, lastOrderId,
+        size + 1);
 
-    List<OrderResponse> cursorResponses = cursorOrders.stream()
+    List<OrderSummaryProjection> pageOrders = cursorOrders.stream()
         .limit(size)
-        .map(OrderResponse::from)
+        .toList();
+    Map<Long, List<OrderItemInfo>> items = orderRepositoryCustom.findItemsByOrderIds(
+        pageOrders.stream().map(OrderSummaryProjection::id).toList());
+    List<OrderResponse> cursorResponses = pageOrders.stream()
+        .map(order -> OrderResponse.from(order, items.getOrDefault(order.id(), List.of())))
         .toList();
 
     boolean hasNext = cursorOrders.size() > size;
@@ -74,24 +85,6 @@ public class StoreOrderService {
     }
   }
 
-  // 들어온 주문 중 수락 or 거절 해야하는 목록 조회
-  @Transactional(readOnly = true)
-  public List<OrderResponse> getPendingOrders(Long storeId) {
-    return orderRepository.findOrdersWithStoreByStoreIdAndStatus(storeId, OrderStatus.PENDING)
-        .stream()
-        .map(OrderResponse::from)
-        .toList();
-  }
-
-  // 주문 현황 목록 조회
-  @Transactional(readOnly = true)
-  public List<OrderResponse> getAcceptedOrders(Long storeId) {
-    return orderRepository.findOrdersWithStoreByStoreIdAndStatuses(storeId,
-            List.of(OrderStatus.PREPARING, OrderStatus.RIDER_ASSIGNED, OrderStatus.DELIVERING)).stream()
-        .map(OrderResponse::from)
-        .toList();
-  }
-
   @Transactional
   public void acceptOrder(Long orderId) {
     Order order = getOrderWithStore(orderId);
@@ -113,6 +106,9 @@ public class StoreOrderService {
 
     eventPublisher.publishEvent(
         OrderRejectedEvent.from(order, STORE_CANCEL_REASON, Publisher.STORE));
+    eventPublisher.publishEvent(OrderBoardChangedEvent.from(order));
+    eventPublisher.publishEvent(
+        OrderSagaStepEvent.of(order.getId(), OrderSagaStep.CANCELING_PAYMENT));
   }
 
   private Order getOrderWithStore(Long orderId) {
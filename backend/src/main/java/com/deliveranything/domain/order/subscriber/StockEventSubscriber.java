@@ -1,38 +1,35 @@
 package com.deliveranything.domain.order.subscriber;
 
 import com.deliveranything.domain.order.handler.StockEventHandler;
+import com.deliveranything.global.event.EventChannel;
+import com.deliveranything.global.event.EventDispatcher;
+import com.deliveranything.global.event.EventGroup;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class StockEventSubscriber implements MessageListener {
+public class StockEventSubscriber {
 
-  private final RedisMessageListenerContainer container;
-  private final StockEventHandler orderEventHandler;
+  private final EventDispatcher eventDispatcher;
+  private final StockEventHandler stockEventHandler;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("stock-reserved-event"));
-    container.addMessageListener(this, new ChannelTopic("stock-reserve-failed-event"));
-    container.addMessageListener(this, new ChannelTopic("stock-committed-event"));
-    container.addMessageListener(this, new ChannelTopic("stock-released-event"));
-    container.addMessageListener(this, new ChannelTopic("stock-replenished-event"));
+    eventDispatcher.subscribe(EventChannel.STOCK_RESERVED, EventGroup.ORDER,
+        stockEventHandler::handleReserved);
+    eventDispatcher.subscribe(EventChannel.STOCK_RESERVE_FAILED, EventGroup.ORDER,
+        stockEventHandler::handleReserveFailed);
+    eventDispatcher.subscribe(EventChannel.STOCK_COMMITTED, EventGroup.ORDER,
+        stockEventHandler::handleCommitted);
+    eventDispatcher.subscribe(EventChannel.STOCK_COMMIT_FAILED, EventGroup.ORDER,
+        stockEventHandler::handleCommitFailed);
+    eventDispatcher.subscribe(EventChannel.STOCK_RELEASED, EventGroup.ORDER,
+        stockEventHandler::handleReleased);
+    eventDispatcher.subscribe(EventChannel.STOCK_REPLENISHED, EventGroup.ORDER,
+        stockEventHandler::handleReplenished);
   }
-
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    String topic = new String(pattern);
-    String json = new String(message.getBody());
-    log.debug("Received Redis event topic={}, body={}", topic, json);
-    orderEventHandler.handle(topic, json);
-  }
-}
\ No newline at end of file
+}
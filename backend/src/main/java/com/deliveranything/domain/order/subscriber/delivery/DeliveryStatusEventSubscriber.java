@@ -3,44 +3,33 @@ package com.deliveranything.domain.order.subscriber.delivery;
 import com.deliveranything.domain.delivery.enums.DeliveryStatus;
 import com.deliveranything.domain.delivery.event.dto.DeliveryStatusEvent;
 import com.deliveranything.domain.order.service.OrderService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deliveranything.global.event.EventChannel;
+import com.deliveranything.global.event.EventDispatcher;
+import com.deliveranything.global.event.EventGroup;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class DeliveryStatusEventSubscriber implements MessageListener {
+public class DeliveryStatusEventSubscriber {
 
-  private final RedisMessageListenerContainer container;
-  private final ObjectMapper objectMapper;
+  private final EventDispatcher eventDispatcher;
   private final OrderService orderService;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("delivery-status-events"));
+    eventDispatcher.subscribe(EventChannel.DELIVERY_STATUS, EventGroup.ORDER, this::handle);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    try {
-      DeliveryStatusEvent event = objectMapper.readValue(message.getBody(),
-          DeliveryStatusEvent.class);
-      if (event.status() == DeliveryStatus.PICKED_UP) {
-        orderService.processDeliveryPickedUp(event.orderId());
-      } else if (event.status() == DeliveryStatus.COMPLETED) {
-        orderService.processDeliveryCompleted(event.orderId(), event.riderProfileId(),
-            event.sellerProfileId());
-      }
-    } catch (Exception e) {
-      log.error("Failed to process delivery status event from Redis", e);
+  private void handle(DeliveryStatusEvent event) {
+    if (event.status() == DeliveryStatus.PICKED_UP) {
+      orderService.processDeliveryPickedUp(event.orderId());
+    } else if (event.status() == DeliveryStatus.COMPLETED) {
+      orderService.processDeliveryCompleted(event.orderId(), event.riderProfileId(),
+          event.sellerProfileId());
     }
   }
 }
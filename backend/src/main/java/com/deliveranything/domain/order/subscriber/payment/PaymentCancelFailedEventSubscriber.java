@@ -2,38 +2,28 @@ package com.deliveranything.domain.order.subscriber.payment;
 
 import com.deliveranything.domain.order.service.OrderService;
 import com.deliveranything.domain.payment.event.PaymentCancelFailedEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deliveranything.global.event.EventChannel;
+import com.deliveranything.global.event.EventDispatcher;
+import com.deliveranything.global.event.EventGroup;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class PaymentCancelFailedEventSubscriber implements MessageListener {
+public class PaymentCancelFailedEventSubscriber {
 
-  private final RedisMessageListenerContainer container;
-  private final ObjectMapper objectMapper;
+  private final EventDispatcher eventDispatcher;
   private final OrderService orderService;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("payment-cancel-success-event"));
+    eventDispatcher.subscribe(EventChannel.PAYMENT_CANCEL_FAILED, EventGroup.ORDER, this::handle);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    try {
-      orderService.processPaymentCancelFailed(objectMapper.readValue(message.getBody(),
-          PaymentCancelFailedEvent.class).merchantId());
-    } catch (Exception e) {
-      log.error("Failed to process payment cancel success event from Redis", e);
-    }
+  private void handle(PaymentCancelFailedEvent event) {
+    orderService.processPaymentCancelFailed(event.merchantId());
   }
 }
@@ -0,0 +1,30 @@
+package com.deliveranything.domain.order.subscriber.payment;
+
+import com.deliveranything.domain.order.service.OrderSagaOrchestrator;
+import com.deliveranything.domain.payment.event.PaymentMismatchDetectedEvent;
+import com.deliveranything.global.event.EventChannel;
+import com.deliveranything.global.event.EventDispatcher;
+import com.deliveranything.global.event.EventGroup;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentMismatchDetectedEventSubscriber {
+
+  private final EventDispatcher eventDispatcher;
+  private final OrderSagaOrchestrator orderSagaOrchestrator;
+
+  @PostConstruct
+  public void registerListener() {
+    eventDispatcher.subscribe(EventChannel.PAYMENT_MISMATCH_DETECTED, EventGroup.ORDER,
+        this::handle);
+  }
+
+  private void handle(PaymentMismatchDetectedEvent event) {
+    orderSagaOrchestrator.handlePaymentMismatch(event);
+  }
+}
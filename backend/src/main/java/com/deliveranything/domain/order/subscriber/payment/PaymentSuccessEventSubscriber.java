@@ -2,38 +2,28 @@ package com.deliveranything.domain.order.subscriber.payment;
 
 import com.deliveranything.domain.order.service.OrderService;
 import com.deliveranything.domain.payment.event.PaymentSuccessEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deliveranything.global.event.EventChannel;
+import com.deliveranything.global.event.EventDispatcher;
+import com.deliveranything.global.event.EventGroup;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class PaymentSuccessEventSubscriber implements MessageListener {
+public class PaymentSuccessEventSubscriber {
 
-  private final RedisMessageListenerContainer container;
-  private final ObjectMapper objectMapper;
+  private final EventDispatcher eventDispatcher;
   private final OrderService orderService;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("payment-completed-event"));
+    eventDispatcher.subscribe(EventChannel.PAYMENT_COMPLETED, EventGroup.ORDER, this::handle);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    try {
-      orderService.processPaymentCompletion(objectMapper.readValue(new String(message.getBody()),
-          PaymentSuccessEvent.class).merchantUid());
-    } catch (Exception e) {
-      log.error("Failed to process payment completed event from Redis", e);
-    }
+  private void handle(PaymentSuccessEvent event) {
+    orderService.processPaymentCompletion(event.merchantUid());
   }
 }
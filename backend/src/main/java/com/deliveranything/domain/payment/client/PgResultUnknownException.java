@@ -0,0 +1,12 @@
+package com.deliveranything.domain.payment.client;
+
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+
+// 요청은 PG 로 나갔지만 응답을 받지 못함 - 실제 처리 여부는 PG 조회로 확인해야 함
+public class PgResultUnknownException extends CustomException {
+
+  public PgResultUnknownException() {
+    super(ErrorCode.PG_RESULT_UNKNOWN);
+  }
+}
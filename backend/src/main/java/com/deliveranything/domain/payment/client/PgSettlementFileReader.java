@@ -0,0 +1,140 @@
+package com.deliveranything.domain.payment.client;
+
+import com.deliveranything.domain.payment.dto.PgSettlementRecord;
+import com.deliveranything.domain.payment.enums.PgTransactionStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * PG 정산 파일을 한 줄씩 읽는 리더
+ * <p>
+ * CSV({@code orderId,paymentKey,amount,status} 헤더)와 JSON Lines(.jsonl, 한 줄에 거래 하나)를 지원합니다. 대사는
+ * 주문 번호 순 병합이므로 파일이 orderId 오름차순이 아니면 읽는 도중 실패시킵니다. 파일 전체를 메모리에 올리지 않습니다.
+ */
+public class PgSettlementFileReader implements Iterator<PgSettlementRecord>, Closeable {
+
+  private static final String CSV_HEADER = "orderId,paymentKey,amount,status";
+
+  private final BufferedReader reader;
+  private final ObjectMapper objectMapper;
+  private final boolean json;
+
+  private PgSettlementRecord next;
+  private String previousMerchantUid;
+  private long lineNumber;
+
+  private PgSettlementFileReader(BufferedReader reader, ObjectMapper objectMapper, boolean json) {
+    this.reader = reader;
+    this.objectMapper = objectMapper;
+    this.json = json;
+  }
+
+  public static PgSettlementFileReader open(Path file, ObjectMapper objectMapper)
+      throws IOException {
+    boolean json = file.getFileName().toString().endsWith(".jsonl");
+    BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+    PgSettlementFileReader settlementReader = new PgSettlementFileReader(reader, objectMapper,
+        json);
+    if (!json) {
+      settlementReader.readHeader();
+    }
+    return settlementReader;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = readRecord();
+    }
+    return next != null;
+  }
+
+  @Override
+  public PgSettlementRecord next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    PgSettlementRecord current = next;
+    next = null;
+    return current;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private void readHeader() {
+    String header = readLine();
+    if (header == null || !CSV_HEADER.equals(header.strip())) {
+      throw new IllegalStateException("Unexpected settlement file header: " + header);
+    }
+  }
+
+  private PgSettlementRecord readRecord() {
+    String line;
+    do {
+      line = readLine();
+      if (line == null) {
+        return null;
+      }
+    } while (line.isBlank());
+
+    PgSettlementRecord record = json ? parseJson(line) : parseCsv(line);
+    if (previousMerchantUid != null && record.merchantUid().compareTo(previousMerchantUid) <= 0) {
+      throw new IllegalStateException(
+          "Settlement file is not sorted by orderId at line " + lineNumber);
+    }
+    previousMerchantUid = record.merchantUid();
+    return record;
+  }
+
+  // 값에 쉼표가 들어가지 않는 컬럼(주문 번호, 결제 키, 금액, 상태)만 있으므로 따옴표 처리는 하지 않음
+  private PgSettlementRecord parseCsv(String line) {
+    String[] columns = line.split(",", -1);
+    if (columns.length != 4) {
+      throw new IllegalStateException("Malformed settlement row at line " + lineNumber);
+    }
+    try {
+      return new PgSettlementRecord(columns[0].strip(),
+          columns[1].isBlank() ? null : columns[1].strip(),
+          Long.parseLong(columns[2].strip()),
+          PgTransactionStatus.valueOf(columns[3].strip()));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalStateException("Malformed settlement row at line " + lineNumber, e);
+    }
+  }
+
+  private PgSettlementRecord parseJson(String line) {
+    try {
+      PgSettlementRecord record = objectMapper.readValue(line, PgSettlementRecord.class);
+      if (record.merchantUid() == null || record.amount() == null || record.status() == null) {
+        throw new IllegalStateException("Malformed settlement row at line " + lineNumber);
+      }
+      return record;
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Malformed settlement row at line " + lineNumber, e);
+    }
+  }
+
+  private String readLine() {
+    try {
+      String line = reader.readLine();
+      if (line != null) {
+        lineNumber++;
+      }
+      return line;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
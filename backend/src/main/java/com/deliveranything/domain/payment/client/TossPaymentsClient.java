@@ -0,0 +1,211 @@
+package com.deliveranything.domain.payment.client;
+
+import com.deliveranything.domain.payment.config.TossPaymentsConfig;
+import com.deliveranything.domain.payment.dto.PaymentCancelRequest;
+import com.deliveranything.domain.payment.dto.PaymentCancelResponse;
+import com.deliveranything.domain.payment.dto.PaymentConfirmRequest;
+import com.deliveranything.domain.payment.dto.PaymentConfirmResponse;
+import com.deliveranything.domain.payment.dto.PaymentInquiryResponse;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.netty.channel.ChannelOption;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+/**
+ * 토스 페이먼츠 API 클라이언트
+ * <p>
+ * 전용 커넥션 풀과 시도별 응답 타임아웃, 전체 마감 시간을 두고 벌크헤드 → 서킷 브레이커 → 재시도 순으로 감쌉니다.
+ * 재시도는 멱등 키(Idempotency-Key)를 같이 보내므로 PG 에서 한 번만 처리됩니다. 실패는 세 가지로 구분합니다.
+ * <ul>
+ *   <li>PG 가 4xx 로 거절 - 호출별 거절 에러 코드</li>
+ *   <li>요청을 보내지 못함(서킷 열림, 벌크헤드 포화, 연결 실패) - {@link ErrorCode#PG_UNAVAILABLE}</li>
+ *   <li>요청은 보냈지만 응답을 받지 못함 - {@link PgResultUnknownException}</li>
+ * </ul>
+ * 분류는 마지막 시도만 보지 않습니다. 앞선 시도 중 하나라도 PG 에 닿았을 수 있으면(응답 타임아웃, 5xx) 뒤의 시도가 연결 실패나
+ * 4xx 로 끝나도 결과를 모르는 것으로 봅니다.
+ */
+@Slf4j
+@Component
+public class TossPaymentsClient {
+
+  private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+  private final TossPaymentsConfig config;
+  private final WebClient webClient;
+  private final CircuitBreaker circuitBreaker;
+  private final Bulkhead bulkhead;
+
+  public TossPaymentsClient(TossPaymentsConfig config, WebClient.Builder webClientBuilder) {
+    this.config = config;
+
+    ConnectionProvider connectionProvider = ConnectionProvider.builder("toss-payments")
+        .maxConnections(config.getMaxConnections())
+        .pendingAcquireTimeout(config.getPendingAcquireTimeout())
+        .maxIdleTime(config.getMaxIdleTime())
+        .build();
+    HttpClient httpClient = HttpClient.create(connectionProvider)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) config.getConnectTimeout().toMillis())
+        .responseTimeout(config.getResponseTimeout());
+
+    String encodedSecretKey = Base64.getEncoder()
+        .encodeToString((config.getSecretKey() + ":").getBytes(StandardCharsets.UTF_8));
+
+    // 공용 Builder 를 변경하지 않도록 복제해서 사용
+    this.webClient = webClientBuilder.clone()
+        .baseUrl(config.getTossUrl())
+        .clientConnector(new ReactorClientHttpConnector(httpClient))
+        .defaultHeaders(headers -> {
+          headers.setBasicAuth(encodedSecretKey);
+          headers.setContentType(MediaType.APPLICATION_JSON);
+        })
+        .build();
+
+    this.circuitBreaker = CircuitBreaker.of("toss-payments", CircuitBreakerConfig.custom()
+        .failureRateThreshold(config.getFailureRateThreshold())
+        .slidingWindowSize(config.getSlidingWindowSize())
+        .minimumNumberOfCalls(config.getMinimumNumberOfCalls())
+        .waitDurationInOpenState(config.getOpenStateWait())
+        // 결제 거절(4xx)은 PG 장애가 아님
+        .recordException(e -> !isClientError(e))
+        .build());
+    this.circuitBreaker.getEventPublisher().onStateTransition(event ->
+        log.warn("Toss payments circuit breaker {}", event.getStateTransition()));
+
+    this.bulkhead = Bulkhead.of("toss-payments", BulkheadConfig.custom()
+        .maxConcurrentCalls(config.getMaxConcurrentCalls())
+        .maxWaitDuration(config.getMaxBulkheadWait())
+        .build());
+  }
+
+  public PaymentConfirmResponse confirm(PaymentConfirmRequest request) {
+    return call(webClient.post()
+            .uri("/v1/payments/confirm")
+            .header(IDEMPOTENCY_KEY_HEADER, "confirm-" + request.merchantUid())
+            .bodyValue(request)
+            .retrieve()
+            .bodyToMono(PaymentConfirmResponse.class),
+        ErrorCode.PG_PAYMENT_CONFIRM_FAILED);
+  }
+
+  public PaymentCancelResponse cancel(String idempotencyKey, PaymentCancelRequest request) {
+    return call(webClient.post()
+            .uri("/v1/payments/{paymentKey}/cancel", request.paymentKey())
+            .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+            .bodyValue(request)
+            .retrieve()
+            .bodyToMono(PaymentCancelResponse.class),
+        ErrorCode.PG_PAYMENT_CANCEL_FAILED);
+  }
+
+  // 결과를 모르는 결제의 PG 상태 조회 (읽기라 멱등 키 없이 재시도)
+  public PaymentInquiryResponse inquire(String paymentKey) {
+    return call(webClient.get()
+            .uri("/v1/payments/{paymentKey}", paymentKey)
+            .retrieve()
+            .bodyToMono(PaymentInquiryResponse.class),
+        ErrorCode.PG_PAYMENT_NOT_FOUND);
+  }
+
+  private <T> T call(Mono<T> request, ErrorCode rejectedCode) {
+    // 마지막 시도의 실패만으로는 앞선 시도가 PG 에서 처리됐는지 알 수 없으므로 시도마다 기록
+    AtomicBoolean reachedPg = new AtomicBoolean();
+    try {
+      return request
+          .doOnError(e -> {
+            if (mayHaveReachedPg(e)) {
+              reachedPg.set(true);
+            }
+          })
+          .retryWhen(Retry.backoff(config.getMaxRetries(), config.getRetryBackoff())
+              .filter(this::isRetryable)
+              .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+          .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+          .transformDeferred(BulkheadOperator.of(bulkhead))
+          .block(config.getDeadline());
+    } catch (CallNotPermittedException | BulkheadFullException e) {
+      log.warn("Toss payments call rejected locally: {}", e.getMessage());
+      throw new CustomException(ErrorCode.PG_UNAVAILABLE);
+    } catch (RuntimeException e) {
+      if (reachedPg.get()) {
+        log.error("Toss payments call failed after an attempt that may have reached the PG", e);
+        throw new PgResultUnknownException();
+      }
+      throw classify(e, rejectedCode);
+    }
+  }
+
+  // 모든 시도가 PG 에 닿지 않았을 때 마지막 실패로 분류
+  private CustomException classify(RuntimeException e, ErrorCode rejectedCode) {
+    if (e instanceof WebClientResponseException response) {
+      if (isClientError(response)) {
+        log.warn("Toss payments rejected request: status={}, body={}",
+            response.getStatusCode(), response.getResponseBodyAsString());
+        return new CustomException(rejectedCode);
+      }
+      if (response.getStatusCode().value() == 429) {
+        return new CustomException(ErrorCode.PG_UNAVAILABLE);
+      }
+    }
+    if (e instanceof WebClientRequestException request && isNotSent(request)) {
+      log.warn("Toss payments connection failed: {}", e.getMessage());
+      return new CustomException(ErrorCode.PG_UNAVAILABLE);
+    }
+    // 전체 마감 초과 등 진행 중인 시도가 남았을 수 있음
+    log.error("Toss payments call timed out or failed", e);
+    return new PgResultUnknownException();
+  }
+
+  // 응답 타임아웃, 연결 오류, 5xx, 429 는 같은 멱등 키로 다시 시도
+  private boolean isRetryable(Throwable e) {
+    if (e instanceof WebClientResponseException response) {
+      return response.getStatusCode().is5xxServerError()
+          || response.getStatusCode().value() == 429;
+    }
+    return e instanceof WebClientRequestException || e instanceof TimeoutException;
+  }
+
+  // 요청이 PG 에서 처리됐을 수 있는 실패 (4xx, 429 는 처리 전 거절, 연결 실패는 보내지 못함)
+  private static boolean mayHaveReachedPg(Throwable e) {
+    if (e instanceof WebClientResponseException response) {
+      return response.getStatusCode().is5xxServerError();
+    }
+    if (e instanceof WebClientRequestException request) {
+      return !isNotSent(request);
+    }
+    return e instanceof TimeoutException;
+  }
+
+  // 연결 실패 또는 커넥션 풀 대기 초과 - 요청 바이트를 보내기 전에 실패
+  private static boolean isNotSent(WebClientRequestException e) {
+    return e.getCause() instanceof ConnectException || e.getCause() instanceof TimeoutException;
+  }
+
+  private boolean isClientError(Throwable e) {
+    return e instanceof WebClientResponseException response
+        && response.getStatusCode().is4xxClientError()
+        && response.getStatusCode().value() != 429;
+  }
+}
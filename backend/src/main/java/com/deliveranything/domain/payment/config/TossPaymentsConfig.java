@@ -1,5 +1,6 @@
 package com.deliveranything.domain.payment.config;
 
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -13,4 +14,28 @@ public class TossPaymentsConfig {
 
   private String secretKey;
   private String tossUrl;
-}
\ No newline at end of file
+
+  // 커넥션 풀 (PG 전용, 다른 WebClient 와 공유하지 않음)
+  private int maxConnections = 50;
+  private Duration pendingAcquireTimeout = Duration.ofSeconds(1);
+  private Duration maxIdleTime = Duration.ofSeconds(20);
+
+  // 타임아웃 - 시도 1회 응답 대기 / 재시도 포함 전체 마감
+  private Duration connectTimeout = Duration.ofSeconds(2);
+  private Duration responseTimeout = Duration.ofSeconds(5);
+  private Duration deadline = Duration.ofSeconds(15);
+
+  // 재시도 (멱등 키를 함께 보내므로 같은 요청이 두 번 처리되지 않음)
+  private int maxRetries = 2;
+  private Duration retryBackoff = Duration.ofMillis(200);
+
+  // 서킷 브레이커
+  private float failureRateThreshold = 50;
+  private int slidingWindowSize = 20;
+  private int minimumNumberOfCalls = 10;
+  private Duration openStateWait = Duration.ofSeconds(30);
+
+  // 벌크헤드 - 동시에 PG 를 기다리는 스레드 수 제한
+  private int maxConcurrentCalls = 20;
+  private Duration maxBulkheadWait = Duration.ofMillis(100);
+}
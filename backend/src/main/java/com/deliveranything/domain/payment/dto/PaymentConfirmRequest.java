@@ -1,5 +1,12 @@
 package com.deliveranything.domain.payment.dto;
 
-public record PaymentConfirmRequest(String paymentKey, String merchantUid, Long amount) {
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// 토스 결제 승인 API 는 주문 번호를 orderId 로 받음
+public record PaymentConfirmRequest(
+    String paymentKey,
+    @JsonProperty("orderId") String merchantUid,
+    Long amount
+) {
 
 }
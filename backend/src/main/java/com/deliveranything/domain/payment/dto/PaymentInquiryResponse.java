@@ -0,0 +1,16 @@
+package com.deliveranything.domain.payment.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// 토스 결제 조회 API 응답
+// status: READY, IN_PROGRESS, WAITING_FOR_DEPOSIT, DONE, CANCELED, PARTIAL_CANCELED, ABORTED,
+//         EXPIRED
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PaymentInquiryResponse(
+    String paymentKey,
+    String orderId,
+    String status,
+    Long totalAmount
+) {
+
+}
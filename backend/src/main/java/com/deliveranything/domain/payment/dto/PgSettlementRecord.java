@@ -0,0 +1,15 @@
+package com.deliveranything.domain.payment.dto;
+
+import com.deliveranything.domain.payment.enums.PgTransactionStatus;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PgSettlementRecord(
+    @JsonProperty("orderId") String merchantUid,
+    String paymentKey,
+    Long amount,
+    PgTransactionStatus status
+) {
+
+}
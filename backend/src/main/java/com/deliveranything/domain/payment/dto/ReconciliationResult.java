@@ -0,0 +1,10 @@
+package com.deliveranything.domain.payment.dto;
+
+public record ReconciliationResult(
+    long pgRows,
+    long localRows,
+    long matched,
+    long mismatched
+) {
+
+}
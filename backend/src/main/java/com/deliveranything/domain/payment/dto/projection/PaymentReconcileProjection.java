@@ -0,0 +1,14 @@
+package com.deliveranything.domain.payment.dto.projection;
+
+import com.deliveranything.domain.payment.enums.PaymentStatus;
+import java.time.LocalDateTime;
+
+public record PaymentReconcileProjection(
+    String merchantUid,
+    String paymentKey,
+    Long amount,
+    PaymentStatus status,
+    LocalDateTime createdAt
+) {
+
+}
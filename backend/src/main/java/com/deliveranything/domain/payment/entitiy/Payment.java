@@ -1,5 +1,6 @@
 package com.deliveranything.domain.payment.entitiy;
 
+import com.deliveranything.domain.order.enums.Publisher;
 import com.deliveranything.domain.payment.enums.PaymentStatus;
 import com.deliveranything.global.entity.BaseEntity;
 import com.deliveranything.global.exception.CustomException;
@@ -8,14 +9,27 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name = "payments")
+@Table(
+    name = "payments",
+    indexes = {
+        // 결과를 모르는 결제(CONFIRMING, CANCELING) 확정 대상 조회
+        @Index(name = "idx_payments_status_changed", columnList = "status, status_changed_at"),
+        // 정산 대사 - 생성일 안에서 merchantUid 순으로 읽고 created_at 범위는 인덱스에서 거름
+        @Index(name = "idx_payments_created_date_merchant_uid",
+            columnList = "created_date, merchant_uid, created_at")
+    }
+)
 public class Payment extends BaseEntity {
 
   @Column(nullable = false, unique = true, length = 64)
@@ -28,13 +42,30 @@ public class Payment extends BaseEntity {
   private Long amount;
 
   @Enumerated(EnumType.STRING)
-  @Column(nullable = false)
+  @Column(nullable = false, columnDefinition = "VARCHAR(20)")
   private PaymentStatus status;
 
+  @Column(name = "status_changed_at")
+  private LocalDateTime statusChangedAt;
+
+  // created_at 의 날짜 (정산 대사를 날짜별로 merchantUid 순서대로 읽기 위함)
+  @Column(name = "created_date")
+  private LocalDate createdDate;
+
+  // 취소 요청 주체 - PG 조회로 취소를 확정할 때 주문 측에 같은 주체로 알림
+  @Enumerated(EnumType.STRING)
+  @Column(columnDefinition = "VARCHAR(20)")
+  private Publisher cancelPublisher;
+
+  // 확정 실패한 취소 시도 수 (재취소는 새 멱등 키로 보내야 PG 가 이전 실패 응답을 돌려주지 않음)
+  @Column(nullable = false)
+  private int cancelAttempt;
+
   public Payment(String merchantUid, Long amount) {
     this.merchantUid = merchantUid;
     this.amount = amount;
     this.status = PaymentStatus.READY;
+    this.statusChangedAt = LocalDateTime.now();
   }
 
   public Payment(String merchantUid, String paymentKey, Long amount, PaymentStatus status) {
@@ -42,13 +73,41 @@ public class Payment extends BaseEntity {
     this.paymentKey = paymentKey;
     this.amount = amount;
     this.status = status;
+    this.statusChangedAt = LocalDateTime.now();
+  }
+
+  // 감사 리스너가 created_at 을 채운 뒤 호출됨
+  @PrePersist
+  void fillCreatedDate() {
+    this.createdDate = getCreatedAt() != null ? getCreatedAt().toLocalDate() : LocalDate.now();
   }
 
   public void updateStatus(PaymentStatus status) {
-    if (this.status != PaymentStatus.READY) {
+    if (!this.status.canTransitTo(status)) {
       throw new CustomException(ErrorCode.PAYMENT_INVALID_STATUS);
     }
 
     this.status = status;
+    this.statusChangedAt = LocalDateTime.now();
+  }
+
+  // PG 승인 요청 직전 (결제 키를 먼저 남겨 응답을 못 받아도 PG 에서 조회할 수 있게 함)
+  public void startConfirm(String paymentKey) {
+    updateStatus(PaymentStatus.CONFIRMING);
+    this.paymentKey = paymentKey;
+  }
+
+  // PG 취소 요청 직전 (이전 시도가 확정 실패했으면 다음 시도로 넘김)
+  public void startCancel(Publisher publisher) {
+    if (this.status == PaymentStatus.CANCEL_FAILED) {
+      this.cancelAttempt++;
+    }
+    updateStatus(PaymentStatus.CANCELING);
+    this.cancelPublisher = publisher;
+  }
+
+  // 같은 시도의 재전송(응답 유실, 재시도)은 같은 키로 보내 PG 에서 한 번만 처리되게 함
+  public String cancelIdempotencyKey() {
+    return "cancel-" + merchantUid + "-" + cancelAttempt;
   }
 }
@@ -2,8 +2,22 @@ package com.deliveranything.domain.payment.enums;
 
 public enum PaymentStatus {
   READY,
+  CONFIRMING,
   PAID,
   FAILED,
+  CANCELING,
   CANCELED,
-  CANCEL_FAILED
+  CANCEL_FAILED;
+
+  // CONFIRMING, CANCELING 은 PG 호출 중 (응답을 못 받으면 PG 조회로 확정될 때까지 유지)
+  public boolean canTransitTo(PaymentStatus next) {
+    return switch (this) {
+      case READY -> next == CONFIRMING || next == FAILED;
+      case CONFIRMING -> next == PAID || next == FAILED;
+      case PAID -> next == CANCELING;
+      case CANCELING -> next == CANCELED || next == CANCEL_FAILED;
+      case CANCEL_FAILED -> next == CANCELING;
+      case FAILED, CANCELED -> false;
+    };
+  }
 }
@@ -0,0 +1,24 @@
+package com.deliveranything.domain.payment.enums;
+
+import java.util.Set;
+
+/**
+ * PG 정산 파일의 거래 상태
+ */
+public enum PgTransactionStatus {
+  DONE(Set.of(PaymentStatus.PAID, PaymentStatus.CANCEL_FAILED)),
+  CANCELED(Set.of(PaymentStatus.CANCELED)),
+  PARTIAL_CANCELED(Set.of()),  // 부분 취소는 하지 않으므로 항상 불일치
+  ABORTED(Set.of(PaymentStatus.FAILED));
+
+  private final Set<PaymentStatus> expectedLocal;
+
+  PgTransactionStatus(Set<PaymentStatus> expectedLocal) {
+    this.expectedLocal = expectedLocal;
+  }
+
+  // 대사 시 같은 거래로 볼 수 있는 로컬 결제 상태
+  public boolean matches(PaymentStatus local) {
+    return expectedLocal.contains(local);
+  }
+}
@@ -0,0 +1,8 @@
+package com.deliveranything.domain.payment.enums;
+
+public enum ReconciliationMismatchType {
+  MISSING_IN_PG,     // 로컬에는 승인/취소 기록이 있으나 정산 파일에 없음
+  MISSING_LOCALLY,   // 정산 파일에는 있으나 로컬 결제가 없음
+  AMOUNT_MISMATCH,   // 금액 불일치
+  STATUS_MISMATCH    // 상태 불일치 (예: PG 는 DONE, 로컬은 응답을 못 받아 CONFIRMING)
+}
@@ -0,0 +1,17 @@
+package com.deliveranything.domain.payment.event;
+
+import com.deliveranything.domain.payment.enums.PaymentStatus;
+import com.deliveranything.domain.payment.enums.PgTransactionStatus;
+import com.deliveranything.domain.payment.enums.ReconciliationMismatchType;
+
+// 한쪽에만 있는 거래는 반대쪽 상태/금액이 null
+public record PaymentMismatchDetectedEvent(
+    String merchantUid,
+    ReconciliationMismatchType type,
+    PaymentStatus localStatus,
+    PgTransactionStatus pgStatus,
+    Long localAmount,
+    Long pgAmount
+) {
+
+}
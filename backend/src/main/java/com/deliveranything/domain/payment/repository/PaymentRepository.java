@@ -1,11 +1,47 @@
 package com.deliveranything.domain.payment.repository;
 
+import com.deliveranything.domain.payment.dto.projection.PaymentReconcileProjection;
 import com.deliveranything.domain.payment.entitiy.Payment;
 import com.deliveranything.domain.payment.enums.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
+  boolean existsByMerchantUid(String merchantUid);
+
   Optional<Payment> findByMerchantUidAndStatus(String merchantUid, PaymentStatus status);
+
+  Optional<Payment> findByMerchantUidAndStatusIn(String merchantUid,
+      Collection<PaymentStatus> statuses);
+
+  // PG 조회 결과를 반영하는 동안 다른 노드의 확정과 겹치지 않도록 잠금
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  Optional<Payment> findWithLockByMerchantUid(String merchantUid);
+
+  // 상태를 바꾼 지 오래된 결과 미확정 결제 - id 순으로 after 이후를 읽음 (keyset)
+  List<Payment> findByStatusInAndStatusChangedAtBeforeAndIdGreaterThanOrderById(
+      Collection<PaymentStatus> statuses, LocalDateTime cutoff, Long after, Limit limit);
+
+  // 대사용 청크 조회 - 생성일 하나 안에서 (created_date, merchant_uid) 인덱스 순으로 after 이후를 읽음 (keyset)
+  @Query("""
+      SELECT new com.deliveranything.domain.payment.dto.projection.PaymentReconcileProjection(
+          p.merchantUid, p.paymentKey, p.amount, p.status, p.createdAt)
+      FROM Payment p
+      WHERE p.createdDate = :date AND p.merchantUid > :after
+        AND p.createdAt >= :from AND p.createdAt < :to
+      ORDER BY p.merchantUid
+      """)
+  List<PaymentReconcileProjection> findReconcileChunk(@Param("date") LocalDate date,
+      @Param("after") String after, @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to, Limit limit);
 }
@@ -0,0 +1,49 @@
+package com.deliveranything.domain.payment.scheduler;
+
+import com.deliveranything.domain.payment.service.PaymentReconciliationService;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentReconciliationScheduler {
+
+  private final PaymentReconciliationService paymentReconciliationService;
+
+  // PG 정산 파일 위치 ({yyyyMMdd}.csv 또는 {yyyyMMdd}.jsonl)
+  @Value("${custom.payment.reconcile.directory:settlements}")
+  private Path directory;
+
+  // 전날 정산 파일이 올라온 뒤 실행
+  @Scheduled(cron = "${custom.payment.reconcile.cron:0 0 6 * * *}")
+  public void reconcileYesterday() {
+    LocalDate settlementDate = LocalDate.now().minusDays(1);
+    String baseName = settlementDate.format(DateTimeFormatter.BASIC_ISO_DATE);
+    Path file = Stream.of(".csv", ".jsonl")
+        .map(extension -> directory.resolve(baseName + extension))
+        .filter(Files::isRegularFile)
+        .findFirst()
+        .orElse(null);
+    if (file == null) {
+      log.warn("PG 정산 파일 없음: date={}, directory={}", settlementDate, directory);
+      return;
+    }
+
+    log.info("===== 결제 대사 시작: {} =====", file);
+    try {
+      paymentReconciliationService.reconcile(file, settlementDate);
+    } catch (Exception e) {
+      log.error("결제 대사 실패: {}", file, e);
+    }
+    log.info("===== 결제 대사 종료 =====");
+  }
+}
@@ -0,0 +1,76 @@
+package com.deliveranything.domain.payment.scheduler;
+
+import com.deliveranything.domain.payment.entitiy.Payment;
+import com.deliveranything.domain.payment.enums.PaymentStatus;
+import com.deliveranything.domain.payment.repository.PaymentRepository;
+import com.deliveranything.domain.payment.service.PaymentService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결과를 모르는 결제 확정
+ * <p>
+ * PG 응답을 받지 못해 CONFIRMING, CANCELING 에 남은 결제를 PG 조회로 확정합니다. 상태를 바꾼 지 grace 가 지난 결제만 보므로 아직 PG 를
+ * 호출 중인 요청(클라이언트 전체 마감 이내)과 겹치지 않습니다. PG 에서 아직 진행 중이거나 로컬과 맞지 않는 결제는 다음 실행에서 다시 봅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentResolutionScheduler {
+
+  private static final List<PaymentStatus> PENDING_STATUSES =
+      List.of(PaymentStatus.CONFIRMING, PaymentStatus.CANCELING);
+
+  private final PaymentRepository paymentRepository;
+  private final PaymentService paymentService;
+
+  @Value("${custom.payment.resolve.grace:1m}")
+  private Duration grace;
+
+  @Value("${custom.payment.resolve.batch-size:100}")
+  private int batchSize;
+
+  @Scheduled(fixedDelayString = "${custom.payment.resolve.interval-ms:30000}")
+  public void resolve() {
+    LocalDateTime cutoff = LocalDateTime.now().minus(grace);
+    long after = 0L;
+    int resolved = 0;
+    int pending = 0;
+
+    List<Payment> payments;
+    do {
+      payments = paymentRepository.findByStatusInAndStatusChangedAtBeforeAndIdGreaterThanOrderById(
+          PENDING_STATUSES, cutoff, after, Limit.of(batchSize));
+      for (Payment payment : payments) {
+        after = payment.getId();
+        if (resolve(payment)) {
+          resolved++;
+        } else {
+          pending++;
+        }
+      }
+    } while (payments.size() == batchSize);
+
+    if (resolved > 0 || pending > 0) {
+      log.info("Resolved {} payments with unknown PG result, {} still pending", resolved, pending);
+    }
+  }
+
+  private boolean resolve(Payment payment) {
+    try {
+      return paymentService.resolvePending(payment);
+    } catch (Exception e) {
+      // PG 조회 실패 - 다음 실행에서 다시 조회
+      log.warn("Failed to resolve payment, merchantUid={}: {}", payment.getMerchantUid(),
+          e.getMessage());
+      return false;
+    }
+  }
+}
@@ -0,0 +1,231 @@
+package com.deliveranything.domain.payment.service;
+
+import com.deliveranything.domain.payment.client.PgSettlementFileReader;
+import com.deliveranything.domain.payment.dto.PgSettlementRecord;
+import com.deliveranything.domain.payment.dto.ReconciliationResult;
+import com.deliveranything.domain.payment.dto.projection.PaymentReconcileProjection;
+import com.deliveranything.domain.payment.enums.PaymentStatus;
+import com.deliveranything.domain.payment.enums.ReconciliationMismatchType;
+import com.deliveranything.domain.payment.event.PaymentMismatchDetectedEvent;
+import com.deliveranything.domain.payment.repository.PaymentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * PG 정산 파일 대사
+ * <p>
+ * 주문 번호(merchantUid) 오름차순으로 정렬된 정산 파일과 {@code payments} 를 같은 순서로 청크 단위로 읽으며 병합 조인합니다.
+ * 양쪽 모두 현재 행만 들고 진행하므로 행 수와 관계없이 메모리는 청크 크기만큼만 씁니다. 불일치는 청크 단위로 모아
+ * {@link PaymentMismatchDetectedEvent} 로 발행합니다(아웃박스 기록을 위해 트랜잭션 안에서 발행).
+ * <p>
+ * 로컬 결제는 정산일 앞뒤로 여유 시간을 더한 범위를 읽어 자정 전후 승인 건이 양쪽에서 어긋나지 않게 하고, 여유 구간에만 있는
+ * 로컬 결제는 다른 날 정산 파일에 있을 수 있으므로 누락으로 보지 않습니다.
+ * <p>
+ * 로컬 결제는 범위에 걸친 생성일(보통 전날, 당일, 다음 날)마다 {@code (created_date, merchant_uid)} 인덱스 순으로 읽고
+ * merchantUid 순으로 합쳐, 전체 merchantUid 인덱스를 훑지 않고 정산일 근처 행만 읽습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PaymentReconciliationService {
+
+  // PG 에 승인 요청을 보낸 적이 없는 상태는 정산 파일에 없어도 정상
+  private static final Set<PaymentStatus> NOT_SENT = Set.of(PaymentStatus.READY,
+      PaymentStatus.FAILED);
+
+  private final PaymentRepository paymentRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+
+  @Value("${custom.payment.reconcile.chunk-size:1000}")
+  private int chunkSize;
+
+  @Value("${custom.payment.reconcile.window-margin-minutes:30}")
+  private long windowMarginMinutes;
+
+  public ReconciliationResult reconcile(Path file, LocalDate settlementDate) throws IOException {
+    LocalDateTime dayStart = settlementDate.atStartOfDay();
+    LocalDateTime dayEnd = dayStart.plusDays(1);
+    LocalPayments locals = new LocalPayments(dayStart.minusMinutes(windowMarginMinutes),
+        dayEnd.plusMinutes(windowMarginMinutes));
+    Mismatches mismatches = new Mismatches();
+    long pgRows = 0;
+    long matched = 0;
+
+    try (PgSettlementFileReader reader = PgSettlementFileReader.open(file, objectMapper)) {
+      PgSettlementRecord pg = reader.hasNext() ? reader.next() : null;
+      PaymentReconcileProjection local = locals.peek();
+
+      while (pg != null || local != null) {
+        int order = pg == null ? 1
+            : local == null ? -1 : pg.merchantUid().compareTo(local.merchantUid());
+
+        if (order < 0) {
+          mismatches.add(missingLocally(pg));
+        } else if (order > 0) {
+          LocalDateTime createdAt = local.createdAt();
+          boolean inDay = !createdAt.isBefore(dayStart) && createdAt.isBefore(dayEnd);
+          if (inDay && !NOT_SENT.contains(local.status())) {
+            mismatches.add(missingInPg(local));
+          }
+        } else {
+          PaymentMismatchDetectedEvent mismatch = compare(pg, local);
+          if (mismatch == null) {
+            matched++;
+          } else {
+            mismatches.add(mismatch);
+          }
+        }
+
+        if (order <= 0) {
+          pgRows++;
+          pg = reader.hasNext() ? reader.next() : null;
+        }
+        if (order >= 0) {
+          locals.advance();
+          local = locals.peek();
+        }
+      }
+    }
+    mismatches.flush();
+
+    ReconciliationResult result = new ReconciliationResult(pgRows, locals.read, matched,
+        mismatches.total);
+    log.info("Payment reconciliation finished, date={}, result={}", settlementDate, result);
+    return result;
+  }
+
+  private PaymentMismatchDetectedEvent compare(PgSettlementRecord pg,
+      PaymentReconcileProjection local) {
+    ReconciliationMismatchType type;
+    if (!pg.amount().equals(local.amount())) {
+      type = ReconciliationMismatchType.AMOUNT_MISMATCH;
+    } else if (!pg.status().matches(local.status())) {
+      type = ReconciliationMismatchType.STATUS_MISMATCH;
+    } else {
+      return null;
+    }
+    return new PaymentMismatchDetectedEvent(local.merchantUid(), type, local.status(),
+        pg.status(), local.amount(), pg.amount());
+  }
+
+  private PaymentMismatchDetectedEvent missingLocally(PgSettlementRecord pg) {
+    return new PaymentMismatchDetectedEvent(pg.merchantUid(),
+        ReconciliationMismatchType.MISSING_LOCALLY, null, pg.status(), null, pg.amount());
+  }
+
+  private PaymentMismatchDetectedEvent missingInPg(PaymentReconcileProjection local) {
+    return new PaymentMismatchDetectedEvent(local.merchantUid(),
+        ReconciliationMismatchType.MISSING_IN_PG, local.status(), null, local.amount(), null);
+  }
+
+  // 로컬 결제 커서 - 범위에 걸친 생성일마다 merchantUid 순 커서를 두고 가장 작은 것부터 내보냄
+  private class LocalPayments {
+
+    private final List<DailyPayments> days = new ArrayList<>();
+    private long read;
+
+    private LocalPayments(LocalDateTime from, LocalDateTime to) {
+      LocalDate last = to.minusNanos(1).toLocalDate();
+      for (LocalDate date = from.toLocalDate(); !date.isAfter(last); date = date.plusDays(1)) {
+        days.add(new DailyPayments(date, from, to));
+      }
+    }
+
+    private PaymentReconcileProjection peek() {
+      return next() != null ? next().peek() : null;
+    }
+
+    private void advance() {
+      next().advance();
+    }
+
+    // merchantUid 가 가장 작은 현재 행을 가진 날짜 커서
+    private DailyPayments next() {
+      DailyPayments next = null;
+      for (DailyPayments day : days) {
+        PaymentReconcileProjection head = day.peek();
+        if (head != null && (next == null
+            || head.merchantUid().compareTo(next.peek().merchantUid()) < 0)) {
+          next = day;
+        }
+      }
+      return next;
+    }
+
+    // 생성일 하나의 결제 - 마지막으로 읽은 merchantUid 다음부터 청크 단위로 조회
+    private class DailyPayments {
+
+      private final LocalDate date;
+      private final LocalDateTime from;
+      private final LocalDateTime to;
+      private List<PaymentReconcileProjection> chunk = List.of();
+      private int index;
+      private String after = "";
+      private boolean exhausted;
+
+      private DailyPayments(LocalDate date, LocalDateTime from, LocalDateTime to) {
+        this.date = date;
+        this.from = from;
+        this.to = to;
+      }
+
+      private PaymentReconcileProjection peek() {
+        if (index == chunk.size() && !exhausted) {
+          chunk = paymentRepository.findReconcileChunk(date, after, from, to,
+              Limit.of(chunkSize));
+          index = 0;
+          exhausted = chunk.size() < chunkSize;
+          if (!chunk.isEmpty()) {
+            after = chunk.getLast().merchantUid();
+            read += chunk.size();
+          }
+        }
+        return index < chunk.size() ? chunk.get(index) : null;
+      }
+
+      private void advance() {
+        index++;
+      }
+    }
+  }
+
+  // 불일치를 청크 크기만큼 모아 한 트랜잭션에서 발행
+  private class Mismatches {
+
+    private final List<PaymentMismatchDetectedEvent> pending = new ArrayList<>();
+    private long total;
+
+    private void add(PaymentMismatchDetectedEvent mismatch) {
+      log.warn("Payment mismatch detected: {}", mismatch);
+      pending.add(mismatch);
+      total++;
+      if (pending.size() >= chunkSize) {
+        flush();
+      }
+    }
+
+    private void flush() {
+      if (pending.isEmpty()) {
+        return;
+      }
+      transactionTemplate.executeWithoutResult(
+          status -> pending.forEach(eventPublisher::publishEvent));
+      pending.clear();
+    }
+  }
+}
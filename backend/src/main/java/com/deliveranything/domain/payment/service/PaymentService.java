@@ -1,11 +1,13 @@
 package com.deliveranything.domain.payment.service;
 
 import com.deliveranything.domain.order.enums.Publisher;
-import com.deliveranything.domain.payment.config.TossPaymentsConfig;
+import com.deliveranything.domain.payment.client.PgResultUnknownException;
+import com.deliveranything.domain.payment.client.TossPaymentsClient;
 import com.deliveranything.domain.payment.dto.PaymentCancelRequest;
 import com.deliveranything.domain.payment.dto.PaymentCancelResponse;
 import com.deliveranything.domain.payment.dto.PaymentConfirmRequest;
 import com.deliveranything.domain.payment.dto.PaymentConfirmResponse;
+import com.deliveranything.domain.payment.dto.PaymentInquiryResponse;
 import com.deliveranything.domain.payment.entitiy.Payment;
 import com.deliveranything.domain.payment.enums.PaymentStatus;
 import com.deliveranything.domain.payment.event.PaymentCancelFailedEvent;
@@ -15,121 +17,219 @@ import com.deliveranything.domain.payment.event.PaymentSuccessEvent;
 import com.deliveranything.domain.payment.repository.PaymentRepository;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
-import jakarta.annotation.PostConstruct;
-import java.util.Base64;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
-
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 결제 승인/취소
+ * <p>
+ * PG 호출은 DB 트랜잭션 밖에서 합니다. 호출 전 트랜잭션에서 진행 중 상태(CONFIRMING, CANCELING)로 바꿔 커밋하고,
+ * 응답을 받은 뒤 새 트랜잭션에서 결과 상태와 이벤트를 반영합니다. PG 가 느려도 커넥션 풀을 잡고 있지 않습니다.
+ * 응답을 받지 못한 결제는 진행 중 상태로 남고 {@code PaymentResolutionScheduler} 가 PG 조회로 확정합니다.
+ */
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class PaymentService {
 
-  private final TossPaymentsConfig tossPaymentsConfig;
-  private final WebClient.Builder webClientBuilder;
+  private final TossPaymentsClient tossPaymentsClient;
   private final PaymentRepository paymentRepository;
   private final ApplicationEventPublisher eventPublisher;
-
-  private WebClient tossWebClient;
-  private String encodedSecretKey;
-
-  @PostConstruct
-  public void init() {
-    this.encodedSecretKey = Base64.getEncoder()
-        .encodeToString((tossPaymentsConfig.getSecretKey() + ":").getBytes());
-
-    this.tossWebClient = webClientBuilder
-        .baseUrl(tossPaymentsConfig.getTossUrl())
-        .defaultHeaders(headers -> {
-          headers.setBasicAuth(encodedSecretKey);
-          headers.setContentType(MediaType.APPLICATION_JSON);
-        })
-        .build();
-  }
+  private final TransactionTemplate transactionTemplate;
 
   @Transactional
   public void createPayment(String merchantUid, Long amount) {
+    // 결제 요청 이벤트가 재전달되면 이미 만든 결제를 그대로 사용
+    if (paymentRepository.existsByMerchantUid(merchantUid)) {
+      return;
+    }
     paymentRepository.save(new Payment(merchantUid, amount));
   }
 
-  @Transactional
   public void confirmPayment(String paymentKey, String merchantUid, Long orderAmount) {
-    Payment payment = getPayment(merchantUid, PaymentStatus.READY);
-
-    if (orderAmount.equals(payment.getAmount())) {
-      payment.updateStatus(PaymentStatus.FAILED);
-      eventPublisher.publishEvent(new PaymentFailedEvent(merchantUid));
+    Boolean started = transactionTemplate.execute(status -> {
+      Payment payment = getPayment(merchantUid, PaymentStatus.READY);
+      if (!orderAmount.equals(payment.getAmount())) {
+        fail(payment);
+        return false;
+      }
+      payment.startConfirm(paymentKey);
+      return true;
+    });
+    if (!Boolean.TRUE.equals(started)) {
       throw new CustomException(ErrorCode.PAYMENT_AMOUNT_INVALID);
     }
 
-    // 응답 수신 확인
-    PaymentConfirmResponse pgResponse = tossWebClient.post()
-        .uri("/v1/payments/confirm")
-        .bodyValue(new PaymentConfirmRequest(paymentKey, merchantUid, orderAmount))
-        .retrieve()
-        .bodyToMono(PaymentConfirmResponse.class)
-        .block();
-
-    if (pgResponse == null) {
-      payment.updateStatus(PaymentStatus.FAILED);
-      eventPublisher.publishEvent(new PaymentFailedEvent(merchantUid));
-      throw new CustomException(ErrorCode.PG_PAYMENT_NOT_FOUND);
+    PaymentConfirmResponse pgResponse;
+    try {
+      pgResponse = tossPaymentsClient.confirm(
+          new PaymentConfirmRequest(paymentKey, merchantUid, orderAmount));
+    } catch (PgResultUnknownException e) {
+      // 승인 여부를 모르므로 CONFIRMING 으로 남김 (주문 사가도 결제 단계는 확인 필요로 남김)
+      log.error("Payment confirm result unknown, merchantUid={}", merchantUid);
+      throw e;
+    } catch (CustomException e) {
+      transactionTemplate.executeWithoutResult(
+          status -> fail(getPayment(merchantUid, PaymentStatus.CONFIRMING)));
+      throw e;
     }
 
     // zero trust 검증
-    if (!(paymentKey.equals(pgResponse.paymentKey()) && merchantUid.equals(pgResponse.orderId())
-        && orderAmount.equals(pgResponse.totalAmount()))) {
-      payment.updateStatus(PaymentStatus.FAILED);
-      eventPublisher.publishEvent(new PaymentFailedEvent(merchantUid));
-      throw new CustomException(ErrorCode.PG_PAYMENT_CONFIRM_FAILED);
+    boolean verified = pgResponse != null && paymentKey.equals(pgResponse.paymentKey())
+        && merchantUid.equals(pgResponse.orderId())
+        && orderAmount.equals(pgResponse.totalAmount());
+
+    transactionTemplate.executeWithoutResult(status -> {
+      Payment payment = getPayment(merchantUid, PaymentStatus.CONFIRMING);
+      if (!verified) {
+        fail(payment);
+        return;
+      }
+      payment.updateStatus(PaymentStatus.PAID);
+      eventPublisher.publishEvent(new PaymentSuccessEvent(payment.getMerchantUid()));
+    });
+
+    if (!verified) {
+      throw new CustomException(pgResponse == null
+          ? ErrorCode.PG_PAYMENT_NOT_FOUND : ErrorCode.PG_PAYMENT_CONFIRM_FAILED);
     }
-
-    payment.updateStatus(PaymentStatus.PAID);
-
-    eventPublisher.publishEvent(new PaymentSuccessEvent(payment.getMerchantUid()));
   }
 
-  @Transactional
   public void cancelPayment(String merchantUid, String cancelReason, Publisher publisher) {
-    Payment payment = getPayment(merchantUid, PaymentStatus.PAID);
-
-    // 응답 수신 확인
-    PaymentCancelResponse pgResponse = tossWebClient.post()
-        .uri("/v1/payments/{paymentKey}/cancel", payment.getPaymentKey())
-        .bodyValue(new PaymentCancelRequest(payment.getPaymentKey(), cancelReason))
-        .retrieve()
-        .bodyToMono(PaymentCancelResponse.class)
-        .block();
-
-    if (pgResponse == null) {
-      eventPublisher.publishEvent(new PaymentCancelFailedEvent(payment.getMerchantUid()));
-
-      paymentRepository.save(new Payment(merchantUid, payment.getPaymentKey(), payment.getAmount(),
-          PaymentStatus.CANCEL_FAILED));
-
-      throw new CustomException(ErrorCode.PG_PAYMENT_CANCEL_FAILED);
+    // 취소가 확정 실패(CANCEL_FAILED)한 결제도 다시 취소할 수 있음
+    Payment payment = transactionTemplate.execute(status -> {
+      Payment cancelable = paymentRepository.findByMerchantUidAndStatusIn(merchantUid,
+              List.of(PaymentStatus.PAID, PaymentStatus.CANCEL_FAILED))
+          .orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
+      cancelable.startCancel(publisher);
+      return cancelable;
+    });
+
+    PaymentCancelResponse pgResponse;
+    try {
+      pgResponse = tossPaymentsClient.cancel(payment.cancelIdempotencyKey(),
+          new PaymentCancelRequest(payment.getPaymentKey(), cancelReason));
+    } catch (PgResultUnknownException e) {
+      log.error("Payment cancel result unknown, merchantUid={}", merchantUid);
+      throw e;
+    } catch (CustomException e) {
+      // 실패는 이벤트로 주문에 알리고 예외는 넘기지 않음 (재전달되면 주문 요청 없이 새 멱등 키로 다시 취소하게 됨)
+      log.warn("Payment cancel failed, merchantUid={}: {}", merchantUid, e.getMessage());
+      transactionTemplate.executeWithoutResult(
+          status -> cancelFailed(getPayment(merchantUid, PaymentStatus.CANCELING)));
+      return;
     }
 
     // zero trust 검증 (결제 번호, 주문 번호, 가격)
-    if (!(payment.getPaymentKey().equals(pgResponse.paymentKey())
+    boolean verified = pgResponse != null
+        && payment.getPaymentKey().equals(pgResponse.paymentKey())
         && merchantUid.equals(pgResponse.orderId()) && pgResponse.cancels().size() == 1
-        && payment.getAmount().longValue() == pgResponse.cancels().getFirst().cancelAmount())
-    ) {
-      eventPublisher.publishEvent(new PaymentCancelFailedEvent(payment.getMerchantUid()));
+        && payment.getAmount().longValue() == pgResponse.cancels().getFirst().cancelAmount();
 
-      paymentRepository.save(new Payment(merchantUid, payment.getPaymentKey(), payment.getAmount(),
-          PaymentStatus.CANCEL_FAILED));
+    if (!verified) {
+      log.error("Payment cancel response mismatch, merchantUid={}", merchantUid);
+      transactionTemplate.executeWithoutResult(
+          status -> cancelFailed(getPayment(merchantUid, PaymentStatus.CANCELING)));
+      return;
+    }
+
+    transactionTemplate.executeWithoutResult(status -> {
+      getPayment(merchantUid, PaymentStatus.CANCELING).updateStatus(PaymentStatus.CANCELED);
+      eventPublisher.publishEvent(new PaymentCancelSuccessEvent(merchantUid, publisher));
+    });
+  }
 
-      throw new CustomException(ErrorCode.PG_PAYMENT_CANCEL_FAILED);
+  /**
+   * 결과를 모르는 결제(CONFIRMING, CANCELING)를 PG 조회 결과로 확정
+   * <p>
+   * 조회하는 사이 다른 경로에서 상태가 바뀌었거나, PG 에서 아직 진행 중이거나 로컬과 맞지 않으면 그대로 두고 false 를 반환합니다.
+   */
+  public boolean resolvePending(Payment pending) {
+    PaymentInquiryResponse pgPayment = tossPaymentsClient.inquire(pending.getPaymentKey());
+
+    Boolean resolved = transactionTemplate.execute(status -> {
+      Payment payment = paymentRepository.findWithLockByMerchantUid(pending.getMerchantUid())
+          .orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
+      if (payment.getStatus() != pending.getStatus()
+          || !payment.getStatusChangedAt().equals(pending.getStatusChangedAt())) {
+        return false;
+      }
+      return payment.getStatus() == PaymentStatus.CONFIRMING
+          ? resolveConfirm(payment, pgPayment) : resolveCancel(payment, pgPayment);
+    });
+    return Boolean.TRUE.equals(resolved);
+  }
+
+  private boolean resolveConfirm(Payment payment, PaymentInquiryResponse pgPayment) {
+    switch (pgPayment.status()) {
+      case "DONE" -> {
+        if (!isSamePayment(payment, pgPayment)) {
+          log.error("PG payment differs from local, merchantUid={}, pg={}",
+              payment.getMerchantUid(), pgPayment);
+          return false;
+        }
+        payment.updateStatus(PaymentStatus.PAID);
+        eventPublisher.publishEvent(new PaymentSuccessEvent(payment.getMerchantUid()));
+        return true;
+      }
+      // 승인 요청이 PG 에 닿지 않았거나 거절됨 (클라이언트 마감이 지나 더 나갈 요청도 없음)
+      case "READY", "IN_PROGRESS", "ABORTED", "EXPIRED" -> {
+        fail(payment);
+        return true;
+      }
+      default -> {
+        log.warn("Confirming payment not resolved, merchantUid={}, pgStatus={}",
+            payment.getMerchantUid(), pgPayment.status());
+        return false;
+      }
     }
+  }
 
-    paymentRepository.save(new Payment(merchantUid, payment.getPaymentKey(), payment.getAmount(),
-        PaymentStatus.CANCELED));
+  private boolean resolveCancel(Payment payment, PaymentInquiryResponse pgPayment) {
+    if (!isSamePayment(payment, pgPayment)) {
+      log.error("PG payment differs from local, merchantUid={}, pg={}",
+          payment.getMerchantUid(), pgPayment);
+      return false;
+    }
+    switch (pgPayment.status()) {
+      case "CANCELED" -> {
+        payment.updateStatus(PaymentStatus.CANCELED);
+        eventPublisher.publishEvent(
+            new PaymentCancelSuccessEvent(payment.getMerchantUid(), payment.getCancelPublisher()));
+        return true;
+      }
+      // 취소 요청이 PG 에 닿지 않음 - 주문에서 다시 취소를 요청할 수 있음
+      case "DONE" -> {
+        cancelFailed(payment);
+        return true;
+      }
+      default -> {
+        log.warn("Canceling payment not resolved, merchantUid={}, pgStatus={}",
+            payment.getMerchantUid(), pgPayment.status());
+        return false;
+      }
+    }
+  }
+
+  private boolean isSamePayment(Payment payment, PaymentInquiryResponse pgPayment) {
+    return payment.getPaymentKey().equals(pgPayment.paymentKey())
+        && payment.getMerchantUid().equals(pgPayment.orderId())
+        && payment.getAmount().equals(pgPayment.totalAmount());
+  }
+
+  private void fail(Payment payment) {
+    payment.updateStatus(PaymentStatus.FAILED);
+    eventPublisher.publishEvent(new PaymentFailedEvent(payment.getMerchantUid()));
+  }
 
-    eventPublisher.publishEvent(new PaymentCancelSuccessEvent(payment.getMerchantUid(), publisher));
+  private void cancelFailed(Payment payment) {
+    payment.updateStatus(PaymentStatus.CANCEL_FAILED);
+    eventPublisher.publishEvent(new PaymentCancelFailedEvent(payment.getMerchantUid()));
   }
 
   private Payment getPayment(String merchantUid, PaymentStatus status) {
@@ -1,6 +1,7 @@
 package com.deliveranything.domain.product.product.dto;
 
 import com.deliveranything.domain.product.product.entity.Product;
+import com.deliveranything.domain.product.stock.enums.StockAvailability;
 
 public record ProductResponse(
     Long productId,
@@ -8,17 +9,24 @@ public record ProductResponse(
     String name,
     Integer price,
     Integer availableQuantity,
+    StockAvailability availability,
     String imageUrl
 ) {
 
   public static ProductResponse from(Product product) {
+    return from(product, product.getStock().getAvailableQuantity());
+  }
+
+  // 구매 가능 수량을 캐시에서 읽은 경우 (재고 엔티티를 로딩하지 않음)
+  public static ProductResponse from(Product product, int availableQuantity) {
     return new ProductResponse(
         product.getId(),
         product.getStore().getId(),
         product.getName(),
         product.getPrice(),
-        product.getStock().getAvailableQuantity(),
+        availableQuantity,
+        StockAvailability.of(availableQuantity),
         product.getImageUrl()
     );
   }
-}
\ No newline at end of file
+}
@@ -8,8 +8,18 @@ import com.deliveranything.domain.product.product.dto.ProductUpdateRequest;
 import com.deliveranything.domain.product.product.entity.Product;
 import com.deliveranything.domain.product.product.event.ProductKeywordsChangedEvent;
 import com.deliveranything.domain.product.product.repository.ProductRepository;
+import com.deliveranything.domain.product.stock.engine.StockEngine;
+import com.deliveranything.domain.product.stock.event.StockAvailabilityChangedEvent;
+import com.deliveranything.domain.product.stock.service.StockAvailabilityService;
 import com.deliveranything.domain.store.store.entity.Store;
 import com.deliveranything.domain.store.store.service.StoreService;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Slice;
@@ -23,6 +33,8 @@ public class ProductService {
   private final ProductRepository productRepository;
   private final StoreService storeService;
   private final KeywordGenerationService keywordGenerationService;
+  private final StockEngine stockEngine;
+  private final StockAvailabilityService stockAvailabilityService;
   private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
@@ -40,6 +52,8 @@ public class ProductService {
 
     Product saveProduct = productRepository.save(product);
     keywordGenerationService.generateAndSaveKeywords(saveProduct.getId());
+    eventPublisher.publishEvent(
+        new StockAvailabilityChangedEvent(storeId, List.of(saveProduct.getId())));
 
     return ProductResponse.from(saveProduct);
   }
@@ -53,6 +67,8 @@ public class ProductService {
     eventPublisher.publishEvent(new ProductKeywordsChangedEvent(
         product.getStore().getId(), product.getId()
     ));
+    eventPublisher.publishEvent(
+        new StockAvailabilityChangedEvent(storeId, List.of(product.getId())));
   }
 
   @Transactional
@@ -65,8 +81,11 @@ public class ProductService {
 
     product.update(request.name(), request.description(), request.price(), request.imageUrl());
 
-    if(request.newStockQuantity() != null)
-      product.getStock().setTotalQuantity(request.newStockQuantity());
+    if (request.newStockQuantity() != null) {
+      stockEngine.changeTotal(product.getStock(), request.newStockQuantity());
+      eventPublisher.publishEvent(
+          new StockAvailabilityChangedEvent(storeId, List.of(productId)));
+    }
 
     if (!oldName.equals(request.name()) || !oldDescription.equals(request.description())) {
       keywordGenerationService.generateAndSaveKeywords(product.getId());
@@ -88,11 +107,33 @@ public class ProductService {
 
     Slice<Product> results = productRepository.search(storeId, request);
 
-    return results.map(ProductResponse::from);
+    // 재고는 상품별로 로딩하지 않고 상점 캐시에서 한 번에 조회
+    Map<Long, Integer> quantities = stockAvailabilityService.getAvailableQuantities(storeId,
+        results.getContent().stream().map(Product::getId).toList());
+
+    return results.map(product -> quantities.containsKey(product.getId())
+        ? ProductResponse.from(product, quantities.get(product.getId()))
+        : ProductResponse.from(product));
   }
 
   @Transactional(readOnly = true)
   public Product getProductById(Long productId) {
     return productRepository.getById(productId);
   }
+
+  // 주문 상품을 IN 쿼리 한 번으로 조회 (없는 상품이나 다른 상점 상품이 섞이면 예외)
+  @Transactional(readOnly = true)
+  public Map<Long, Product> getProductsByIds(Long storeId, Collection<Long> productIds) {
+    Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+        .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+    for (Long productId : productIds) {
+      Product product = products.get(productId);
+      if (product == null) {
+        throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+      }
+      product.validateStore(storeId);
+    }
+    return products;
+  }
 }
\ No newline at end of file
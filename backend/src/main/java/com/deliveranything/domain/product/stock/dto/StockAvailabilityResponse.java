@@ -0,0 +1,15 @@
+package com.deliveranything.domain.product.stock.dto;
+
+import com.deliveranything.domain.product.stock.enums.StockAvailability;
+
+public record StockAvailabilityResponse(
+    Long productId,
+    Integer availableQuantity,
+    StockAvailability availability
+) {
+
+  public static StockAvailabilityResponse of(Long productId, int availableQuantity) {
+    return new StockAvailabilityResponse(productId, availableQuantity,
+        StockAvailability.of(availableQuantity));
+  }
+}
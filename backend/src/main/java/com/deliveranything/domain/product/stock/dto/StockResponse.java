@@ -1,15 +1,19 @@
 package com.deliveranything.domain.product.stock.dto;
 
 import com.deliveranything.domain.product.stock.entity.Stock;
+import com.deliveranything.domain.product.stock.enums.StockAvailability;
 
 public record StockResponse(
     Long productId,
-    Integer quantity
+    Integer quantity,
+    StockAvailability availability
 ) {
   public static StockResponse from(Stock stock) {
-    return new StockResponse(
-        stock.getProduct().getId(),
-        stock.getTotalQuantity()
-    );
+    return of(stock.getProduct().getId(), stock.getAvailableQuantity());
   }
-}
\ No newline at end of file
+
+  public static StockResponse of(Long productId, int availableQuantity) {
+    return new StockResponse(productId, availableQuantity,
+        StockAvailability.of(availableQuantity));
+  }
+}
@@ -0,0 +1,11 @@
+package com.deliveranything.domain.product.stock.dto.projection;
+
+import com.deliveranything.domain.product.stock.enums.StockOperation;
+
+public record StockOperationKey(
+    Long orderId,
+    StockOperation operation,
+    Long productId
+) {
+
+}
@@ -0,0 +1,10 @@
+package com.deliveranything.domain.product.stock.dto.projection;
+
+public record StockSnapshot(
+    Long productId,
+    Integer totalQuantity,
+    Integer heldQuantity,
+    Long storeId
+) {
+
+}
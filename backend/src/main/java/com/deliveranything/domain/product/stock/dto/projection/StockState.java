@@ -0,0 +1,11 @@
+package com.deliveranything.domain.product.stock.dto.projection;
+
+public record StockState(
+    Long productId,
+    Long storeId,
+    Integer totalQuantity,
+    Integer heldQuantity,
+    Integer version
+) {
+
+}
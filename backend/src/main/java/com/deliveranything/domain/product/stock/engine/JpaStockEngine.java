@@ -0,0 +1,103 @@
+package com.deliveranything.domain.product.stock.engine;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.stock.dto.projection.StockSnapshot;
+import com.deliveranything.domain.product.stock.dto.projection.StockState;
+import com.deliveranything.domain.product.stock.entity.Stock;
+import com.deliveranything.domain.product.stock.enums.StockOperation;
+import com.deliveranything.domain.product.stock.repository.StockJdbcRepository;
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 조건부 UPDATE 기반 재고 엔진 (기본값)
+ * <p>
+ * 주문 상품 전체를 IN 쿼리 한 번으로 검증한 뒤, 상품별 조건부 UPDATE 를 JDBC batch 한 번으로 보냅니다. 재고 판단이 UPDATE 조건 안에서
+ * 이루어지므로 엔티티를 읽지 않고 낙관적 락 재시도도 없습니다. 일부 상품만 조건을 만족하면 반영된 행을 같은 트랜잭션에서 되돌립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.stock.engine", havingValue = "jpa", matchIfMissing = true)
+public class JpaStockEngine implements StockEngine {
+
+  private final StockRepository stockRepository;
+  private final StockJdbcRepository stockJdbcRepository;
+
+  @Override
+  public void reserve(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    apply(StockOperation.RESERVE, storeId, items);
+  }
+
+  @Override
+  public void commit(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    apply(StockOperation.COMMIT, storeId, items);
+  }
+
+  @Override
+  public void release(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    apply(StockOperation.RELEASE, storeId, items);
+  }
+
+  @Override
+  public void replenish(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    apply(StockOperation.REPLENISH, storeId, items);
+  }
+
+  @Override
+  public void changeTotal(Stock stock, int totalQuantity) {
+    stock.setTotalQuantity(totalQuantity);
+  }
+
+  @Override
+  public List<StockSnapshot> findSnapshots(Collection<Long> productIds) {
+    return stockRepository.findSnapshotsByProductIdIn(productIds);
+  }
+
+  private void apply(StockOperation operation, Long storeId, List<OrderItemInfo> items) {
+    // 상품 ID 순서로 UPDATE 해 여러 상품을 담은 주문끼리 교착 상태에 빠지지 않도록 함
+    Map<Long, Integer> quantities = new TreeMap<>(StockEngine.quantitiesByProduct(items));
+    validateStore(storeId, quantities);
+
+    boolean[] updated = stockJdbcRepository.applyIfSufficient(operation, quantities);
+
+    Map<Long, Integer> applied = new LinkedHashMap<>();
+    int index = 0;
+    for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+      if (updated[index++]) {
+        applied.put(entry.getKey(), entry.getValue());
+      }
+    }
+    if (applied.size() == quantities.size()) {
+      return;
+    }
+
+    log.debug("Stock {} rejected for {} of {} products", operation,
+        quantities.size() - applied.size(), quantities.size());
+    stockJdbcRepository.revert(operation, applied);
+    throw new CustomException(operation == StockOperation.RESERVE
+        ? ErrorCode.PRODUCT_OUT_OF_STOCK : ErrorCode.STOCK_CHANGE_INVALID);
+  }
+
+  private void validateStore(Long storeId, Map<Long, Integer> quantities) {
+    List<StockState> states = stockRepository.findStatesByProductIdIn(quantities.keySet());
+    if (states.size() != quantities.size()) {
+      throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+    }
+    for (StockState state : states) {
+      if (!state.storeId().equals(storeId)) {
+        throw new CustomException(ErrorCode.PRODUCT_STORE_MISMATCH);
+      }
+    }
+  }
+}
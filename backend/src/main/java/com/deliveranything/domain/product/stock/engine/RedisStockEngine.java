@@ -0,0 +1,114 @@
+package com.deliveranything.domain.product.stock.engine;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.stock.dto.projection.StockSnapshot;
+import com.deliveranything.domain.product.stock.entity.Stock;
+import com.deliveranything.domain.product.stock.enums.StockOperation;
+import com.deliveranything.domain.product.stock.event.StockTotalChangedEvent;
+import com.deliveranything.domain.product.stock.repository.StockRedisRepository;
+import com.deliveranything.domain.product.stock.repository.StockRedisRepository.ApplyResult;
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Redis 기반 재고 엔진
+ * <p>
+ * 재고 판단과 변경은 Redis Lua 스크립트 한 번으로 끝나므로 같은 상품에 주문이 몰려도 락 충돌/재시도가 없습니다. MySQL {@code stocks} 는
+ * {@code StockReconcileScheduler} 가 비동기로 따라잡는 사본이 되며, 캐시가 없는 상품은 첫 명령 시 DB 값으로 채웁니다. 주문·명령별 적용
+ * 마커로 같은 이벤트가 재전달되어도 한 번만 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.stock.engine", havingValue = "redis")
+public class RedisStockEngine implements StockEngine {
+
+  private final StockRedisRepository stockRedisRepository;
+  private final StockRepository stockRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Override
+  public void reserve(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    apply(StockOperation.RESERVE, orderId, storeId, items);
+  }
+
+  @Override
+  public void commit(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    apply(StockOperation.COMMIT, orderId, storeId, items);
+  }
+
+  @Override
+  public void release(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    apply(StockOperation.RELEASE, orderId, storeId, items);
+  }
+
+  @Override
+  public void replenish(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    apply(StockOperation.REPLENISH, orderId, storeId, items);
+  }
+
+  @Override
+  public void changeTotal(Stock stock, int totalQuantity) {
+    Long productId = stock.getProduct().getId();
+    Integer held = stockRedisRepository.getHeldQuantity(productId);
+    if (held != null && totalQuantity < held) {
+      throw new CustomException(ErrorCode.STOCK_CHANGE_INVALID);
+    }
+
+    stock.setTotalQuantity(totalQuantity);
+    eventPublisher.publishEvent(new StockTotalChangedEvent(productId, totalQuantity));
+  }
+
+  // DB 는 비동기로 따라잡으므로 Redis 값을 우선하고, 캐시가 없는 상품만 DB 에서 읽음
+  @Override
+  public List<StockSnapshot> findSnapshots(Collection<Long> productIds) {
+    List<StockSnapshot> snapshots = new ArrayList<>(
+        stockRedisRepository.findSnapshots(List.copyOf(productIds)));
+    if (snapshots.size() < productIds.size()) {
+      List<Long> cached = snapshots.stream().map(StockSnapshot::productId).toList();
+      snapshots.addAll(stockRepository.findSnapshotsByProductIdIn(productIds.stream()
+          .filter(productId -> !cached.contains(productId))
+          .toList()));
+    }
+    return snapshots;
+  }
+
+  // DB 커밋 이후에 Redis 에 반영 (롤백된 변경이 캐시에 남지 않도록)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onTotalChanged(StockTotalChangedEvent event) {
+    stockRedisRepository.setTotalIfPresent(event.productId(), event.totalQuantity());
+  }
+
+  private void apply(StockOperation operation, Long orderId, Long storeId,
+      List<OrderItemInfo> items) {
+    Map<Long, Integer> quantities = StockEngine.quantitiesByProduct(items);
+
+    ApplyResult result = stockRedisRepository.apply(operation, orderId, storeId, quantities);
+    if (result.status() == StockRedisRepository.ApplyStatus.MISSING) {
+      // 캐시가 없는 상품만 DB 에서 한 번에 읽어 채운 뒤 재시도
+      stockRedisRepository.seed(stockRepository.findSnapshotsByProductIdIn(result.productIds()));
+      result = stockRedisRepository.apply(operation, orderId, storeId, quantities);
+    }
+
+    switch (result.status()) {
+      case APPLIED -> log.debug("Stock {} applied, orderId={}", operation, orderId);
+      case ALREADY_APPLIED -> log.info("Stock {} already applied, orderId={}", operation, orderId);
+      case MISSING -> throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+      case STORE_MISMATCH -> throw new CustomException(ErrorCode.PRODUCT_STORE_MISMATCH);
+      case INSUFFICIENT -> throw new CustomException(operation == StockOperation.RESERVE
+          ? ErrorCode.PRODUCT_OUT_OF_STOCK : ErrorCode.STOCK_CHANGE_INVALID);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.deliveranything.domain.product.stock.engine;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.stock.dto.projection.StockSnapshot;
+import com.deliveranything.domain.product.stock.entity.Stock;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 단위 재고 명령 처리기
+ * <p>
+ * 모든 명령은 주문의 상품 전체에 대해 all-or-nothing 으로 적용되며, 실패 시 아무 것도 반영하지 않고 {@code CustomException} 을 던집니다.
+ * 구현체는 {@code custom.stock.engine} 설정으로 선택합니다 (기본값 jpa).
+ */
+public interface StockEngine {
+
+  // 재고 예약 (주문 생성)
+  void reserve(Long orderId, Long storeId, List<OrderItemInfo> items);
+
+  // 예약분 차감 확정 (결제 성공)
+  void commit(Long orderId, Long storeId, List<OrderItemInfo> items);
+
+  // 예약 해제 (결제 실패)
+  void release(Long orderId, Long storeId, List<OrderItemInfo> items);
+
+  // 차감분 복구 (주문 취소)
+  void replenish(Long orderId, Long storeId, List<OrderItemInfo> items);
+
+  // 관리자 재고 수량 변경
+  void changeTotal(Stock stock, int totalQuantity);
+
+  // 상품별 현재 재고 조회 (구매 가능 수량 캐시 갱신용, 없는 상품은 결과에서 빠짐)
+  List<StockSnapshot> findSnapshots(Collection<Long> productIds);
+
+  // 같은 상품이 여러 줄로 들어온 경우 수량 합산 (상품별 검증을 한 번에 하기 위함)
+  static Map<Long, Integer> quantitiesByProduct(List<OrderItemInfo> items) {
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    for (OrderItemInfo item : items) {
+      quantities.merge(item.productId(), item.quantity(), Integer::sum);
+    }
+    return quantities;
+  }
+}
@@ -0,0 +1,347 @@
+package com.deliveranything.domain.product.stock.engine;
+
+import com.deliveranything.domain.product.stock.dto.projection.StockOperationKey;
+import com.deliveranything.domain.product.stock.dto.projection.StockState;
+import com.deliveranything.domain.product.stock.enums.StockOperation;
+import com.deliveranything.domain.product.stock.repository.StockJdbcRepository;
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 재고 명령 단일 작성자 큐 (스트라이프 하나)
+ * <p>
+ * 같은 스트라이프로 라우팅된 상품의 명령은 하나의 Virtual Thread 가 큐 순서대로 메모리 상태에 적용한 뒤, 한 번에 꺼낸 명령들의 변경을
+ * version 조건부 JDBC batch 로 묶어 기록합니다 (group commit). 다른 노드가 먼저 변경해 version 이 어긋나면 배치 전체를 롤백하고 캐시를 비운
+ * 뒤 해당 명령들을 STOCK_CHANGE_CONFLICT 로 실패시킵니다.
+ * <p>
+ * 주문 명령의 상품별 적용 기록은 같은 배치 트랜잭션에 저장하고 적용 전에 DB 에서 확인합니다. 호출자 트랜잭션이 롤백되거나 다른 노드로 재전달돼도
+ * 한 번만 반영됩니다. 호출자가 기다리다 포기한 명령은 적용하지 않습니다.
+ */
+@Slf4j
+class StockStripe {
+
+  private final int index;
+  private final int batchSize;
+  private final StockRepository stockRepository;
+  private final StockJdbcRepository stockJdbcRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  private final BlockingQueue<StockCommand> queue = new LinkedBlockingQueue<>();
+  // 워커 스레드만 값을 변경, 관리자 수량 변경 시에는 외부에서 제거만 함
+  private final Map<Long, CachedStock> cache = new ConcurrentHashMap<>();
+
+  private volatile boolean running;
+  private Thread worker;
+
+  StockStripe(int index, int batchSize, StockRepository stockRepository,
+      StockJdbcRepository stockJdbcRepository, TransactionTemplate transactionTemplate) {
+    this.index = index;
+    this.batchSize = batchSize;
+    this.stockRepository = stockRepository;
+    this.stockJdbcRepository = stockJdbcRepository;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  void start() {
+    running = true;
+    worker = Thread.ofVirtual().name("stock-stripe-" + index).start(this::run);
+  }
+
+  void stop() {
+    running = false;
+    if (worker != null) {
+      worker.interrupt();
+    }
+  }
+
+  CompletableFuture<Void> submit(StockCommand command) {
+    if (!running) {
+      command.result().completeExceptionally(
+          new IllegalStateException("Stock stripe " + index + " is not running"));
+      return command.result();
+    }
+    queue.add(command);
+    return command.result();
+  }
+
+  void evict(Long productId) {
+    cache.remove(productId);
+  }
+
+  private void run() {
+    List<StockCommand> batch = new ArrayList<>(batchSize);
+    while (running) {
+      try {
+        StockCommand first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        process(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (Exception e) {
+        log.error("Stock stripe {} failed to process {} commands", index, batch.size(), e);
+        batch.forEach(command -> command.result().completeExceptionally(e));
+        cache.clear();
+      } finally {
+        batch.clear();
+      }
+    }
+
+    // 종료 시 남은 명령은 실패 처리 (이벤트는 ACK 되지 않아 재전달됨)
+    queue.forEach(command -> command.result().completeExceptionally(
+        new IllegalStateException("Stock stripe " + index + " stopped")));
+  }
+
+  void process(List<StockCommand> batch) {
+    // 호출자가 기다리다 포기해 취소한 명령은 적용하지 않음
+    List<StockCommand> live = batch.stream()
+        .filter(command -> !command.result().isDone())
+        .toList();
+    if (live.isEmpty()) {
+      return;
+    }
+
+    Map<Long, CachedStock> stocks = resolve(live);
+    Set<StockOperationKey> recorded = new HashSet<>(stockJdbcRepository.findOperationRecords(
+        live.stream().map(StockCommand::orderId).collect(Collectors.toSet())));
+
+    List<StockCommand> appliedCommands = new ArrayList<>(live.size());
+    Set<StockOperationKey> inserts = new LinkedHashSet<>();
+    Set<StockOperationKey> deletes = new LinkedHashSet<>();
+    Map<Long, CachedStock> touched = new LinkedHashMap<>();
+    for (StockCommand command : live) {
+      try {
+        boolean applied = command.compensation()
+            ? compensate(command, stocks, touched, recorded, inserts, deletes)
+            : applyOnce(command, stocks, touched, recorded, inserts);
+        if (applied) {
+          appliedCommands.add(command);
+        } else {
+          command.result().complete(null);
+        }
+      } catch (CustomException e) {
+        command.result().completeExceptionally(e);
+      }
+    }
+
+    if (touched.isEmpty()) {
+      appliedCommands.forEach(command -> command.result().complete(null));
+      return;
+    }
+
+    List<StockState> states = touched.values().stream().map(CachedStock::toState).toList();
+    Boolean written;
+    try {
+      written = transactionTemplate.execute(status -> {
+        if (!stockJdbcRepository.updateQuantitiesIfVersionMatches(states)) {
+          status.setRollbackOnly();
+          return false;
+        }
+        stockJdbcRepository.deleteOperationRecords(deletes);
+        stockJdbcRepository.insertOperationRecords(inserts);
+        return true;
+      });
+    } catch (DataIntegrityViolationException e) {
+      // 다른 노드가 같은 주문 명령을 먼저 기록함 (배치 전체 롤백, 재전달 시 기록을 보고 건너뜀)
+      written = false;
+    }
+
+    if (!Boolean.TRUE.equals(written)) {
+      log.warn("Stock stripe {} conflict on {} products, reloading", index, touched.size());
+      touched.keySet().forEach(cache::remove);
+      CustomException conflict = new CustomException(ErrorCode.STOCK_CHANGE_CONFLICT);
+      appliedCommands.forEach(command -> command.result().completeExceptionally(conflict));
+      return;
+    }
+
+    touched.values().forEach(CachedStock::committed);
+    appliedCommands.forEach(command -> command.result().complete(null));
+  }
+
+  /**
+   * 적용 기록이 없는 상품만 적용하고 기록 대상에 추가
+   *
+   * @return 이 배치에서 기록될 명령인지 여부 (false 면 이미 모두 적용되어 있음)
+   */
+  private boolean applyOnce(StockCommand command, Map<Long, CachedStock> stocks,
+      Map<Long, CachedStock> touched, Set<StockOperationKey> recorded,
+      Set<StockOperationKey> inserts) {
+    Map<Long, Integer> remaining = new LinkedHashMap<>();
+    boolean pending = false;
+    for (Map.Entry<Long, Integer> entry : command.quantities().entrySet()) {
+      StockOperationKey key = command.keyOf(command.operation(), entry.getKey());
+      if (inserts.contains(key)) {
+        // 같은 배치에 먼저 적용된 명령과 결과를 함께함
+        pending = true;
+      } else if (!recorded.contains(key)) {
+        remaining.put(entry.getKey(), entry.getValue());
+      }
+    }
+    if (remaining.isEmpty()) {
+      return pending;
+    }
+
+    apply(command.operation(), command.storeId(), remaining, stocks, touched);
+    remaining.keySet().forEach(
+        productId -> inserts.add(command.keyOf(command.operation(), productId)));
+    return true;
+  }
+
+  /**
+   * 이 스트라이프에 예약이 적용된 상품만 해제하고 예약 기록을 지움
+   *
+   * @return 해제한 상품이 있는지 여부
+   */
+  private boolean compensate(StockCommand command, Map<Long, CachedStock> stocks,
+      Map<Long, CachedStock> touched, Set<StockOperationKey> recorded,
+      Set<StockOperationKey> inserts, Set<StockOperationKey> deletes) {
+    Map<Long, Integer> reserved = new LinkedHashMap<>();
+    command.quantities().forEach((productId, quantity) -> {
+      StockOperationKey key = command.keyOf(StockOperation.RESERVE, productId);
+      if (inserts.contains(key) || recorded.contains(key)) {
+        reserved.put(productId, quantity);
+      }
+    });
+    if (reserved.isEmpty()) {
+      return false;
+    }
+
+    apply(StockOperation.RELEASE, command.storeId(), reserved, stocks, touched);
+    reserved.keySet().forEach(productId -> {
+      StockOperationKey key = command.keyOf(StockOperation.RESERVE, productId);
+      if (!inserts.remove(key)) {
+        recorded.remove(key);
+        deletes.add(key);
+      }
+    });
+    return true;
+  }
+
+  // 배치에 필요한 재고를 모으고, 캐시에 없는 상품은 배치당 한 번의 IN 쿼리로 적재
+  private Map<Long, CachedStock> resolve(List<StockCommand> batch) {
+    Map<Long, CachedStock> stocks = new HashMap<>();
+    Set<Long> missing = new HashSet<>();
+    for (StockCommand command : batch) {
+      for (Long productId : command.quantities().keySet()) {
+        CachedStock stock = cache.get(productId);
+        if (stock == null) {
+          missing.add(productId);
+        } else {
+          stocks.put(productId, stock);
+        }
+      }
+    }
+    if (!missing.isEmpty()) {
+      stockRepository.findStatesByProductIdIn(missing).forEach(state -> {
+        CachedStock stock = new CachedStock(state);
+        cache.put(state.productId(), stock);
+        stocks.put(state.productId(), stock);
+      });
+    }
+    return stocks;
+  }
+
+  // 명령 하나를 all-or-nothing 으로 메모리 상태에 반영
+  private void apply(StockOperation operation, Long storeId, Map<Long, Integer> quantities,
+      Map<Long, CachedStock> stocks, Map<Long, CachedStock> touched) {
+    quantities.forEach((productId, quantity) -> {
+      CachedStock stock = stocks.get(productId);
+      if (stock == null) {
+        throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+      }
+      if (!stock.storeId.equals(storeId)) {
+        throw new CustomException(ErrorCode.PRODUCT_STORE_MISMATCH);
+      }
+      if (!stock.canApply(operation, quantity)) {
+        throw new CustomException(operation == StockOperation.RESERVE
+            ? ErrorCode.PRODUCT_OUT_OF_STOCK : ErrorCode.STOCK_CHANGE_INVALID);
+      }
+    });
+
+    quantities.forEach((productId, quantity) -> {
+      CachedStock stock = stocks.get(productId);
+      stock.apply(operation, quantity);
+      touched.put(productId, stock);
+    });
+  }
+
+  /**
+   * @param compensation 다른 스트라이프 실패로 예약을 되돌리는 명령 여부 (예약 기록이 있는 상품만 해제하고 기록을 지움)
+   */
+  record StockCommand(StockOperation operation, Long orderId, Long storeId,
+                      Map<Long, Integer> quantities, boolean compensation,
+                      CompletableFuture<Void> result) {
+
+    StockOperationKey keyOf(StockOperation operation, Long productId) {
+      return new StockOperationKey(orderId, operation, productId);
+    }
+  }
+
+  private static final class CachedStock {
+
+    private final Long productId;
+    private final Long storeId;
+    private int total;
+    private int held;
+    private int version;
+
+    private CachedStock(StockState state) {
+      this.productId = state.productId();
+      this.storeId = state.storeId();
+      this.total = state.totalQuantity();
+      this.held = state.heldQuantity();
+      this.version = state.version();
+    }
+
+    private boolean canApply(StockOperation operation, int quantity) {
+      return switch (operation) {
+        case RESERVE -> total - held >= quantity;
+        case COMMIT, RELEASE -> held >= quantity;
+        case REPLENISH -> true;
+      };
+    }
+
+    private void apply(StockOperation operation, int quantity) {
+      switch (operation) {
+        case RESERVE -> held += quantity;
+        case COMMIT -> {
+          held -= quantity;
+          total -= quantity;
+        }
+        case RELEASE -> held -= quantity;
+        case REPLENISH -> total += quantity;
+      }
+    }
+
+    private StockState toState() {
+      return new StockState(productId, storeId, total, held, version);
+    }
+
+    // DB 반영 성공 후 version 동기화 (UPDATE 에서 +1)
+    private void committed() {
+      version++;
+    }
+  }
+}
@@ -0,0 +1,186 @@
+package com.deliveranything.domain.product.stock.engine;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.stock.engine.StockStripe.StockCommand;
+import com.deliveranything.domain.product.stock.dto.projection.StockSnapshot;
+import com.deliveranything.domain.product.stock.entity.Stock;
+import com.deliveranything.domain.product.stock.enums.StockOperation;
+import com.deliveranything.domain.product.stock.event.StockTotalChangedEvent;
+import com.deliveranything.domain.product.stock.repository.StockJdbcRepository;
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import com.deliveranything.global.exception.CustomException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품별 단일 작성자 재고 엔진
+ * <p>
+ * 상품 ID 로 스트라이프를 골라 명령을 큐에 넣고, 스트라이프마다 하나의 Virtual Thread 가 순서대로 처리합니다. 같은 상품에 대한 명령이 서로
+ * 경쟁하지 않으므로 낙관적 락 재시도가 없고, 한 번에 꺼낸 명령들은 JDBC batch 한 번으로 기록됩니다. 여러 스트라이프에 걸친 예약은 스트라이프별로
+ * 적용한 뒤 하나라도 실패하면 예약 해제를 보내 되돌립니다.
+ * <p>
+ * 스트라이프는 호출자와 별도의 트랜잭션으로 커밋하므로, 중복 적용은 스트라이프가 같은 배치 트랜잭션에 남기는 상품별 적용 기록
+ * (stock_product_operation_records)으로 막습니다. 호출자 트랜잭션이 롤백돼 이벤트가 재전달되면 기록된 상품은 건너뜁니다.
+ * <p>
+ * 여러 노드가 같은 상품을 처리하면 version 충돌로 감지되어 재전달되므로 정합성은 유지되지만, 처리량을 얻으려면 상품 단위로 노드를 나눠
+ * 라우팅해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.stock.engine", havingValue = "striped")
+public class StripedStockEngine implements StockEngine {
+
+  private final StockRepository stockRepository;
+  private final StockJdbcRepository stockJdbcRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Value("${custom.stock.striped.stripes:16}")
+  private int stripeCount;
+
+  @Value("${custom.stock.striped.batch-size:100}")
+  private int batchSize;
+
+  @Value("${custom.stock.striped.command-timeout:5s}")
+  private Duration commandTimeout;
+
+  private List<StockStripe> stripes;
+
+  @PostConstruct
+  public void start() {
+    stripes = new ArrayList<>(stripeCount);
+    for (int i = 0; i < stripeCount; i++) {
+      StockStripe stripe = new StockStripe(i, batchSize, stockRepository, stockJdbcRepository,
+          transactionTemplate);
+      stripe.start();
+      stripes.add(stripe);
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    stripes.forEach(StockStripe::stop);
+  }
+
+  @Override
+  public void reserve(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    Map<StockStripe, Map<Long, Integer>> byStripe = route(items);
+    Map<StockStripe, CompletableFuture<Void>> results = submit(StockOperation.RESERVE, orderId,
+        storeId, byStripe);
+
+    RuntimeException failure = null;
+    for (CompletableFuture<Void> result : results.values()) {
+      try {
+        await(result);
+      } catch (RuntimeException e) {
+        failure = failure == null ? e : failure;
+      }
+    }
+
+    if (failure != null) {
+      // 모든 스트라이프에 되돌리기를 보냄 - 기다리다 포기한 스트라이프도 늦게 적용했을 수 있으므로, 예약 기록이 있는 상품만 해제
+      log.warn("Stock reservation failed for order {}, releasing reserved stripes", orderId);
+      byStripe.forEach((stripe, quantities) -> stripe.submit(new StockCommand(
+          StockOperation.RELEASE, orderId, storeId, quantities, true, new CompletableFuture<>())));
+      throw failure;
+    }
+  }
+
+  @Override
+  public void commit(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    execute(StockOperation.COMMIT, orderId, storeId, items);
+  }
+
+  @Override
+  public void release(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    execute(StockOperation.RELEASE, orderId, storeId, items);
+  }
+
+  @Override
+  public void replenish(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    execute(StockOperation.REPLENISH, orderId, storeId, items);
+  }
+
+  @Override
+  public void changeTotal(Stock stock, int totalQuantity) {
+    stock.setTotalQuantity(totalQuantity);
+    eventPublisher.publishEvent(
+        new StockTotalChangedEvent(stock.getProduct().getId(), totalQuantity));
+  }
+
+  // 스트라이프는 배치를 DB 에 커밋한 뒤 명령을 완료하므로 DB 값이 최신
+  @Override
+  public List<StockSnapshot> findSnapshots(Collection<Long> productIds) {
+    return stockRepository.findSnapshotsByProductIdIn(productIds);
+  }
+
+  // 관리자 변경이 커밋되면 캐시를 비워 다음 명령에서 DB 값을 다시 읽음
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onTotalChanged(StockTotalChangedEvent event) {
+    stripeOf(event.productId()).evict(event.productId());
+  }
+
+  private void execute(StockOperation operation, Long orderId, Long storeId,
+      List<OrderItemInfo> items) {
+    submit(operation, orderId, storeId, route(items)).values().forEach(this::await);
+  }
+
+  private Map<StockStripe, Map<Long, Integer>> route(List<OrderItemInfo> items) {
+    Map<StockStripe, Map<Long, Integer>> byStripe = new LinkedHashMap<>();
+    StockEngine.quantitiesByProduct(items).forEach((productId, quantity) ->
+        byStripe.computeIfAbsent(stripeOf(productId), k -> new LinkedHashMap<>())
+            .put(productId, quantity));
+    return byStripe;
+  }
+
+  private Map<StockStripe, CompletableFuture<Void>> submit(StockOperation operation, Long orderId,
+      Long storeId, Map<StockStripe, Map<Long, Integer>> byStripe) {
+    Map<StockStripe, CompletableFuture<Void>> results = new LinkedHashMap<>();
+    byStripe.forEach((stripe, quantities) -> results.put(stripe, stripe.submit(
+        new StockCommand(operation, orderId, storeId, quantities, false,
+            new CompletableFuture<>()))));
+    return results;
+  }
+
+  private StockStripe stripeOf(Long productId) {
+    return stripes.get(Math.floorMod(productId.hashCode(), stripes.size()));
+  }
+
+  private void await(CompletableFuture<Void> result) {
+    try {
+      result.get(commandTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      // 아직 큐에 있으면 스트라이프가 적용하지 않도록 취소
+      result.cancel(false);
+      throw new IllegalStateException("Stock command timed out after " + commandTimeout, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for stock command", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof CustomException customException) {
+        throw customException;
+      }
+      throw new IllegalStateException("Stock command failed", e.getCause());
+    }
+  }
+}
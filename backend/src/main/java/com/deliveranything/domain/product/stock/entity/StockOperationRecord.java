@@ -0,0 +1,39 @@
+package com.deliveranything.domain.product.stock.entity;
+
+import com.deliveranything.domain.product.stock.enums.StockOperation;
+import com.deliveranything.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 주문별 재고 명령 적용 기록 - 재고 변경과 같은 트랜잭션에 저장되고 (주문, 명령) 유니크 키로 중복 적용을 막음
+@Entity
+@Getter
+@Table(
+    name = "stock_operation_records",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_stock_operation_records_order_id_operation",
+        columnNames = {"order_id", "operation"}
+    )
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockOperationRecord extends BaseEntity {
+
+  @Column(nullable = false)
+  private Long orderId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private StockOperation operation;
+
+  public StockOperationRecord(Long orderId, StockOperation operation) {
+    this.orderId = orderId;
+    this.operation = operation;
+  }
+}
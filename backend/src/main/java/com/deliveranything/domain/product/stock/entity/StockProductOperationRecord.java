@@ -0,0 +1,38 @@
+package com.deliveranything.domain.product.stock.entity;
+
+import com.deliveranything.domain.product.stock.enums.StockOperation;
+import com.deliveranything.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 상품별 재고 명령 적용 기록 - StripedStockEngine 이 스트라이프 배치 트랜잭션에서 재고 변경과 함께 JDBC 로 기록하고 적용 전에 확인
+// 스트라이프 수가 바뀌어도 같은 상품의 기록을 찾을 수 있도록 스트라이프가 아닌 상품 단위로 남김
+@Entity
+@Getter
+@Table(
+    name = "stock_product_operation_records",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_stock_product_operation_records_order_operation_product",
+        columnNames = {"order_id", "operation", "product_id"}
+    )
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockProductOperationRecord extends BaseEntity {
+
+  @Column(nullable = false)
+  private Long orderId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private StockOperation operation;
+
+  @Column(nullable = false)
+  private Long productId;
+}
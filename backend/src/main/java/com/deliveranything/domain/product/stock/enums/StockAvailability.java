@@ -0,0 +1,17 @@
+package com.deliveranything.domain.product.stock.enums;
+
+public enum StockAvailability {
+  IN_STOCK,  // 구매 가능
+  LOW,       // 품절 임박
+  SOLD_OUT;  // 품절
+
+  // 남은 수량이 이 값 이하이면 품절 임박
+  public static final int LOW_STOCK_THRESHOLD = 5;
+
+  public static StockAvailability of(int availableQuantity) {
+    if (availableQuantity <= 0) {
+      return SOLD_OUT;
+    }
+    return availableQuantity <= LOW_STOCK_THRESHOLD ? LOW : IN_STOCK;
+  }
+}
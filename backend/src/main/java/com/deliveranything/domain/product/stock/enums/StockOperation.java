@@ -0,0 +1,8 @@
+package com.deliveranything.domain.product.stock.enums;
+
+public enum StockOperation {
+  RESERVE,   // 예약 (held += q)
+  COMMIT,    // 확정 (held -= q, total -= q)
+  RELEASE,   // 예약 해제 (held -= q)
+  REPLENISH  // 복구 (total += q)
+}
@@ -0,0 +1,13 @@
+package com.deliveranything.domain.product.stock.event;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import java.util.List;
+
+// 구매 가능 수량 변경 (노드 내부 이벤트 - 커밋 후 재고 상태 캐시 갱신용)
+public record StockAvailabilityChangedEvent(Long storeId, List<Long> productIds) {
+
+  public static StockAvailabilityChangedEvent of(Long storeId, List<OrderItemInfo> items) {
+    return new StockAvailabilityChangedEvent(storeId,
+        items.stream().map(OrderItemInfo::productId).distinct().toList());
+  }
+}
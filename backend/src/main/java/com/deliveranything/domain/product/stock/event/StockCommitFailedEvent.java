@@ -0,0 +1,6 @@
+package com.deliveranything.domain.product.stock.event;
+
+// 결제는 승인됐지만 예약이 이미 만료 해제되어 재고를 확정하지 못함 (주문 측이 결제를 환불)
+public record StockCommitFailedEvent(Long orderId, String reason) {
+
+}
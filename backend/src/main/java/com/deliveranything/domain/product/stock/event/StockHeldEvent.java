@@ -0,0 +1,9 @@
+package com.deliveranything.domain.product.stock.event;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import java.util.List;
+
+// 재고 예약 완료 (노드 내부 이벤트 - 커밋 후 만료 인덱스 등록용)
+public record StockHeldEvent(Long orderId, Long storeId, List<OrderItemInfo> items) {
+
+}
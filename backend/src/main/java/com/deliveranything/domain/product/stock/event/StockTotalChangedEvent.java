@@ -0,0 +1,6 @@
+package com.deliveranything.domain.product.stock.event;
+
+// 관리자 재고 수량 변경 (노드 내부 이벤트 - 스트림으로 발행하지 않음)
+public record StockTotalChangedEvent(Long productId, int totalQuantity) {
+
+}
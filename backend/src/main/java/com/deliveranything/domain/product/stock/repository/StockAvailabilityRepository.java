@@ -0,0 +1,120 @@
+package com.deliveranything.domain.product.stock.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 상점별 구매 가능 수량 캐시 (Redis)
+ * <p>
+ * 상점마다 {@code stock:availability:{storeId}} 해시(상품 ID → 구매 가능 수량)를 둡니다. 재고 변경 이벤트가 커밋 후 값을 덮어쓰고, 조회
+ * 시 비어 있는 상품만 채워 넣으므로 상품 목록 조회가 재고 테이블을 읽지 않습니다. 이벤트를 놓쳐도 TTL 이 지나면 다시 채워집니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockAvailabilityRepository {
+
+  private static final String KEY_PREFIX = "stock:availability:";
+  private static final long TTL_SECONDS = TimeUnit.MINUTES.toSeconds(30);
+
+  // ARGV[1]: TTL, ARGV[2i], ARGV[2i+1]: 상품 ID, 수량 ('' 이면 삭제)
+  // 반환: 상품별 이전 수량 (없으면 '')
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> PUT_SCRIPT = new DefaultRedisScript<>("""
+      local previous = {}
+      for i = 2, #ARGV, 2 do
+        previous[#previous + 1] = redis.call('HGET', KEYS[1], ARGV[i]) or ''
+        if ARGV[i + 1] == '' then
+          redis.call('HDEL', KEYS[1], ARGV[i])
+        else
+          redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+        end
+      end
+      redis.call('EXPIRE', KEYS[1], ARGV[1])
+      return previous
+      """, List.class);
+
+  // 조회 시 채우기 - 그 사이 이벤트가 쓴 최신 값을 덮어쓰지 않도록 비어 있는 필드만 기록
+  private static final RedisScript<Long> PUT_IF_ABSENT_SCRIPT = new DefaultRedisScript<>("""
+      for i = 2, #ARGV, 2 do
+        redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1])
+      end
+      if redis.call('TTL', KEYS[1]) < 0 then
+        redis.call('EXPIRE', KEYS[1], ARGV[1])
+      end
+      return 1
+      """, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  /**
+   * 캐시된 상품만 반환 (없는 상품은 결과에서 빠짐)
+   */
+  public Map<Long, Integer> findAll(Long storeId, List<Long> productIds) {
+    Map<Long, Integer> quantities = new HashMap<>();
+    if (productIds.isEmpty()) {
+      return quantities;
+    }
+
+    List<Object> values = redisTemplate.opsForHash()
+        .multiGet(KEY_PREFIX + storeId, productIds.stream().map(String::valueOf)
+            .map(Object.class::cast).toList());
+    for (int i = 0; i < productIds.size() && i < values.size(); i++) {
+      if (values.get(i) != null) {
+        quantities.put(productIds.get(i), Integer.valueOf(values.get(i).toString()));
+      }
+    }
+    return quantities;
+  }
+
+  public void putIfAbsent(Long storeId, Map<Long, Integer> quantities) {
+    if (quantities.isEmpty()) {
+      return;
+    }
+    redisTemplate.execute(PUT_IF_ABSENT_SCRIPT, List.of(KEY_PREFIX + storeId),
+        args(quantities).toArray());
+  }
+
+  /**
+   * 수량을 덮어쓰고 이전 값을 반환 (수량이 null 인 상품은 삭제)
+   */
+  @SuppressWarnings("unchecked")
+  public Map<Long, Integer> put(Long storeId, Map<Long, Integer> quantities) {
+    Map<Long, Integer> previous = new HashMap<>();
+    if (quantities.isEmpty()) {
+      return previous;
+    }
+
+    List<Object> replies = redisTemplate.execute(PUT_SCRIPT, List.of(KEY_PREFIX + storeId),
+        args(quantities).toArray());
+    if (replies == null) {
+      return previous;
+    }
+
+    int i = 0;
+    for (Long productId : quantities.keySet()) {
+      if (i < replies.size() && !replies.get(i).toString().isEmpty()) {
+        previous.put(productId, Integer.valueOf(replies.get(i).toString()));
+      }
+      i++;
+    }
+    return previous;
+  }
+
+  private static List<String> args(Map<Long, Integer> quantities) {
+    List<String> args = new ArrayList<>(quantities.size() * 2 + 1);
+    args.add(String.valueOf(TTL_SECONDS));
+    quantities.forEach((productId, quantity) -> {
+      args.add(String.valueOf(productId));
+      args.add(quantity == null ? "" : String.valueOf(quantity));
+    });
+    return args;
+  }
+}
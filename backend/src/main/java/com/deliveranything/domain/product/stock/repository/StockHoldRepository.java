@@ -0,0 +1,133 @@
+package com.deliveranything.domain.product.stock.repository;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 재고 예약 만료 인덱스 (Redis)
+ * <p>
+ * 만료 시각을 score 로 하는 {@code stock:holds} ZSET 과 주문별 예약 내용 {@code stock:hold:{orderId}} 해시로 구성됩니다. 만료된 예약은
+ * score 범위 조회로 바로 찾으므로 stocks/orders 테이블을 훑지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockHoldRepository {
+
+  private static final String INDEX_KEY = "stock:holds";
+  private static final String HOLD_KEY_PREFIX = "stock:hold:";
+  private static final String EXPIRED_KEY_PREFIX = "stock:hold:expired:";
+  private static final long EXPIRED_MARKER_TTL_SECONDS = TimeUnit.DAYS.toSeconds(7);
+
+  private static final RedisScript<Long> REGISTER_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('HSET', KEYS[2], 'store', ARGV[2], 'items', ARGV[3])
+      redis.call('ZADD', KEYS[1], ARGV[1], ARGV[4])
+      return 1
+      """, Long.class);
+
+  // 제거하면서 원래 만료 시각 반환 (없으면 -1)
+  private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+      local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+      redis.call('DEL', KEYS[2])
+      redis.call('ZREM', KEYS[1], ARGV[1])
+      if not score then
+        return -1
+      end
+      return tonumber(score)
+      """, Long.class);
+
+  // 만료된 예약을 꺼내면서 인덱스에서 제거 (여러 노드가 같은 예약을 처리하지 않도록 원자적으로)
+  // 반환: {orderId, storeId, items, ...}
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CLAIM_EXPIRED_SCRIPT = new DefaultRedisScript<>("""
+      local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+      local result = {}
+      for _, id in ipairs(ids) do
+        redis.call('ZREM', KEYS[1], id)
+        local holdKey = ARGV[3] .. id
+        local hold = redis.call('HMGET', holdKey, 'store', 'items')
+        redis.call('DEL', holdKey)
+        if hold[1] then
+          redis.call('SET', ARGV[4] .. id, 1, 'EX', ARGV[5])
+          table.insert(result, id)
+          table.insert(result, hold[1])
+          table.insert(result, hold[2])
+        end
+      end
+      return result
+      """, List.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  /**
+   * 예약 등록 (같은 주문이면 만료 시각을 갱신)
+   */
+  public void register(Long orderId, Long storeId, List<OrderItemInfo> items, Instant expiresAt) {
+    redisTemplate.execute(REGISTER_SCRIPT, List.of(INDEX_KEY, HOLD_KEY_PREFIX + orderId),
+        String.valueOf(expiresAt.toEpochMilli()), String.valueOf(storeId),
+        OrderItemInfo.encode(items), String.valueOf(orderId));
+  }
+
+  /**
+   * 예약 제거 (확정/해제 시)
+   *
+   * @return 제거한 예약의 만료 시각 (등록된 예약이 없으면 empty)
+   */
+  public Optional<Instant> remove(Long orderId) {
+    Long expiresAt = redisTemplate.execute(REMOVE_SCRIPT,
+        List.of(INDEX_KEY, HOLD_KEY_PREFIX + orderId), String.valueOf(orderId));
+    if (expiresAt == null || expiresAt < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(Instant.ofEpochMilli(expiresAt));
+  }
+
+  /**
+   * 만료로 이미 해제된 예약인지 여부
+   */
+  public boolean isExpired(Long orderId) {
+    return Boolean.TRUE.equals(redisTemplate.hasKey(EXPIRED_KEY_PREFIX + orderId));
+  }
+
+  /**
+   * 만료 처리 실패 시 만료 표시를 지우고 다시 등록
+   */
+  public void restore(ExpiredHold hold, Instant retryAt) {
+    redisTemplate.delete(EXPIRED_KEY_PREFIX + hold.orderId());
+    register(hold.orderId(), hold.storeId(), hold.items(), retryAt);
+  }
+
+  /**
+   * now 이전에 만료된 예약을 최대 batchSize 개 꺼냄
+   */
+  @SuppressWarnings("unchecked")
+  public List<ExpiredHold> claimExpired(Instant now, int batchSize) {
+    List<Object> reply = redisTemplate.execute(CLAIM_EXPIRED_SCRIPT, List.of(INDEX_KEY),
+        String.valueOf(now.toEpochMilli()), String.valueOf(batchSize), HOLD_KEY_PREFIX,
+        EXPIRED_KEY_PREFIX, String.valueOf(EXPIRED_MARKER_TTL_SECONDS));
+
+    List<ExpiredHold> holds = new ArrayList<>();
+    if (reply == null) {
+      return holds;
+    }
+    for (int i = 0; i + 2 < reply.size(); i += 3) {
+      holds.add(new ExpiredHold(
+          Long.valueOf(reply.get(i).toString()),
+          Long.valueOf(reply.get(i + 1).toString()),
+          OrderItemInfo.decode(reply.get(i + 2).toString())));
+    }
+    return holds;
+  }
+
+  public record ExpiredHold(Long orderId, Long storeId, List<OrderItemInfo> items) {
+
+  }
+}
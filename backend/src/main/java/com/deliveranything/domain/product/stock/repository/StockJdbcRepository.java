@@ -0,0 +1,251 @@
+package com.deliveranything.domain.product.stock.repository;
+
+import com.deliveranything.domain.product.stock.dto.projection.StockOperationKey;
+import com.deliveranything.domain.product.stock.dto.projection.StockSnapshot;
+import com.deliveranything.domain.product.stock.dto.projection.StockState;
+import com.deliveranything.domain.product.stock.enums.StockOperation;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 재고 수량 일괄 반영 (JDBC batch)
+ * <p>
+ * 행마다 값이 달라 JPQL 벌크 UPDATE 로는 한 번에 보낼 수 없으므로 JDBC batch 로 묶어 전송합니다. 엔티티를 거치지 않으므로 version 을 함께
+ * 올려 동시에 열려 있던 JPA 변경이 낙관적 락으로 감지되도록 합니다.
+ * <p>
+ * 조건부 UPDATE 는 재고 판단과 변경을 한 문장에서 처리하므로 행을 미리 읽거나 잠글 필요가 없습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockJdbcRepository {
+
+  private static final String UPDATE_QUANTITIES_SQL = """
+      UPDATE stocks
+      SET quantity = ?, held_quantity = ?, version = version + 1
+      WHERE product_id = ?
+      """;
+
+  private static final String UPDATE_QUANTITIES_IF_VERSION_SQL = """
+      UPDATE stocks
+      SET quantity = ?, held_quantity = ?, version = version + 1
+      WHERE product_id = ? AND version = ?
+      """;
+
+  private static final String RESERVE_SQL = """
+      UPDATE stocks
+      SET held_quantity = held_quantity + ?, version = version + 1
+      WHERE product_id = ? AND quantity - held_quantity >= ?
+      """;
+
+  private static final String COMMIT_SQL = """
+      UPDATE stocks
+      SET held_quantity = held_quantity - ?, quantity = quantity - ?, version = version + 1
+      WHERE product_id = ? AND held_quantity >= ?
+      """;
+
+  private static final String RELEASE_SQL = """
+      UPDATE stocks
+      SET held_quantity = held_quantity - ?, version = version + 1
+      WHERE product_id = ? AND held_quantity >= ?
+      """;
+
+  private static final String REPLENISH_SQL = """
+      UPDATE stocks
+      SET quantity = quantity + ?, version = version + 1
+      WHERE product_id = ?
+      """;
+
+  private static final String ADJUST_SQL = """
+      UPDATE stocks
+      SET quantity = quantity + ?, held_quantity = held_quantity + ?, version = version + 1
+      WHERE product_id = ?
+      """;
+
+  private static final String FIND_OPERATION_RECORDS_SQL = """
+      SELECT order_id, operation, product_id
+      FROM stock_product_operation_records
+      WHERE order_id IN (%s)
+      """;
+
+  private static final String INSERT_OPERATION_RECORD_SQL = """
+      INSERT INTO stock_product_operation_records (order_id, operation, product_id, created_at)
+      VALUES (?, ?, ?, ?)
+      """;
+
+  private static final String DELETE_OPERATION_RECORD_SQL = """
+      DELETE FROM stock_product_operation_records
+      WHERE order_id = ? AND operation = ? AND product_id = ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void updateQuantities(List<StockSnapshot> snapshots) {
+    if (snapshots.isEmpty()) {
+      return;
+    }
+
+    jdbcTemplate.batchUpdate(UPDATE_QUANTITIES_SQL, snapshots, snapshots.size(),
+        (ps, snapshot) -> {
+          ps.setInt(1, snapshot.totalQuantity());
+          ps.setInt(2, snapshot.heldQuantity());
+          ps.setLong(3, snapshot.productId());
+        });
+  }
+
+  /**
+   * 읽어 둔 version 이 그대로인 행만 갱신
+   *
+   * @return 모든 행이 갱신되었는지 여부 (false 면 다른 곳에서 먼저 변경됨)
+   */
+  public boolean updateQuantitiesIfVersionMatches(List<StockState> states) {
+    if (states.isEmpty()) {
+      return true;
+    }
+
+    int[][] counts = jdbcTemplate.batchUpdate(UPDATE_QUANTITIES_IF_VERSION_SQL, states,
+        states.size(), (ps, state) -> {
+          ps.setInt(1, state.totalQuantity());
+          ps.setInt(2, state.heldQuantity());
+          ps.setLong(3, state.productId());
+          ps.setInt(4, state.version());
+        });
+    return Arrays.stream(counts).flatMapToInt(Arrays::stream).allMatch(count -> count == 1);
+  }
+
+  /**
+   * 주문 단위 재고 명령을 조건부 UPDATE batch 한 번으로 적용
+   *
+   * @param quantities 상품 ID -> 수량 (이 순서대로 행을 잠금)
+   * @return 상품별 갱신 여부 (quantities 순서, 조건 불충족 시 false)
+   * MySQL rewriteBatchedStatements 는 UPDATE 배치를 여러 문장 한 번 전송으로 바꿀 뿐 문장별 갱신 수를 그대로 돌려주므로 행별
+   * 결과를 그대로 쓸 수 있습니다. (여러 행 VALUES 로 합쳐 행별 결과가 사라지는 것은 INSERT 배치뿐)
+   */
+  public boolean[] applyIfSufficient(StockOperation operation, Map<Long, Integer> quantities) {
+    List<Entry<Long, Integer>> rows = new ArrayList<>(quantities.entrySet());
+    int[][] counts = jdbcTemplate.batchUpdate(sqlOf(operation), rows, rows.size(),
+        (ps, row) -> {
+          int quantity = row.getValue();
+          switch (operation) {
+            case RESERVE, RELEASE -> {
+              ps.setInt(1, quantity);
+              ps.setLong(2, row.getKey());
+              ps.setInt(3, quantity);
+            }
+            case COMMIT -> {
+              ps.setInt(1, quantity);
+              ps.setInt(2, quantity);
+              ps.setLong(3, row.getKey());
+              ps.setInt(4, quantity);
+            }
+            case REPLENISH -> {
+              ps.setInt(1, quantity);
+              ps.setLong(2, row.getKey());
+            }
+          }
+        });
+
+    int[] flattened = Arrays.stream(counts).flatMapToInt(Arrays::stream).toArray();
+    boolean[] updated = new boolean[rows.size()];
+    for (int i = 0; i < updated.length; i++) {
+      updated[i] = i < flattened.length && flattened[i] == 1;
+    }
+    return updated;
+  }
+
+  /**
+   * {@link #applyIfSufficient} 로 반영된 행을 되돌림 (일부 상품만 성공했을 때)
+   */
+  public void revert(StockOperation operation, Map<Long, Integer> quantities) {
+    if (quantities.isEmpty()) {
+      return;
+    }
+
+    List<Entry<Long, Integer>> rows = new ArrayList<>(quantities.entrySet());
+    jdbcTemplate.batchUpdate(ADJUST_SQL, rows, rows.size(), (ps, row) -> {
+      int quantity = row.getValue();
+      switch (operation) {
+        case RESERVE -> {
+          ps.setInt(1, 0);
+          ps.setInt(2, -quantity);
+        }
+        case COMMIT -> {
+          ps.setInt(1, quantity);
+          ps.setInt(2, quantity);
+        }
+        case RELEASE -> {
+          ps.setInt(1, 0);
+          ps.setInt(2, quantity);
+        }
+        case REPLENISH -> {
+          ps.setInt(1, -quantity);
+          ps.setInt(2, 0);
+        }
+      }
+      ps.setLong(3, row.getKey());
+    });
+  }
+
+  private static String sqlOf(StockOperation operation) {
+    return switch (operation) {
+      case RESERVE -> RESERVE_SQL;
+      case COMMIT -> COMMIT_SQL;
+      case RELEASE -> RELEASE_SQL;
+      case REPLENISH -> REPLENISH_SQL;
+    };
+  }
+
+  /**
+   * 주문들의 상품별 재고 명령 적용 기록 조회
+   */
+  public Set<StockOperationKey> findOperationRecords(Collection<Long> orderIds) {
+    if (orderIds.isEmpty()) {
+      return Set.of();
+    }
+
+    String placeholders = String.join(", ", orderIds.stream().map(id -> "?").toList());
+    return new HashSet<>(jdbcTemplate.query(FIND_OPERATION_RECORDS_SQL.formatted(placeholders),
+        (rs, rowNum) -> new StockOperationKey(rs.getLong("order_id"),
+            StockOperation.valueOf(rs.getString("operation")), rs.getLong("product_id")),
+        orderIds.toArray()));
+  }
+
+  /**
+   * 상품별 재고 명령 적용 기록을 batch 로 저장 (이미 있으면 유니크 키 위반으로 트랜잭션이 롤백됨)
+   */
+  public void insertOperationRecords(Collection<StockOperationKey> keys) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate(INSERT_OPERATION_RECORD_SQL, keys, keys.size(), (ps, key) -> {
+      ps.setLong(1, key.orderId());
+      ps.setString(2, key.operation().name());
+      ps.setLong(3, key.productId());
+      ps.setTimestamp(4, now);
+    });
+  }
+
+  public void deleteOperationRecords(Collection<StockOperationKey> keys) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    jdbcTemplate.batchUpdate(DELETE_OPERATION_RECORD_SQL, keys, keys.size(), (ps, key) -> {
+      ps.setLong(1, key.orderId());
+      ps.setString(2, key.operation().name());
+      ps.setLong(3, key.productId());
+    });
+  }
+}
@@ -0,0 +1,16 @@
+package com.deliveranything.domain.product.stock.repository;
+
+import com.deliveranything.domain.product.stock.entity.StockOperationRecord;
+import com.deliveranything.domain.product.stock.enums.StockOperation;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 주문별 재고 명령 적용 기록
+ * <p>
+ * 이벤트 재전달이나 주문 사가 재시도로 같은 명령이 다시 들어와도 한 번만 반영되도록, 재고 변경과 같은 트랜잭션에서 (주문, 명령) 유니크 행을
+ * 남깁니다. 동시에 들어온 중복 명령은 유니크 키 위반으로 재고 변경까지 함께 롤백되고, 재전달 시 기록을 보고 결과 이벤트만 다시 발행합니다.
+ */
+public interface StockOperationRepository extends JpaRepository<StockOperationRecord, Long> {
+
+  boolean existsByOrderIdAndOperation(Long orderId, StockOperation operation);
+}
@@ -0,0 +1,242 @@
+package com.deliveranything.domain.product.stock.repository;
+
+import com.deliveranything.domain.product.stock.dto.projection.StockSnapshot;
+import com.deliveranything.domain.product.stock.enums.StockOperation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 상품별 재고 카운터 (Redis)
+ * <p>
+ * 상품마다 {@code stock:product:{productId}} 해시(total, held, store)를 두고, 주문 단위 명령을 Lua 스크립트 한 번으로 원자적으로 적용합니다.
+ * 변경된 상품 ID 는 {@code stock:dirty} 셋에 기록되어 {@code StockReconcileScheduler} 가 DB 에 배치로 반영합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockRedisRepository {
+
+  private static final String STOCK_KEY_PREFIX = "stock:product:";
+  private static final String OPERATION_KEY_PREFIX = "stock:order:";
+  private static final String DIRTY_KEY = "stock:dirty";
+  private static final long OPERATION_MARKER_TTL_SECONDS = TimeUnit.DAYS.toSeconds(7);
+
+  // 주문의 모든 상품을 검증한 뒤 한꺼번에 반영 (all-or-nothing)
+  // KEYS[1]: 주문별 적용 마커, KEYS[2]: dirty 셋, KEYS[3..]: 상품 재고 해시
+  // ARGV[1]: 명령, ARGV[2]: 상점 ID, ARGV[3]: 마커 TTL, ARGV[3+i]: 수량, ARGV[3+n+i]: 상품 ID
+  // 반환: {0} 적용, {1} 이미 적용됨, {2, 상품 ID...} 캐시 없음, {3, 상품 ID} 상점 불일치, {4, 상품 ID} 수량 부족
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> APPLY_SCRIPT = new DefaultRedisScript<>("""
+      local n = #KEYS - 2
+      local op = ARGV[1]
+      if redis.call('EXISTS', KEYS[1]) == 1 then
+        return {1}
+      end
+      local missing = {2}
+      for i = 1, n do
+        if redis.call('EXISTS', KEYS[i + 2]) == 0 then
+          missing[#missing + 1] = tonumber(ARGV[3 + n + i])
+        end
+      end
+      if #missing > 1 then
+        return missing
+      end
+      for i = 1, n do
+        local stock = redis.call('HMGET', KEYS[i + 2], 'total', 'held', 'store')
+        local total, held, qty = tonumber(stock[1]), tonumber(stock[2]), tonumber(ARGV[3 + i])
+        if stock[3] ~= ARGV[2] then
+          return {3, tonumber(ARGV[3 + n + i])}
+        end
+        if (op == 'RESERVE' and total - held < qty)
+            or ((op == 'COMMIT' or op == 'RELEASE') and held < qty) then
+          return {4, tonumber(ARGV[3 + n + i])}
+        end
+      end
+      for i = 1, n do
+        local key, qty = KEYS[i + 2], tonumber(ARGV[3 + i])
+        if op == 'RESERVE' then
+          redis.call('HINCRBY', key, 'held', qty)
+        elseif op == 'COMMIT' then
+          redis.call('HINCRBY', key, 'held', -qty)
+          redis.call('HINCRBY', key, 'total', -qty)
+        elseif op == 'RELEASE' then
+          redis.call('HINCRBY', key, 'held', -qty)
+        else
+          redis.call('HINCRBY', key, 'total', qty)
+        end
+        redis.call('SADD', KEYS[2], ARGV[3 + n + i])
+      end
+      redis.call('SET', KEYS[1], 1, 'EX', ARGV[3])
+      return {0}
+      """, List.class);
+
+  // 캐시가 없는 상품만 DB 값으로 채움 (이미 있으면 Redis 값이 최신이므로 유지)
+  private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+      local seeded = 0
+      for i, key in ipairs(KEYS) do
+        if redis.call('EXISTS', key) == 0 then
+          redis.call('HSET', key, 'total', ARGV[i * 3 - 2], 'held', ARGV[i * 3 - 1],
+              'store', ARGV[i * 3])
+          seeded = seeded + 1
+        end
+      end
+      return seeded
+      """, Long.class);
+
+  // 관리자 수량 변경 반영 (캐시가 없으면 다음 시딩 때 DB 값을 읽으므로 무시)
+  private static final RedisScript<Long> SET_TOTAL_IF_PRESENT_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return 0
+      end
+      redis.call('HSET', KEYS[1], 'total', ARGV[1])
+      redis.call('SADD', KEYS[2], ARGV[2])
+      return 1
+      """, Long.class);
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+      local result = {}
+      for i, key in ipairs(KEYS) do
+        result[i] = redis.call('HMGET', key, 'total', 'held', 'store')
+      end
+      return result
+      """, List.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  /**
+   * 주문 단위 재고 명령 적용 (같은 주문·명령은 한 번만 반영)
+   *
+   * @param quantities 상품 ID -> 수량
+   */
+  @SuppressWarnings("unchecked")
+  public ApplyResult apply(StockOperation operation, Long orderId, Long storeId,
+      Map<Long, Integer> quantities) {
+    List<String> keys = new ArrayList<>(quantities.size() + 2);
+    keys.add(OPERATION_KEY_PREFIX + orderId + ":" + operation.name());
+    keys.add(DIRTY_KEY);
+
+    List<String> args = new ArrayList<>(quantities.size() * 2 + 3);
+    args.add(operation.name());
+    args.add(String.valueOf(storeId));
+    args.add(String.valueOf(OPERATION_MARKER_TTL_SECONDS));
+
+    quantities.forEach((productId, quantity) -> {
+      keys.add(STOCK_KEY_PREFIX + productId);
+      args.add(String.valueOf(quantity));
+    });
+    quantities.keySet().forEach(productId -> args.add(String.valueOf(productId)));
+
+    List<Long> reply = redisTemplate.execute(APPLY_SCRIPT, keys, args.toArray());
+    if (reply == null || reply.isEmpty()) {
+      throw new IllegalStateException("Empty reply from stock apply script");
+    }
+    return new ApplyResult(ApplyStatus.values()[reply.getFirst().intValue()],
+        reply.subList(1, reply.size()));
+  }
+
+  /**
+   * DB 재고로 캐시 채우기 (이미 존재하는 키는 건드리지 않음)
+   */
+  public void seed(Collection<StockSnapshot> snapshots) {
+    if (snapshots.isEmpty()) {
+      return;
+    }
+
+    List<String> keys = new ArrayList<>(snapshots.size());
+    List<String> args = new ArrayList<>(snapshots.size() * 3);
+    for (StockSnapshot snapshot : snapshots) {
+      keys.add(STOCK_KEY_PREFIX + snapshot.productId());
+      args.add(String.valueOf(snapshot.totalQuantity()));
+      args.add(String.valueOf(snapshot.heldQuantity()));
+      args.add(String.valueOf(snapshot.storeId()));
+    }
+    redisTemplate.execute(SEED_SCRIPT, keys, args.toArray());
+  }
+
+  /**
+   * 현재 예약 수량 조회 (캐시가 없으면 null)
+   */
+  public Integer getHeldQuantity(Long productId) {
+    Object held = redisTemplate.opsForHash().get(STOCK_KEY_PREFIX + productId, "held");
+    return held == null ? null : Integer.valueOf(held.toString());
+  }
+
+  public void setTotalIfPresent(Long productId, int totalQuantity) {
+    redisTemplate.execute(SET_TOTAL_IF_PRESENT_SCRIPT,
+        List.of(STOCK_KEY_PREFIX + productId, DIRTY_KEY),
+        String.valueOf(totalQuantity), String.valueOf(productId));
+  }
+
+  /**
+   * 변경된 상품 ID 를 최대 batchSize 개 꺼냄 (SPOP)
+   */
+  public List<Long> popDirtyProductIds(int batchSize) {
+    List<String> members = redisTemplate.opsForSet().pop(DIRTY_KEY, batchSize);
+    if (members == null) {
+      return List.of();
+    }
+    return members.stream().map(Long::valueOf).toList();
+  }
+
+  /**
+   * DB 반영에 실패한 상품을 다시 dirty 로 표시
+   */
+  public void markDirty(Collection<Long> productIds) {
+    if (productIds.isEmpty()) {
+      return;
+    }
+    redisTemplate.opsForSet().add(DIRTY_KEY,
+        productIds.stream().map(String::valueOf).toArray(String[]::new));
+  }
+
+  /**
+   * 상품별 현재 재고 일괄 조회 (1회 왕복, 캐시가 없는 상품은 제외)
+   */
+  @SuppressWarnings("unchecked")
+  public List<StockSnapshot> findSnapshots(List<Long> productIds) {
+    if (productIds.isEmpty()) {
+      return List.of();
+    }
+
+    List<String> keys = productIds.stream().map(id -> STOCK_KEY_PREFIX + id).toList();
+    List<Object> replies = redisTemplate.execute(READ_SCRIPT, keys);
+
+    List<StockSnapshot> snapshots = new ArrayList<>(productIds.size());
+    if (replies == null) {
+      return snapshots;
+    }
+
+    for (int i = 0; i < productIds.size() && i < replies.size(); i++) {
+      List<Object> fields = (List<Object>) replies.get(i);
+      if (fields == null || fields.size() < 3 || fields.get(0) == null
+          || fields.get(1) == null) {
+        continue;
+      }
+      snapshots.add(new StockSnapshot(
+          productIds.get(i),
+          Integer.valueOf(fields.get(0).toString()),
+          Integer.valueOf(fields.get(1).toString()),
+          fields.get(2) == null ? null : Long.valueOf(fields.get(2).toString())));
+    }
+    return snapshots;
+  }
+
+  public enum ApplyStatus {
+    APPLIED, ALREADY_APPLIED, MISSING, STORE_MISMATCH, INSUFFICIENT
+  }
+
+  /**
+   * @param productIds MISSING 이면 캐시가 없는 상품들, STORE_MISMATCH/INSUFFICIENT 면 실패한 상품
+   */
+  public record ApplyResult(ApplyStatus status, List<Long> productIds) {
+
+  }
+}
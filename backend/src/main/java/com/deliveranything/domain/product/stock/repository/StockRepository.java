@@ -1,10 +1,16 @@
 package com.deliveranything.domain.product.stock.repository;
 
+import com.deliveranything.domain.product.stock.dto.projection.StockSnapshot;
+import com.deliveranything.domain.product.stock.dto.projection.StockState;
 import com.deliveranything.domain.product.stock.entity.Stock;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface StockRepository extends JpaRepository<Stock, Long> {
 
@@ -14,4 +20,20 @@ public interface StockRepository extends JpaRepository<Stock, Long> {
     return findByProductId(productId)
         .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
   }
+
+  @Query("""
+      SELECT new com.deliveranything.domain.product.stock.dto.projection.StockSnapshot(
+          p.id, s.totalQuantity, s.heldQuantity, p.store.id)
+      FROM Stock s JOIN s.product p
+      WHERE p.id IN :productIds
+      """)
+  List<StockSnapshot> findSnapshotsByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+  @Query("""
+      SELECT new com.deliveranything.domain.product.stock.dto.projection.StockState(
+          p.id, p.store.id, s.totalQuantity, s.heldQuantity, s.version)
+      FROM Stock s JOIN s.product p
+      WHERE p.id IN :productIds
+      """)
+  List<StockState> findStatesByProductIdIn(@Param("productIds") Collection<Long> productIds);
 }
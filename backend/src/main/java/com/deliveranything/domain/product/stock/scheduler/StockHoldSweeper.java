@@ -0,0 +1,73 @@
+package com.deliveranything.domain.product.stock.scheduler;
+
+import com.deliveranything.domain.product.stock.repository.StockHoldRepository;
+import com.deliveranything.domain.product.stock.repository.StockHoldRepository.ExpiredHold;
+import com.deliveranything.domain.product.stock.service.StockFacadeService;
+import com.deliveranything.global.exception.CustomException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제되지 않은 재고 예약 만료 처리
+ * <p>
+ * 만료 인덱스에서 기한이 지난 예약만 배치로 꺼내 해제하고 StockReleasedEvent 를 발행합니다. 해제 중 인프라 오류가 나면 잠시 뒤 다시 시도하도록
+ * 인덱스에 되돌립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockHoldSweeper {
+
+  private final StockHoldRepository stockHoldRepository;
+  private final StockFacadeService stockFacadeService;
+
+  @Value("${custom.stock.hold.sweep.batch-size:200}")
+  private int batchSize;
+
+  @Value("${custom.stock.hold.sweep.max-batches-per-run:10}")
+  private int maxBatchesPerRun;
+
+  @Value("${custom.stock.hold.sweep.retry-delay:1m}")
+  private Duration retryDelay;
+
+  @Scheduled(fixedDelayString = "${custom.stock.hold.sweep.interval-ms:5000}")
+  public void sweep() {
+    int released = 0;
+    for (int batches = 0; batches < maxBatchesPerRun; batches++) {
+      List<ExpiredHold> holds = stockHoldRepository.claimExpired(Instant.now(), batchSize);
+      for (ExpiredHold hold : holds) {
+        if (release(hold)) {
+          released++;
+        }
+      }
+      if (holds.size() < batchSize) {
+        break;
+      }
+    }
+
+    if (released > 0) {
+      log.info("Released {} expired stock holds", released);
+    }
+  }
+
+  private boolean release(ExpiredHold hold) {
+    try {
+      stockFacadeService.handleHoldExpired(hold.orderId(), hold.storeId(), hold.items());
+      return true;
+    } catch (CustomException e) {
+      // 이미 확정/해제되어 풀 예약이 없음 - 다시 시도할 필요 없음
+      log.warn("Skip expired stock hold, orderId={}: {}", hold.orderId(), e.getMessage());
+      return false;
+    } catch (Exception e) {
+      log.error("Failed to release expired stock hold, orderId={}", hold.orderId(), e);
+      stockHoldRepository.restore(hold, Instant.now().plus(retryDelay));
+      return false;
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.deliveranything.domain.product.stock.scheduler;
+
+import com.deliveranything.domain.product.stock.dto.projection.StockSnapshot;
+import com.deliveranything.domain.product.stock.repository.StockJdbcRepository;
+import com.deliveranything.domain.product.stock.repository.StockRedisRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 재고를 MySQL stocks 에 비동기 반영 (redis 엔진 사용 시)
+ * <p>
+ * 변경된 상품만 dirty 셋에서 꺼내 Redis 의 현재 값을 그대로 덮어쓰므로, 반영 사이에 여러 번 바뀐 상품도 한 번만 UPDATE 됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.stock.engine", havingValue = "redis")
+public class StockReconcileScheduler {
+
+  private final StockRedisRepository stockRedisRepository;
+  private final StockJdbcRepository stockJdbcRepository;
+
+  @Value("${custom.stock.reconcile.batch-size:500}")
+  private int batchSize;
+
+  @Value("${custom.stock.reconcile.max-batches-per-run:20}")
+  private int maxBatchesPerRun;
+
+  @Scheduled(fixedDelayString = "${custom.stock.reconcile.interval-ms:1000}")
+  public void reconcile() {
+    int batches = 0;
+    List<Long> productIds;
+
+    while (batches++ < maxBatchesPerRun
+        && !(productIds = stockRedisRepository.popDirtyProductIds(batchSize)).isEmpty()) {
+      try {
+        List<StockSnapshot> snapshots = stockRedisRepository.findSnapshots(productIds);
+        stockJdbcRepository.updateQuantities(snapshots);
+      } catch (Exception e) {
+        // 꺼낸 상품을 되돌려 다음 실행에서 다시 반영
+        log.error("Stock reconcile failed for {} products", productIds.size(), e);
+        stockRedisRepository.markDirty(productIds);
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.deliveranything.domain.product.stock.service;
+
+import com.deliveranything.domain.product.stock.dto.StockAvailabilityResponse;
+import com.deliveranything.domain.product.stock.dto.projection.StockSnapshot;
+import com.deliveranything.domain.product.stock.engine.StockEngine;
+import com.deliveranything.domain.product.stock.enums.StockAvailability;
+import com.deliveranything.domain.product.stock.event.StockAvailabilityChangedEvent;
+import com.deliveranything.domain.product.stock.repository.StockAvailabilityRepository;
+import com.deliveranything.domain.product.stock.websocket.StockWebSocketPublisher;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 구매 가능 수량 조회/갱신
+ * <p>
+ * 조회는 상점별 캐시만 읽고 비어 있는 상품만 재고 엔진에서 채웁니다. 재고가 바뀐 트랜잭션이 커밋되면 해당 상품 값을 갱신하고, 재고 상태(구매 가능 /
+ * 품절 임박 / 품절)가 바뀐 상품은 상점 토픽을 구독 중인 고객에게 바로 전달합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockAvailabilityService {
+
+  private final StockAvailabilityRepository stockAvailabilityRepository;
+  private final StockEngine stockEngine;
+  private final StockWebSocketPublisher stockWebSocketPublisher;
+
+  /**
+   * 상점 상품들의 구매 가능 수량 (상점에 속하지 않거나 없는 상품은 결과에서 빠짐)
+   */
+  public Map<Long, Integer> getAvailableQuantities(Long storeId, List<Long> productIds) {
+    Map<Long, Integer> quantities = stockAvailabilityRepository.findAll(storeId, productIds);
+    if (quantities.size() == productIds.size()) {
+      return quantities;
+    }
+
+    List<Long> missing = productIds.stream()
+        .filter(productId -> !quantities.containsKey(productId))
+        .toList();
+    Map<Long, Integer> loaded = load(storeId, missing);
+    stockAvailabilityRepository.putIfAbsent(storeId, loaded);
+
+    quantities.putAll(loaded);
+    return quantities;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onAvailabilityChanged(StockAvailabilityChangedEvent event) {
+    Map<Long, Integer> loaded = load(event.storeId(), event.productIds());
+
+    // 삭제되었거나 다른 상점으로 확인된 상품은 캐시에서 제거
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    event.productIds().forEach(productId -> quantities.put(productId, loaded.get(productId)));
+
+    Map<Long, Integer> previous = stockAvailabilityRepository.put(event.storeId(), quantities);
+    loaded.forEach((productId, quantity) -> {
+      if (isChanged(previous.get(productId), quantity)) {
+        stockWebSocketPublisher.publishAvailability(event.storeId(),
+            StockAvailabilityResponse.of(productId, quantity));
+      }
+    });
+  }
+
+  private Map<Long, Integer> load(Long storeId, List<Long> productIds) {
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    if (productIds.isEmpty()) {
+      return quantities;
+    }
+    for (StockSnapshot snapshot : stockEngine.findSnapshots(productIds)) {
+      if (storeId.equals(snapshot.storeId())) {
+        quantities.put(snapshot.productId(),
+            snapshot.totalQuantity() - snapshot.heldQuantity());
+      }
+    }
+    return quantities;
+  }
+
+  // 이전 값을 모르면 품절일 때만 알림 (캐시가 처음 채워질 때 알림이 쏟아지지 않도록)
+  private boolean isChanged(Integer previous, int current) {
+    StockAvailability availability = StockAvailability.of(current);
+    if (previous == null) {
+      return availability == StockAvailability.SOLD_OUT;
+    }
+    return StockAvailability.of(previous) != availability;
+  }
+}
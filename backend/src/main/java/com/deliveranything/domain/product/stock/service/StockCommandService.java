@@ -1,11 +1,9 @@
 package com.deliveranything.domain.product.stock.service;
 
-import com.deliveranything.domain.product.stock.entity.Stock;
-import com.deliveranything.domain.product.stock.repository.StockRepository;
 import com.deliveranything.domain.store.store.entity.Store;
 import com.deliveranything.domain.store.store.repository.StoreRepository;
-import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,39 +12,19 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class StockCommandService {
 
-  private final StockRepository stockRepository;
   private final StoreRepository storeRepository;
 
-  @Transactional
-  public Stock getStockForUpdate(Long storeId, Long productId) {
-    Stock stock = stockRepository.getByProductId(productId);
-    stock.getProduct().validateStore(storeId);
-    return stock;
-  }
-
+  // 주문을 처리할 수 없는 상점이면 사유 반환
+  // 호출자 트랜잭션에 참여하므로 예외를 던지면 호출자가 잡아도 트랜잭션 전체가 rollback-only 가 됨
   @Transactional(readOnly = true)
-  public void checkStoreOpen(Long storeId) {
-    Store store = storeRepository.findById(storeId)
-        .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND));
-
-    if (!store.isOpen()) {
-      throw new CustomException(ErrorCode.STORE_CLOSED);
+  public Optional<ErrorCode> findStoreUnavailableReason(Long storeId) {
+    Optional<Store> store = storeRepository.findById(storeId);
+    if (store.isEmpty()) {
+      return Optional.of(ErrorCode.STORE_NOT_FOUND);
     }
+    if (!store.get().isOpen()) {
+      return Optional.of(ErrorCode.STORE_CLOSED);
+    }
+    return Optional.empty();
   }
-
-  public void holdStock(Stock stock, int quantity) {
-    if (!stock.reserve(quantity)) throw new CustomException(ErrorCode.PRODUCT_OUT_OF_STOCK);
-  }
-
-  public void commitStock(Stock stock, int quantity) {
-    if (!stock.commit(quantity)) throw new CustomException(ErrorCode.STOCK_CHANGE_INVALID);
-  }
-
-  public void releaseStock(Stock stock, int quantity) {
-    if (!stock.release(quantity)) throw new CustomException(ErrorCode.STOCK_CHANGE_INVALID);
-  }
-
-  public void replenishStock(Stock stock, int quantity) {
-    stock.replenish(quantity);
-  }
-}
\ No newline at end of file
+}
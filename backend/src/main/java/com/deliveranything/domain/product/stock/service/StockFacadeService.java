@@ -1,100 +1,177 @@
 package com.deliveranything.domain.product.stock.service;
 
 import com.deliveranything.domain.order.event.dto.OrderItemInfo;
-import com.deliveranything.domain.product.stock.entity.Stock;
+import com.deliveranything.domain.product.stock.engine.StockEngine;
+import com.deliveranything.domain.product.stock.entity.StockOperationRecord;
+import com.deliveranything.domain.product.stock.enums.StockOperation;
+import com.deliveranything.domain.product.stock.event.StockAvailabilityChangedEvent;
+import com.deliveranything.domain.product.stock.event.StockCommitFailedEvent;
 import com.deliveranything.domain.product.stock.event.StockCommittedEvent;
+import com.deliveranything.domain.product.stock.event.StockHeldEvent;
 import com.deliveranything.domain.product.stock.event.StockReleasedEvent;
 import com.deliveranything.domain.product.stock.event.StockReplenishedEvent;
 import com.deliveranything.domain.product.stock.event.StockReserveFailedEvent;
 import com.deliveranything.domain.product.stock.event.StockReservedEvent;
-import jakarta.persistence.OptimisticLockException;
+import com.deliveranything.domain.product.stock.repository.StockHoldRepository;
+import com.deliveranything.domain.product.stock.repository.StockOperationRepository;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.time.Instant;
 import java.util.List;
-import java.util.function.Supplier;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class StockFacadeService {
 
-  private static final int MAX_RETRIES = 3;
+  private static final String HOLD_EXPIRED_REASON = "재고 예약 만료";
 
   private final StockCommandService stockCommandService;
+  private final StockEngine stockEngine;
+  private final StockHoldRepository stockHoldRepository;
+  private final StockOperationRepository stockOperationRepository;
   private final ApplicationEventPublisher eventPublisher;
 
-  private <T> void executeWithRetry(Supplier<T> action) {
-    int retries = 0;
-    while (true) {
-      try {
-        action.get();
-        return;
-      } catch (OptimisticLockException e) {
-        retries++;
-        log.warn("Optimistic lock conflict, retry {}/{}", retries, MAX_RETRIES);
-        if (retries >= MAX_RETRIES) {
-          throw e;
-        }
-      }
-    }
-  }
-
   @Transactional
   public void handleOrderCreated(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    if (isApplied(orderId, StockOperation.RESERVE, new StockReservedEvent(orderId))) {
+      return;
+    }
+    Optional<ErrorCode> unavailable = stockCommandService.findStoreUnavailableReason(storeId);
+    if (unavailable.isPresent()) {
+      reserveFailed(orderId, storeId, unavailable.get().getMessage());
+      return;
+    }
     try {
-      stockCommandService.checkStoreOpen(storeId);
-      executeWithRetry(() -> {
-        for (var item : items) {
-          Stock stock = stockCommandService.getStockForUpdate(storeId, item.productId());
-          stockCommandService.holdStock(stock, item.quantity());
-        }
-        return null;
-      });
-      eventPublisher.publishEvent(new StockReservedEvent(orderId));
-    } catch (Exception e) {
-      log.error("Failed to reserve stock for order, orderId={}, storeId={}", orderId, storeId, e);
-      eventPublisher.publishEvent(new StockReserveFailedEvent(orderId, e.getMessage()));
-      throw e;
+      // 엔진은 트랜잭션 프록시가 아니므로 여기서 잡은 예외는 트랜잭션을 rollback-only 로 만들지 않음
+      stockEngine.reserve(orderId, storeId, items);
+    } catch (CustomException e) {
+      reserveFailed(orderId, storeId, e.getMessage());
+      return;
     }
+    markApplied(orderId, StockOperation.RESERVE);
+    eventPublisher.publishEvent(new StockHeldEvent(orderId, storeId, items));
+    eventPublisher.publishEvent(StockAvailabilityChangedEvent.of(storeId, items));
+    eventPublisher.publishEvent(new StockReservedEvent(orderId));
   }
 
   @Transactional
   public void handleOrderCancelSucceeded(Long orderId, Long storeId, List<OrderItemInfo> items) {
-    executeWithRetry(() -> {
-      for (var item : items) {
-        Stock stock = stockCommandService.getStockForUpdate(storeId, item.productId());
-        stockCommandService.replenishStock(stock, item.quantity());
-      }
-      return null;
-    });
+    if (isApplied(orderId, StockOperation.REPLENISH, new StockReplenishedEvent(orderId))) {
+      return;
+    }
+    stockEngine.replenish(orderId, storeId, items);
+    markApplied(orderId, StockOperation.REPLENISH);
+    eventPublisher.publishEvent(StockAvailabilityChangedEvent.of(storeId, items));
     eventPublisher.publishEvent(new StockReplenishedEvent(orderId));
   }
 
   @Transactional
   public void handleOrderPaymentSucceeded(Long orderId, Long storeId, List<OrderItemInfo> items) {
-    stockCommandService.checkStoreOpen(storeId);
-    executeWithRetry(() -> {
-      for (var item : items) {
-        Stock stock = stockCommandService.getStockForUpdate(storeId, item.productId());
-        stockCommandService.commitStock(stock, item.quantity());
+    if (isApplied(orderId, StockOperation.COMMIT, new StockCommittedEvent(orderId))) {
+      return;
+    }
+    // 만료 스위퍼가 더 꺼내지 못하도록 먼저 인덱스에서 뺀 뒤 확인 (스위퍼는 꺼낼 때 만료 표시를 남김)
+    takeHold(orderId, storeId, items);
+    if (stockHoldRepository.isExpired(orderId)) {
+      // 예약이 이미 해제되어 확정할 재고가 없음 - 다른 주문의 예약분을 차감하지 않고 환불로 보상
+      log.warn("Stock hold expired before payment commit, refunding, orderId={}", orderId);
+      if (!stockOperationRepository.existsByOrderIdAndOperation(orderId,
+          StockOperation.REPLENISH)) {
+        // 차감된 적이 없으므로 환불 후 재고 복구 단계는 결과 이벤트만 발행하도록 표시
+        markApplied(orderId, StockOperation.REPLENISH);
       }
-      return null;
+      eventPublisher.publishEvent(new StockCommitFailedEvent(orderId, HOLD_EXPIRED_REASON));
+      return;
+    }
+    stockCommandService.findStoreUnavailableReason(storeId).ifPresent(reason -> {
+      throw new CustomException(reason);
     });
+    stockEngine.commit(orderId, storeId, items);
+    markApplied(orderId, StockOperation.COMMIT);
     eventPublisher.publishEvent(new StockCommittedEvent(orderId));
   }
 
   @Transactional
   public void handleOrderPaymentFailed(Long orderId, Long storeId, List<OrderItemInfo> items) {
-    executeWithRetry(() -> {
-      for (var item : items) {
-        Stock stock = stockCommandService.getStockForUpdate(storeId, item.productId());
-        stockCommandService.releaseStock(stock, item.quantity());
+    if (isApplied(orderId, StockOperation.RELEASE, new StockReleasedEvent(orderId))) {
+      return;
+    }
+    if (stockHoldRepository.isExpired(orderId)) {
+      // 만료 스위퍼가 이미 해제함
+      log.info("Stock hold already expired and released, orderId={}", orderId);
+    } else {
+      stockEngine.release(orderId, storeId, items);
+      takeHold(orderId, storeId, items);
+      markApplied(orderId, StockOperation.RELEASE);
+      eventPublisher.publishEvent(StockAvailabilityChangedEvent.of(storeId, items));
+    }
+    eventPublisher.publishEvent(new StockReleasedEvent(orderId));
+  }
+
+  // 결제되지 않은 채 만료된 예약 해제
+  @Transactional
+  public void handleHoldExpired(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    if (isApplied(orderId, StockOperation.RELEASE, new StockReleasedEvent(orderId))) {
+      return;
+    }
+    if (stockOperationRepository.existsByOrderIdAndOperation(orderId, StockOperation.COMMIT)) {
+      // 확정 트랜잭션의 결과를 모르는 채 되돌려 놓은 예약 - 이미 확정되었으므로 해제하지 않음
+      log.info("Stock hold expired after commit, skipping release, orderId={}", orderId);
+      return;
+    }
+    stockEngine.release(orderId, storeId, items);
+    markApplied(orderId, StockOperation.RELEASE);
+    eventPublisher.publishEvent(StockAvailabilityChangedEvent.of(storeId, items));
+    eventPublisher.publishEvent(new StockReleasedEvent(orderId));
+  }
+
+  // 예약을 만료 인덱스에서 빼고, 트랜잭션이 커밋되지 않으면 원래 만료 시각으로 되돌림
+  // (커밋 전에 빼야 진행 중에 스위퍼가 같은 예약을 해제하지 않음)
+  private void takeHold(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    Optional<Instant> expiresAt = stockHoldRepository.remove(orderId);
+    if (expiresAt.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status != STATUS_COMMITTED) {
+          log.warn("Stock transaction not committed, restoring hold, orderId={}", orderId);
+          stockHoldRepository.register(orderId, storeId, items, expiresAt.get());
+        }
       }
-      return null;
     });
-    eventPublisher.publishEvent(new StockReleasedEvent(orderId));
   }
-}
\ No newline at end of file
+
+  // 예약은 all-or-nothing 이므로 반영된 것이 없음 - 실패 이벤트가 outbox 에 남도록 커밋
+  private void reserveFailed(Long orderId, Long storeId, String reason) {
+    log.warn("Failed to reserve stock for order, orderId={}, storeId={}: {}", orderId, storeId,
+        reason);
+    eventPublisher.publishEvent(new StockReserveFailedEvent(orderId, reason));
+  }
+
+  // 재고 변경과 같은 트랜잭션에 기록 - 함께 커밋되거나 함께 롤백됨
+  // 동시에 처리된 중복 명령은 유니크 키 위반으로 이 트랜잭션 전체가 롤백되고, 재전달 시 isApplied 에 걸림
+  private void markApplied(Long orderId, StockOperation operation) {
+    stockOperationRepository.saveAndFlush(new StockOperationRecord(orderId, operation));
+  }
+
+  // 이미 반영된 명령이면 결과 이벤트만 다시 발행해 주문 측이 다음 단계로 진행할 수 있게 함
+  private boolean isApplied(Long orderId, StockOperation operation, Object resultEvent) {
+    if (!stockOperationRepository.existsByOrderIdAndOperation(orderId, operation)) {
+      return false;
+    }
+    log.info("Stock {} already applied, republishing result, orderId={}", operation, orderId);
+    eventPublisher.publishEvent(resultEvent);
+    return true;
+  }
+}
@@ -0,0 +1,53 @@
+package com.deliveranything.domain.product.stock.service;
+
+import com.deliveranything.domain.order.enums.OrderSagaStep;
+import com.deliveranything.domain.product.stock.event.StockHeldEvent;
+import com.deliveranything.domain.product.stock.repository.StockHoldRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+@RequiredArgsConstructor
+public class StockHoldService {
+
+  private final StockHoldRepository stockHoldRepository;
+
+  @Value("${custom.stock.hold.ttl:20m}")
+  private Duration holdTtl;
+
+  // 예약 후 고객이 결제를 마치기까지 허용하는 시간 (PG 결제 인증 유효 시간)
+  @Value("${custom.stock.hold.payment-window:10m}")
+  private Duration paymentWindow;
+
+  @Value("${custom.order.saga.max-attempts:3}")
+  private int sagaMaxAttempts;
+
+  // 결제 창 안에 결제한 주문의 예약이 PG 승인 대기와 재고 확정 재시도 중에 만료되지 않도록 설정을 검증
+  @PostConstruct
+  public void validateTtl() {
+    Duration required = minimumTtl(paymentWindow, sagaMaxAttempts);
+    if (holdTtl.compareTo(required) < 0) {
+      throw new IllegalStateException("custom.stock.hold.ttl " + holdTtl
+          + " must be at least " + required + " (payment window + confirm + commit retries)");
+    }
+  }
+
+  // 예약이 커밋된 뒤에만 만료 인덱스에 등록 (롤백된 예약을 만료 처리하지 않도록)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onStockHeld(StockHeldEvent event) {
+    stockHoldRepository.register(event.orderId(), event.storeId(), event.items(),
+        Instant.now().plus(holdTtl));
+  }
+
+  static Duration minimumTtl(Duration paymentWindow, int sagaMaxAttempts) {
+    return paymentWindow
+        .plus(OrderSagaStep.CONFIRMING_PAYMENT.timeout())
+        .plus(OrderSagaStep.COMMITTING_STOCK.timeout().multipliedBy(sagaMaxAttempts + 1L));
+  }
+}
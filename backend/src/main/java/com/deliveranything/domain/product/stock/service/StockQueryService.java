@@ -1,24 +1,25 @@
 package com.deliveranything.domain.product.stock.service;
 
 import com.deliveranything.domain.product.stock.dto.StockResponse;
-import com.deliveranything.domain.product.stock.repository.StockRepository;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class StockQueryService {
 
-  private final StockRepository stockRepository;
+  private final StockAvailabilityService stockAvailabilityService;
 
-  @Transactional(readOnly = true)
+  // 구매 가능 수량 캐시 조회 (다른 상점 상품이면 없는 상품으로 취급)
   public StockResponse getProductStock(Long storeId, Long productId) {
-    var stock = stockRepository.findByProductId(productId)
-        .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
-    stock.getProduct().validateStore(storeId);
-    return StockResponse.from(stock);
+    Integer quantity = stockAvailabilityService.getAvailableQuantities(storeId, List.of(productId))
+        .get(productId);
+    if (quantity == null) {
+      throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+    }
+    return StockResponse.of(productId, quantity);
   }
-}
\ No newline at end of file
+}
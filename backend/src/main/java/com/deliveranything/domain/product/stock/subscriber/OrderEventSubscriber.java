@@ -1,36 +1,31 @@
 package com.deliveranything.domain.product.stock.subscriber;
 
 import com.deliveranything.domain.product.stock.handler.OrderEventHandler;
+import com.deliveranything.global.event.EventChannel;
+import com.deliveranything.global.event.EventDispatcher;
+import com.deliveranything.global.event.EventGroup;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.PatternTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderEventSubscriber implements MessageListener {
+public class OrderEventSubscriber {
 
-  private final RedisMessageListenerContainer container;
+  private final EventDispatcher eventDispatcher;
   private final OrderEventHandler orderEventHandler;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new PatternTopic("order-created-event"));
-    container.addMessageListener(this, new PatternTopic("order-cancel-succeeded-event"));
-    container.addMessageListener(this, new PatternTopic("order-payment-succeeded-event"));
-    container.addMessageListener(this, new PatternTopic("order-payment-failed-event"));
+    eventDispatcher.subscribe(EventChannel.ORDER_CREATED, EventGroup.STOCK,
+        orderEventHandler::handleCreated);
+    eventDispatcher.subscribe(EventChannel.ORDER_CANCEL_SUCCEEDED, EventGroup.STOCK,
+        orderEventHandler::handleCancelSucceeded);
+    eventDispatcher.subscribe(EventChannel.ORDER_PAYMENT_SUCCEEDED, EventGroup.STOCK,
+        orderEventHandler::handlePaymentSucceeded);
+    eventDispatcher.subscribe(EventChannel.ORDER_PAYMENT_FAILED, EventGroup.STOCK,
+        orderEventHandler::handlePaymentFailed);
   }
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    String topic = new String(pattern);
-    String json = new String(message.getBody());
-    log.debug("Received Redis event topic={}, body={}", topic, json);
-    orderEventHandler.handle(topic, json);
-  }
-}
\ No newline at end of file
+}
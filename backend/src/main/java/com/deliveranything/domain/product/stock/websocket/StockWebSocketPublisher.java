@@ -0,0 +1,19 @@
+package com.deliveranything.domain.product.stock.websocket;
+
+import com.deliveranything.domain.product.stock.dto.StockAvailabilityResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StockWebSocketPublisher {
+
+  private final SimpMessagingTemplate messagingTemplate;
+
+  // 상점 상품 목록을 보고 있는 고객에게 재고 상태 변경 전달
+  public void publishAvailability(Long storeId, StockAvailabilityResponse availability) {
+    String destination = "/topic/store/stock/" + storeId;
+    messagingTemplate.convertAndSend(destination, availability);
+  }
+}
@@ -2,7 +2,9 @@ package com.deliveranything.domain.review.service;
 
 import com.deliveranything.domain.notification.entity.Notification;
 import com.deliveranything.domain.notification.enums.NotificationType;
+import com.deliveranything.domain.notification.repository.NotificationDigestRepository;
 import com.deliveranything.domain.notification.repository.NotificationRepository;
+import com.deliveranything.domain.notification.repository.NotificationUnreadCountRepository;
 import com.deliveranything.domain.review.dto.ReviewCreateRequest;
 import com.deliveranything.domain.review.dto.ReviewCreateResponse;
 import com.deliveranything.domain.review.dto.ReviewLikeResponse;
@@ -33,7 +35,6 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.ReturnType;
@@ -56,6 +57,8 @@ public class ReviewService {
   private final StoreService storeService;
   private final CustomerProfileService customerProfileService;
   private final NotificationRepository notificationRepository;
+  private final NotificationUnreadCountRepository notificationUnreadCountRepository;
+  private final NotificationDigestRepository notificationDigestRepository;
 
   //============================메인 API 메서드==================================
   /* 리뷰 생성 */
@@ -83,14 +86,8 @@ public class ReviewService {
     List<String> reviewPhotoUrls = getReviewPhotoUrlList(review);
     log.info("리뷰 생성 성공 - reviewId: {}, userId: {}", review.getId(), userId);
 
-    // 알림용 Redis 저장
-    NotificationType type = NotificationType.NEW_REVIEW;
-    String reviewNotificationKey = "notifications:hourly:profile:" + review.getTargetId();
-
-    redisTemplate.opsForHash().increment(reviewNotificationKey, type, 1);
-
-    // 2시간 후 자동 삭제
-    redisTemplate.expire(reviewNotificationKey, 2, TimeUnit.HOURS);
+    // 1시간 집계 알림용 Redis 카운트 (2시간 후 자동 삭제)
+    notificationDigestRepository.increment(review.getTargetId(), NotificationType.NEW_REVIEW);
 
     Map<String, Object> data = Map.of("reviewId", review.getId());
 
@@ -102,6 +99,7 @@ public class ReviewService {
     notification.setData(data.toString());
 
     notificationRepository.save(notification);
+    notificationUnreadCountRepository.increment(review.getTargetId());
 
     return ReviewCreateResponse.from(review, reviewPhotoUrls, customerProfile);
   }
@@ -2,53 +2,35 @@ package com.deliveranything.domain.search.store.subscriber;
 
 import com.deliveranything.domain.search.store.service.StoreSyncService;
 import com.deliveranything.domain.store.store.event.StoreDeletedEvent;
-import com.deliveranything.domain.store.store.event.StoreEventType;
 import com.deliveranything.domain.store.store.event.StoreSavedEvent;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deliveranything.global.event.EventChannel;
+import com.deliveranything.global.event.EventDispatcher;
+import com.deliveranything.global.event.EventGroup;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.PatternTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class StoreEventSubscriber implements MessageListener {
+public class StoreEventSubscriber {
 
-  private final RedisMessageListenerContainer container;
-  private final ObjectMapper objectMapper;
+  private final EventDispatcher eventDispatcher;
   private final StoreSyncService storeSyncService;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new PatternTopic("store-events"));
+    // 같은 store-events 채널을 공유하지만 스키마 ID 로 타입이 구분되어 각 핸들러로 전달됨
+    eventDispatcher.subscribe(EventChannel.STORE_SAVED, EventGroup.SEARCH, this::handleSaved);
+    eventDispatcher.subscribe(EventChannel.STORE_DELETED, EventGroup.SEARCH, this::handleDeleted);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    try {
-      String json = new String(message.getBody());
-      JsonNode node = objectMapper.readTree(json);
-      StoreEventType type = StoreEventType.valueOf(node.get("type").asText());
+  private void handleSaved(StoreSavedEvent event) {
+    storeSyncService.handleSaved(event.storeId());
+  }
 
-      switch (type) {
-        case SAVED -> {
-          StoreSavedEvent event = objectMapper.treeToValue(node, StoreSavedEvent.class);
-          storeSyncService.handleSaved(event.storeId());
-        }
-        case DELETED -> {
-          StoreDeletedEvent event = objectMapper.treeToValue(node, StoreDeletedEvent.class);
-          storeSyncService.handleDeleted(event.storeId());
-        }
-      }
-    } catch (Exception e) {
-      log.error("Failed to process store event from Redis: {}", new String(message.getBody()), e);
-    }
+  private void handleDeleted(StoreDeletedEvent event) {
+    storeSyncService.handleDeleted(event.storeId());
   }
-}
\ No newline at end of file
+}
@@ -2,11 +2,15 @@ package com.deliveranything.domain.settlement.controller;
 
 import com.deliveranything.domain.settlement.dto.SettlementResponse;
 import com.deliveranything.domain.settlement.dto.SummaryResponse;
+import com.deliveranything.domain.settlement.enums.SettlementExportFormat;
 import com.deliveranything.domain.settlement.service.SettlementBatchService;
+import com.deliveranything.domain.settlement.service.SettlementExportService;
 import com.deliveranything.global.common.ApiResponse;
 import com.deliveranything.global.security.auth.SecurityUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +29,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class RiderSettlementController {
 
   private final SettlementBatchService settlementBatchService;
+  private final SettlementExportService settlementExportService;
 
   @GetMapping("/day")
   @Operation(summary = "정산 일별 조회", description = "배달원이 일별 정산 내역을 요청한 경우")
@@ -79,4 +84,20 @@ public class RiderSettlementController {
     return ResponseEntity.ok().body(ApiResponse.success("정산 요약 카드 조회 성공",
         settlementBatchService.getSettlementSummary(securityUser.getCurrentActiveProfileIdSafe())));
   }
+
+  @GetMapping("/export")
+  @Operation(summary = "정산 상세 내보내기",
+      description = "배달원이 기간 내 정산 상세를 CSV 로 내려받는 경우 (after: 이어 받을 때 마지막으로 받은 행의 id)")
+  @PreAuthorize("@profileSecurity.isRider(#securityUser)")
+  public void exportSettlementDetails(
+      @AuthenticationPrincipal SecurityUser securityUser,
+      @RequestParam LocalDate startDate,
+      @RequestParam LocalDate endDate,
+      @RequestParam(defaultValue = "CSV") SettlementExportFormat format,
+      @RequestParam(required = false) Long after,
+      HttpServletResponse response
+  ) throws IOException {
+    settlementExportService.export(securityUser.getCurrentActiveProfileIdSafe(), startDate,
+        endDate, after, format, response);
+  }
 }
@@ -1,11 +1,15 @@
 package com.deliveranything.domain.settlement.controller;
 
 import com.deliveranything.domain.settlement.dto.SettlementResponse;
+import com.deliveranything.domain.settlement.enums.SettlementExportFormat;
 import com.deliveranything.domain.settlement.service.SettlementBatchService;
+import com.deliveranything.domain.settlement.service.SettlementExportService;
 import com.deliveranything.global.common.ApiResponse;
 import com.deliveranything.global.security.auth.SecurityUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +29,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class StoreSettlementController {
 
   private final SettlementBatchService settlementBatchService;
+  private final SettlementExportService settlementExportService;
 
   @GetMapping("/{storeId}/day")
   @Operation(summary = "정산 일별 조회", description = "상점이 일별 정산 내역을 요청한 경우")
@@ -73,4 +78,21 @@ public class StoreSettlementController {
         settlementBatchService.getSettlementByPeriod(securityUser.getCurrentActiveProfileIdSafe(),
             startDate, endDate)));
   }
+
+  @GetMapping("/{storeId}/export")
+  @Operation(summary = "정산 상세 내보내기",
+      description = "상점이 기간 내 정산 상세를 CSV 로 내려받는 경우 (after: 이어 받을 때 마지막으로 받은 행의 id)")
+  @PreAuthorize("@profileSecurity.isSeller(#securityUser) and @storeSecurity.isOwner(#storeId,#securityUser)")
+  public void exportSettlementDetails(
+      @AuthenticationPrincipal SecurityUser securityUser,
+      @PathVariable Long storeId,
+      @RequestParam LocalDate startDate,
+      @RequestParam LocalDate endDate,
+      @RequestParam(defaultValue = "CSV") SettlementExportFormat format,
+      @RequestParam(required = false) Long after,
+      HttpServletResponse response
+  ) throws IOException {
+    settlementExportService.export(securityUser.getCurrentActiveProfileIdSafe(), startDate,
+        endDate, after, format, response);
+  }
 }
@@ -2,6 +2,7 @@ package com.deliveranything.domain.settlement.dto;
 
 import com.deliveranything.domain.settlement.dto.projection.SettlementProjection;
 import com.deliveranything.domain.settlement.entity.SettlementBatch;
+import com.deliveranything.domain.settlement.entity.SettlementRollup;
 import java.time.LocalDate;
 
 public record SettlementResponse(
@@ -24,6 +25,17 @@ public record SettlementResponse(
     );
   }
 
+  public static SettlementResponse from(SettlementRollup rollup) {
+    return new SettlementResponse(
+        rollup.getTargetTotalAmount(),
+        rollup.getTotalPlatformFee(),
+        rollup.getSettledAmount(),
+        rollup.getTransactionCount().intValue(),
+        rollup.getFirstSettlementDate(),
+        rollup.getLastSettlementDate()
+    );
+  }
+
   public static SettlementResponse fromProjection(SettlementProjection sp) {
     return new SettlementResponse(
         sp.targetTotalAmount(),
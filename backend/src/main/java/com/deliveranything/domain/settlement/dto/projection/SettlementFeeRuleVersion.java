@@ -0,0 +1,10 @@
+package com.deliveranything.domain.settlement.dto.projection;
+
+import java.time.LocalDateTime;
+
+public record SettlementFeeRuleVersion(
+    Long ruleCount,
+    LocalDateTime lastUpdatedAt
+) {
+
+}
@@ -1,18 +1,32 @@
 package com.deliveranything.domain.settlement.entity;
 
+import com.deliveranything.domain.settlement.enums.SettlementStatus;
 import com.deliveranything.global.entity.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDate;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 정산 대상별 일 집계 - 정산 상세가 생길 때마다 누적(PENDING)하고 다음 날 마감(COMPLETED)
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name = "settlement_batches")
+@Table(
+    name = "settlement_batches",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_settlement_batches_target_id_settlement_date",
+        columnNames = {"target_id", "settlement_date"}
+    ),
+    indexes = @Index(name = "idx_settlement_batches_settlement_date_status_target_id",
+        columnList = "settlementDate, status, targetId")
+)
 public class SettlementBatch extends BaseEntity {
 
   @Column(nullable = false)
@@ -33,6 +47,10 @@ public class SettlementBatch extends BaseEntity {
   @Column(nullable = false)
   private LocalDate settlementDate;
 
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, columnDefinition = "VARCHAR(20)")
+  private SettlementStatus status;
+
   @Builder
   public SettlementBatch(Long targetId, Long targetTotalAmount, Integer transactionCount,
       Long totalPlatformFee, Long settledAmount, LocalDate settlementDate) {
@@ -42,5 +60,6 @@ public class SettlementBatch extends BaseEntity {
     this.totalPlatformFee = totalPlatformFee;
     this.settledAmount = settledAmount;
     this.settlementDate = settlementDate;
+    this.status = SettlementStatus.PENDING;
   }
 }
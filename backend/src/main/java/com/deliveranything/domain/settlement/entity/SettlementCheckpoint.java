@@ -0,0 +1,60 @@
+package com.deliveranything.domain.settlement.entity;
+
+import com.deliveranything.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 일 정산 마감 진행 위치 - 파티션별로 마지막으로 마감한 정산 대상 ID (재실행 시 이어서 처리)
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(
+    name = "settlement_checkpoints",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_settlement_checkpoints_settlement_date_partition_no",
+        columnNames = {"settlement_date", "partition_no"}
+    )
+)
+public class SettlementCheckpoint extends BaseEntity {
+
+  @Column(nullable = false)
+  private LocalDate settlementDate;
+
+  @Column(nullable = false)
+  private Integer partitionNo;
+
+  @Column(nullable = false)
+  private Long lastTargetId;
+
+  private LocalDateTime completedAt;
+
+  public SettlementCheckpoint(LocalDate settlementDate, Integer partitionNo) {
+    this.settlementDate = settlementDate;
+    this.partitionNo = partitionNo;
+    this.lastTargetId = 0L;
+  }
+
+  public boolean isCompleted() {
+    return completedAt != null;
+  }
+
+  public void advance(Long lastTargetId) {
+    this.lastTargetId = lastTargetId;
+  }
+
+  public void complete() {
+    this.completedAt = LocalDateTime.now();
+  }
+
+  // 완료 후 늦게 생긴 미마감 집계를 처음부터 다시 훑도록 되돌림 (마감된 집계는 상태로 걸러짐)
+  public void reopen() {
+    this.lastTargetId = 0L;
+    this.completedAt = null;
+  }
+}
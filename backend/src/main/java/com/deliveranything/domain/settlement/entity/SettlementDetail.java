@@ -6,7 +6,10 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,7 +17,19 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name = "settlement_details")
+@Table(
+    name = "settlement_details",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_settlement_details_order_id_target_id",
+        columnNames = {"order_id", "target_id"}
+    ),
+    indexes = {
+        @Index(name = "idx_settlement_details_settlement_date_target_id",
+            columnList = "settlementDate, targetId"),
+        @Index(name = "idx_settlement_details_target_id_settlement_date",
+            columnList = "targetId, settlementDate")
+    }
+)
 public class SettlementDetail extends BaseEntity {
 
   @Column(nullable = false)
@@ -35,17 +50,18 @@ public class SettlementDetail extends BaseEntity {
 
   private Long batchId;
 
+  // 집계된 일 정산 날짜 (생성 시점 기준)
+  private LocalDate settlementDate;
+
   @Builder
-  public SettlementDetail(Long orderId, Long targetId, Long targetAmount, Long platformFee) {
+  public SettlementDetail(Long orderId, Long targetId, Long targetAmount, Long platformFee,
+      Long batchId, LocalDate settlementDate) {
     this.orderId = orderId;
     this.targetId = targetId;
     this.targetAmount = targetAmount;
     this.platformFee = platformFee;
-    this.status = SettlementStatus.PENDING;
-  }
-
-  public void process(Long batchId) {
     this.batchId = batchId;
-    this.status = SettlementStatus.COMPLETED;
+    this.settlementDate = settlementDate;
+    this.status = SettlementStatus.PENDING;
   }
 }
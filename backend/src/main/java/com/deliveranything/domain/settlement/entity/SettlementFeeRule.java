@@ -0,0 +1,86 @@
+package com.deliveranything.domain.settlement.entity;
+
+import com.deliveranything.domain.settlement.enums.SettlementFeeTarget;
+import com.deliveranything.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+
+/**
+ * 정산 수수료 규칙
+ * <p>
+ * storeId 가 있으면 상점 규칙, storeCategoryId 가 있으면 카테고리 규칙, 둘 다 없으면 전체 규칙입니다. 요일(daysOfWeek,
+ * 월요일이 bit 0)과 시간대(분 단위, end 가 start 보다 작으면 자정을 넘김), 적용 기간(validFrom ~ validUntil)은 비어 있으면
+ * 제한이 없으며 프로모션은 적용 기간과 높은 priority 를 가진 규칙으로 표현합니다. 수수료는 basis point(1/10000) 비율과 건당
+ * 고정 금액의 합입니다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "settlement_fee_rules")
+public class SettlementFeeRule extends BaseEntity {
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, columnDefinition = "VARCHAR(10)")
+  private SettlementFeeTarget target;
+
+  private Long storeId;
+
+  private Long storeCategoryId;
+
+  @Column(nullable = false)
+  private Integer rateBasisPoints;
+
+  @Column(nullable = false)
+  private Long fixedAmount;
+
+  @Column(nullable = false)
+  private Integer priority;
+
+  private Integer daysOfWeek;
+
+  private Integer startMinute;
+
+  private Integer endMinute;
+
+  private LocalDateTime validFrom;
+
+  private LocalDateTime validUntil;
+
+  @Column(nullable = false)
+  private boolean active;
+
+  // 규칙 테이블 재구성 여부 판단용 (SQL 로 직접 수정할 때도 함께 갱신)
+  @LastModifiedDate
+  private LocalDateTime updatedAt;
+
+  @Builder
+  public SettlementFeeRule(SettlementFeeTarget target, Long storeId, Long storeCategoryId,
+      Integer rateBasisPoints, Long fixedAmount, Integer priority, Integer daysOfWeek,
+      Integer startMinute, Integer endMinute, LocalDateTime validFrom,
+      LocalDateTime validUntil) {
+    this.target = target;
+    this.storeId = storeId;
+    this.storeCategoryId = storeCategoryId;
+    this.rateBasisPoints = rateBasisPoints;
+    this.fixedAmount = fixedAmount == null ? 0L : fixedAmount;
+    this.priority = priority == null ? 0 : priority;
+    this.daysOfWeek = daysOfWeek;
+    this.startMinute = startMinute;
+    this.endMinute = endMinute;
+    this.validFrom = validFrom;
+    this.validUntil = validUntil;
+    this.active = true;
+  }
+
+  public void deactivate() {
+    this.active = false;
+  }
+}
@@ -0,0 +1,56 @@
+package com.deliveranything.domain.settlement.entity;
+
+import com.deliveranything.domain.settlement.enums.SettlementPeriodType;
+import com.deliveranything.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 정산 대상별 주/월 합계 - 일 정산이 마감될 때 해당 주와 월 행에 더함
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(
+    name = "settlement_rollups",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_settlement_rollups_target_id_period_type_period_start",
+        columnNames = {"target_id", "period_type", "period_start"}
+    )
+)
+public class SettlementRollup extends BaseEntity {
+
+  @Column(nullable = false)
+  private Long targetId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, columnDefinition = "VARCHAR(10)")
+  private SettlementPeriodType periodType;
+
+  @Column(nullable = false)
+  private LocalDate periodStart;
+
+  // 기간 안에서 실제 정산이 있었던 첫날과 마지막 날
+  @Column(nullable = false)
+  private LocalDate firstSettlementDate;
+
+  @Column(nullable = false)
+  private LocalDate lastSettlementDate;
+
+  @Column(nullable = false)
+  private Long targetTotalAmount;
+
+  @Column(nullable = false)
+  private Long totalPlatformFee;
+
+  @Column(nullable = false)
+  private Long settledAmount;
+
+  @Column(nullable = false)
+  private Long transactionCount;
+}
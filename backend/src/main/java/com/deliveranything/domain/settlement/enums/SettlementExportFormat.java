@@ -0,0 +1,14 @@
+package com.deliveranything.domain.settlement.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SettlementExportFormat {
+  CSV("text/csv; charset=UTF-8", ".csv"),
+  GZIP("application/gzip", ".csv.gz");
+
+  private final String contentType;
+  private final String extension;
+}
@@ -0,0 +1,7 @@
+package com.deliveranything.domain.settlement.enums;
+
+// 수수료를 떼는 정산 대상 (상점 매출 / 배달비)
+public enum SettlementFeeTarget {
+  SELLER,
+  RIDER
+}
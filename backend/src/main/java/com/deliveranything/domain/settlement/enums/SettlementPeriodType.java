@@ -0,0 +1,17 @@
+package com.deliveranything.domain.settlement.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+// 정산 롤업 단위 (주는 월요일 시작)
+public enum SettlementPeriodType {
+  WEEK,
+  MONTH;
+
+  public LocalDate startOf(LocalDate date) {
+    return switch (this) {
+      case WEEK -> date.with(DayOfWeek.MONDAY);
+      case MONTH -> date.withDayOfMonth(1);
+    };
+  }
+}
@@ -0,0 +1,204 @@
+package com.deliveranything.domain.settlement.fee;
+
+import com.deliveranything.domain.settlement.entity.SettlementFeeRule;
+import com.deliveranything.domain.settlement.enums.SettlementFeeTarget;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컴파일된 수수료 규칙 테이블 (불변)
+ * <p>
+ * 대상별로 상점 ID, 카테고리 ID 인덱스와 전체 규칙 배열을 두고 각 배열을 우선순위 순으로 정렬해 둡니다. 조회는 세 후보 배열에서 조건을
+ * 만족하는 첫 규칙만 찾아 비교하므로 전체 규칙 수가 아니라 해당 상점/카테고리에 걸린 규칙 몇 개만 확인하고, 할당이나 락 없이 여러 스레드가
+ * 공유합니다. 규칙이 바뀌면 테이블을 통째로 새로 만들어 교체합니다.
+ * <p>
+ * 우선순위가 같으면 상점 > 카테고리 > 전체, 그다음 최근 규칙 순이며 어떤 규칙도 맞지 않으면 대상별 기본 요율을 씁니다.
+ */
+public final class FeeRuleTable {
+
+  static final long BASIS_POINTS = 10_000L;
+
+  private static final int EVERY_DAY = 0b111_1111;
+  private static final int MINUTES_PER_DAY = 24 * 60;
+
+  private final Map<SettlementFeeTarget, TargetRules> rulesByTarget;
+  private final int ruleCount;
+
+  private FeeRuleTable(Map<SettlementFeeTarget, TargetRules> rulesByTarget, int ruleCount) {
+    this.rulesByTarget = rulesByTarget;
+    this.ruleCount = ruleCount;
+  }
+
+  /**
+   * @param rules                  활성 규칙
+   * @param defaultRateBasisPoints 규칙이 없을 때 대상별 기본 요율
+   * @throws IllegalArgumentException 범위를 벗어난 규칙이 있으면 (테이블 전체를 만들지 않음)
+   */
+  public static FeeRuleTable compile(List<SettlementFeeRule> rules,
+      Map<SettlementFeeTarget, Integer> defaultRateBasisPoints) {
+    Map<SettlementFeeTarget, TargetRules> rulesByTarget = new EnumMap<>(SettlementFeeTarget.class);
+    for (SettlementFeeTarget target : SettlementFeeTarget.values()) {
+      int rate = defaultRateBasisPoints.getOrDefault(target, 0);
+      checkRate(rate, "default " + target);
+      List<SettlementFeeRule> targetRules = rules.stream()
+          .filter(rule -> rule.getTarget() == target)
+          .toList();
+      rulesByTarget.put(target, TargetRules.compile(targetRules, CompiledRule.fallback(rate)));
+    }
+    return new FeeRuleTable(rulesByTarget, rules.size());
+  }
+
+  /**
+   * 정산 금액에서 뗄 수수료 (0 이상 amount 이하, 원 단위 내림)
+   */
+  public long feeOf(SettlementFeeTarget target, long amount, Long storeId, Long storeCategoryId,
+      LocalDateTime at) {
+    TargetRules rules = rulesByTarget.get(target);
+    int dayBit = 1 << (at.getDayOfWeek().getValue() - 1);
+    int minute = at.getHour() * 60 + at.getMinute();
+    long epochSecond = at.toEpochSecond(ZoneOffset.UTC);
+
+    CompiledRule best = rules.fallback;
+    if (storeId != null) {
+      best = pick(best, rules.byStore.get(storeId), dayBit, minute, epochSecond);
+    }
+    if (storeCategoryId != null) {
+      best = pick(best, rules.byCategory.get(storeCategoryId), dayBit, minute, epochSecond);
+    }
+    best = pick(best, rules.global, dayBit, minute, epochSecond);
+    return best.feeOf(amount);
+  }
+
+  public int ruleCount() {
+    return ruleCount;
+  }
+
+  private static CompiledRule pick(CompiledRule best, CompiledRule[] candidates, int dayBit,
+      int minute, long epochSecond) {
+    if (candidates == null) {
+      return best;
+    }
+    // 정렬되어 있으므로 처음 맞는 규칙이 이 목록에서 가장 우선
+    for (CompiledRule candidate : candidates) {
+      if (candidate.matches(dayBit, minute, epochSecond)) {
+        return candidate.beats(best) ? candidate : best;
+      }
+    }
+    return best;
+  }
+
+  private static void checkRate(int rateBasisPoints, String rule) {
+    if (rateBasisPoints < 0 || rateBasisPoints > BASIS_POINTS) {
+      throw new IllegalArgumentException("Fee rate out of range: " + rule);
+    }
+  }
+
+  // 대상 하나의 규칙 인덱스
+  private record TargetRules(
+      Map<Long, CompiledRule[]> byStore,
+      Map<Long, CompiledRule[]> byCategory,
+      CompiledRule[] global,
+      CompiledRule fallback
+  ) {
+
+    private static TargetRules compile(List<SettlementFeeRule> rules, CompiledRule fallback) {
+      Map<Long, List<CompiledRule>> byStore = new HashMap<>();
+      Map<Long, List<CompiledRule>> byCategory = new HashMap<>();
+      List<CompiledRule> global = new ArrayList<>();
+      for (SettlementFeeRule rule : rules) {
+        CompiledRule compiled = CompiledRule.of(rule);
+        if (rule.getStoreId() != null) {
+          byStore.computeIfAbsent(rule.getStoreId(), id -> new ArrayList<>()).add(compiled);
+        } else if (rule.getStoreCategoryId() != null) {
+          byCategory.computeIfAbsent(rule.getStoreCategoryId(), id -> new ArrayList<>())
+              .add(compiled);
+        } else {
+          global.add(compiled);
+        }
+      }
+      return new TargetRules(freeze(byStore), freeze(byCategory), sorted(global), fallback);
+    }
+
+    private static Map<Long, CompiledRule[]> freeze(Map<Long, List<CompiledRule>> rules) {
+      Map<Long, CompiledRule[]> frozen = new HashMap<>();
+      rules.forEach((id, list) -> frozen.put(id, sorted(list)));
+      return Map.copyOf(frozen);
+    }
+
+    private static CompiledRule[] sorted(List<CompiledRule> rules) {
+      return rules.stream()
+          .sorted(Comparator.comparingInt(CompiledRule::priority)
+              .thenComparingLong(CompiledRule::id)
+              .reversed())
+          .toArray(CompiledRule[]::new);
+    }
+  }
+
+  // 조회용으로 펼친 규칙 - null 조건은 항상 참이 되는 값으로 바꿔 둠
+  private record CompiledRule(
+      long id,
+      int priority,
+      int specificity,
+      int rateBasisPoints,
+      long fixedAmount,
+      int dayMask,
+      int startMinute,
+      int endMinute,
+      long validFrom,
+      long validUntil
+  ) {
+
+    private static CompiledRule of(SettlementFeeRule rule) {
+      String name = "rule " + rule.getId();
+      checkRate(rule.getRateBasisPoints(), name);
+      int startMinute = rule.getStartMinute() == null ? 0 : rule.getStartMinute();
+      int endMinute = rule.getEndMinute() == null ? MINUTES_PER_DAY : rule.getEndMinute();
+      int dayMask = rule.getDaysOfWeek() == null ? EVERY_DAY : rule.getDaysOfWeek();
+      if (rule.getFixedAmount() < 0 || startMinute < 0 || endMinute > MINUTES_PER_DAY
+          || startMinute == endMinute || (dayMask & EVERY_DAY) == 0) {
+        throw new IllegalArgumentException("Invalid fee rule condition: " + name);
+      }
+
+      int specificity = rule.getStoreId() != null ? 2 : rule.getStoreCategoryId() != null ? 1 : 0;
+      return new CompiledRule(rule.getId(), rule.getPriority(), specificity,
+          rule.getRateBasisPoints(), rule.getFixedAmount(), dayMask, startMinute, endMinute,
+          rule.getValidFrom() == null ? Long.MIN_VALUE
+              : rule.getValidFrom().toEpochSecond(ZoneOffset.UTC),
+          rule.getValidUntil() == null ? Long.MAX_VALUE
+              : rule.getValidUntil().toEpochSecond(ZoneOffset.UTC));
+    }
+
+    private static CompiledRule fallback(int rateBasisPoints) {
+      return new CompiledRule(0L, Integer.MIN_VALUE, -1, rateBasisPoints, 0L, EVERY_DAY, 0,
+          MINUTES_PER_DAY, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    private boolean matches(int dayBit, int minute, long epochSecond) {
+      if ((dayMask & dayBit) == 0 || epochSecond < validFrom || epochSecond >= validUntil) {
+        return false;
+      }
+      return startMinute < endMinute
+          ? minute >= startMinute && minute < endMinute
+          : minute >= startMinute || minute < endMinute;
+    }
+
+    private boolean beats(CompiledRule other) {
+      return priority != other.priority ? priority > other.priority
+          : specificity > other.specificity;
+    }
+
+    private long feeOf(long amount) {
+      if (amount <= 0) {
+        return 0L;
+      }
+      long fee = Math.multiplyExact(amount, rateBasisPoints) / BASIS_POINTS + fixedAmount;
+      return Math.min(fee, amount);
+    }
+  }
+}
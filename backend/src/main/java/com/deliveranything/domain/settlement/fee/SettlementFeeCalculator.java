@@ -0,0 +1,73 @@
+package com.deliveranything.domain.settlement.fee;
+
+import com.deliveranything.domain.settlement.dto.projection.SettlementFeeRuleVersion;
+import com.deliveranything.domain.settlement.enums.SettlementFeeTarget;
+import com.deliveranything.domain.settlement.repository.SettlementFeeRuleRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정산 수수료 계산
+ * <p>
+ * 활성 규칙을 {@link FeeRuleTable} 로 컴파일해 들고 있다가, 규칙 테이블 버전(개수, 마지막 수정 시각)이 바뀌면 새 테이블을 만들어 참조를
+ * 한 번에 교체합니다. 계산 중인 스레드는 교체 전 테이블을 끝까지 쓰고, 잘못된 규칙이 섞여 컴파일에 실패하면 이전 테이블을 유지합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementFeeCalculator {
+
+  private final SettlementFeeRuleRepository settlementFeeRuleRepository;
+
+  // 규칙이 없을 때의 기본 요율 (basis point, 800 = 8%)
+  @Value("${custom.settlement.fee.seller-default-bps:800}")
+  private int sellerDefaultBasisPoints;
+
+  @Value("${custom.settlement.fee.rider-default-bps:0}")
+  private int riderDefaultBasisPoints;
+
+  private volatile FeeRuleTable table;
+  private SettlementFeeRuleVersion version;
+
+  @PostConstruct
+  public void init() {
+    table = FeeRuleTable.compile(List.of(), defaultRates());
+    refresh();
+  }
+
+  @Scheduled(fixedDelayString = "${custom.settlement.fee.refresh-interval-ms:30000}")
+  public synchronized void refresh() {
+    try {
+      // 버전을 먼저 읽으므로 사이에 바뀐 규칙은 다음 확인 때 다시 반영됨
+      SettlementFeeRuleVersion current = settlementFeeRuleRepository.findVersion();
+      if (current.equals(version)) {
+        return;
+      }
+      FeeRuleTable compiled = FeeRuleTable.compile(
+          settlementFeeRuleRepository.findAllByActiveTrue(), defaultRates());
+      table = compiled;
+      version = current;
+      log.info("Settlement fee rules reloaded: rules={}, version={}", compiled.ruleCount(),
+          current);
+    } catch (RuntimeException e) {
+      log.error("Failed to reload settlement fee rules, keeping previous table", e);
+    }
+  }
+
+  public long feeOf(SettlementFeeTarget target, long amount, Long storeId, Long storeCategoryId,
+      LocalDateTime at) {
+    return table.feeOf(target, amount, storeId, storeCategoryId, at);
+  }
+
+  private Map<SettlementFeeTarget, Integer> defaultRates() {
+    return Map.of(SettlementFeeTarget.SELLER, sellerDefaultBasisPoints,
+        SettlementFeeTarget.RIDER, riderDefaultBasisPoints);
+  }
+}
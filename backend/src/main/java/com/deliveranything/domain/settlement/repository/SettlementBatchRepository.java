@@ -1,52 +1,73 @@
 package com.deliveranything.domain.settlement.repository;
 
 import com.deliveranything.domain.settlement.dto.projection.SettlementProjection;
-import com.deliveranything.domain.settlement.dto.projection.SettlementSummaryProjection;
 import com.deliveranything.domain.settlement.entity.SettlementBatch;
+import com.deliveranything.domain.settlement.enums.SettlementStatus;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface SettlementBatchRepository extends JpaRepository<SettlementBatch, Long> {
 
-  List<SettlementBatch> findAllByTargetId(Long targetId);
+  List<SettlementBatch> findAllByTargetIdAndStatus(Long targetId, SettlementStatus status);
 
-  // 주간별 집계 쿼리
+  // 정산 상세 1건을 (대상, 날짜) 일 집계에 원자적으로 누적 (없으면 생성)
+  // 이미 마감된 집계는 주/월 롤업에 반영됐으므로 더하지 않음 - 호출자가 상태를 보고 다른 날짜로 넘김
+  @Modifying
   @Query(value = """
-          SELECT new com.deliveranything.domain.settlement.dto.projection.SettlementProjection(
-              SUM(s.targetTotalAmount),
-              SUM(s.totalPlatformFee),
-              SUM(s.settledAmount),
-              SUM(s.transactionCount),
-              MIN(s.settlementDate),
-              MAX(s.settlementDate)
-          )
-          FROM SettlementBatch s
-          WHERE s.targetId = :targetId
-          GROUP BY YEAR(s.settlementDate), WEEK(s.settlementDate)
-          ORDER BY MIN(s.settlementDate) DESC
+      INSERT INTO settlement_batches
+          (target_id, target_total_amount, transaction_count, total_platform_fee, settled_amount,
+           settlement_date, status, created_at)
+      VALUES (:targetId, :totalAmount, 1, :platformFee, :settledAmount, :settlementDate,
+              'PENDING', :createdAt)
+      ON DUPLICATE KEY UPDATE
+          target_total_amount = CASE WHEN status = 'PENDING'
+              THEN target_total_amount + :totalAmount ELSE target_total_amount END,
+          transaction_count = CASE WHEN status = 'PENDING'
+              THEN transaction_count + 1 ELSE transaction_count END,
+          total_platform_fee = CASE WHEN status = 'PENDING'
+              THEN total_platform_fee + :platformFee ELSE total_platform_fee END,
+          settled_amount = CASE WHEN status = 'PENDING'
+              THEN settled_amount + :settledAmount ELSE settled_amount END
+      """, nativeQuery = true)
+  int accumulate(@Param("targetId") Long targetId,
+      @Param("settlementDate") LocalDate settlementDate, @Param("totalAmount") Long totalAmount,
+      @Param("platformFee") Long platformFee, @Param("settledAmount") Long settledAmount,
+      @Param("createdAt") LocalDateTime createdAt);
+
+  Optional<SettlementBatch> findByTargetIdAndSettlementDate(Long targetId,
+      LocalDate settlementDate);
+
+  @Query("""
+      SELECT DISTINCT s.settlementDate FROM SettlementBatch s
+      WHERE s.status = :status AND s.settlementDate < :before
+      ORDER BY s.settlementDate
       """)
-  List<SettlementProjection> findWeeklySettlementsByTargetId(@Param("targetId") Long targetId);
+  List<LocalDate> findSettlementDatesByStatusBefore(SettlementStatus status, LocalDate before);
 
+  // 마감할 정산 대상 청크 - targetId 로 파티션을 나누고 파티션 안에서는 targetId 순으로 읽음 (keyset)
+  @Query("""
+      SELECT s.targetId FROM SettlementBatch s
+      WHERE s.settlementDate = :settlementDate AND s.status = :status
+        AND MOD(s.targetId, :partitions) = :partition AND s.targetId > :afterTargetId
+      ORDER BY s.targetId
+      """)
+  List<Long> findTargetIdsForPartition(LocalDate settlementDate, SettlementStatus status,
+      int partitions, int partition, Long afterTargetId, Limit limit);
 
-  // 월별 집계 쿼리
-  @Query(value = """
-          SELECT new com.deliveranything.domain.settlement.dto.projection.SettlementProjection(
-              SUM(s.targetTotalAmount),
-              SUM(s.totalPlatformFee),
-              SUM(s.settledAmount),
-              SUM(s.transactionCount),
-              MIN(s.settlementDate),
-              MAX(s.settlementDate)
-          )
-          FROM SettlementBatch s
-          WHERE s.targetId = :targetId
-          GROUP BY FUNCTION('YEAR', s.settlementDate), FUNCTION('MONTH', s.settlementDate)
-          ORDER BY MIN(s.settlementDate) DESC
+  @Modifying(clearAutomatically = true)
+  @Query("""
+      UPDATE SettlementBatch s SET s.status = :to
+      WHERE s.settlementDate = :settlementDate AND s.targetId IN :targetIds AND s.status = :from
       """)
-  List<SettlementProjection> findMonthlySettlementsByTargetId(@Param("targetId") Long targetId);
+  int updateStatusByTargetIds(LocalDate settlementDate, List<Long> targetIds,
+      SettlementStatus from, SettlementStatus to);
 
   // 기간 정산
   @Query(value = """
@@ -60,6 +81,7 @@ public interface SettlementBatchRepository extends JpaRepository<SettlementBatch
           )
           FROM SettlementBatch s
           WHERE s.targetId = :targetId
+            AND s.status = com.deliveranything.domain.settlement.enums.SettlementStatus.COMPLETED
             AND s.settlementDate BETWEEN :startDate AND :endDate
       """)
   SettlementProjection findSettlementByTargetIdAndPeriod(
@@ -67,30 +89,4 @@ public interface SettlementBatchRepository extends JpaRepository<SettlementBatch
       @Param("startDate") LocalDate startDate,
       @Param("endDate") LocalDate endDate
   );
-
-  // 요약 카드에 필요한 쿼리
-  @Query(value = """
-          SELECT new com.deliveranything.domain.settlement.dto.projection.SettlementSummaryProjection(
-              CAST(COALESCE(SUM(s.transactionCount), 0) AS long),
-              CAST(COALESCE(SUM(CASE
-                  WHEN YEAR(s.settlementDate) = YEAR(CURRENT_DATE) AND WEEK(s.settlementDate) = WEEK(CURRENT_DATE)
-                  THEN s.transactionCount
-                  ELSE 0
-              END), 0) AS long),
-              CAST(COALESCE(SUM(CASE
-                  WHEN YEAR(s.settlementDate) = YEAR(CURRENT_DATE) AND WEEK(s.settlementDate) = WEEK(CURRENT_DATE)
-                  THEN s.settledAmount
-                  ELSE 0
-              END), 0) AS long),
-              CAST(COALESCE(SUM(CASE
-                  WHEN YEAR(s.settlementDate) = YEAR(CURRENT_DATE) AND MONTH(s.settlementDate) = MONTH(CURRENT_DATE)
-                  THEN s.settledAmount
-                  ELSE 0
-              END), 0) AS long),
-              CAST(COALESCE(SUM(s.settledAmount), 0) AS long)
-          )
-          FROM SettlementBatch s
-          WHERE s.targetId = :targetId
-      """)
-  SettlementSummaryProjection findSettlementSummaryByTargetId(@Param("targetId") Long targetId);
 }
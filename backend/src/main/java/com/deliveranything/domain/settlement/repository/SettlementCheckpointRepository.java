@@ -0,0 +1,16 @@
+package com.deliveranything.domain.settlement.repository;
+
+import com.deliveranything.domain.settlement.entity.SettlementCheckpoint;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+public interface SettlementCheckpointRepository extends JpaRepository<SettlementCheckpoint, Long> {
+
+  // 같은 파티션을 여러 노드가 동시에 처리하지 않도록 청크 트랜잭션 동안 잠금
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  Optional<SettlementCheckpoint> findBySettlementDateAndPartitionNo(LocalDate settlementDate,
+      Integer partitionNo);
+}
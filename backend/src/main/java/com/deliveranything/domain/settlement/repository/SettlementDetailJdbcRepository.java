@@ -0,0 +1,88 @@
+package com.deliveranything.domain.settlement.repository;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 정산 상세 내보내기용 커서 조회 (JDBC)
+ * <p>
+ * 결과를 List 로 모으지 않고 forward-only, read-only 커서에서 받아 행마다 콜백으로 넘깁니다. MySQL Connector/J 는 양수
+ * fetchSize 를 무시하고 결과 전체를 메모리에 받으므로(커넥션 전체에 영향을 주는 useCursorFetch 는 쓰지 않음) MySQL 에서는
+ * {@link Integer#MIN_VALUE} 로 행 단위 스트리밍을 켜고, 그 밖의 DB 는 설정한 fetchSize 를 씁니다. 정렬은
+ * (target_id, settlement_date) 인덱스 순서와 같아 filesort 없이 첫 행부터 바로 흘려보냅니다.
+ * <p>
+ * 이어 받기는 마지막으로 받은 행의 (settlement_date, id) 다음부터 읽으므로(keyset) 앞의 행을 다시 읽지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SettlementDetailJdbcRepository {
+
+  private static final String EXPORT_SQL = """
+      SELECT id, order_id, target_id, settlement_date, target_amount, platform_fee, status,
+             created_at
+      FROM settlement_details
+      WHERE target_id = ? AND settlement_date BETWEEN ? AND ?
+      %s
+      ORDER BY settlement_date, id
+      """;
+
+  private static final String AFTER_CONDITION =
+      "AND (settlement_date > ? OR (settlement_date = ? AND id > ?))";
+
+  private static final String FIND_SETTLEMENT_DATE_SQL = """
+      SELECT settlement_date
+      FROM settlement_details
+      WHERE id = ? AND target_id = ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 이어 받기 기준 행의 정산일 (다른 대상의 행이거나 없으면 empty)
+   */
+  public Optional<LocalDate> findSettlementDate(Long targetId, Long id) {
+    return jdbcTemplate.query(FIND_SETTLEMENT_DATE_SQL,
+            (rs, rowNum) -> rs.getObject("settlement_date", LocalDate.class), id, targetId)
+        .stream()
+        .findFirst();
+  }
+
+  /**
+   * @param after 마지막으로 받은 행 (처음부터면 null)
+   */
+  public void streamForExport(Long targetId, LocalDate startDate, LocalDate endDate,
+      ExportCursor after, int fetchSize, RowCallbackHandler handler) {
+    String sql = EXPORT_SQL.formatted(after != null ? AFTER_CONDITION : "");
+    jdbcTemplate.query(con -> {
+      PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+          ResultSet.CONCUR_READ_ONLY);
+      ps.setFetchSize(isMySql(con) ? Integer.MIN_VALUE : fetchSize);
+      ps.setLong(1, targetId);
+      ps.setDate(2, Date.valueOf(startDate));
+      ps.setDate(3, Date.valueOf(endDate));
+      if (after != null) {
+        ps.setDate(4, Date.valueOf(after.settlementDate()));
+        ps.setDate(5, Date.valueOf(after.settlementDate()));
+        ps.setLong(6, after.id());
+      }
+      return ps;
+    }, handler);
+  }
+
+  private static boolean isMySql(Connection con) throws SQLException {
+    return "MySQL".equalsIgnoreCase(con.getMetaData().getDatabaseProductName());
+  }
+
+  public record ExportCursor(LocalDate settlementDate, Long id) {
+
+  }
+}
@@ -2,10 +2,12 @@ package com.deliveranything.domain.settlement.repository;
 
 import com.deliveranything.domain.settlement.entity.SettlementDetail;
 import com.deliveranything.domain.settlement.enums.SettlementStatus;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,13 +15,36 @@ public interface SettlementDetailRepository extends JpaRepository<SettlementDeta
 
   Optional<SettlementDetail> findByOrderIdAndTargetId(Long orderId, Long targetId);
 
-  @Query("SELECT sd FROM SettlementDetail sd WHERE sd.status = :status "
-      + "AND :startDateTime <= sd.createdAt AND sd.createdAt < :endDateTime")
-  List<SettlementDetail> findAllByStatusAndDateTime(
-      @Param("status") SettlementStatus status,
-      @Param("startDateTime") LocalDateTime startDateTime,
-      @Param("endDateTime") LocalDateTime endDateTime
-  );
+  // (주문, 대상) 유니크 키로 한 번만 저장 - 이미 있으면 0 반환
+  @Modifying
+  @Query(value = """
+      INSERT IGNORE INTO settlement_details
+          (order_id, target_id, target_amount, platform_fee, status, settlement_date, created_at)
+      VALUES (:orderId, :targetId, :targetAmount, :platformFee, 'PENDING', :settlementDate,
+              :createdAt)
+      """, nativeQuery = true)
+  int insertIfAbsent(@Param("orderId") Long orderId, @Param("targetId") Long targetId,
+      @Param("targetAmount") Long targetAmount, @Param("platformFee") Long platformFee,
+      @Param("settlementDate") LocalDate settlementDate,
+      @Param("createdAt") LocalDateTime createdAt);
+
+  @Modifying
+  @Query("""
+      UPDATE SettlementDetail sd
+      SET sd.batchId = :batchId, sd.settlementDate = :settlementDate
+      WHERE sd.orderId = :orderId AND sd.targetId = :targetId
+      """)
+  int assignBatch(@Param("orderId") Long orderId, @Param("targetId") Long targetId,
+      @Param("batchId") Long batchId, @Param("settlementDate") LocalDate settlementDate);
+
+  @Modifying(clearAutomatically = true)
+  @Query("""
+      UPDATE SettlementDetail sd SET sd.status = :to
+      WHERE sd.settlementDate = :settlementDate AND sd.targetId IN :targetIds
+        AND sd.status = :from
+      """)
+  int updateStatusByTargetIds(LocalDate settlementDate, List<Long> targetIds,
+      SettlementStatus from, SettlementStatus to);
 
   @Query("""
       SELECT sd FROM SettlementDetail sd
@@ -0,0 +1,20 @@
+package com.deliveranything.domain.settlement.repository;
+
+import com.deliveranything.domain.settlement.dto.projection.SettlementFeeRuleVersion;
+import com.deliveranything.domain.settlement.entity.SettlementFeeRule;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface SettlementFeeRuleRepository extends JpaRepository<SettlementFeeRule, Long> {
+
+  List<SettlementFeeRule> findAllByActiveTrue();
+
+  // 규칙이 추가/삭제되면 개수가, 수정되면 마지막 수정 시각이 바뀜
+  @Query("""
+      SELECT new com.deliveranything.domain.settlement.dto.projection.SettlementFeeRuleVersion(
+          COUNT(r), MAX(r.updatedAt))
+      FROM SettlementFeeRule r
+      """)
+  SettlementFeeRuleVersion findVersion();
+}
@@ -0,0 +1,42 @@
+package com.deliveranything.domain.settlement.repository;
+
+import com.deliveranything.domain.settlement.entity.SettlementRollup;
+import com.deliveranything.domain.settlement.enums.SettlementPeriodType;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface SettlementRollupRepository extends JpaRepository<SettlementRollup, Long> {
+
+  List<SettlementRollup> findAllByTargetIdAndPeriodTypeOrderByPeriodStartDesc(Long targetId,
+      SettlementPeriodType periodType);
+
+  Optional<SettlementRollup> findByTargetIdAndPeriodTypeAndPeriodStart(Long targetId,
+      SettlementPeriodType periodType, LocalDate periodStart);
+
+  // 마감한 일 정산을 기간 롤업에 더함 (엔티티 로딩 없이 INSERT ... SELECT)
+  @Modifying
+  @Query(value = """
+      INSERT INTO settlement_rollups
+          (target_id, period_type, period_start, first_settlement_date, last_settlement_date,
+           target_total_amount, total_platform_fee, settled_amount, transaction_count, created_at)
+      SELECT s.target_id, :periodType, :periodStart, s.settlement_date, s.settlement_date,
+             s.target_total_amount, s.total_platform_fee, s.settled_amount, s.transaction_count,
+             :createdAt
+      FROM settlement_batches s
+      WHERE s.settlement_date = :settlementDate AND s.target_id IN (:targetIds)
+      ON DUPLICATE KEY UPDATE
+          first_settlement_date = LEAST(first_settlement_date, VALUES(first_settlement_date)),
+          last_settlement_date = GREATEST(last_settlement_date, VALUES(last_settlement_date)),
+          target_total_amount = target_total_amount + VALUES(target_total_amount),
+          total_platform_fee = total_platform_fee + VALUES(total_platform_fee),
+          settled_amount = settled_amount + VALUES(settled_amount),
+          transaction_count = transaction_count + VALUES(transaction_count)
+      """, nativeQuery = true)
+  int addBatches(String periodType, LocalDate periodStart, LocalDate settlementDate,
+      List<Long> targetIds, LocalDateTime createdAt);
+}
@@ -0,0 +1,112 @@
+package com.deliveranything.domain.settlement.scheduler;
+
+import com.deliveranything.domain.settlement.service.SettlementSealService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일 정산 마감
+ * <p>
+ * 정산 대상을 targetId 기준 파티션으로 나눠 파티션마다 가상 스레드 하나가 청크 단위로 마감합니다. 청크마다 커밋하고 파티션별
+ * 체크포인트를 함께 옮기므로, 중간에 실패한 파티션은 다음 실행에서 마지막 청크 이후부터 이어서 처리합니다. 청크 소요 시간은
+ * {@code settlement.seal.chunk}, 파티션 소요 시간과 결과는 {@code settlement.seal.partition} 으로 남깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementSealScheduler {
+
+  private final SettlementSealService settlementSealService;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${custom.settlement.seal.partitions:8}")
+  private int partitions;
+
+  @Value("${custom.settlement.seal.chunk-size:500}")
+  private int chunkSize;
+
+  // "초 분 시 일 월 요일"
+  // "0 5 0 * * *" 매일 0시 5분 0초에 실행 (자정 직전에 시작된 정산 상세 트랜잭션이 끝날 여유)
+  @Scheduled(cron = "0 5 0 * * *")
+  public void sealDailySettlements() {
+    // 지난 실행이 실패했거나 건너뛴 날짜도 함께 마감
+    for (LocalDate settlementDate : settlementSealService.getOpenSettlementDates(
+        LocalDate.now())) {
+      log.info("===== 일 정산 마감 시작: {} =====", settlementDate);
+      int failed = seal(settlementDate);
+      log.info("===== 일 정산 마감 종료: {}, failedPartitions={} =====", settlementDate, failed);
+    }
+  }
+
+  // 모든 파티션을 병렬로 마감하고 실패한 파티션 수를 반환
+  private int seal(LocalDate settlementDate) {
+    List<Future<?>> futures = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int partition = 0; partition < partitions; partition++) {
+        int current = partition;
+        futures.add(executor.submit(() -> sealPartition(settlementDate, current)));
+      }
+    }
+
+    int failed = 0;
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        failed++;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return failed;
+      }
+    }
+    return failed;
+  }
+
+  private void sealPartition(LocalDate settlementDate, int partition) {
+    String tag = String.valueOf(partition);
+    long start = System.nanoTime();
+    int total = 0;
+    String outcome = "completed";
+    try {
+      int sealed;
+      do {
+        long chunkStart = System.nanoTime();
+        sealed = settlementSealService.sealChunk(settlementDate, partition, partitions,
+            chunkSize);
+        timer("settlement.seal.chunk", tag, "completed")
+            .record(System.nanoTime() - chunkStart, TimeUnit.NANOSECONDS);
+        total += sealed;
+      } while (sealed == chunkSize);
+    } catch (RuntimeException e) {
+      // 커밋된 청크는 유지되고 다음 실행에서 체크포인트부터 이어서 처리
+      outcome = "failed";
+      log.error("일 정산 마감 실패: date={}, partition={}, sealed={}", settlementDate, partition,
+          total, e);
+      throw e;
+    } finally {
+      timer("settlement.seal.partition", tag, outcome)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      meterRegistry.counter("settlement.seal.targets", "partition", tag).increment(total);
+    }
+  }
+
+  private Timer timer(String name, String partition, String outcome) {
+    return Timer.builder(name)
+        .tag("partition", partition)
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+}
@@ -4,16 +4,15 @@ import com.deliveranything.domain.settlement.dto.SettlementResponse;
 import com.deliveranything.domain.settlement.dto.SummaryResponse;
 import com.deliveranything.domain.settlement.dto.projection.SettlementProjection;
 import com.deliveranything.domain.settlement.dto.projection.SettlementSummaryProjection;
-import com.deliveranything.domain.settlement.entity.SettlementBatch;
-import com.deliveranything.domain.settlement.entity.SettlementDetail;
+import com.deliveranything.domain.settlement.entity.SettlementRollup;
+import com.deliveranything.domain.settlement.enums.SettlementPeriodType;
+import com.deliveranything.domain.settlement.enums.SettlementStatus;
 import com.deliveranything.domain.settlement.repository.SettlementBatchRepository;
-import com.deliveranything.domain.settlement.service.dto.SettlementSummary;
+import com.deliveranything.domain.settlement.repository.SettlementRollupRepository;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,26 +23,24 @@ public class SettlementBatchService {
   private final SettlementDetailService settlementDetailService;
 
   private final SettlementBatchRepository settlementBatchRepository;
+  private final SettlementRollupRepository settlementRollupRepository;
 
   @Transactional(readOnly = true)
   public List<SettlementResponse> getSettlementsByDay(Long targetId) {
-    return settlementBatchRepository.findAllByTargetId(targetId).stream()
+    return settlementBatchRepository.findAllByTargetIdAndStatus(targetId,
+            SettlementStatus.COMPLETED).stream()
         .map(SettlementResponse::from)
         .toList();
   }
 
   @Transactional(readOnly = true)
   public List<SettlementResponse> getSettlementsByWeek(Long targetId) {
-    return settlementBatchRepository.findWeeklySettlementsByTargetId(targetId).stream()
-        .map(SettlementResponse::fromProjection)
-        .toList();
+    return getRollups(targetId, SettlementPeriodType.WEEK);
   }
 
   @Transactional(readOnly = true)
   public List<SettlementResponse> getSettlementsByMonth(Long targetId) {
-    return settlementBatchRepository.findMonthlySettlementsByTargetId(targetId).stream()
-        .map(SettlementResponse::fromProjection)
-        .toList();
+    return getRollups(targetId, SettlementPeriodType.MONTH);
   }
 
   @Transactional(readOnly = true)
@@ -63,52 +60,31 @@ public class SettlementBatchService {
         settlementDetailService.getUnsettledDetail(targetId));
   }
 
-  // "초 분 시 일 월 요일"
-  // "0 0 0 * * *" 매일 0시 0분 0초에 실행
-  @Scheduled(cron = "0 0 0 * * *")
-  @Transactional
-  public void processDailySettlements() {
-    List<SettlementDetail> settlementDetails = settlementDetailService.getYesterdayUnsettledDetails();
-
-    if (settlementDetails.isEmpty()) {
-      return;
-    }
-
-    // 데이터 집계: 판매자/라이더 회원 별로 그룹핑하여 금액 합산
-    Map<Long, SettlementSummary> summaryMap = settlementDetails.stream()
-        .collect(Collectors.groupingBy(
-            SettlementDetail::getTargetId,
-            Collectors.collectingAndThen(
-                Collectors.toList(),
-                list -> new SettlementSummary(
-                    list.stream().mapToLong(SettlementDetail::getTargetAmount).sum(),
-                    list.stream().mapToLong(SettlementDetail::getPlatformFee).sum(),
-                    list.size()
-                )
-            )
-        ));
-
-    // 그룹 정산 생성 및 각 정산 대상 상태 업데이트
-    summaryMap.forEach((targetId, summary) -> {
-      SettlementBatch batch = SettlementBatch.builder()
-          .settlementDate(LocalDate.now().minusDays(1))
-          .targetId(targetId)
-          .targetTotalAmount(summary.totalTargetAmount())
-          .totalPlatformFee(summary.totalPlatformFee())
-          .settledAmount(summary.totalTargetAmount() - summary.totalPlatformFee())
-          .transactionCount(summary.transactionCount())
-          .build();
-
-      SettlementBatch savedBatch = settlementBatchRepository.save(batch);
-
-      settlementDetails.stream()
-          .filter(d -> d.getTargetId().equals(targetId))
-          .forEach(detail -> detail.process(savedBatch.getId()));
-    });
+  private List<SettlementResponse> getRollups(Long targetId, SettlementPeriodType periodType) {
+    return settlementRollupRepository
+        .findAllByTargetIdAndPeriodTypeOrderByPeriodStartDesc(targetId, periodType).stream()
+        .map(SettlementResponse::from)
+        .toList();
   }
 
-  // 요약 카드에 필요한 정산된 데이터 조회
+  // 요약 카드에 필요한 정산된 데이터 조회 (이번 주 롤업 1행 + 월 롤업 행들)
   private SettlementSummaryProjection getSettlementBatchSummary(Long targetId) {
-    return settlementBatchRepository.findSettlementSummaryByTargetId(targetId);
+    LocalDate today = LocalDate.now();
+    Optional<SettlementRollup> week = settlementRollupRepository
+        .findByTargetIdAndPeriodTypeAndPeriodStart(targetId, SettlementPeriodType.WEEK,
+            SettlementPeriodType.WEEK.startOf(today));
+    List<SettlementRollup> months = settlementRollupRepository
+        .findAllByTargetIdAndPeriodTypeOrderByPeriodStartDesc(targetId, SettlementPeriodType.MONTH);
+    LocalDate monthStart = SettlementPeriodType.MONTH.startOf(today);
+
+    return new SettlementSummaryProjection(
+        months.stream().mapToLong(SettlementRollup::getTransactionCount).sum(),
+        week.map(SettlementRollup::getTransactionCount).orElse(0L),
+        week.map(SettlementRollup::getSettledAmount).orElse(0L),
+        months.stream()
+            .filter(month -> month.getPeriodStart().equals(monthStart))
+            .mapToLong(SettlementRollup::getSettledAmount)
+            .sum(),
+        months.stream().mapToLong(SettlementRollup::getSettledAmount).sum());
   }
 }
@@ -2,13 +2,16 @@ package com.deliveranything.domain.settlement.service;
 
 import com.deliveranything.domain.settlement.dto.SettlementDetailResponse;
 import com.deliveranything.domain.settlement.dto.UnsettledResponse;
-import com.deliveranything.domain.settlement.entity.SettlementDetail;
+import com.deliveranything.domain.settlement.entity.SettlementBatch;
+import com.deliveranything.domain.settlement.enums.SettlementFeeTarget;
 import com.deliveranything.domain.settlement.enums.SettlementStatus;
+import com.deliveranything.domain.settlement.fee.SettlementFeeCalculator;
+import com.deliveranything.domain.settlement.repository.SettlementBatchRepository;
 import com.deliveranything.domain.settlement.repository.SettlementDetailRepository;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
 import java.time.LocalDate;
-import java.util.List;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,32 +21,25 @@ import org.springframework.transaction.annotation.Transactional;
 public class SettlementDetailService {
 
   private final SettlementDetailRepository settlementDetailRepository;
+  private final SettlementBatchRepository settlementBatchRepository;
+  private final SettlementFeeCalculator settlementFeeCalculator;
 
   @Transactional
-  public void createSellerSettlement(Long orderId, Long sellerProfileId, Long storePrice) {
-    double PLATFORM_FEE_RATE = 0.08;
-    long platformFee = (long) (storePrice * PLATFORM_FEE_RATE);
+  public void createSellerSettlement(Long orderId, Long sellerProfileId, Long storePrice,
+      Long storeId, Long storeCategoryId, LocalDateTime completedAt) {
+    long platformFee = settlementFeeCalculator.feeOf(SettlementFeeTarget.SELLER, storePrice,
+        storeId, storeCategoryId, completedAtOrNow(completedAt));
 
-    SettlementDetail settlementDetail = SettlementDetail.builder()
-        .orderId(orderId)
-        .targetId(sellerProfileId)
-        .targetAmount(storePrice - platformFee)
-        .platformFee(platformFee)
-        .build();
-
-    settlementDetailRepository.save(settlementDetail);
+    settle(orderId, sellerProfileId, storePrice - platformFee, platformFee);
   }
 
   @Transactional
-  public void createRiderSettlement(Long orderId, Long riderProfileId, Long deliveryPrice) {
-    SettlementDetail settlementDetail = SettlementDetail.builder()
-        .orderId(orderId)
-        .targetId(riderProfileId)
-        .targetAmount(deliveryPrice)
-        .platformFee(0L)
-        .build();
+  public void createRiderSettlement(Long orderId, Long riderProfileId, Long deliveryPrice,
+      Long storeId, Long storeCategoryId, LocalDateTime completedAt) {
+    long platformFee = settlementFeeCalculator.feeOf(SettlementFeeTarget.RIDER, deliveryPrice,
+        storeId, storeCategoryId, completedAtOrNow(completedAt));
 
-    settlementDetailRepository.save(settlementDetail);
+    settle(orderId, riderProfileId, deliveryPrice - platformFee, platformFee);
   }
 
   // 배달원이 배달한 주문의 정산 정보 조회
@@ -62,10 +58,38 @@ public class SettlementDetailService {
         SettlementStatus.PENDING, today.atStartOfDay(), today.plusDays(1).atStartOfDay()));
   }
 
-  @Transactional(readOnly = true)
-  public List<SettlementDetail> getYesterdayUnsettledDetails() {
+  // 완료 시각이 없는 이전 버전 이벤트는 처리 시각 기준
+  private LocalDateTime completedAtOrNow(LocalDateTime completedAt) {
+    return completedAt == null ? LocalDateTime.now() : completedAt;
+  }
+
+  // 정산 상세 저장과 함께 대상의 오늘 일 집계에 바로 누적 (자정 배치는 마감 처리만 함)
+  private void settle(Long orderId, Long targetId, Long targetAmount, Long platformFee) {
     LocalDate today = LocalDate.now();
-    return settlementDetailRepository.findAllByStatusAndDateTime(SettlementStatus.PENDING,
-        today.minusDays(1).atStartOfDay(), today.atStartOfDay());
+    LocalDateTime now = LocalDateTime.now();
+    // 재전달/회수된 주문 완료 이벤트가 동시에 처리되어도 유니크 키에서 한 건만 통과 (나머지는 대기 후 0)
+    if (settlementDetailRepository.insertIfAbsent(orderId, targetId, targetAmount, platformFee,
+        today, now) == 0) {
+      return;
+    }
+
+    SettlementBatch batch = accumulate(targetId, today, targetAmount, platformFee, now);
+    if (batch.getStatus() != SettlementStatus.PENDING) {
+      // 자정 직후 커밋되어 그날 집계가 이미 마감됨 (누적되지 않음) - 아직 열린 오늘 집계로 넘김
+      batch = accumulate(targetId, LocalDate.now(), targetAmount, platformFee, now);
+      if (batch.getStatus() != SettlementStatus.PENDING) {
+        throw new IllegalStateException("Settlement batch already sealed: " + batch.getId());
+      }
+    }
+    settlementDetailRepository.assignBatch(orderId, targetId, batch.getId(),
+        batch.getSettlementDate());
+  }
+
+  private SettlementBatch accumulate(Long targetId, LocalDate settlementDate, Long targetAmount,
+      Long platformFee, LocalDateTime now) {
+    settlementBatchRepository.accumulate(targetId, settlementDate, targetAmount + platformFee,
+        platformFee, targetAmount, now);
+    return settlementBatchRepository.findByTargetIdAndSettlementDate(targetId, settlementDate)
+        .orElseThrow(() -> new IllegalStateException("Settlement batch not accumulated"));
   }
 }
@@ -0,0 +1,156 @@
+package com.deliveranything.domain.settlement.service;
+
+import com.deliveranything.domain.settlement.enums.SettlementExportFormat;
+import com.deliveranything.domain.settlement.repository.SettlementDetailJdbcRepository;
+import com.deliveranything.domain.settlement.repository.SettlementDetailJdbcRepository.ExportCursor;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+/**
+ * 정산 상세 CSV 내보내기
+ * <p>
+ * JDBC 커서에서 읽은 행을 바로 응답 스트림에 쓰므로 기간이 길어도 메모리는 버퍼 크기만큼만 씁니다. 클라이언트가 느리면 소켓 쓰기가
+ * 막히고 그동안 커서도 다음 행을 받지 않습니다. 내보내는 동안 DB 커넥션을 계속 잡고 있으므로 동시 내보내기 수를 제한합니다.
+ * <p>
+ * 중간에 끊긴 다운로드는 마지막으로 받은 행의 id 를 {@code after} 로 넘기면 그 다음 행부터 이어 받습니다(헤더는 처음에만 씀).
+ * 받은 행 수만큼 건너뛰지 않고 (정산일, id) keyset 으로 바로 이어 읽습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class SettlementExportService {
+
+  private static final String HEADER =
+      "id,orderId,targetId,settlementDate,targetAmount,platformFee,status,createdAt\n";
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final SettlementDetailJdbcRepository settlementDetailJdbcRepository;
+
+  @Value("${custom.settlement.export.fetch-size:1000}")
+  private int fetchSize;
+
+  @Value("${custom.settlement.export.max-days:366}")
+  private long maxDays;
+
+  @Value("${custom.settlement.export.max-concurrent:4}")
+  private int maxConcurrent;
+
+  private Semaphore permits;
+
+  @PostConstruct
+  public void initPermits() {
+    permits = new Semaphore(maxConcurrent);
+  }
+
+  /**
+   * @param afterId 이어 받기면 마지막으로 받은 행의 id, 처음부터면 null
+   */
+  public void export(Long targetId, LocalDate startDate, LocalDate endDate, Long afterId,
+      SettlementExportFormat format, HttpServletResponse response) throws IOException {
+    if (startDate.isAfter(endDate) || ChronoUnit.DAYS.between(startDate, endDate) >= maxDays) {
+      throw new CustomException(ErrorCode.SETTLEMENT_EXPORT_INVALID_RANGE);
+    }
+    ExportCursor after = afterId == null ? null
+        : settlementDetailJdbcRepository.findSettlementDate(targetId, afterId)
+            .map(settlementDate -> new ExportCursor(settlementDate, afterId))
+            .orElseThrow(() -> new CustomException(ErrorCode.SETTLEMENT_EXPORT_INVALID_CURSOR));
+    // 응답을 쓰기 전에 거절해야 오류 응답을 그대로 돌려줄 수 있음
+    if (!permits.tryAcquire()) {
+      throw new CustomException(ErrorCode.SETTLEMENT_EXPORT_BUSY);
+    }
+
+    try {
+      response.setContentType(format.getContentType());
+      response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+          .filename("settlements-" + startDate + "-" + endDate + format.getExtension())
+          .build()
+          .toString());
+
+      long written = stream(targetId, startDate, endDate, after,
+          open(response.getOutputStream(), format));
+      log.info("Settlement export finished: targetId={}, period={}~{}, afterId={}, rows={}",
+          targetId, startDate, endDate, afterId, written);
+    } catch (UncheckedIOException e) {
+      // 클라이언트가 연결을 끊으면 쿼리도 함께 중단됨
+      log.warn("Settlement export aborted: targetId={}, period={}~{}", targetId, startDate,
+          endDate);
+      throw e.getCause();
+    } finally {
+      permits.release();
+    }
+  }
+
+  private long stream(Long targetId, LocalDate startDate, LocalDate endDate, ExportCursor after,
+      Writer writer) throws IOException {
+    CsvRowWriter rowWriter = new CsvRowWriter(writer);
+    try (writer) {
+      if (after == null) {
+        writer.write(HEADER);
+      }
+      settlementDetailJdbcRepository.streamForExport(targetId, startDate, endDate, after,
+          fetchSize, rowWriter);
+    }
+    return rowWriter.written;
+  }
+
+  private Writer open(OutputStream out, SettlementExportFormat format) throws IOException {
+    OutputStream target = format == SettlementExportFormat.GZIP
+        ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+    return new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8),
+        BUFFER_SIZE);
+  }
+
+  // 커서 행을 CSV 한 줄로 씀
+  private static class CsvRowWriter implements RowCallbackHandler {
+
+    private final Writer writer;
+    private long written;
+
+    private CsvRowWriter(Writer writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+      // 모든 컬럼이 숫자, 날짜, enum 이므로 따옴표 처리가 필요 없음
+      String line = rs.getLong("id")
+          + "," + rs.getLong("order_id")
+          + "," + rs.getLong("target_id")
+          + "," + rs.getObject("settlement_date", LocalDate.class)
+          + "," + rs.getLong("target_amount")
+          + "," + rs.getLong("platform_fee")
+          + "," + rs.getString("status")
+          + "," + rs.getObject("created_at", LocalDateTime.class)
+          + "\n";
+      try {
+        writer.write(line);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      written++;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.deliveranything.domain.settlement.service;
+
+import com.deliveranything.domain.settlement.entity.SettlementCheckpoint;
+import com.deliveranything.domain.settlement.enums.SettlementPeriodType;
+import com.deliveranything.domain.settlement.enums.SettlementStatus;
+import com.deliveranything.domain.settlement.repository.SettlementBatchRepository;
+import com.deliveranything.domain.settlement.repository.SettlementCheckpointRepository;
+import com.deliveranything.domain.settlement.repository.SettlementDetailRepository;
+import com.deliveranything.domain.settlement.repository.SettlementRollupRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementSealService {
+
+  private final SettlementBatchRepository settlementBatchRepository;
+  private final SettlementDetailRepository settlementDetailRepository;
+  private final SettlementCheckpointRepository settlementCheckpointRepository;
+  private final SettlementRollupRepository settlementRollupRepository;
+
+  @Transactional(readOnly = true)
+  public List<LocalDate> getOpenSettlementDates(LocalDate before) {
+    return settlementBatchRepository.findSettlementDatesByStatusBefore(SettlementStatus.PENDING,
+        before);
+  }
+
+  /**
+   * 파티션의 다음 정산 대상 한 청크를 일 집계·정산 상세와 함께 마감하고 주/월 롤업에 더한 뒤 체크포인트를 옮김
+   *
+   * @return 마감한 정산 대상 수 (chunkSize 보다 작으면 파티션 완료)
+   */
+  @Transactional
+  public int sealChunk(LocalDate settlementDate, int partition, int partitions, int chunkSize) {
+    SettlementCheckpoint checkpoint = settlementCheckpointRepository
+        .findBySettlementDateAndPartitionNo(settlementDate, partition)
+        .orElseGet(() -> settlementCheckpointRepository.save(
+            new SettlementCheckpoint(settlementDate, partition)));
+    if (checkpoint.isCompleted()) {
+      // 마감 뒤에 커밋된 정산이 그날 새 집계를 만들었으면 파티션을 다시 열어 마감
+      if (settlementBatchRepository.findTargetIdsForPartition(settlementDate,
+          SettlementStatus.PENDING, partitions, partition, 0L, Limit.of(1)).isEmpty()) {
+        return 0;
+      }
+      log.info("Reopening sealed settlement partition: date={}, partition={}", settlementDate,
+          partition);
+      checkpoint.reopen();
+    }
+
+    List<Long> targetIds = settlementBatchRepository.findTargetIdsForPartition(settlementDate,
+        SettlementStatus.PENDING, partitions, partition, checkpoint.getLastTargetId(),
+        Limit.of(chunkSize));
+
+    if (!targetIds.isEmpty()) {
+      // 상세 -> 집계 순으로 잠금 (정산 생성과 같은 순서) - 상세를 막 넣은 정산은 커밋을 기다려 함께 마감되고,
+      // 그 뒤에 누적하려는 정산은 마감된 집계를 보고 다음 날짜로 넘어감
+      settlementDetailRepository.updateStatusByTargetIds(settlementDate, targetIds,
+          SettlementStatus.PENDING, SettlementStatus.COMPLETED);
+      settlementBatchRepository.updateStatusByTargetIds(settlementDate, targetIds,
+          SettlementStatus.PENDING, SettlementStatus.COMPLETED);
+      // 같은 트랜잭션에서 주/월 롤업에 더하므로 체크포인트와 함께 정확히 한 번 반영됨
+      LocalDateTime now = LocalDateTime.now();
+      for (SettlementPeriodType periodType : SettlementPeriodType.values()) {
+        settlementRollupRepository.addBatches(periodType.name(),
+            periodType.startOf(settlementDate), settlementDate, targetIds, now);
+      }
+      checkpoint.advance(targetIds.getLast());
+    }
+    if (targetIds.size() < chunkSize) {
+      checkpoint.complete();
+    }
+    // 벌크 UPDATE 가 영속성 컨텍스트를 비우므로 체크포인트는 명시적으로 저장
+    settlementCheckpointRepository.save(checkpoint);
+
+    log.debug("Settlement chunk sealed: date={}, partition={}, targets={}", settlementDate,
+        partition, targetIds.size());
+    return targetIds.size();
+  }
+}
@@ -1,9 +0,0 @@
-package com.deliveranything.domain.settlement.service.dto;
-
-public record SettlementSummary(
-    Long totalTargetAmount,
-    Long totalPlatformFee,
-    Integer transactionCount
-) {
-
-}
\ No newline at end of file
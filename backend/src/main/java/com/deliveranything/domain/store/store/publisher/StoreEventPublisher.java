@@ -1,26 +0,0 @@
-package com.deliveranything.domain.store.store.publisher;
-
-import com.deliveranything.domain.store.store.event.StoreDeletedEvent;
-import com.deliveranything.domain.store.store.event.StoreSavedEvent;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionalEventListener;
-import org.springframework.transaction.event.TransactionPhase;
-
-@Component
-@RequiredArgsConstructor
-public class StoreEventPublisher {
-
-  private final RedisTemplate<String, Object> redisTemplate;
-
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-  public void handleStoreSavedEvent(StoreSavedEvent event) {
-    redisTemplate.convertAndSend("store-events", event);
-  }
-
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-  public void handleStoreDeletedEvent(StoreDeletedEvent event) {
-    redisTemplate.convertAndSend("store-events", event);
-  }
-}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.deliveranything.global.config;
+
+import com.deliveranything.global.entity.TsidGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * TSID 노드 번호 설정
+ * <p>
+ * 무작위 노드는 인스턴스끼리 겹치면 같은 ID 를 낼 수 있으므로 설정으로만 받습니다. 값이 없으면 기동에 실패합니다.
+ */
+@Configuration
+public class TsidConfig {
+
+  public TsidConfig(@Value("${custom.tsid.node}") int node) {
+    TsidGenerator.configure(node);
+  }
+}
@@ -0,0 +1,19 @@
+package com.deliveranything.global.entity;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 애플리케이션에서 시간순 Long ID 를 발급하는 식별자
+ * <p>
+ * IDENTITY 와 달리 INSERT 전에 ID 가 정해지므로 Hibernate JDBC 배치가 동작합니다.
+ */
+@IdGeneratorType(TsidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Tsid {
+
+}
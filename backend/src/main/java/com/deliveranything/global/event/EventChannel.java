@@ -0,0 +1,222 @@
+package com.deliveranything.global.event;
+
+import com.deliveranything.domain.delivery.event.dto.DeliveryStatusEvent;
+import com.deliveranything.domain.delivery.event.dto.OrderAssignedEvent;
+import com.deliveranything.domain.delivery.event.dto.OrderStatusUpdateEvent;
+import com.deliveranything.domain.order.event.OrderAcceptedEvent;
+import com.deliveranything.domain.order.event.OrderCancelEvent;
+import com.deliveranything.domain.order.event.OrderCancelSucceededEvent;
+import com.deliveranything.domain.order.event.OrderCompletedEvent;
+import com.deliveranything.domain.order.event.OrderCreatedEvent;
+import com.deliveranything.domain.order.event.OrderPaymentFailedEvent;
+import com.deliveranything.domain.order.event.OrderPaymentRequestedEvent;
+import com.deliveranything.domain.order.event.OrderPaymentSucceededEvent;
+import com.deliveranything.domain.order.event.OrderRejectedEvent;
+import com.deliveranything.domain.order.event.sse.customer.OrderCancelFailedForCustomerEvent;
+import com.deliveranything.domain.order.event.sse.customer.OrderCanceledForCustomerEvent;
+import com.deliveranything.domain.order.event.sse.customer.OrderCreateFailedForCustomerEvent;
+import com.deliveranything.domain.order.event.sse.customer.OrderCreatedForCustomerEvent;
+import com.deliveranything.domain.order.event.sse.customer.OrderPaidForCustomerEvent;
+import com.deliveranything.domain.order.event.sse.customer.OrderPaymentFailedForCustomerEvent;
+import com.deliveranything.domain.order.event.sse.customer.OrderPreparingForCustomerEvent;
+import com.deliveranything.domain.order.event.sse.customer.OrderStatusChangedForCustomerEvent;
+import com.deliveranything.domain.order.event.sse.seller.OrderCancelFailedForSellerEvent;
+import com.deliveranything.domain.order.event.sse.seller.OrderCanceledForSellerEvent;
+import com.deliveranything.domain.order.event.sse.seller.OrderPaidForSellerEvent;
+import com.deliveranything.domain.order.event.sse.seller.OrderPreparingForSellerEvent;
+import com.deliveranything.domain.order.event.sse.seller.OrderStatusChangedForSellerEvent;
+import com.deliveranything.domain.payment.event.PaymentCancelFailedEvent;
+import com.deliveranything.domain.payment.event.PaymentCancelSuccessEvent;
+import com.deliveranything.domain.payment.event.PaymentFailedEvent;
+import com.deliveranything.domain.payment.event.PaymentMismatchDetectedEvent;
+import com.deliveranything.domain.payment.event.PaymentSuccessEvent;
+import com.deliveranything.domain.product.product.event.ProductKeywordsChangedEvent;
+import com.deliveranything.domain.product.stock.event.StockCommitFailedEvent;
+import com.deliveranything.domain.product.stock.event.StockCommittedEvent;
+import com.deliveranything.domain.product.stock.event.StockReleasedEvent;
+import com.deliveranything.domain.product.stock.event.StockReplenishedEvent;
+import com.deliveranything.domain.product.stock.event.StockReserveFailedEvent;
+import com.deliveranything.domain.product.stock.event.StockReservedEvent;
+import com.deliveranything.domain.store.store.event.StoreDeletedEvent;
+import com.deliveranything.domain.store.store.event.StoreSavedEvent;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis 이벤트 채널 레지스트리
+ * <p>
+ * 이벤트 타입마다 채널 이름, 스키마 ID, 스키마 버전을 한 곳에서 관리합니다. 스키마 ID 는 바이너리 페이로드 헤더에 기록되어 수신 측에서 타입을
+ * 식별하는 데 사용되므로 한 번 배정한 값은 변경하지 않습니다. 하나의 채널을 여러 이벤트 타입이 공유할 수 있습니다.
+ *
+ * @param <T> 이벤트 페이로드 타입
+ */
+public final class EventChannel<T> {
+
+  private static final Map<Short, EventChannel<?>> BY_SCHEMA_ID = new LinkedHashMap<>();
+  private static final Map<Class<?>, EventChannel<?>> BY_TYPE = new LinkedHashMap<>();
+
+  // ===== 주문 =====
+  public static final EventChannel<OrderCreatedEvent> ORDER_CREATED =
+      register("order-created-event", 1, 1, OrderCreatedEvent.class);
+  public static final EventChannel<OrderPaymentRequestedEvent> ORDER_PAYMENT_REQUESTED =
+      register("order-payment-requested-event", 2, 1, OrderPaymentRequestedEvent.class);
+  public static final EventChannel<OrderPaymentSucceededEvent> ORDER_PAYMENT_SUCCEEDED =
+      register("order-payment-succeeded-event", 3, 1, OrderPaymentSucceededEvent.class);
+  public static final EventChannel<OrderPaymentFailedEvent> ORDER_PAYMENT_FAILED =
+      register("order-payment-failed-event", 4, 1, OrderPaymentFailedEvent.class);
+  public static final EventChannel<OrderRejectedEvent> ORDER_REJECTED =
+      register("order-rejected-event", 5, 1, OrderRejectedEvent.class);
+  public static final EventChannel<OrderAcceptedEvent> ORDER_ACCEPTED =
+      register("order-accepted-event", 6, 1, OrderAcceptedEvent.class);
+  public static final EventChannel<OrderAssignedEvent> ORDER_ASSIGNED =
+      register("order-assigned-event", 7, 1, OrderAssignedEvent.class);
+  public static final EventChannel<OrderCompletedEvent> ORDER_COMPLETED =
+      register("order-completed-event", 8, 2, OrderCompletedEvent.class);
+  public static final EventChannel<OrderCancelEvent> ORDER_CANCEL =
+      register("order-cancel-event", 9, 1, OrderCancelEvent.class);
+  public static final EventChannel<OrderCancelSucceededEvent> ORDER_CANCEL_SUCCEEDED =
+      register("order-cancel-succeeded-event", 10, 1, OrderCancelSucceededEvent.class);
+
+  // ===== 주문 SSE 알림 (고객) =====
+  public static final EventChannel<OrderCreatedForCustomerEvent> ORDER_CREATED_FOR_CUSTOMER =
+      register("order-created-for-customer-event", 20, 1, OrderCreatedForCustomerEvent.class);
+  public static final EventChannel<OrderCreateFailedForCustomerEvent> ORDER_CREATE_FAILED_FOR_CUSTOMER =
+      register("order-created-failed-for-customer-event", 21, 1,
+          OrderCreateFailedForCustomerEvent.class);
+  public static final EventChannel<OrderPaidForCustomerEvent> ORDER_PAID_FOR_CUSTOMER =
+      register("order-paid-for-customer-event", 22, 1, OrderPaidForCustomerEvent.class);
+  public static final EventChannel<OrderPaymentFailedForCustomerEvent> ORDER_PAYMENT_FAILED_FOR_CUSTOMER =
+      register("order-payment-failed-for-customer-event", 23, 1,
+          OrderPaymentFailedForCustomerEvent.class);
+  public static final EventChannel<OrderPreparingForCustomerEvent> ORDER_PREPARING_FOR_CUSTOMER =
+      register("order-preparing-for-customer-event", 24, 1, OrderPreparingForCustomerEvent.class);
+  public static final EventChannel<OrderCanceledForCustomerEvent> ORDER_CANCELED_FOR_CUSTOMER =
+      register("order-canceled-for-customer-event", 25, 1, OrderCanceledForCustomerEvent.class);
+  public static final EventChannel<OrderCancelFailedForCustomerEvent> ORDER_CANCEL_FAILED_FOR_CUSTOMER =
+      register("order-cancel-failed-for-customer-event", 26, 1,
+          OrderCancelFailedForCustomerEvent.class);
+  public static final EventChannel<OrderStatusChangedForCustomerEvent> ORDER_STATUS_CHANGED_FOR_CUSTOMER =
+      register("order-status-changed-for-customer-event", 27, 1,
+          OrderStatusChangedForCustomerEvent.class);
+
+  // ===== 주문 SSE 알림 (판매자) =====
+  public static final EventChannel<OrderPaidForSellerEvent> ORDER_PAID_FOR_SELLER =
+      register("order-paid-for-seller-event", 30, 1, OrderPaidForSellerEvent.class);
+  public static final EventChannel<OrderPreparingForSellerEvent> ORDER_PREPARING_FOR_SELLER =
+      register("order-preparing-for-seller-event", 31, 1, OrderPreparingForSellerEvent.class);
+  public static final EventChannel<OrderCanceledForSellerEvent> ORDER_CANCELED_FOR_SELLER =
+      register("order-canceled-for-seller-event", 32, 1, OrderCanceledForSellerEvent.class);
+  public static final EventChannel<OrderCancelFailedForSellerEvent> ORDER_CANCEL_FAILED_FOR_SELLER =
+      register("order-cancel-failed-for-seller-event", 33, 1,
+          OrderCancelFailedForSellerEvent.class);
+  public static final EventChannel<OrderStatusChangedForSellerEvent> ORDER_STATUS_CHANGED_FOR_SELLER =
+      register("order-status-changed-for-seller-event", 34, 1,
+          OrderStatusChangedForSellerEvent.class);
+
+  // ===== 결제 =====
+  public static final EventChannel<PaymentSuccessEvent> PAYMENT_COMPLETED =
+      register("payment-completed-event", 40, 1, PaymentSuccessEvent.class);
+  public static final EventChannel<PaymentFailedEvent> PAYMENT_FAILED =
+      register("payment-failed-event", 41, 1, PaymentFailedEvent.class);
+  public static final EventChannel<PaymentCancelSuccessEvent> PAYMENT_CANCEL_SUCCESS =
+      register("payment-cancel-success-event", 42, 1, PaymentCancelSuccessEvent.class);
+  public static final EventChannel<PaymentCancelFailedEvent> PAYMENT_CANCEL_FAILED =
+      register("payment-cancel-failed-event", 43, 1, PaymentCancelFailedEvent.class);
+  public static final EventChannel<PaymentMismatchDetectedEvent> PAYMENT_MISMATCH_DETECTED =
+      register("payment-mismatch-detected-event", 44, 1, PaymentMismatchDetectedEvent.class);
+
+  // ===== 재고 =====
+  public static final EventChannel<StockReservedEvent> STOCK_RESERVED =
+      register("stock-reserved-event", 50, 1, StockReservedEvent.class);
+  public static final EventChannel<StockReserveFailedEvent> STOCK_RESERVE_FAILED =
+      register("stock-reserve-failed-event", 51, 1, StockReserveFailedEvent.class);
+  public static final EventChannel<StockCommittedEvent> STOCK_COMMITTED =
+      register("stock-committed-event", 52, 1, StockCommittedEvent.class);
+  public static final EventChannel<StockReleasedEvent> STOCK_RELEASED =
+      register("stock-released-event", 53, 1, StockReleasedEvent.class);
+  public static final EventChannel<StockReplenishedEvent> STOCK_REPLENISHED =
+      register("stock-replenished-event", 54, 1, StockReplenishedEvent.class);
+  public static final EventChannel<StockCommitFailedEvent> STOCK_COMMIT_FAILED =
+      register("stock-commit-failed-event", 55, 1, StockCommitFailedEvent.class);
+
+  // ===== 상점 / 상품 (검색 인덱스 동기화) =====
+  public static final EventChannel<StoreSavedEvent> STORE_SAVED =
+      register("store-events", 60, 1, StoreSavedEvent.class);
+  public static final EventChannel<StoreDeletedEvent> STORE_DELETED =
+      register("store-events", 61, 1, StoreDeletedEvent.class);
+  public static final EventChannel<ProductKeywordsChangedEvent> PRODUCT_KEYWORDS_CHANGED =
+      register("product-keywords-events", 62, 1, ProductKeywordsChangedEvent.class);
+
+  // ===== 배달 =====
+  public static final EventChannel<DeliveryStatusEvent> DELIVERY_STATUS =
+      register("delivery-status-events", 70, 1, DeliveryStatusEvent.class);
+  public static final EventChannel<OrderStatusUpdateEvent> ORDER_DELIVERY_STATUS =
+      register("order-delivery-status", 71, 1, OrderStatusUpdateEvent.class);
+
+  private final String channel;
+  private final short schemaId;
+  private final byte version;
+  private final Class<T> payloadType;
+
+  private EventChannel(String channel, short schemaId, byte version, Class<T> payloadType) {
+    this.channel = channel;
+    this.schemaId = schemaId;
+    this.version = version;
+    this.payloadType = payloadType;
+  }
+
+  private static <T> EventChannel<T> register(String channel, int schemaId, int version,
+      Class<T> payloadType) {
+    EventChannel<T> eventChannel = new EventChannel<>(channel, (short) schemaId, (byte) version,
+        payloadType);
+    if (BY_SCHEMA_ID.putIfAbsent(eventChannel.schemaId, eventChannel) != null) {
+      throw new IllegalStateException("Duplicate event schema id: " + schemaId);
+    }
+    if (BY_TYPE.putIfAbsent(payloadType, eventChannel) != null) {
+      throw new IllegalStateException("Duplicate event payload type: " + payloadType.getName());
+    }
+    return eventChannel;
+  }
+
+  public static Optional<EventChannel<?>> fromSchemaId(short schemaId) {
+    return Optional.ofNullable(BY_SCHEMA_ID.get(schemaId));
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> Optional<EventChannel<T>> fromPayloadType(Class<T> payloadType) {
+    return Optional.ofNullable((EventChannel<T>) BY_TYPE.get(payloadType));
+  }
+
+  public static Collection<EventChannel<?>> values() {
+    return Collections.unmodifiableCollection(BY_SCHEMA_ID.values());
+  }
+
+  public String channel() {
+    return channel;
+  }
+
+  public short schemaId() {
+    return schemaId;
+  }
+
+  public byte version() {
+    return version;
+  }
+
+  public Class<T> payloadType() {
+    return payloadType;
+  }
+
+  // 메트릭 태그 등에 사용하는 이벤트 이름
+  public String eventName() {
+    return payloadType.getSimpleName();
+  }
+
+  @Override
+  public String toString() {
+    return eventName() + "[" + channel + "#" + schemaId + "v" + version + "]";
+  }
+}
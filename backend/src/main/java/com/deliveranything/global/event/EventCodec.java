@@ -0,0 +1,79 @@
+package com.deliveranything.global.event;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 바이너리 코덱
+ * <p>
+ * 포맷: [magic 1byte][schemaId 2byte][version 1byte][Smile 페이로드]. 클래스 이름을 싣지 않고 스키마 ID 로 타입을 식별하며,
+ * 페이로드는 Smile(바이너리 JSON)로 인코딩해 필드 추가/삭제에 대해 하위 호환을 유지합니다.
+ */
+@Slf4j
+@Component
+public class EventCodec {
+
+  static final byte MAGIC = 0x45; // 'E'
+  static final int HEADER_SIZE = 4;
+
+  private final ObjectMapper smileMapper = new ObjectMapper(SmileFactory.builder()
+      .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+      .build())
+      .registerModule(new JavaTimeModule())
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+      .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+  public <T> byte[] encode(EventChannel<T> channel, T payload) {
+    try {
+      byte[] body = smileMapper.writeValueAsBytes(payload);
+      return ByteBuffer.allocate(HEADER_SIZE + body.length)
+          .put(MAGIC)
+          .putShort(channel.schemaId())
+          .put(channel.version())
+          .put(body)
+          .array();
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Failed to encode event " + channel, e);
+    }
+  }
+
+  public EventEnvelope<?> decode(byte[] bytes) {
+    if (bytes == null || bytes.length < HEADER_SIZE || bytes[0] != MAGIC) {
+      throw new IllegalArgumentException("Not an event envelope");
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    buffer.get();
+    short schemaId = buffer.getShort();
+    byte version = buffer.get();
+
+    EventChannel<?> channel = EventChannel.fromSchemaId(schemaId)
+        .orElseThrow(() -> new IllegalArgumentException("Unknown event schema id: " + schemaId));
+
+    if (version > channel.version()) {
+      // 상위 버전 발행자 (롤링 배포 중) - 모르는 필드는 무시하고 처리
+      log.debug("Decoding newer event schema {} v{} with local v{}", channel.eventName(), version,
+          channel.version());
+    }
+
+    return read(channel, version, bytes);
+  }
+
+  private <T> EventEnvelope<T> read(EventChannel<T> channel, byte version, byte[] bytes) {
+    try {
+      T payload = smileMapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE,
+          channel.payloadType());
+      return new EventEnvelope<>(channel, version, payload);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Failed to decode event " + channel, e);
+    }
+  }
+}
@@ -0,0 +1,223 @@
+package com.deliveranything.global.event;
+
+import com.deliveranything.global.exception.CustomException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공용 이벤트 디스패처 (Redis Streams 컨슈머)
+ * <p>
+ * 스트림 × 컨슈머 그룹마다 구독을 하나만 등록하고, 메시지를 한 번 디코딩한 뒤 스키마 ID 로 타입을 판별해 해당 그룹의 핸들러들로 라우팅합니다.
+ * 그룹의 핸들러가 모두 성공해야 ACK 하며, 실패한 메시지는 pending 상태로 남아 {@link EventStreamReclaimer} 가 재전달합니다. 최소 한 번
+ * 전달이므로 핸들러는 멱등해야 하고, 예외를 삼키지 말고 그대로 던져야 합니다. 재시도해도 결과가 같은 업무 거절(4xx 의
+ * {@link CustomException})은 재전달하지 않고 바로 데드레터 스트림으로 옮깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventDispatcher implements SmartLifecycle {
+
+  private static final String REJECTED_REASON = "rejected";
+
+  private final RedisConnectionFactory connectionFactory;
+  private final EventStreamOperations streamOperations;
+  private final EventCodec eventCodec;
+  private final EventMetrics eventMetrics;
+
+  @Value("${custom.event.stream.batch-size:50}")
+  private int batchSize;
+
+  @Value("${custom.event.stream.poll-timeout:2s}")
+  private Duration pollTimeout;
+
+  // 노드(프로세스)별 컨슈머 이름 - 죽은 노드의 pending 메시지는 reclaimer 가 회수
+  private final String consumerName = "consumer-" + UUID.randomUUID();
+
+  private final Map<StreamGroup, Map<EventChannel<?>, List<EventHandler<Object>>>> handlers =
+      new ConcurrentHashMap<>();
+  private final Set<StreamGroup> registered = ConcurrentHashMap.newKeySet();
+
+  private StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>> container;
+  private volatile boolean running;
+
+  /**
+   * 이벤트 핸들러 등록 (각 도메인 subscriber 의 @PostConstruct 에서 호출)
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void subscribe(EventChannel<T> channel, EventGroup group, EventHandler<T> handler) {
+    StreamGroup streamGroup = new StreamGroup(EventStreamOperations.streamKey(channel),
+        group.groupName());
+
+    handlers.computeIfAbsent(streamGroup, k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(channel, k -> new CopyOnWriteArrayList<>())
+        .add((EventHandler<Object>) handler);
+
+    if (running) {
+      register(streamGroup);
+    }
+  }
+
+  public String consumerName() {
+    return consumerName;
+  }
+
+  public Set<StreamGroup> streamGroups() {
+    return handlers.keySet();
+  }
+
+  @Override
+  public synchronized void start() {
+    StreamMessageListenerContainerOptions<String, MapRecord<String, String, byte[]>> options =
+        StreamMessageListenerContainerOptions.builder()
+            .batchSize(batchSize)
+            .pollTimeout(pollTimeout)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .errorHandler(e -> log.error("Event stream polling failed", e))
+            .<String, byte[]>hashValueSerializer(RedisSerializer.byteArray())
+            .build();
+
+    container = StreamMessageListenerContainer.create(connectionFactory, options);
+    handlers.keySet().forEach(this::register);
+    container.start();
+    running = true;
+  }
+
+  @Override
+  public synchronized void stop() {
+    running = false;
+    if (container != null) {
+      container.stop();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private synchronized void register(StreamGroup streamGroup) {
+    if (!registered.add(streamGroup)) {
+      return;
+    }
+
+    streamOperations.createGroup(streamGroup.streamKey(), streamGroup.group());
+
+    StreamReadRequest<String> request = StreamReadRequest
+        .builder(StreamOffset.create(streamGroup.streamKey(), ReadOffset.lastConsumed()))
+        .consumer(Consumer.from(streamGroup.group(), consumerName))
+        .autoAcknowledge(false)
+        .cancelOnError(e -> false)
+        .build();
+
+    container.register(request, record -> process(streamGroup, record.getId(),
+        record.getValue().get(EventStreamOperations.PAYLOAD_FIELD)));
+  }
+
+  /**
+   * 스트림 메시지 한 건 처리
+   *
+   * @return ACK 여부 (false 면 pending 으로 남아 재전달 대상)
+   */
+  boolean process(StreamGroup streamGroup, RecordId recordId, byte[] payload) {
+    EventEnvelope<?> envelope;
+    try {
+      envelope = eventCodec.decode(payload);
+    } catch (Exception e) {
+      // 재시도해도 디코딩할 수 없으므로 바로 데드레터로
+      eventMetrics.decodeFailed();
+      log.error("Failed to decode event {} from {}", recordId, streamGroup.streamKey(), e);
+      streamOperations.deadLetter(streamGroup.streamKey(), streamGroup.group(), recordId, payload,
+          "decode-failed");
+      eventMetrics.deadLettered(streamGroup.group(), "decode-failed");
+      return true;
+    }
+
+    Outcome outcome = dispatch(streamGroup, envelope);
+    if (outcome == Outcome.RETRY) {
+      return false;
+    }
+    if (outcome == Outcome.REJECTED) {
+      // 재시도해도 같은 업무 오류 - 재전달 대신 데드레터로 (ACK 포함)
+      streamOperations.deadLetter(streamGroup.streamKey(), streamGroup.group(), recordId, payload,
+          REJECTED_REASON);
+      eventMetrics.deadLettered(streamGroup.group(), REJECTED_REASON);
+      return true;
+    }
+
+    streamOperations.acknowledge(streamGroup.streamKey(), streamGroup.group(), recordId);
+    return true;
+  }
+
+  // 디코딩된 이벤트를 그룹의 타입별 핸들러로 전달 (핸들러 간 실패 격리)
+  private Outcome dispatch(StreamGroup streamGroup, EventEnvelope<?> envelope) {
+    Map<EventChannel<?>, List<EventHandler<Object>>> groupHandlers = handlers.get(streamGroup);
+    List<EventHandler<Object>> channelHandlers =
+        groupHandlers == null ? null : groupHandlers.get(envelope.channel());
+    if (channelHandlers == null) {
+      // 같은 스트림을 공유하는 다른 타입의 이벤트 - 이 그룹은 처리할 것이 없음
+      return Outcome.HANDLED;
+    }
+
+    Outcome outcome = Outcome.HANDLED;
+    for (EventHandler<Object> handler : channelHandlers) {
+      long start = System.nanoTime();
+      boolean success = false;
+      try {
+        handler.handle(envelope.payload());
+        success = true;
+      } catch (Exception e) {
+        if (isRejection(e)) {
+          log.warn("Event {} rejected in group {}: {}", envelope.channel(), streamGroup.group(),
+              e.getMessage());
+          outcome = outcome == Outcome.RETRY ? Outcome.RETRY : Outcome.REJECTED;
+        } else {
+          log.error("Failed to handle event {} in group {}", envelope.channel(),
+              streamGroup.group(), e);
+          outcome = Outcome.RETRY;
+        }
+      } finally {
+        eventMetrics.handled(envelope.channel(), System.nanoTime() - start, success);
+      }
+    }
+    return outcome;
+  }
+
+  // 요청 자체가 거절된 업무 오류 (없는 대상, 허용되지 않는 상태 등) - 인프라 오류(5xx)는 재시도
+  private static boolean isRejection(Exception e) {
+    return e instanceof CustomException customException
+        && customException.getHttpStatus().is4xxClientError();
+  }
+
+  // 그룹 핸들러 처리 결과 - 하나라도 재시도가 필요하면 업무 거절보다 우선해 pending 으로 남김
+  private enum Outcome {
+    HANDLED, REJECTED, RETRY
+  }
+
+  /**
+   * 스트림 키 + 컨슈머 그룹
+   */
+  public record StreamGroup(String streamKey, String group) {
+
+  }
+}
@@ -0,0 +1,16 @@
+package com.deliveranything.global.event;
+
+/**
+ * 디코딩된 이벤트 (채널 + 역직렬화된 페이로드)
+ *
+ * @param channel 이벤트 채널
+ * @param version 발행 측 스키마 버전
+ * @param payload 이벤트 페이로드
+ */
+public record EventEnvelope<T>(
+    EventChannel<T> channel,
+    byte version,
+    T payload
+) {
+
+}
@@ -0,0 +1,20 @@
+package com.deliveranything.global.event;
+
+/**
+ * 이벤트 컨슈머 그룹
+ * <p>
+ * 같은 그룹에 속한 노드들은 스트림의 메시지를 나눠 받으므로 이벤트는 그룹마다 한 번만 처리됩니다.
+ */
+public enum EventGroup {
+  ORDER,
+  STOCK,
+  PAYMENT,
+  DELIVERY,
+  NOTIFICATION,
+  SEARCH,
+  SETTLEMENT;
+
+  public String groupName() {
+    return name().toLowerCase();
+  }
+}
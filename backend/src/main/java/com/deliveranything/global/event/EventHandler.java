@@ -0,0 +1,10 @@
+package com.deliveranything.global.event;
+
+/**
+ * 이벤트 수신 핸들러. 예외를 던지면 디스패처가 실패로 기록합니다.
+ */
+@FunctionalInterface
+public interface EventHandler<T> {
+
+  void handle(T event) throws Exception;
+}
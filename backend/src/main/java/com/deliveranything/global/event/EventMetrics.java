@@ -0,0 +1,83 @@
+package com.deliveranything.global.event;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 타입별 발행/처리 메트릭
+ */
+@Component
+@RequiredArgsConstructor
+public class EventMetrics {
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, AtomicLong> pendingGauges = new ConcurrentHashMap<>();
+  private final AtomicLong outboxUnsent = new AtomicLong();
+  private final AtomicLong outboxOldestAgeMillis = new AtomicLong();
+
+  @PostConstruct
+  public void registerGauges() {
+    meterRegistry.gauge("event.outbox.unsent", outboxUnsent);
+    meterRegistry.gauge("event.outbox.oldest.age.ms", outboxOldestAgeMillis);
+  }
+
+  public void published(EventChannel<?> channel, int bytes) {
+    meterRegistry.counter("event.bus.published", "event", channel.eventName()).increment();
+    DistributionSummary.builder("event.bus.payload.bytes")
+        .tag("event", channel.eventName())
+        .baseUnit("bytes")
+        .register(meterRegistry)
+        .record(bytes);
+  }
+
+  public void handled(EventChannel<?> channel, long elapsedNanos, boolean success) {
+    Timer.builder("event.bus.handle")
+        .tag("event", channel.eventName())
+        .tag("outcome", success ? "success" : "failure")
+        .register(meterRegistry)
+        .record(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void decodeFailed() {
+    meterRegistry.counter("event.bus.decode.failed").increment();
+  }
+
+  public void reclaimed(String group) {
+    meterRegistry.counter("event.bus.reclaimed", "group", group).increment();
+  }
+
+  public void deadLettered(String group, String reason) {
+    meterRegistry.counter("event.bus.dead.lettered", "group", group, "reason", reason)
+        .increment();
+  }
+
+  // outbox 기록 시점부터 스트림 발행까지 걸린 시간
+  public void outboxRelayed(EventChannel<?> channel, Duration lag) {
+    Timer.builder("event.outbox.relay.lag")
+        .tag("event", channel.eventName())
+        .register(meterRegistry)
+        .record(lag);
+  }
+
+  public void outboxBacklog(long unsent, Duration oldestAge) {
+    outboxUnsent.set(unsent);
+    outboxOldestAgeMillis.set(oldestAge.toMillis());
+  }
+
+  // 스트림 × 그룹별 미처리(pending) 메시지 수 (reclaimer 실행 시점 기준)
+  public void pending(String streamKey, String group, long count) {
+    pendingGauges.computeIfAbsent(streamKey + "|" + group, k -> meterRegistry.gauge(
+            "event.bus.pending", Tags.of("stream", streamKey, "group", group), new AtomicLong()))
+        .set(count);
+  }
+}
@@ -0,0 +1,148 @@
+package com.deliveranything.global.event;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 스트림 저수준 연산 (Redis Streams)
+ * <p>
+ * 페이로드는 바이너리 그대로 저장해야 하므로 템플릿 직렬화를 거치지 않고 커넥션에 byte[] 로 직접 접근합니다. 스트림 길이는 XADD 시 근사
+ * MAXLEN 으로 제한합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventStreamOperations {
+
+  static final String KEY_PREFIX = "stream:";
+  static final String DEAD_LETTER_KEY = "stream:dead-letter";
+  static final String PAYLOAD_FIELD = "e";
+
+  private static final byte[] RAW_PAYLOAD_FIELD = PAYLOAD_FIELD.getBytes(StandardCharsets.UTF_8);
+
+  private final StringRedisTemplate redisTemplate;
+
+  @Value("${custom.event.stream.max-len:100000}")
+  private long maxLen;
+
+  public static String streamKey(EventChannel<?> channel) {
+    return KEY_PREFIX + channel.channel();
+  }
+
+  public RecordId add(String streamKey, byte[] payload) {
+    MapRecord<byte[], byte[], byte[]> record = StreamRecords.newRecord()
+        .in(raw(streamKey))
+        .ofMap(Map.of(RAW_PAYLOAD_FIELD, payload));
+
+    return redisTemplate.execute((RedisCallback<RecordId>) connection ->
+        connection.streamCommands()
+            .xAdd(record, XAddOptions.maxlen(maxLen).approximateTrimming(true)));
+  }
+
+  /**
+   * 여러 스트림에 한 번의 파이프라인으로 추가 (outbox 릴레이용)
+   */
+  public void addAll(List<StreamEntry> entries) {
+    XAddOptions options = XAddOptions.maxlen(maxLen).approximateTrimming(true);
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      for (StreamEntry entry : entries) {
+        MapRecord<byte[], byte[], byte[]> record = StreamRecords.newRecord()
+            .in(raw(entry.streamKey()))
+            .ofMap(Map.of(RAW_PAYLOAD_FIELD, entry.payload()));
+        connection.streamCommands().xAdd(record, options);
+      }
+      return null;
+    });
+  }
+
+  // 그룹이 없으면 스트림과 함께 생성 (처음부터 읽도록 0-0 에서 시작)
+  public void createGroup(String streamKey, String group) {
+    try {
+      redisTemplate.opsForStream().createGroup(streamKey, ReadOffset.from("0-0"), group);
+    } catch (DataAccessException e) {
+      String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+      if (message == null || !message.contains("BUSYGROUP")) {
+        throw e;
+      }
+    }
+  }
+
+  public void acknowledge(String streamKey, String group, RecordId recordId) {
+    redisTemplate.opsForStream().acknowledge(streamKey, group, recordId);
+  }
+
+  public PendingMessages pending(String streamKey, String group, long count) {
+    return redisTemplate.opsForStream().pending(streamKey, group, Range.unbounded(), count);
+  }
+
+  public List<ByteRecord> claim(String streamKey, String group, String consumer,
+      Duration minIdle, RecordId recordId) {
+    List<ByteRecord> records = redisTemplate.execute(
+        (RedisCallback<List<ByteRecord>>) connection -> connection.streamCommands()
+            .xClaim(raw(streamKey), group, consumer, XClaimOptions.minIdle(minIdle).ids(recordId)));
+    return records == null ? List.of() : records;
+  }
+
+  /**
+   * 처리 불가능한 메시지를 데드레터 스트림으로 옮긴 뒤 원본 그룹에서 ACK
+   */
+  public void deadLetter(String streamKey, String group, RecordId recordId, byte[] payload,
+      String reason) {
+    Map<byte[], byte[]> fields = new LinkedHashMap<>();
+    fields.put(RAW_PAYLOAD_FIELD, payload == null ? new byte[0] : payload);
+    fields.put(raw("stream"), raw(streamKey));
+    fields.put(raw("group"), raw(group));
+    fields.put(raw("id"), raw(recordId.getValue()));
+    fields.put(raw("reason"), raw(reason));
+
+    MapRecord<byte[], byte[], byte[]> record = StreamRecords.newRecord()
+        .in(raw(DEAD_LETTER_KEY))
+        .ofMap(fields);
+
+    redisTemplate.execute((RedisCallback<RecordId>) connection ->
+        connection.streamCommands()
+            .xAdd(record, XAddOptions.maxlen(maxLen).approximateTrimming(true)));
+    acknowledge(streamKey, group, recordId);
+
+    log.warn("Event {} on {} moved to dead letter for group {}: {}", recordId, streamKey, group,
+        reason);
+  }
+
+  public static byte[] payload(ByteRecord record) {
+    for (Map.Entry<byte[], byte[]> field : record.getValue().entrySet()) {
+      if (Arrays.equals(field.getKey(), RAW_PAYLOAD_FIELD)) {
+        return field.getValue();
+      }
+    }
+    return null;
+  }
+
+  private static byte[] raw(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  public record StreamEntry(String streamKey, byte[] payload) {
+
+  }
+}
@@ -0,0 +1,80 @@
+package com.deliveranything.global.event;
+
+import com.deliveranything.global.event.EventDispatcher.StreamGroup;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미처리(pending) 이벤트 회수 스케줄러
+ * <p>
+ * 핸들러 실패나 노드 종료로 ACK 되지 못한 메시지를 일정 시간(min-idle) 이 지나면 XCLAIM 으로 가져와 다시 처리합니다. 전달 횟수가
+ * max-deliveries 에 도달한 메시지는 데드레터 스트림으로 옮깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventStreamReclaimer {
+
+  private final EventDispatcher eventDispatcher;
+  private final EventStreamOperations streamOperations;
+  private final EventMetrics eventMetrics;
+
+  @Value("${custom.event.stream.reclaim.min-idle:60s}")
+  private Duration minIdle;
+
+  @Value("${custom.event.stream.reclaim.batch-size:100}")
+  private int batchSize;
+
+  @Value("${custom.event.stream.reclaim.max-deliveries:5}")
+  private long maxDeliveries;
+
+  @Scheduled(fixedDelayString = "${custom.event.stream.reclaim.interval-ms:30000}")
+  public void reclaim() {
+    for (StreamGroup streamGroup : eventDispatcher.streamGroups()) {
+      try {
+        reclaim(streamGroup);
+      } catch (Exception e) {
+        log.warn("Failed to reclaim pending events for {} / {}: {}", streamGroup.streamKey(),
+            streamGroup.group(), e.getMessage());
+      }
+    }
+  }
+
+  private void reclaim(StreamGroup streamGroup) {
+    PendingMessages pendingMessages = streamOperations.pending(streamGroup.streamKey(),
+        streamGroup.group(), batchSize);
+    eventMetrics.pending(streamGroup.streamKey(), streamGroup.group(), pendingMessages.size());
+
+    for (PendingMessage pending : pendingMessages) {
+      if (pending.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0) {
+        continue;
+      }
+
+      // 다른 노드가 먼저 가져갔거나 스트림에서 잘려나간 경우 빈 결과
+      List<ByteRecord> claimed = streamOperations.claim(streamGroup.streamKey(),
+          streamGroup.group(), eventDispatcher.consumerName(), minIdle, pending.getId());
+      if (claimed.isEmpty()) {
+        continue;
+      }
+
+      byte[] payload = EventStreamOperations.payload(claimed.getFirst());
+      if (pending.getTotalDeliveryCount() >= maxDeliveries) {
+        streamOperations.deadLetter(streamGroup.streamKey(), streamGroup.group(),
+            pending.getId(), payload, "max-deliveries");
+        eventMetrics.deadLettered(streamGroup.group(), "max-deliveries");
+        continue;
+      }
+
+      eventMetrics.reclaimed(streamGroup.group());
+      eventDispatcher.process(streamGroup, pending.getId(), payload);
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.deliveranything.global.event.outbox;
+
+import com.deliveranything.global.entity.BaseEntity;
+import com.deliveranything.global.event.EventChannel;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 상태 변경과 같은 트랜잭션에 기록되는 발행 대기 이벤트 (payload 는 EventCodec 으로 인코딩된 바이트)
+@Entity
+@Getter
+@Table(
+    name = "event_outbox",
+    indexes = @Index(name = "idx_event_outbox_sent_at_id", columnList = "sentAt, id")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseEntity {
+
+  @Column(nullable = false)
+  private short schemaId;
+
+  @Column(nullable = false, length = 100)
+  private String eventName;
+
+  @Lob
+  @Column(nullable = false)
+  private byte[] payload;
+
+  private LocalDateTime sentAt;
+
+  private OutboxEvent(EventChannel<?> channel, byte[] payload) {
+    this.schemaId = channel.schemaId();
+    this.eventName = channel.eventName();
+    this.payload = payload;
+  }
+
+  public static OutboxEvent of(EventChannel<?> channel, byte[] payload) {
+    return new OutboxEvent(channel, payload);
+  }
+}
@@ -0,0 +1,43 @@
+package com.deliveranything.global.event.outbox;
+
+import com.deliveranything.global.event.EventChannel;
+import com.deliveranything.global.event.EventCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 레지스트리에 등록된 애플리케이션 이벤트를 커밋 직전에 outbox 테이블에 기록
+ * <p>
+ * 상태 변경과 같은 트랜잭션에서 저장되므로 커밋 후 프로세스가 죽어도 이벤트가 유실되지 않고, {@link OutboxRelayScheduler} 가 이어서
+ * 발행합니다. 트랜잭션 밖에서 발행된 이벤트는 단독으로 저장됩니다.
+ * <p>
+ * 읽기 전용 트랜잭션에서는 INSERT 가 거부되므로(MySQL) 조용히 유실되지 않도록 기록 전에 바로 실패시킵니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final EventCodec eventCodec;
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+  public void record(Object event) {
+    EventChannel.fromPayloadType(event.getClass())
+        .ifPresent(channel -> {
+          if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            throw new IllegalStateException(
+                "Outbox event " + channel + " published in a read-only transaction");
+          }
+          save(channel, event);
+        });
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> void save(EventChannel<T> channel, Object event) {
+    byte[] payload = eventCodec.encode(channel, (T) event);
+    outboxEventRepository.save(OutboxEvent.of(channel, payload));
+  }
+}
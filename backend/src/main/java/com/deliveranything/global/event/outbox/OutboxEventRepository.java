@@ -0,0 +1,36 @@
+package com.deliveranything.global.event.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  // 파티션(schemaId 기준) 단위로 미발행 이벤트를 기록 순으로 조회 (파티션 잠금을 잡은 트랜잭션에서만 호출)
+  @Query("""
+      SELECT o FROM OutboxEvent o
+      WHERE o.sentAt IS NULL AND MOD(o.schemaId, :partitions) = :partition
+      ORDER BY o.id
+      """)
+  List<OutboxEvent> findUnsent(int partitions, int partition, Limit limit);
+
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE OutboxEvent o SET o.sentAt = :sentAt WHERE o.id IN :ids")
+  int markSent(List<Long> ids, LocalDateTime sentAt);
+
+  long countBySentAtIsNull();
+
+  @Query("SELECT MIN(o.createdAt) FROM OutboxEvent o WHERE o.sentAt IS NULL")
+  Optional<LocalDateTime> findOldestUnsentCreatedAt();
+
+  @Query("SELECT o.id FROM OutboxEvent o WHERE o.sentAt < :cutoff ORDER BY o.id")
+  List<Long> findSentIdsBefore(LocalDateTime cutoff, Limit limit);
+
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM OutboxEvent o WHERE o.id IN :ids")
+  int deleteAllByIds(List<Long> ids);
+}
@@ -0,0 +1,24 @@
+package com.deliveranything.global.event.outbox;
+
+import com.deliveranything.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// outbox 발행 파티션 잠금 행 - 배치 트랜잭션 동안 잠가 한 파티션을 한 노드만 발행하게 함
+@Entity
+@Getter
+@Table(name = "event_outbox_partitions")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxRelayPartition extends BaseEntity {
+
+  @Column(nullable = false, unique = true)
+  private Integer partitionNo;
+
+  public OutboxRelayPartition(Integer partitionNo) {
+    this.partitionNo = partitionNo;
+  }
+}
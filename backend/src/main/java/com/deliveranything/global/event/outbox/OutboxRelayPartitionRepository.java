@@ -0,0 +1,13 @@
+package com.deliveranything.global.event.outbox;
+
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+public interface OutboxRelayPartitionRepository extends JpaRepository<OutboxRelayPartition, Long> {
+
+  // 같은 파티션을 여러 노드가 동시에 발행하지 않도록 배치 트랜잭션 동안 잠금 (다른 노드는 커밋까지 대기)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  Optional<OutboxRelayPartition> findByPartitionNo(Integer partitionNo);
+}
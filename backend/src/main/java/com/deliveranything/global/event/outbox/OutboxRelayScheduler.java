@@ -0,0 +1,83 @@
+package com.deliveranything.global.event.outbox;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayScheduler {
+
+  private final OutboxRelayService outboxRelayService;
+
+  @Value("${custom.event.outbox.parallelism:4}")
+  private int parallelism;
+
+  @Value("${custom.event.outbox.batch-size:200}")
+  private int batchSize;
+
+  @Value("${custom.event.outbox.max-batches-per-run:50}")
+  private int maxBatchesPerRun;
+
+  @Value("${custom.event.outbox.retention-hours:24}")
+  private long retentionHours;
+
+  @Value("${custom.event.outbox.purge-chunk-size:1000}")
+  private int purgeChunkSize;
+
+  // 파티션마다 가상 스레드 하나씩 병렬로 배출
+  @Scheduled(fixedDelayString = "${custom.event.outbox.poll-interval-ms:200}")
+  public void relay() {
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int partition = 0; partition < parallelism; partition++) {
+        int target = partition;
+        executor.submit(() -> drain(target));
+      }
+    }
+  }
+
+  private void drain(int partition) {
+    try {
+      int batches = 0;
+      int relayed;
+      do {
+        relayed = outboxRelayService.relayBatch(parallelism, partition, batchSize);
+        batches++;
+      } while (relayed == batchSize && batches < maxBatchesPerRun);
+    } catch (Exception e) {
+      // 롤백된 배치는 다음 실행에서 재시도
+      log.warn("Outbox relay failed for partition {}: {}", partition, e.getMessage());
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${custom.event.outbox.backlog-interval-ms:10000}")
+  public void recordBacklog() {
+    try {
+      outboxRelayService.recordBacklog();
+    } catch (Exception e) {
+      log.warn("Failed to record outbox backlog: {}", e.getMessage());
+    }
+  }
+
+  // 매일 새벽 4시 30분 발행 완료된 이벤트 정리
+  @Scheduled(cron = "0 30 4 * * *")
+  public void purgeSent() {
+    LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+    int total = 0;
+    int purged;
+    do {
+      purged = outboxRelayService.purgeSent(cutoff, purgeChunkSize);
+      total += purged;
+    } while (purged == purgeChunkSize);
+
+    if (total > 0) {
+      log.info("Outbox 발행 완료 이벤트 정리: count={}", total);
+    }
+  }
+}
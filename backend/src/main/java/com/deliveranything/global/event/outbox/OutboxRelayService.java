@@ -0,0 +1,105 @@
+package com.deliveranything.global.event.outbox;
+
+import com.deliveranything.global.event.EventChannel;
+import com.deliveranything.global.event.EventMetrics;
+import com.deliveranything.global.event.EventStreamOperations;
+import com.deliveranything.global.event.EventStreamOperations.StreamEntry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxRelayService {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final OutboxRelayPartitionRepository outboxRelayPartitionRepository;
+  private final EventStreamOperations streamOperations;
+  private final EventMetrics eventMetrics;
+
+  /**
+   * 파티션 하나의 미발행 이벤트를 한 배치 발행
+   * <p>
+   * 파티션 잠금 행을 잡은 채로 조회한 이벤트를 파이프라인 XADD 후 일괄 UPDATE 로 발행 완료 처리합니다. Redis 발행이 실패하면 트랜잭션이
+   * 롤백되어 다음 실행에서 다시 시도합니다. 같은 스트림(schemaId)은 항상 같은 파티션에서 처리되고, 파티션은 잠금을 잡은 노드 하나만
+   * 발행하므로(다른 노드는 커밋 후 이어서 읽음) 여러 노드에서도 스트림 내 순서가 유지됩니다. 모든 노드의 파티션 수가 같아야 합니다.
+   *
+   * @return 발행한 이벤트 수
+   */
+  @Transactional
+  public int relayBatch(int partitions, int partition, int batchSize) {
+    lockPartition(partition);
+    List<OutboxEvent> events = outboxEventRepository.findUnsent(partitions, partition,
+        Limit.of(batchSize));
+    if (events.isEmpty()) {
+      return 0;
+    }
+
+    List<StreamEntry> entries = new ArrayList<>(events.size());
+    List<Long> ids = new ArrayList<>(events.size());
+    for (OutboxEvent event : events) {
+      ids.add(event.getId());
+
+      Optional<EventChannel<?>> channel = EventChannel.fromSchemaId(event.getSchemaId());
+      if (channel.isEmpty()) {
+        // 레지스트리에서 제거된 스키마 - 발행하지 않고 완료 처리
+        log.error("Skipping outbox event {} with unknown schema id {} ({})", event.getId(),
+            event.getSchemaId(), event.getEventName());
+        continue;
+      }
+      entries.add(new StreamEntry(EventStreamOperations.streamKey(channel.get()),
+          event.getPayload()));
+    }
+
+    streamOperations.addAll(entries);
+
+    LocalDateTime sentAt = LocalDateTime.now();
+    outboxEventRepository.markSent(ids, sentAt);
+
+    for (OutboxEvent event : events) {
+      EventChannel.fromSchemaId(event.getSchemaId()).ifPresent(channel -> {
+        eventMetrics.published(channel, event.getPayload().length);
+        eventMetrics.outboxRelayed(channel, Duration.between(event.getCreatedAt(), sentAt));
+      });
+    }
+    return events.size();
+  }
+
+  // 첫 실행이면 잠금 행을 만들고, 동시에 만든 노드는 유니크 키 위반으로 롤백 후 다음 실행에서 재시도
+  private void lockPartition(int partition) {
+    if (outboxRelayPartitionRepository.findByPartitionNo(partition).isEmpty()) {
+      outboxRelayPartitionRepository.saveAndFlush(new OutboxRelayPartition(partition));
+    }
+  }
+
+  /**
+   * 발행 완료 후 보관 기간이 지난 행 삭제
+   *
+   * @return 삭제한 행 수
+   */
+  @Transactional
+  public int purgeSent(LocalDateTime cutoff, int chunkSize) {
+    List<Long> ids = outboxEventRepository.findSentIdsBefore(cutoff, Limit.of(chunkSize));
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    return outboxEventRepository.deleteAllByIds(ids);
+  }
+
+  @Transactional(readOnly = true)
+  public void recordBacklog() {
+    long unsent = outboxEventRepository.countBySentAtIsNull();
+    Duration oldestAge = outboxEventRepository.findOldestUnsentCreatedAt()
+        .map(createdAt -> Duration.between(createdAt, LocalDateTime.now()))
+        .orElse(Duration.ZERO);
+    eventMetrics.outboxBacklog(unsent, oldestAge);
+  }
+}
@@ -57,6 +57,11 @@ public enum ErrorCode {
   CUSTOMER_ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "ORDER-CUSTOMER-404", "소비자의 주문을 찾을 수 없습니다."),
   ORDER_PAY_UNAVAILABLE(HttpStatus.CONFLICT, "ORDER-409", "결제가 불가능한 주문입니다."),
   ORDER_CANCEL_UNAVAILABLE(HttpStatus.CONFLICT, "ORDER-410", "상점이 이미 준비중인 주문입니다."),
+  ORDER_PRICE_MISMATCH(HttpStatus.BAD_REQUEST, "ORDER-400", "주문 금액이 상품 가격과 일치하지 않습니다."),
+  ORDER_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "ORDER-411",
+      "같은 주문 요청을 처리하고 있습니다. 잠시 후 다시 시도해 주세요."),
+  ORDER_IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "ORDER-422",
+      "이미 다른 주문에 사용된 요청 키입니다."),
 
   // 결제 관련 오류
   PG_PAYMENT_CONFIRM_FAILED(HttpStatus.BAD_REQUEST, "PG-PAYMENT-001",
@@ -64,6 +69,10 @@ public enum ErrorCode {
   PG_PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "PG-PAYMENT-404", "PG사에서 주문의 결제 이력을 찾을 수 없습니다."),
   PG_PAYMENT_CANCEL_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "PG-PAYMENT-CANCEL-500",
       "일시적인 서버 오류입니다. 계속 실패한다면 관리자에게 문의 바랍니다."),
+  PG_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "PG-503",
+      "결제사 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
+  PG_RESULT_UNKNOWN(HttpStatus.GATEWAY_TIMEOUT, "PG-504",
+      "결제사 응답을 받지 못했습니다. 결제 결과를 확인한 뒤 반영됩니다."),
 
   PAYMENT_AMOUNT_INVALID(HttpStatus.BAD_REQUEST, "PAYMENT-001", "결제 금액이 주문의 가격과 다릅니다."),
   PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "PAYMENT-404", "결제 이력을 찾을 수 없습니다."),
@@ -88,6 +97,12 @@ public enum ErrorCode {
   SETTLEMENT_BATCH_NOT_FOUND(HttpStatus.NOT_FOUND, "SETTLEMENT-BATCH-404", "정산 정보를 찾을 수 없습니다."),
   SETTLEMENT_DETAIL_NOT_FOUND(HttpStatus.NOT_FOUND, "SETTLEMENT-DETAIL-404",
       "세부 정산 정보를 찾을 수 없습니다."),
+  SETTLEMENT_EXPORT_INVALID_RANGE(HttpStatus.BAD_REQUEST, "SETTLEMENT-EXPORT-400",
+      "내보낼 정산 기간이 올바르지 않습니다."),
+  SETTLEMENT_EXPORT_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "SETTLEMENT-EXPORT-400",
+      "이어 받을 정산 상세를 찾을 수 없습니다."),
+  SETTLEMENT_EXPORT_BUSY(HttpStatus.TOO_MANY_REQUESTS, "SETTLEMENT-EXPORT-429",
+      "진행 중인 정산 내보내기가 많습니다. 잠시 후 다시 시도해주세요."),
 
   // ------- 공통 오류 ---------
 
@@ -0,0 +1,129 @@
+package com.deliveranything.domain.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import com.deliveranything.domain.notification.enums.NotificationType;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationDigestRepository 테스트")
+class NotificationDigestRepositoryTest {
+
+  private static final String DIRTY_KEY = "notifications:hourly:dirty";
+
+  @InjectMocks
+  private NotificationDigestRepository notificationDigestRepository;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private SetOperations<String, String> setOperations;
+
+  @Test
+  @DisplayName("카운트 증가는 HINCRBY, EXPIRE, SADD 를 한 번의 파이프라인으로 보냄")
+  @SuppressWarnings("unchecked")
+  void increment_pipelined() {
+    // given
+    RedisConnection connection = mock(RedisConnection.class);
+    RedisHashCommands hashCommands = mock(RedisHashCommands.class);
+    RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+    RedisSetCommands setCommands = mock(RedisSetCommands.class);
+    given(connection.hashCommands()).willReturn(hashCommands);
+    given(connection.keyCommands()).willReturn(keyCommands);
+    given(connection.setCommands()).willReturn(setCommands);
+
+    // when
+    notificationDigestRepository.increment(7L, NotificationType.NEW_REVIEW);
+
+    // then
+    ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+    then(redisTemplate).should().executePipelined(callback.capture());
+    callback.getValue().doInRedis(connection);
+
+    byte[] key = "notifications:hourly:profile:7".getBytes();
+    then(hashCommands).should().hIncrBy(key, "NEW_REVIEW".getBytes(), 1);
+    then(keyCommands).should().expire(key, 7200L);
+    then(setCommands).should().sAdd(DIRTY_KEY.getBytes(), "7".getBytes());
+  }
+
+  @Test
+  @DisplayName("dirty 셋에서 최대 batchSize 개의 프로필 ID 를 SPOP 으로 꺼냄")
+  void popDirtyProfileIds_spopBatch() {
+    // given
+    given(redisTemplate.opsForSet()).willReturn(setOperations);
+    given(setOperations.pop(DIRTY_KEY, 500)).willReturn(List.of("1", "2"));
+
+    // when
+    List<Long> profileIds = notificationDigestRepository.popDirtyProfileIds(500);
+
+    // then
+    assertThat(profileIds).containsExactly(1L, 2L);
+  }
+
+  @Test
+  @DisplayName("dirty 셋이 비어 있으면 빈 목록")
+  void popDirtyProfileIds_empty() {
+    // given
+    given(redisTemplate.opsForSet()).willReturn(setOperations);
+    given(setOperations.pop(DIRTY_KEY, 500)).willReturn(null);
+
+    // when & then
+    assertThat(notificationDigestRepository.popDirtyProfileIds(500)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("배치의 카운트 해시를 Lua 한 번으로 읽고 삭제해 프로필별로 묶음")
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  void drainCounts_groupsByProfile() {
+    // given
+    List<String> keys = List.of("notifications:hourly:profile:1",
+        "notifications:hourly:profile:2", "notifications:hourly:profile:3");
+    given(redisTemplate.execute(any(RedisScript.class), eq(keys))).willReturn(List.of(
+        List.of("NEW_REVIEW", "3", "ORDER_PAID_SELLER", "1"),
+        List.of(),
+        List.of("NEW_REVIEW", "2")));
+
+    // when
+    Map<Long, Map<String, Integer>> counts =
+        notificationDigestRepository.drainCounts(List.of(1L, 2L, 3L));
+
+    // then
+    assertThat(counts).containsOnlyKeys(1L, 3L);
+    assertThat(counts.get(1L)).containsExactlyInAnyOrderEntriesOf(
+        Map.of("NEW_REVIEW", 3, "ORDER_PAID_SELLER", 1));
+    assertThat(counts.get(3L)).containsExactlyEntriesOf(Map.of("NEW_REVIEW", 2));
+
+    ArgumentCaptor<RedisScript<List>> script = ArgumentCaptor.forClass(RedisScript.class);
+    then(redisTemplate).should().execute(script.capture(), eq(keys));
+    assertThat(script.getValue().getScriptAsString()).contains("HGETALL", "DEL");
+  }
+
+  @Test
+  @DisplayName("꺼낸 프로필이 없으면 Redis 를 호출하지 않음")
+  void drainCounts_empty() {
+    assertThat(notificationDigestRepository.drainCounts(List.of())).isEmpty();
+    then(redisTemplate).shouldHaveNoInteractions();
+  }
+}
@@ -0,0 +1,129 @@
+package com.deliveranything.domain.notification.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.notification.repository.NotificationDigestRepository;
+import com.deliveranything.domain.user.profile.entity.Profile;
+import com.deliveranything.domain.user.profile.enums.ProfileType;
+import com.deliveranything.domain.user.profile.repository.ProfileRepository;
+import com.deliveranything.domain.user.user.entity.User;
+import com.deliveranything.global.infra.SmsService;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationScheduler 테스트")
+class NotificationSchedulerTest {
+
+  private static final int BATCH_SIZE = 2;
+
+  @InjectMocks
+  private NotificationScheduler notificationScheduler;
+
+  @Mock
+  private ProfileRepository profileRepository;
+
+  @Mock
+  private NotificationDigestRepository notificationDigestRepository;
+
+  @Mock
+  private SmsService smsService;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(notificationScheduler, "batchSize", BATCH_SIZE);
+    ReflectionTestUtils.setField(notificationScheduler, "smsConcurrency", 4);
+  }
+
+  @Test
+  @DisplayName("한 사용자의 프로필이 서로 다른 배치에 나뉘어도 SMS 는 한 번만 발송")
+  void sendDigest_mergesProfilesAcrossBatches() {
+    // given
+    User user = user(10L, "010-1111-2222");
+    given(notificationDigestRepository.popDirtyProfileIds(BATCH_SIZE))
+        .willReturn(List.of(1L), List.of(2L), List.of());
+    given(notificationDigestRepository.drainCounts(List.of(1L)))
+        .willReturn(Map.of(1L, Map.of("NEW_REVIEW", 2)));
+    given(notificationDigestRepository.drainCounts(List.of(2L)))
+        .willReturn(Map.of(2L, Map.of("NEW_REVIEW", 1)));
+    given(profileRepository.findAllWithUserByIdIn(Set.of(1L)))
+        .willReturn(List.of(profile(1L, user, ProfileType.SELLER)));
+    given(profileRepository.findAllWithUserByIdIn(Set.of(2L)))
+        .willReturn(List.of(profile(2L, user, ProfileType.RIDER)));
+
+    // when
+    notificationScheduler.sendReviewNotificationsHourly();
+
+    // then
+    ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+    then(smsService).should().sendSms(eq("010-1111-2222"), message.capture());
+    assertThat(message.getValue()).contains("리뷰(SELLER) 2건", "리뷰(RIDER) 1건");
+  }
+
+  @Test
+  @DisplayName("같은 배치의 다른 사용자는 각자 한 번씩 발송하고 프로필 유형별로 건수를 나눔")
+  void sendDigest_groupsByUserAndProfileType() {
+    // given
+    User seller = user(10L, "010-1111-2222");
+    User customer = user(20L, "010-3333-4444");
+    given(notificationDigestRepository.popDirtyProfileIds(BATCH_SIZE))
+        .willReturn(List.of(1L, 2L), List.of());
+    given(notificationDigestRepository.drainCounts(List.of(1L, 2L))).willReturn(Map.of(
+        1L, Map.of("NEW_REVIEW", 3),
+        2L, Map.of("NEW_REVIEW", 1)));
+    given(profileRepository.findAllWithUserByIdIn(Set.of(1L, 2L))).willReturn(List.of(
+        profile(1L, seller, ProfileType.SELLER),
+        profile(2L, customer, ProfileType.CUSTOMER)));
+
+    // when
+    notificationScheduler.sendReviewNotificationsHourly();
+
+    // then
+    then(smsService).should().sendSms("010-1111-2222", "지난 1시간 동안 새 알림: 리뷰(SELLER) 3건");
+    then(smsService).should().sendSms("010-3333-4444", "지난 1시간 동안 새 알림: 리뷰(CUSTOMER) 1건");
+  }
+
+  @Test
+  @DisplayName("카운트가 모두 비어 있으면 프로필을 조회하지 않고 발송하지 않음")
+  void sendDigest_skipsEmptyCounts() {
+    // given
+    given(notificationDigestRepository.popDirtyProfileIds(BATCH_SIZE))
+        .willReturn(List.of(1L), List.of());
+    given(notificationDigestRepository.drainCounts(List.of(1L))).willReturn(Map.of());
+
+    // when
+    notificationScheduler.sendReviewNotificationsHourly();
+
+    // then
+    then(profileRepository).should(never()).findAllWithUserByIdIn(any());
+    then(smsService).should(never()).sendSms(anyString(), anyString());
+  }
+
+  private User user(Long id, String phoneNumber) {
+    User user = User.builder().phoneNumber(phoneNumber).build();
+    ReflectionTestUtils.setField(user, "id", id);
+    return user;
+  }
+
+  private Profile profile(Long id, User user, ProfileType type) {
+    Profile profile = Profile.builder().user(user).type(type).build();
+    ReflectionTestUtils.setField(profile, "id", id);
+    return profile;
+  }
+}
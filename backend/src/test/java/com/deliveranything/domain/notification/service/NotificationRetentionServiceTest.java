@@ -0,0 +1,89 @@
+package com.deliveranything.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.notification.dto.projection.NotificationRetentionProjection;
+import com.deliveranything.domain.notification.enums.NotificationType;
+import com.deliveranything.domain.notification.repository.NotificationArchiveRepository;
+import com.deliveranything.domain.notification.repository.NotificationRepository;
+import com.deliveranything.domain.notification.repository.NotificationUnreadCountRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationRetentionService 테스트")
+class NotificationRetentionServiceTest {
+
+  @InjectMocks
+  private NotificationRetentionService notificationRetentionService;
+
+  @Mock
+  private NotificationRepository notificationRepository;
+
+  @Mock
+  private NotificationArchiveRepository notificationArchiveRepository;
+
+  @Mock
+  private NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+  private final LocalDateTime now = LocalDateTime.of(2025, 10, 1, 4, 0);
+
+  @Test
+  @DisplayName("ARCHIVE 정책 - 읽은 알림을 아카이브로 복사 후 삭제")
+  void processChunk_archive() {
+    NotificationType type = NotificationType.ORDER_PAID_CUSTOMER;
+    LocalDateTime cutoff = now.minusDays(type.getRetentionDays());
+    given(notificationRepository.findReadExpired(type, cutoff, Limit.of(100))).willReturn(List.of(
+        new NotificationRetentionProjection(1L, 10L, true),
+        new NotificationRetentionProjection(2L, 11L, true)));
+
+    int processed = notificationRetentionService.processChunk(type, now, 100);
+
+    assertThat(processed).isEqualTo(2);
+    then(notificationArchiveRepository).should().copyFromNotifications(List.of(1L, 2L), now);
+    then(notificationRepository).should().deleteAllByIds(List.of(1L, 2L));
+    then(notificationUnreadCountRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("DELETE 정책 - 아카이브 없이 삭제, 안읽은 알림 수신자 카운터 무효화")
+  void processChunk_delete() {
+    NotificationType type = NotificationType.RIDER_ACCEPTED_ORDER;
+    LocalDateTime cutoff = now.minusDays(type.getRetentionDays());
+    given(notificationRepository.findExpired(type, cutoff, Limit.of(100))).willReturn(List.of(
+        new NotificationRetentionProjection(1L, 10L, false),
+        new NotificationRetentionProjection(2L, 10L, false),
+        new NotificationRetentionProjection(3L, 11L, true)));
+
+    int processed = notificationRetentionService.processChunk(type, now, 100);
+
+    assertThat(processed).isEqualTo(3);
+    then(notificationArchiveRepository).should(never()).copyFromNotifications(anyList(), any());
+    then(notificationRepository).should().deleteAllByIds(List.of(1L, 2L, 3L));
+    then(notificationUnreadCountRepository).should().evictAfterCommit(10L);
+    then(notificationUnreadCountRepository).should(never()).evictAfterCommit(11L);
+  }
+
+  @Test
+  @DisplayName("대상이 없으면 아무 작업도 하지 않음")
+  void processChunk_empty() {
+    NotificationType type = NotificationType.NEW_REVIEW;
+    LocalDateTime cutoff = now.minusDays(type.getRetentionDays());
+    given(notificationRepository.findReadExpired(type, cutoff, Limit.of(100))).willReturn(List.of());
+
+    assertThat(notificationRetentionService.processChunk(type, now, 100)).isZero();
+    then(notificationRepository).should(never()).deleteAllByIds(anyList());
+  }
+}
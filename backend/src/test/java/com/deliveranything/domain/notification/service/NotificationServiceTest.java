@@ -0,0 +1,165 @@
+package com.deliveranything.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.notification.dto.NotificationResponse;
+import com.deliveranything.domain.notification.entity.Notification;
+import com.deliveranything.domain.notification.enums.NotificationType;
+import com.deliveranything.domain.notification.repository.NotificationRepository;
+import com.deliveranything.domain.notification.repository.NotificationRepositoryCustom;
+import com.deliveranything.domain.notification.repository.NotificationUnreadCountRepository;
+import com.deliveranything.domain.notification.sse.SseBroadcaster;
+import com.deliveranything.global.common.CursorPageResponse;
+import com.deliveranything.global.util.CursorUtil;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationService 테스트")
+class NotificationServiceTest {
+
+  @InjectMocks
+  private NotificationService notificationService;
+
+  @Mock
+  private NotificationRepository notificationRepository;
+
+  @Mock
+  private NotificationRepositoryCustom notificationRepositoryCustom;
+
+  @Mock
+  private NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+  @Mock
+  private SseBroadcaster sseBroadcaster;
+
+  @Test
+  @DisplayName("알림 발송 시 읽지 않은 알림 수 증가")
+  void sendNotification_incrementsUnreadCount() {
+    notificationService.sendNotification(1L, NotificationType.ORDER_PAID_CUSTOMER, "msg", null);
+
+    then(notificationRepository).should().save(any(Notification.class));
+    then(notificationUnreadCountRepository).should().increment(1L);
+    then(sseBroadcaster).should().publish(eq(1L), eq("notification"), any(),
+        any(Notification.class));
+  }
+
+  @Test
+  @DisplayName("알림 읽음 처리 성공 - 실제로 읽음 전환된 경우에만 카운터 감소")
+  void markAsRead_success() {
+    given(notificationRepository.markAsRead(10L, 1L)).willReturn(1);
+
+    notificationService.markAsRead(10L, 1L);
+
+    then(notificationUnreadCountRepository).should().decrement(1L);
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 읽음 처리하면 커밋 후에 다른 기기로 전송")
+  void markAsRead_broadcastsAfterCommit() {
+    given(notificationRepository.markAsRead(10L, 1L)).willReturn(1);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      notificationService.markAsRead(10L, 1L);
+      then(sseBroadcaster).shouldHaveNoInteractions();
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    then(sseBroadcaster).should().publish(1L, "notification-read", "10", 10L);
+  }
+
+  @Test
+  @DisplayName("이미 읽은 알림 재요청 시 카운터 유지")
+  void markAsRead_alreadyRead() {
+    given(notificationRepository.markAsRead(10L, 1L)).willReturn(0);
+    given(notificationRepository.findByIdAndRecipientId(10L, 1L))
+        .willReturn(Optional.of(createNotification(10L, LocalDateTime.now())));
+
+    notificationService.markAsRead(10L, 1L);
+
+    then(notificationUnreadCountRepository).should(never()).decrement(anyLong());
+  }
+
+  @Test
+  @DisplayName("알림 읽음 처리 실패 - 존재하지 않거나 수신자가 다른 알림")
+  void markAsRead_notFound() {
+    given(notificationRepository.markAsRead(10L, 1L)).willReturn(0);
+    given(notificationRepository.findByIdAndRecipientId(10L, 1L)).willReturn(Optional.empty());
+
+    assertThrows(IllegalArgumentException.class, () -> notificationService.markAsRead(10L, 1L));
+  }
+
+  @Test
+  @DisplayName("전체 읽음 처리 시 단일 UPDATE 후 카운터 초기화")
+  void markAllAsRead_success() {
+    given(notificationRepository.markAllAsRead(1L)).willReturn(3);
+
+    int updated = notificationService.markAllAsRead(1L);
+
+    assertThat(updated).isEqualTo(3);
+    then(notificationUnreadCountRepository).should().reset(1L);
+  }
+
+  @Test
+  @DisplayName("읽지 않은 알림 수는 카운터 캐시에서 조회")
+  void getUnreadCount_fromCache() {
+    given(notificationUnreadCountRepository.get(eq(1L), any(LongSupplier.class))).willReturn(5L);
+
+    assertThat(notificationService.getUnreadCount(1L)).isEqualTo(5L);
+    then(notificationRepository).should(never()).countByRecipientIdAndIsReadFalse(anyLong());
+  }
+
+  @Test
+  @DisplayName("알림 목록 커서 기반 조회 성공")
+  void getNotifications_cursor() {
+    int size = 3;
+    LocalDateTime base = LocalDateTime.of(2025, 10, 1, 12, 0);
+    List<Notification> notifications = IntStream.range(0, size + 1)
+        .mapToObj(i -> createNotification(100L - i, base.minusMinutes(i)))
+        .toList();
+    given(notificationRepositoryCustom.findByRecipientIdByCursor(1L, null, null, null, size + 1))
+        .willReturn(notifications);
+
+    CursorPageResponse<NotificationResponse> response =
+        notificationService.getNotifications(1L, null, null, size);
+
+    assertThat(response.content()).hasSize(size);
+    assertThat(response.hasNext()).isTrue();
+    Object[] cursor = CursorUtil.decode(response.nextPageToken());
+    assertThat(cursor).containsExactly(base.minusMinutes(2).toString(), 98);
+  }
+
+  private Notification createNotification(Long id, LocalDateTime createdAt) {
+    Notification notification = Notification.builder()
+        .recipientId(1L)
+        .type(NotificationType.ORDER_PAID_CUSTOMER)
+        .message("msg")
+        .build();
+    ReflectionTestUtils.setField(notification, "id", id);
+    ReflectionTestUtils.setField(notification, "createdAt", createdAt);
+    return notification;
+  }
+}
@@ -0,0 +1,89 @@
+package com.deliveranything.domain.notification.sse;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.notification.repository.EmitterRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SseBroadcaster 테스트")
+class SseBroadcasterTest {
+
+  private static final String CHANNEL = "notifications:sse:profile:1";
+
+  @Mock
+  private EmitterRepository emitterRepository;
+
+  @Mock
+  private RedisMessageListenerContainer listenerContainer;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  private SseBroadcaster sseBroadcaster;
+
+  @BeforeEach
+  void setUp() {
+    sseBroadcaster = new SseBroadcaster(emitterRepository, listenerContainer, redisTemplate,
+        new ObjectMapper());
+  }
+
+  @Test
+  @DisplayName("발행한 이벤트를 구독 중인 노드가 받아 자기 Emitter 로 전달")
+  void publish_deliveredToLocalEmitters() throws Exception {
+    // given
+    SseEmitter emitter = mock(SseEmitter.class);
+    given(emitterRepository.getAllForProfile(1L)).willReturn(List.of(emitter));
+
+    // when - 발행한 메시지를 그대로 수신
+    sseBroadcaster.publish(1L, "order-board", "7", Map.of("orderId", 7));
+    ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+    then(redisTemplate).should().convertAndSend(eq(CHANNEL), body.capture());
+    sseBroadcaster.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+        body.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+    // then
+    then(emitter).should().send(any(SseEmitter.SseEventBuilder.class));
+  }
+
+  @Test
+  @DisplayName("연결이 남아 있으면 프로필 채널 구독을 유지")
+  void unsubscribeIfIdle_keepsSubscriptionWhileConnected() {
+    given(emitterRepository.getAllForProfile(1L)).willReturn(List.of(mock(SseEmitter.class)));
+
+    sseBroadcaster.unsubscribeIfIdle(1L);
+
+    then(listenerContainer).should(never()).removeMessageListener(any(), any(ChannelTopic.class));
+  }
+
+  @Test
+  @DisplayName("마지막 연결이 끊기면 프로필 채널 구독 해제")
+  void unsubscribeIfIdle_removesSubscription() {
+    given(emitterRepository.getAllForProfile(1L)).willReturn(List.of());
+
+    sseBroadcaster.unsubscribeIfIdle(1L);
+
+    then(listenerContainer).should()
+        .removeMessageListener(sseBroadcaster, new ChannelTopic(CHANNEL));
+  }
+}
@@ -0,0 +1,278 @@
+package com.deliveranything.domain.order.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deliveranything.domain.order.dto.OrderResponse;
+import com.deliveranything.domain.order.dto.projection.OrderSummaryProjection;
+import com.deliveranything.domain.order.entity.Order;
+import com.deliveranything.domain.order.entity.OrderItem;
+import com.deliveranything.domain.order.entity.QOrder;
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.product.entity.Product;
+import com.deliveranything.domain.store.category.entity.StoreCategory;
+import com.deliveranything.domain.store.store.entity.QStore;
+import com.deliveranything.domain.store.store.entity.Store;
+import com.deliveranything.domain.user.profile.entity.CustomerProfile;
+import com.deliveranything.domain.user.profile.entity.Profile;
+import com.deliveranything.domain.user.profile.enums.ProfileType;
+import com.deliveranything.domain.user.user.entity.User;
+import com.deliveranything.global.config.QuerydslConfig;
+import com.deliveranything.global.config.TsidConfig;
+import com.deliveranything.global.util.PointUtil;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 소비자 주문 내역 한 페이지 조회 비용 비교 - 엔티티 fetch join vs 컬럼 프로젝션 + 주문 상품 IN 조회
+ * <p>
+ * 일반 빌드에서는 제외되며 {@code ./gradlew benchmark} 로 실행합니다. 전송량은 JDBC ResultSet 에서 읽은 값의
+ * 크기(문자열은 UTF-8 바이트, 그 외 8바이트) 합계, 하이드레이션은 Hibernate 통계의 엔티티 로드 수입니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({QuerydslConfig.class, TsidConfig.class, OrderRepositoryCustom.class,
+    OrderHistoryBenchmarkTest.ResultSetCountingConfig.class})
+@DisplayName("주문 내역 조회 벤치마크")
+class OrderHistoryBenchmarkTest {
+
+  private static final int ORDERS = 200;
+  private static final int ITEMS_PER_ORDER = 3;
+  private static final int PAGE_SIZE = 20;
+  private static final int DESCRIPTION_LENGTH = 2_000;
+
+  private static final AtomicLong roundTrips = new AtomicLong();
+  private static final AtomicLong bytesRead = new AtomicLong();
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JPAQueryFactory queryFactory;
+
+  @Autowired
+  private OrderRepositoryCustom orderRepositoryCustom;
+
+  @Test
+  @DisplayName("엔티티 조회 대비 전송량과 엔티티 로드 수 비교")
+  void compareHistoryPaths() {
+    Long customerId = seed();
+    entityManager.clear();
+
+    readAllPages(cursor -> pageByEntities(customerId, cursor));
+    readAllPages(cursor -> pageByProjection(customerId, cursor));
+
+    Result entities = readAllPages(cursor -> pageByEntities(customerId, cursor));
+    Result projection = readAllPages(cursor -> pageByProjection(customerId, cursor));
+
+    log.info("entity fetch : {} round trips/page, {} bytes/page, {} entities/page",
+        entities.roundTripsPerPage(), entities.bytesPerPage(), entities.entitiesPerPage());
+    log.info("projection   : {} round trips/page, {} bytes/page, {} entities/page",
+        projection.roundTripsPerPage(), projection.bytesPerPage(),
+        projection.entitiesPerPage());
+
+    // 엔티티: 주문 + 상점(description 포함) + 주문별 지연 로딩 / 프로젝션: 목록 1 + 상품 IN 1
+    assertThat(projection.roundTripsPerPage()).isEqualTo(2);
+    assertThat(entities.roundTripsPerPage()).isGreaterThan(PAGE_SIZE);
+    assertThat(projection.entitiesPerPage()).isZero();
+    assertThat(projection.bytesPerPage()).isLessThan(entities.bytesPerPage());
+  }
+
+  // 기존 OrderRepositoryCustom + OrderResponse.from(Order) 방식
+  private List<OrderResponse> pageByEntities(Long customerId, Long cursor) {
+    QOrder order = QOrder.order;
+    return queryFactory.selectFrom(order)
+        .join(order.store, QStore.store).fetchJoin()
+        .where(order.customer.id.eq(customerId), cursor != null ? order.id.lt(cursor) : null)
+        .orderBy(order.id.desc())
+        .limit(PAGE_SIZE)
+        .fetch().stream()
+        .map(OrderResponse::from)
+        .toList();
+  }
+
+  private List<OrderResponse> pageByProjection(Long customerId, Long cursor) {
+    List<OrderSummaryProjection> orders = orderRepositoryCustom.findOrderSummariesByCustomerId(
+        customerId, cursor, PAGE_SIZE);
+    Map<Long, List<OrderItemInfo>> items = orderRepositoryCustom.findItemsByOrderIds(
+        orders.stream().map(OrderSummaryProjection::id).toList());
+    return orders.stream()
+        .map(order -> OrderResponse.from(order, items.getOrDefault(order.id(), List.of())))
+        .toList();
+  }
+
+  private Result readAllPages(Function<Long, List<OrderResponse>> page) {
+    Statistics statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    long startRoundTrips = roundTrips.get();
+    long startBytes = bytesRead.get();
+
+    int pages = 0;
+    Long cursor = null;
+    List<OrderResponse> responses;
+    do {
+      responses = page.apply(cursor);
+      pages++;
+      cursor = responses.isEmpty() ? null : responses.getLast().id();
+      // 다음 페이지가 영속성 컨텍스트 캐시를 재사용하지 않도록 비움
+      entityManager.clear();
+    } while (responses.size() == PAGE_SIZE);
+
+    return new Result((double) (roundTrips.get() - startRoundTrips) / pages,
+        (double) (bytesRead.get() - startBytes) / pages,
+        (double) statistics.getEntityLoadCount() / pages);
+  }
+
+  private Long seed() {
+    User user = User.builder()
+        .email("benchmark@test.com")
+        .username("벤치마크")
+        .build();
+    entityManager.persist(user);
+    Profile profile = Profile.builder().user(user).type(ProfileType.CUSTOMER).build();
+    entityManager.persist(profile);
+    CustomerProfile customer = CustomerProfile.builder()
+        .profile(profile)
+        .nickname("벤치마크")
+        .build();
+    entityManager.persist(customer);
+
+    StoreCategory category = new StoreCategory("벤치마크");
+    entityManager.persist(category);
+    Store store = Store.builder()
+        .sellerProfileId(1L)
+        .storeCategory(category)
+        .name("벤치마크 상점")
+        .description("가".repeat(DESCRIPTION_LENGTH))
+        .roadAddr("서울시 중구")
+        .location(PointUtil.createPoint(37.5665, 126.9780))
+        .build();
+    entityManager.persist(store);
+
+    List<Product> products = new ArrayList<>();
+    for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+      Product product = Product.builder()
+          .store(store)
+          .name("상품 " + i)
+          .price(1000)
+          .imageUrl("image.jpg")
+          .initialStock(1_000)
+          .build();
+      entityManager.persist(product);
+      products.add(product);
+    }
+
+    for (int i = 0; i < ORDERS; i++) {
+      Order order = Order.builder()
+          .customer(customer)
+          .store(store)
+          .address("서울시 중구 " + i)
+          .destination(PointUtil.createPoint(37.5665, 126.9780))
+          .totalPrice(6000L)
+          .storePrice(3000L)
+          .deliveryPrice(3000L)
+          .build();
+      products.forEach(product -> order.addOrderItem(
+          OrderItem.builder().product(product).price(1000).quantity(1).build()));
+      entityManager.persist(order);
+    }
+    entityManager.flush();
+    return customer.getId();
+  }
+
+  private record Result(double roundTripsPerPage, double bytesPerPage, double entitiesPerPage) {
+
+  }
+
+  @TestConfiguration
+  static class ResultSetCountingConfig {
+
+    @Bean
+    static BeanPostProcessor resultSetCountingDataSourcePostProcessor() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          return bean instanceof DataSource dataSource
+              ? proxy(DataSource.class, dataSource) : bean;
+        }
+      };
+    }
+
+    // DataSource -> Connection -> Statement -> ResultSet 순으로 감싸 쿼리 수와 읽은 값 크기를 센다
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target) {
+      return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+          (proxy, method, args) -> {
+            String name = method.getName();
+            if (Statement.class.isAssignableFrom(type) && name.startsWith("execute")) {
+              roundTrips.incrementAndGet();
+            }
+            Object result;
+            try {
+              result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+              throw e.getCause();
+            }
+            if (type == ResultSet.class && name.startsWith("get") && args != null) {
+              bytesRead.addAndGet(sizeOf(result));
+            }
+            if (result instanceof Connection connection) {
+              return proxy(Connection.class, connection);
+            }
+            if (result instanceof Statement statement && name.startsWith("prepare")) {
+              return proxy((Class<Statement>) method.getReturnType(), statement);
+            }
+            if (result instanceof Statement statement && name.equals("createStatement")) {
+              return proxy(Statement.class, statement);
+            }
+            if (result instanceof ResultSet resultSet && type != ResultSet.class) {
+              return proxy(ResultSet.class, resultSet);
+            }
+            return result;
+          });
+    }
+
+    private static long sizeOf(Object value) {
+      if (value == null) {
+        return 0;
+      }
+      if (value instanceof String string) {
+        return string.getBytes(StandardCharsets.UTF_8).length;
+      }
+      if (value instanceof byte[] bytes) {
+        return bytes.length;
+      }
+      return Long.BYTES;
+    }
+  }
+}
@@ -12,8 +12,12 @@ import static org.mockito.Mockito.times;
 import com.deliveranything.domain.order.dto.OrderCreateRequest;
 import com.deliveranything.domain.order.dto.OrderItemRequest;
 import com.deliveranything.domain.order.dto.OrderResponse;
+import com.deliveranything.domain.order.dto.projection.OrderSummaryProjection;
 import com.deliveranything.domain.order.entity.Order;
 import com.deliveranything.domain.order.enums.OrderStatus;
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.order.repository.OrderArchiveRepository;
+import com.deliveranything.domain.order.repository.OrderArchiveRepositoryCustom;
 import com.deliveranything.domain.order.repository.OrderRepository;
 import com.deliveranything.domain.order.repository.OrderRepositoryCustom;
 import com.deliveranything.domain.product.product.entity.Product;
@@ -25,9 +29,12 @@ import com.deliveranything.domain.user.profile.service.CustomerProfileService;
 import com.deliveranything.global.common.CursorPageResponse;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.IntStream;
+import java.util.Set;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -54,6 +61,10 @@ class CustomerOrderServiceTest {
   @Mock
   private OrderRepositoryCustom orderRepositoryCustom;
   @Mock
+  private OrderArchiveRepository orderArchiveRepository;
+  @Mock
+  private OrderArchiveRepositoryCustom orderArchiveRepositoryCustom;
+  @Mock
   private ApplicationEventPublisher eventPublisher;
 
   @Test
@@ -78,7 +89,7 @@ class CustomerOrderServiceTest {
     given(customerProfileService.getProfileByProfileId(any(Long.class))).willReturn(
         customerProfile);
     given(storeService.getStoreById(any(Long.class))).willReturn(store);
-    given(productService.getProductById(any(Long.class))).willReturn(product);
+    given(productService.getProductsByIds(1L, Set.of(1L))).willReturn(Map.of(1L, product));
     given(orderRepository.save(any(Order.class))).willAnswer(
         invocation -> invocation.getArgument(0));
 
@@ -89,6 +100,34 @@ class CustomerOrderServiceTest {
     then(orderRepository).should(times(1)).save(any(Order.class));
   }
 
+  @Test
+  @DisplayName("주문 생성 실패 - 상품 가격과 다른 금액")
+  void createOrder_fail_priceMismatch() {
+    // given
+    OrderItemRequest orderItemRequest = new OrderItemRequest(1L, 100, 2);
+    OrderCreateRequest createRequest = new OrderCreateRequest(
+        1L, List.of(orderItemRequest), "서울시 강남구", 37.123, 127.123,
+        null, null, 3200L, 200L, 3000L
+    );
+
+    Store store = Store.builder().build();
+    Product product = Product.builder()
+        .name("테스트 상품").price(10000).store(store).imageUrl("http://example.com/image.jpg")
+        .initialStock(10)
+        .build();
+
+    given(customerProfileService.getProfileByProfileId(any(Long.class))).willReturn(
+        CustomerProfile.builder().build());
+    given(storeService.getStoreById(any(Long.class))).willReturn(store);
+    given(productService.getProductsByIds(1L, Set.of(1L))).willReturn(Map.of(1L, product));
+
+    // when & then
+    assertThatThrownBy(() -> customerOrderService.createOrder(1L, createRequest))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.ORDER_PRICE_MISMATCH.getMessage());
+    then(orderRepository).should(times(0)).save(any(Order.class));
+  }
+
   @Test
   @DisplayName("특정 주문 조회 성공")
   void getCustomerOrder_success() {
@@ -139,14 +178,8 @@ class CustomerOrderServiceTest {
     // given
     Long customerId = 1L;
     int size = 5;
-    Store mockStore = Store.builder().name("테스트 가게").build();
-    List<Order> mockOrders = IntStream.range(0, size + 1)
-        .mapToObj(i -> Order.builder().store(mockStore).customer(CustomerProfile.builder().build())
-            .address("주소 " + i).totalPrice(1000L).build())
-        .toList();
-
-    given(orderRepositoryCustom.findOrdersWithStoreByCustomerId(anyLong(), any(), anyInt()))
-        .willReturn(mockOrders);
+    given(orderRepositoryCustom.findOrderSummariesByCustomerId(anyLong(), any(), anyInt()))
+        .willReturn(summaries(size + 1));
 
     // when
     CursorPageResponse<OrderResponse> response = customerOrderService.getCustomerOrdersByCursor(
@@ -194,15 +227,9 @@ class CustomerOrderServiceTest {
     // given
     Long customerId = 1L;
     int size = 5;
-    Store mockStore = Store.builder().name("테스트 가게").build();
-    List<Order> mockOrders = IntStream.range(0, size + 1)
-        .mapToObj(i -> Order.builder().store(mockStore).customer(CustomerProfile.builder().build())
-            .address("주소 " + i).totalPrice(1000L).build())
-        .toList();
-
-    given(orderRepositoryCustom.findOrdersWithStoreByCustomerId(anyLong(), any(List.class), any(),
+    given(orderRepositoryCustom.findOrderSummariesByCustomerId(anyLong(), any(List.class), any(),
         any(), anyInt()))
-        .willReturn(mockOrders);
+        .willReturn(summaries(size + 1));
 
     // when
     CursorPageResponse<OrderResponse> response = customerOrderService.getCompletedOrdersByCursor(
@@ -213,4 +240,42 @@ class CustomerOrderServiceTest {
     assertThat(response.content()).hasSize(size);
     assertThat(response.nextPageToken()).isNotNull();
   }
+
+  @Test
+  @DisplayName("보관 주문과 합쳐 최신순으로 조회하고 주문 상품을 붙임")
+  void getCustomerOrdersByCursor_mergesArchive() {
+    // given
+    List<OrderSummaryProjection> live = List.of(summary(5L), summary(2L));
+    List<OrderSummaryProjection> archived = List.of(summary(4L), summary(1L));
+
+    given(orderRepositoryCustom.findOrderSummariesByCustomerId(1L, null, 3)).willReturn(live);
+    given(orderArchiveRepositoryCustom.findOrderSummariesByCustomerId(1L, null, 3))
+        .willReturn(archived);
+    given(orderRepositoryCustom.findItemsByOrderIds(List.of(5L, 4L, 2L)))
+        .willReturn(Map.of(5L, List.of(new OrderItemInfo(10L, 1))));
+    given(orderArchiveRepositoryCustom.findItemsByOrderIds(List.of(5L, 4L, 2L)))
+        .willReturn(Map.of(4L, List.of(new OrderItemInfo(20L, 2))));
+
+    // when
+    CursorPageResponse<OrderResponse> response = customerOrderService.getCustomerOrdersByCursor(
+        1L, null, 2);
+
+    // then
+    assertThat(response.content()).extracting(OrderResponse::id).containsExactly(5L, 4L);
+    assertThat(response.content().get(0).orderItems()).containsExactly(new OrderItemInfo(10L, 1));
+    assertThat(response.content().get(1).orderItems()).containsExactly(new OrderItemInfo(20L, 2));
+    assertThat(response.hasNext()).isTrue();
+  }
+
+  private List<OrderSummaryProjection> summaries(int count) {
+    return LongStream.rangeClosed(1, count)
+        .map(i -> count + 1 - i)
+        .mapToObj(this::summary)
+        .toList();
+  }
+
+  private OrderSummaryProjection summary(Long id) {
+    return new OrderSummaryProjection(id, OrderStatus.COMPLETED, "merchant-" + id, "테스트 가게",
+        "주소 " + id, null, null, 1000L, 900L, 100L, LocalDateTime.now().minusMinutes(id));
+  }
 }
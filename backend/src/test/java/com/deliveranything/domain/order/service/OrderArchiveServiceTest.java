@@ -0,0 +1,72 @@
+package com.deliveranything.domain.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+
+import com.deliveranything.domain.order.repository.OrderArchiveRepository;
+import com.deliveranything.domain.order.repository.OrderRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderArchiveService 테스트")
+class OrderArchiveServiceTest {
+
+  @InjectMocks
+  private OrderArchiveService orderArchiveService;
+
+  @Mock
+  private OrderRepository orderRepository;
+
+  @Mock
+  private OrderArchiveRepository orderArchiveRepository;
+
+  private final LocalDateTime now = LocalDateTime.of(2025, 10, 1, 4, 30);
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(orderArchiveService, "retentionDays", 90);
+  }
+
+  @Test
+  @DisplayName("종료 주문과 주문 상품을 보관 테이블로 복사한 뒤 삭제")
+  void processChunk_archive() {
+    given(orderRepository.findArchivableIds(anyList(), eq(now.minusDays(90)), eq(Limit.of(100))))
+        .willReturn(List.of(1L, 2L));
+
+    int processed = orderArchiveService.processChunk(now, 100);
+
+    assertThat(processed).isEqualTo(2);
+    InOrder inOrder = inOrder(orderArchiveRepository, orderRepository);
+    inOrder.verify(orderArchiveRepository).copyFromOrders(List.of(1L, 2L), now);
+    inOrder.verify(orderArchiveRepository).copyItemsFromOrders(List.of(1L, 2L));
+    inOrder.verify(orderRepository).deleteItemsByOrderIds(List.of(1L, 2L));
+    inOrder.verify(orderRepository).deleteAllByIds(List.of(1L, 2L));
+  }
+
+  @Test
+  @DisplayName("대상이 없으면 아무 작업도 하지 않음")
+  void processChunk_empty() {
+    given(orderRepository.findArchivableIds(anyList(), any(), any())).willReturn(List.of());
+
+    int processed = orderArchiveService.processChunk(now, 100);
+
+    assertThat(processed).isZero();
+    then(orderArchiveRepository).shouldHaveNoInteractions();
+  }
+}
@@ -0,0 +1,204 @@
+package com.deliveranything.domain.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.notification.service.NotificationService;
+import com.deliveranything.domain.order.dto.OrderBoardDeltaResponse;
+import com.deliveranything.domain.order.dto.OrderResponse;
+import com.deliveranything.domain.order.entity.Order;
+import com.deliveranything.domain.order.enums.OrderStatus;
+import com.deliveranything.domain.order.event.OrderBoardChangedEvent;
+import com.deliveranything.domain.order.repository.OrderBoardRepository;
+import com.deliveranything.domain.order.repository.OrderRepository;
+import com.deliveranything.domain.store.store.entity.Store;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderBoardService 테스트")
+class OrderBoardServiceTest {
+
+  @InjectMocks
+  private OrderBoardService orderBoardService;
+
+  @Mock
+  private OrderBoardRepository orderBoardRepository;
+
+  @Mock
+  private OrderRepository orderRepository;
+
+  @Mock
+  private NotificationService notificationService;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @Test
+  @DisplayName("현황판에서 수락 대기 주문만 접수 순으로 조회하고 DB 는 읽지 않음")
+  void getPendingOrders_fromBoard() {
+    LocalDateTime now = LocalDateTime.now();
+    given(orderBoardRepository.findAll(1L)).willReturn(Optional.of(List.of(
+        order(3L, OrderStatus.PENDING, now),
+        order(2L, OrderStatus.PREPARING, now.minusMinutes(5)),
+        order(1L, OrderStatus.PENDING, now.minusMinutes(1)))));
+
+    List<OrderResponse> responses = orderBoardService.getPendingOrders(1L);
+
+    assertThat(responses).extracting(OrderResponse::id).containsExactly(1L, 3L);
+    then(orderRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("현황판이 없으면 DB 에서 한 번 적재")
+  void getAcceptedOrders_reloadsWhenMissing() {
+    given(orderBoardRepository.findAll(1L)).willReturn(Optional.empty());
+    given(orderBoardRepository.currentGeneration(1L)).willReturn(7L);
+    givenTransaction();
+    given(orderRepository.findOrdersWithStoreByStoreIdAndStatuses(eq(1L), anyList()))
+        .willReturn(List.of());
+    given(orderBoardRepository.replaceAll(eq(1L), eq(List.of()), any(), eq(7L)))
+        .willReturn(true);
+
+    List<OrderResponse> responses = orderBoardService.getAcceptedOrders(1L);
+
+    assertThat(responses).isEmpty();
+    then(orderBoardRepository).should().replaceAll(eq(1L), eq(List.of()), any(), eq(7L));
+  }
+
+  @Test
+  @DisplayName("DB 에서 적재하면 수락 대기 주문만 접수 순으로 조회")
+  void getPendingOrders_reloadFiltersAndSorts() {
+    // given
+    LocalDateTime now = LocalDateTime.now();
+    Store store = Store.builder().name("테스트 가게").build();
+    given(orderBoardRepository.findAll(1L)).willReturn(Optional.empty());
+    givenTransaction();
+    given(orderRepository.findOrdersWithStoreByStoreIdAndStatuses(eq(1L), anyList()))
+        .willReturn(List.of(
+            order(3L, store, "주소 3", OrderStatus.PENDING, now),
+            order(2L, store, "주소 2", OrderStatus.PREPARING, now.minusMinutes(5)),
+            order(1L, store, "주소 1", OrderStatus.PENDING, now.minusMinutes(1))));
+    given(orderBoardRepository.replaceAll(eq(1L), anyList(), any(), anyLong()))
+        .willReturn(true);
+
+    // when
+    List<OrderResponse> responses = orderBoardService.getPendingOrders(1L);
+
+    // then
+    assertThat(responses).extracting(OrderResponse::address).containsExactly("주소 1", "주소 3");
+    assertThat(responses).extracting(OrderResponse::storeName).containsOnly("테스트 가게");
+  }
+
+  @Test
+  @DisplayName("DB 에서 적재하면 처리 중 주문만 접수 순으로 조회")
+  void getAcceptedOrders_reloadFiltersAndSorts() {
+    // given
+    LocalDateTime now = LocalDateTime.now();
+    Store store = Store.builder().name("테스트 가게").build();
+    given(orderBoardRepository.findAll(1L)).willReturn(Optional.empty());
+    givenTransaction();
+    given(orderRepository.findOrdersWithStoreByStoreIdAndStatuses(eq(1L), anyList()))
+        .willReturn(List.of(
+            order(1L, store, "주소 1", OrderStatus.PENDING, now.minusMinutes(9)),
+            order(2L, store, "주소 2", OrderStatus.RIDER_ASSIGNED, now),
+            order(3L, store, "주소 3", OrderStatus.PREPARING, now.minusMinutes(3)),
+            order(4L, store, "주소 4", OrderStatus.DELIVERING, now.minusMinutes(1))));
+    given(orderBoardRepository.replaceAll(eq(1L), anyList(), any(), anyLong()))
+        .willReturn(true);
+
+    // when
+    List<OrderResponse> responses = orderBoardService.getAcceptedOrders(1L);
+
+    // then
+    assertThat(responses).extracting(OrderResponse::address)
+        .containsExactly("주소 3", "주소 4", "주소 2");
+    assertThat(responses).extracting(OrderResponse::status).containsExactly(
+        OrderStatus.PREPARING, OrderStatus.DELIVERING, OrderStatus.RIDER_ASSIGNED);
+  }
+
+  @Test
+  @DisplayName("DB 를 읽는 사이 변경분이 반영되면 현황판을 덮어쓰지 않고 DB 결과로 응답")
+  void getPendingOrders_reloadSkippedWhenChanged() {
+    // given
+    LocalDateTime now = LocalDateTime.now();
+    Store store = Store.builder().name("테스트 가게").build();
+    given(orderBoardRepository.findAll(1L)).willReturn(Optional.empty());
+    given(orderBoardRepository.currentGeneration(1L)).willReturn(3L);
+    givenTransaction();
+    given(orderRepository.findOrdersWithStoreByStoreIdAndStatuses(eq(1L), anyList()))
+        .willReturn(List.of(order(1L, store, "주소 1", OrderStatus.PENDING, now)));
+    given(orderBoardRepository.replaceAll(eq(1L), anyList(), any(), eq(3L))).willReturn(false);
+
+    // when
+    List<OrderResponse> responses = orderBoardService.getPendingOrders(1L);
+
+    // then
+    assertThat(responses).extracting(OrderResponse::id).containsExactly(1L);
+  }
+
+  @Test
+  @DisplayName("종료된 주문은 현황판에서 빼고 변경분 전송")
+  void onBoardChanged_removesClosedOrder() {
+    orderBoardService.onBoardChanged(
+        new OrderBoardChangedEvent(1L, 2L, 10L, OrderStatus.COMPLETED, null));
+
+    then(orderBoardRepository).should().remove(1L, 10L);
+    then(notificationService).should().push(2L, "order-board",
+        OrderBoardDeltaResponse.removed(10L, OrderStatus.COMPLETED));
+  }
+
+  @Test
+  @DisplayName("현황판에 없는 주문의 상태 변경이면 다음 조회 때 다시 적재")
+  void onBoardChanged_invalidatesWhenMissing() {
+    given(orderBoardRepository.updateStatus(1L, 10L, OrderStatus.DELIVERING)).willReturn(false);
+
+    orderBoardService.onBoardChanged(
+        new OrderBoardChangedEvent(1L, 2L, 10L, OrderStatus.DELIVERING, null));
+
+    then(orderBoardRepository).should().invalidate(1L);
+    then(orderBoardRepository).should(never()).remove(anyLong(), anyLong());
+  }
+
+  private void givenTransaction() {
+    given(transactionTemplate.execute(any())).willAnswer(
+        invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+  }
+
+  private Order order(Long id, Store store, String address, OrderStatus status,
+      LocalDateTime createdAt) {
+    Order order = Order.builder()
+        .store(store)
+        .address(address)
+        .totalPrice(1000L)
+        .storePrice(900L)
+        .deliveryPrice(100L)
+        .build();
+    order.updateStatus(status);
+    ReflectionTestUtils.setField(order, "id", id);
+    ReflectionTestUtils.setField(order, "createdAt", createdAt);
+    return order;
+  }
+
+  private OrderResponse order(Long id, OrderStatus status, LocalDateTime createdAt) {
+    return new OrderResponse(id, List.of(), status, "merchant-" + id, "테스트 가게", "주소", null,
+        null, 1000L, 900L, 100L, createdAt);
+  }
+}
@@ -0,0 +1,134 @@
+package com.deliveranything.domain.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.order.dto.OrderCreateRequest;
+import com.deliveranything.domain.order.dto.OrderCreateResponse;
+import com.deliveranything.domain.order.dto.OrderItemRequest;
+import com.deliveranything.domain.order.repository.OrderIdempotencyRepository;
+import com.deliveranything.domain.order.repository.OrderIdempotencyRepository.IdempotencyRecord;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderIdempotencyService 테스트")
+class OrderIdempotencyServiceTest {
+
+  @InjectMocks
+  private OrderIdempotencyService orderIdempotencyService;
+
+  @Mock
+  private CustomerOrderService customerOrderService;
+
+  @Mock
+  private OrderIdempotencyRepository orderIdempotencyRepository;
+
+  private final OrderCreateRequest request = new OrderCreateRequest(
+      1L, List.of(new OrderItemRequest(1L, 10000, 2)), "서울시 강남구", 37.123, 127.123,
+      null, null, 23000L, 20000L, 3000L);
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(orderIdempotencyService, "lockTtl", Duration.ofSeconds(10));
+    ReflectionTestUtils.setField(orderIdempotencyService, "resultTtl", Duration.ofHours(24));
+    ReflectionTestUtils.setField(orderIdempotencyService, "waitTimeout", Duration.ofMillis(100));
+    ReflectionTestUtils.setField(orderIdempotencyService, "pollInterval", Duration.ofMillis(10));
+  }
+
+  @Test
+  @DisplayName("처음 들어온 요청은 주문을 생성하고 결과를 저장")
+  void createOrder_firstRequest() {
+    OrderCreateResponse response = new OrderCreateResponse(100L, "merchant-1");
+    given(orderIdempotencyRepository.acquire(eq(1L), eq("key-1"), anyString(), anyString(), any()))
+        .willReturn(Optional.empty());
+    given(customerOrderService.createOrder(1L, request)).willReturn(response);
+    given(orderIdempotencyRepository.complete(eq(1L), eq("key-1"), anyString(), eq(response),
+        eq(Duration.ofHours(24)))).willReturn(true);
+
+    OrderCreateResponse result = orderIdempotencyService.createOrder(1L, "key-1", request);
+
+    assertThat(result).isEqualTo(response);
+    ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+    then(orderIdempotencyRepository).should()
+        .acquire(eq(1L), eq("key-1"), anyString(), token.capture(), any());
+    then(orderIdempotencyRepository).should()
+        .complete(1L, "key-1", token.getValue(), response, Duration.ofHours(24));
+  }
+
+  @Test
+  @DisplayName("잠금을 잃어 결과를 저장하지 못해도 생성된 주문을 반환")
+  void createOrder_lockLostBeforeComplete() {
+    OrderCreateResponse response = new OrderCreateResponse(100L, "merchant-1");
+    given(orderIdempotencyRepository.acquire(eq(1L), eq("key-1"), anyString(), anyString(), any()))
+        .willReturn(Optional.empty());
+    given(customerOrderService.createOrder(1L, request)).willReturn(response);
+    given(orderIdempotencyRepository.complete(eq(1L), eq("key-1"), anyString(), eq(response),
+        any())).willReturn(false);
+
+    OrderCreateResponse result = orderIdempotencyService.createOrder(1L, "key-1", request);
+
+    assertThat(result).isEqualTo(response);
+  }
+
+  @Test
+  @DisplayName("처리 중인 중복 요청은 첫 요청의 결과를 기다려 반환")
+  void createOrder_duplicateWaitsForFirstResult() {
+    OrderCreateResponse response = new OrderCreateResponse(100L, "merchant-1");
+    given(orderIdempotencyRepository.acquire(eq(1L), eq("key-1"), anyString(), anyString(), any()))
+        .willAnswer(invocation -> Optional.of(
+            new IdempotencyRecord(invocation.getArgument(2), null)))
+        .willAnswer(invocation -> Optional.of(
+            new IdempotencyRecord(invocation.getArgument(2), response)));
+
+    OrderCreateResponse result = orderIdempotencyService.createOrder(1L, "key-1", request);
+
+    assertThat(result).isEqualTo(response);
+    then(customerOrderService).should(never()).createOrder(any(), any());
+  }
+
+  @Test
+  @DisplayName("같은 키로 다른 주문을 요청하면 실패")
+  void createOrder_fail_keyReused() {
+    given(orderIdempotencyRepository.acquire(eq(1L), eq("key-1"), anyString(), anyString(), any()))
+        .willReturn(Optional.of(new IdempotencyRecord("other", null)));
+
+    assertThatThrownBy(() -> orderIdempotencyService.createOrder(1L, "key-1", request))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.ORDER_IDEMPOTENCY_KEY_REUSED.getMessage());
+  }
+
+  @Test
+  @DisplayName("주문 생성에 실패하면 키를 지워 재시도할 수 있게 함")
+  void createOrder_releasesKeyOnFailure() {
+    given(orderIdempotencyRepository.acquire(eq(1L), eq("key-1"), anyString(), anyString(), any()))
+        .willReturn(Optional.empty());
+    given(customerOrderService.createOrder(1L, request))
+        .willThrow(new CustomException(ErrorCode.ORDER_PRICE_MISMATCH));
+
+    assertThatThrownBy(() -> orderIdempotencyService.createOrder(1L, "key-1", request))
+        .isInstanceOf(CustomException.class);
+    ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+    then(orderIdempotencyRepository).should()
+        .acquire(eq(1L), eq("key-1"), anyString(), token.capture(), any());
+    then(orderIdempotencyRepository).should().release(1L, "key-1", token.getValue());
+  }
+}
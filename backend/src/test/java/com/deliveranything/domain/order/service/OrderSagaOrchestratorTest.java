@@ -0,0 +1,122 @@
+package com.deliveranything.domain.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.order.enums.OrderSagaStep;
+import com.deliveranything.domain.order.event.OrderPaymentSucceededEvent;
+import com.deliveranything.domain.order.event.OrderSagaStepEvent;
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.order.repository.OrderSagaRepository;
+import com.deliveranything.domain.order.repository.OrderSagaRepository.SagaTimeout;
+import com.deliveranything.domain.order.repository.OrderSagaRepository.StepEntry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderSagaOrchestrator 테스트")
+class OrderSagaOrchestratorTest {
+
+  @Mock
+  private OrderSagaRepository orderSagaRepository;
+
+  @Mock
+  private OrderService orderService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private OrderSagaOrchestrator orderSagaOrchestrator;
+
+  private final List<OrderItemInfo> items = List.of(new OrderItemInfo(10L, 2));
+
+  @BeforeEach
+  void setUp() {
+    orderSagaOrchestrator = new OrderSagaOrchestrator(orderSagaRepository, orderService,
+        eventPublisher, meterRegistry);
+    ReflectionTestUtils.setField(orderSagaOrchestrator, "maxAttempts", 3);
+  }
+
+  @Test
+  @DisplayName("단계 전이 시 직전 단계 소요 시간 기록")
+  void onStep_recordsPreviousStepLatency() {
+    given(orderSagaRepository.advance(eq(1L), eq(OrderSagaStep.COMPLETED), any(), any(), any(),
+        any())).willReturn(Optional.of(
+        new StepEntry(OrderSagaStep.COMMITTING_STOCK, Instant.now().minusMillis(200))));
+
+    orderSagaOrchestrator.onStep(OrderSagaStepEvent.of(1L, OrderSagaStep.COMPLETED));
+
+    assertThat(meterRegistry.find("order.saga.step")
+        .tag("step", "COMMITTING_STOCK").tag("outcome", "completed").timer())
+        .isNotNull()
+        .satisfies(timer -> assertThat(timer.count()).isEqualTo(1));
+  }
+
+  @Test
+  @DisplayName("재고 단계 시간 초과 시 명령 이벤트 재발행")
+  void handleTimeout_retriesStockStep() {
+    given(orderSagaRepository.isAt(1L, OrderSagaStep.COMMITTING_STOCK)).willReturn(true);
+    given(orderSagaRepository.rearm(eq(1L), eq(OrderSagaStep.COMMITTING_STOCK), any()))
+        .willReturn(true);
+
+    orderSagaOrchestrator.handleTimeout(timeout(OrderSagaStep.COMMITTING_STOCK, 0));
+
+    then(eventPublisher).should()
+        .publishEvent(new OrderPaymentSucceededEvent(1L, 5L, items));
+  }
+
+  @Test
+  @DisplayName("재고 예약 재시도 소진 시 주문 생성 실패로 보상")
+  void handleTimeout_compensatesReserveAfterMaxAttempts() {
+    given(orderSagaRepository.isAt(1L, OrderSagaStep.RESERVING_STOCK)).willReturn(true);
+
+    orderSagaOrchestrator.handleTimeout(timeout(OrderSagaStep.RESERVING_STOCK, 3));
+
+    then(orderService).should().processStockReserveFailed(eq(1L), any());
+    then(eventPublisher).should(never()).publishEvent(any(Object.class));
+  }
+
+  @Test
+  @DisplayName("결제 단계는 재시도하지 않고 확인 필요 상태로 남김")
+  void handleTimeout_doesNotRetryPayment() {
+    given(orderSagaRepository.isAt(1L, OrderSagaStep.CONFIRMING_PAYMENT)).willReturn(true);
+
+    orderSagaOrchestrator.handleTimeout(timeout(OrderSagaStep.CONFIRMING_PAYMENT, 0));
+
+    then(eventPublisher).should(never()).publishEvent(any(Object.class));
+    then(orderSagaRepository).should(never()).rearm(anyLong(), any(), any());
+    assertThat(meterRegistry.counter("order.saga.stuck", "step", "CONFIRMING_PAYMENT").count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("이미 다음 단계로 진행된 사가는 무시")
+  void handleTimeout_ignoresAdvancedSaga() {
+    given(orderSagaRepository.isAt(1L, OrderSagaStep.COMMITTING_STOCK)).willReturn(false);
+
+    orderSagaOrchestrator.handleTimeout(timeout(OrderSagaStep.COMMITTING_STOCK, 0));
+
+    then(eventPublisher).should(never()).publishEvent(any(Object.class));
+  }
+
+  private SagaTimeout timeout(OrderSagaStep step, int attempts) {
+    return new SagaTimeout(1L, step, Instant.now().minusSeconds(60), attempts, 5L, items);
+  }
+}
@@ -9,6 +9,7 @@ import com.deliveranything.domain.order.entity.Order;
 import com.deliveranything.domain.order.enums.OrderStatus;
 import com.deliveranything.domain.order.event.OrderPaymentSucceededEvent;
 import com.deliveranything.domain.order.repository.OrderRepository;
+import com.deliveranything.domain.store.category.entity.StoreCategory;
 import com.deliveranything.domain.store.store.entity.Store;
 import com.deliveranything.domain.order.event.sse.customer.OrderPaidForCustomerEvent;
 import com.deliveranything.domain.order.event.sse.seller.OrderPaidForSellerEvent;
@@ -25,9 +26,12 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import com.deliveranything.domain.order.enums.Publisher;
+import com.deliveranything.domain.order.enums.OrderSagaStep;
+import com.deliveranything.domain.order.event.OrderCancelEvent;
 import com.deliveranything.domain.order.event.OrderCancelSucceededEvent;
 import com.deliveranything.domain.order.event.OrderCompletedEvent;
 import com.deliveranything.domain.order.event.OrderPaymentFailedEvent;
+import com.deliveranything.domain.order.event.OrderSagaStepEvent;
 import com.deliveranything.domain.order.event.sse.customer.OrderCancelFailedForCustomerEvent;
 import com.deliveranything.domain.order.event.sse.customer.OrderCanceledForCustomerEvent;
 import com.deliveranything.domain.order.event.sse.customer.OrderCreateFailedForCustomerEvent;
@@ -248,7 +252,8 @@ class OrderServiceTest {
   void processDeliveryCompleted_success() {
     // given
     Long orderId = 1L;
-    Order realOrder = Order.builder().store(Store.builder().build()).customer(CustomerProfile.builder().build()).build();
+    Store store = Store.builder().storeCategory(new StoreCategory("한식")).build();
+    Order realOrder = Order.builder().store(store).customer(CustomerProfile.builder().build()).build();
     Order spyOrder = Mockito.spy(realOrder);
     given(orderRepository.findById(orderId)).willReturn(Optional.of(spyOrder));
 
@@ -278,6 +283,25 @@ class OrderServiceTest {
     then(eventPublisher).should().publishEvent(any(OrderCreatedForCustomerEvent.class));
   }
 
+  @Test
+  @DisplayName("재고 확정 실패 시 결제 환불(주문 취소) 요청")
+  void processStockCommitFailed_requestsRefund() {
+    // given
+    Long orderId = 1L;
+    String reason = "재고 예약 만료";
+    Order order = Order.builder().customer(CustomerProfile.builder().build()).build();
+    given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+
+    // when
+    orderService.processStockCommitFailed(orderId, reason);
+
+    // then
+    then(eventPublisher).should().publishEvent(
+        OrderCancelEvent.from(order, reason, Publisher.CUSTOMER));
+    then(eventPublisher).should().publishEvent(
+        OrderSagaStepEvent.of(order.getId(), OrderSagaStep.CANCELING_PAYMENT));
+  }
+
   @Test
   @DisplayName("재고 예약 실패 처리 성공")
   void processStockReserveFailed_success() {
@@ -0,0 +1,108 @@
+package com.deliveranything.domain.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.order.entity.OrderStatusLog;
+import com.deliveranything.domain.order.enums.OrderStatus;
+import com.deliveranything.domain.order.event.dto.OrderStatusChange;
+import com.deliveranything.domain.order.repository.OrderStatusLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderStatusLogService 테스트")
+class OrderStatusLogServiceTest {
+
+  @Mock
+  private OrderStatusLogRepository orderStatusLogRepository;
+
+  @Mock
+  private OrderStatusStatsService orderStatusStatsService;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private OrderStatusLogService orderStatusLogService;
+
+  private final LocalDateTime now = LocalDateTime.now();
+
+  @BeforeEach
+  void setUp() {
+    orderStatusLogService = new OrderStatusLogService(orderStatusLogRepository,
+        orderStatusStatsService, meterRegistry);
+    ReflectionTestUtils.setField(orderStatusLogService, "bufferCapacity", 3);
+  }
+
+  @Test
+  @DisplayName("버퍼에 쌓인 상태 변경을 한 번에 저장하고 통계에 반영")
+  @SuppressWarnings("unchecked")
+  void flush_savesBatchAndAppliesStats() {
+    orderStatusLogService.append(1L, 10L, List.of(
+        change(OrderStatus.PENDING, OrderStatus.PREPARING, 60),
+        change(OrderStatus.PREPARING, OrderStatus.RIDER_ASSIGNED, 600)));
+
+    int flushed = orderStatusLogService.flush(500);
+
+    ArgumentCaptor<List<OrderStatusLog>> captor = ArgumentCaptor.forClass(List.class);
+    then(orderStatusLogRepository).should().saveAll(captor.capture());
+    assertThat(flushed).isEqualTo(2);
+    assertThat(captor.getValue())
+        .extracting(OrderStatusLog::getOrderId, OrderStatusLog::getToStatus,
+            OrderStatusLog::getElapsedMs)
+        .containsExactly(
+            tuple(1L, OrderStatus.PREPARING, 60_000L),
+            tuple(1L, OrderStatus.RIDER_ASSIGNED, 600_000L));
+    then(orderStatusStatsService).should().apply(captor.getValue());
+    assertThat(orderStatusLogService.flush(500)).isZero();
+  }
+
+  @Test
+  @DisplayName("저장 실패 시 다음 flush 에서 다시 시도")
+  void flush_requeuesOnFailure() {
+    orderStatusLogService.append(1L, 10L,
+        List.of(change(OrderStatus.PENDING, OrderStatus.PREPARING, 60)));
+    willThrow(new DataAccessResourceFailureException("db down"))
+        .given(orderStatusLogRepository).saveAll(anyList());
+
+    assertThatThrownBy(() -> orderStatusLogService.flush(500))
+        .isInstanceOf(DataAccessResourceFailureException.class);
+    then(orderStatusStatsService).should(never()).apply(anyList());
+
+    willReturn(List.of()).given(orderStatusLogRepository).saveAll(anyList());
+    assertThat(orderStatusLogService.flush(500)).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("버퍼가 가득 차면 버리고 카운트")
+  void append_dropsWhenBufferFull() {
+    orderStatusLogService.append(1L, 10L, List.of(
+        change(OrderStatus.CREATED, OrderStatus.PENDING, 1),
+        change(OrderStatus.PENDING, OrderStatus.PREPARING, 1)));
+    orderStatusLogService.append(2L, 10L, List.of(
+        change(OrderStatus.CREATED, OrderStatus.PENDING, 1),
+        change(OrderStatus.PENDING, OrderStatus.PREPARING, 1)));
+
+    assertThat(orderStatusLogService.flush(500)).isEqualTo(2);
+    assertThat(meterRegistry.counter("order.status.log.dropped").count()).isEqualTo(2);
+  }
+
+  private OrderStatusChange change(OrderStatus from, OrderStatus to, long elapsedSeconds) {
+    return new OrderStatusChange(from, to, now.minusSeconds(elapsedSeconds), now);
+  }
+}
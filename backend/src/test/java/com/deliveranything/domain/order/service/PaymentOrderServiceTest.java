@@ -1,5 +1,6 @@
 package com.deliveranything.domain.order.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -20,6 +21,7 @@ import java.util.Optional;
 import com.deliveranything.domain.order.enums.OrderStatus;
 import com.deliveranything.domain.order.event.OrderCancelEvent;
 import com.deliveranything.domain.order.enums.Publisher;
+import com.deliveranything.domain.store.store.entity.Store;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("PaymentOrderService 테스트")
@@ -59,7 +61,7 @@ class PaymentOrderServiceTest {
     // given
     Long orderId = 1L;
     String cancelReason = "고객 변심";
-    Order realOrder = Order.builder().build();
+    Order realOrder = Order.builder().store(Store.builder().build()).build();
     // Set initial status to PENDING for cancellation to be possible
     realOrder.updateStatus(OrderStatus.PENDING);
     Order spyOrder = Mockito.spy(realOrder);
@@ -73,4 +75,25 @@ class PaymentOrderServiceTest {
     then(spyOrder).should(times(1)).cancellationRequest(cancelReason);
     then(eventPublisher).should(times(1)).publishEvent(any(OrderCancelEvent.class));
   }
+
+  @Test
+  @DisplayName("결제 취소가 실패한 주문은 다시 취소 요청 가능")
+  void cancelOrder_retryAfterCancelFailed() {
+    // given
+    Long orderId = 1L;
+    String cancelReason = "고객 변심";
+    Order order = Order.builder().store(Store.builder().build()).build();
+    order.updateStatus(OrderStatus.PENDING);
+    order.cancellationRequest(cancelReason);
+    order.updateStatus(OrderStatus.CANCEL_FAILED);
+
+    given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
+
+    // when
+    paymentOrderService.cancelOrder(orderId, cancelReason);
+
+    // then
+    assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLATION_REQUESTED);
+    then(eventPublisher).should(times(1)).publishEvent(any(OrderCancelEvent.class));
+  }
 }
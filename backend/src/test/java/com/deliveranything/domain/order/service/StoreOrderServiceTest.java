@@ -10,23 +10,22 @@ import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.times;
 
 import com.deliveranything.domain.order.dto.OrderResponse;
+import com.deliveranything.domain.order.dto.projection.OrderSummaryProjection;
 import com.deliveranything.domain.order.entity.Order;
 import com.deliveranything.domain.order.enums.OrderStatus;
 import com.deliveranything.domain.order.enums.Publisher;
 import com.deliveranything.domain.order.event.OrderAcceptedEvent;
 import com.deliveranything.domain.order.event.OrderRejectedEvent;
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
 import com.deliveranything.domain.order.repository.OrderRepository;
 import com.deliveranything.domain.order.repository.OrderRepositoryCustom;
 import com.deliveranything.domain.store.store.entity.Store;
-import com.deliveranything.domain.store.category.entity.StoreCategory;
-import com.deliveranything.domain.user.profile.entity.CustomerProfile;
 import com.deliveranything.global.common.CursorPageResponse;
-import com.deliveranything.global.util.PointUtil;
 import org.locationtech.jts.geom.Point;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -60,38 +59,17 @@ class StoreOrderServiceTest {
     Long storeId = 1L;
     int size = 5;
 
-    List<Order> mockOrders = IntStream.range(0, size + 1)
-        .mapToObj(i -> {
-          StoreCategory mockStoreCategory = new StoreCategory("카테고리");
-          Store mockStore = Store.builder()
-              .sellerProfileId(2L)
-              .storeCategory(mockStoreCategory)
-              .imageUrl("http://store.image.com")
-              .name("테스트 가게 " + i)
-              .roadAddr("테스트 도로명 주소")
-              .location(PointUtil.createPoint(127.0, 37.0))
-              .build();
-          CustomerProfile mockCustomer = CustomerProfile.builder().build();
-          Point mockPoint = PointUtil.createPoint(127.0 + i, 37.0 + i);
+    List<OrderSummaryProjection> mockOrders = IntStream.range(0, size + 1)
+        .mapToObj(i -> new OrderSummaryProjection((long) (size + 1 - i), OrderStatus.COMPLETED,
+            "merchant-" + i, "테스트 가게 " + i, "주소 " + i, "라이더 메모 " + i, "상점 메모 " + i,
+            1000L + i, 900L + i, 100L + i, LocalDateTime.now().minusMinutes(i)))
+        .toList();
 
-          Order order = Order.builder()
-              .customer(mockCustomer)
-              .store(mockStore)
-              .address("주소 " + i)
-              .destination(mockPoint)
-              .riderNote("라이더 메모 " + i)
-              .storeNote("상점 메모 " + i)
-              .totalPrice(1000L + i)
-              .storePrice(900L + i)
-              .deliveryPrice(100L + i)
-              .build();
-          order.updateStatus(OrderStatus.COMPLETED);
-          return order;
-        })
-        .collect(Collectors.toList());
-
-    given(orderRepositoryCustom.findOrdersWithStoreByStoreId(anyLong(), any(List.class), nullable(LocalDateTime.class), nullable(Long.class), anyInt()))
+    given(orderRepositoryCustom.findOrderSummariesByStoreId(anyLong(), any(List.class),
+        nullable(LocalDateTime.class), nullable(Long.class), anyInt()))
         .willReturn(mockOrders);
+    given(orderRepositoryCustom.findItemsByOrderIds(List.of(6L, 5L, 4L, 3L, 2L)))
+        .willReturn(Map.of(6L, List.of(new OrderItemInfo(10L, 2))));
 
     // when
     CursorPageResponse<OrderResponse> response = storeOrderService.getStoreOrdersByCursor(storeId, null, size);
@@ -101,126 +79,8 @@ class StoreOrderServiceTest {
     assertThat(response.content()).hasSize(size);
     assertThat(response.nextPageToken()).isNotNull();
     assertThat(response.content().get(0).storeName()).isEqualTo("테스트 가게 0");
-  }
-
-  @Test
-  @DisplayName("대기중인 주문 목록 조회 성공")
-  void getPendingOrders_success() {
-    // given
-    Long storeId = 1L;
-    StoreCategory mockStoreCategory = new StoreCategory("카테고리");
-    Store mockStore = Store.builder()
-        .sellerProfileId(2L)
-        .storeCategory(mockStoreCategory)
-        .imageUrl("http://store.image.com")
-        .name("테스트 가게")
-        .roadAddr("테스트 도로명 주소")
-        .location(PointUtil.createPoint(127.0, 37.0))
-        .build();
-    CustomerProfile mockCustomer = CustomerProfile.builder().build();
-    Point mockPoint = PointUtil.createPoint(127.0, 37.0);
-
-    Order order1 = Order.builder()
-        .customer(mockCustomer)
-        .store(mockStore)
-        .address("주소 1")
-        .destination(mockPoint)
-        .riderNote("라이더 메모")
-        .storeNote("상점 메모")
-        .totalPrice(1000L)
-        .storePrice(900L)
-        .deliveryPrice(100L)
-        .build();
-    order1.updateStatus(OrderStatus.PENDING);
-
-    Order order2 = Order.builder()
-        .customer(mockCustomer)
-        .store(mockStore)
-        .address("주소 2")
-        .destination(mockPoint)
-        .riderNote("라이더 메모")
-        .storeNote("상점 메모")
-        .totalPrice(2000L)
-        .storePrice(1800L)
-        .deliveryPrice(200L)
-        .build();
-    order2.updateStatus(OrderStatus.PENDING);
-
-    List<Order> mockOrders = List.of(order1, order2);
-
-    given(orderRepository.findOrdersWithStoreByStoreIdAndStatus(storeId, OrderStatus.PENDING))
-        .willReturn(mockOrders);
-
-    // when
-    List<OrderResponse> responses = storeOrderService.getPendingOrders(storeId);
-
-    // then
-    assertThat(responses).isNotNull();
-    assertThat(responses).hasSize(2);
-    assertThat(responses.get(0).address()).isEqualTo("주소 1");
-    assertThat(responses.get(1).address()).isEqualTo("주소 2");
-  }
-
-  @Test
-  @DisplayName("수락된 주문 목록 조회 성공")
-  void getAcceptedOrders_success() {
-    // given
-    Long storeId = 1L;
-    StoreCategory mockStoreCategory = new StoreCategory("카테고리");
-    Store mockStore = Store.builder()
-        .sellerProfileId(2L)
-        .storeCategory(mockStoreCategory)
-        .imageUrl("http://store.image.com")
-        .name("테스트 가게")
-        .roadAddr("테스트 도로명 주소")
-        .location(PointUtil.createPoint(127.0, 37.0))
-        .build();
-    CustomerProfile mockCustomer = CustomerProfile.builder().build();
-    Point mockPoint = PointUtil.createPoint(127.0, 37.0);
-
-    Order order1 = Order.builder()
-        .customer(mockCustomer)
-        .store(mockStore)
-        .address("주소 1")
-        .destination(mockPoint)
-        .riderNote("라이더 메모")
-        .storeNote("상점 메모")
-        .totalPrice(1000L)
-        .storePrice(900L)
-        .deliveryPrice(100L)
-        .build();
-    order1.updateStatus(OrderStatus.PREPARING);
-
-    Order order2 = Order.builder()
-        .customer(mockCustomer)
-        .store(mockStore)
-        .address("주소 2")
-        .destination(mockPoint)
-        .riderNote("라이더 메모")
-        .storeNote("상점 메모")
-        .totalPrice(2000L)
-        .storePrice(1800L)
-        .deliveryPrice(200L)
-        .build();
-    order2.updateStatus(OrderStatus.RIDER_ASSIGNED);
-
-    List<Order> mockOrders = List.of(order1, order2);
-
-    List<OrderStatus> acceptedStatuses = List.of(
-        OrderStatus.PREPARING, OrderStatus.RIDER_ASSIGNED, OrderStatus.DELIVERING
-    );
-
-    given(orderRepository.findOrdersWithStoreByStoreIdAndStatuses(storeId, acceptedStatuses))
-        .willReturn(mockOrders);
-
-    // when
-    List<OrderResponse> responses = storeOrderService.getAcceptedOrders(storeId);
-
-    // then
-    assertThat(responses).isNotNull();
-    assertThat(responses).hasSize(2);
-    assertThat(responses.get(0).address()).isEqualTo("주소 1");
-    assertThat(responses.get(1).address()).isEqualTo("주소 2");
+    assertThat(response.content().get(0).orderItems()).containsExactly(new OrderItemInfo(10L, 2));
+    assertThat(response.content().get(1).orderItems()).isEmpty();
   }
 
   @Test
@@ -269,6 +129,7 @@ class StoreOrderServiceTest {
     // given(mockOrder.getId()).willReturn(orderId); // Removed as it might be unnecessary
     // given(mockOrder.getStatus()).willReturn(OrderStatus.PENDING); // Removed as it might be unnecessary
 
+    given(mockOrder.getStore()).willReturn(Store.builder().sellerProfileId(2L).build());
     given(orderRepository.findById(orderId)).willReturn(Optional.of(mockOrder));
 
     // when
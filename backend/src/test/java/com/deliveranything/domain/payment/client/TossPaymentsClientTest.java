@@ -0,0 +1,203 @@
+package com.deliveranything.domain.payment.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.deliveranything.domain.payment.config.TossPaymentsConfig;
+import com.deliveranything.domain.payment.dto.PaymentConfirmRequest;
+import com.deliveranything.domain.payment.dto.PaymentConfirmResponse;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+// 로컬 HTTP 서버로 시도별 응답을 정해 재시도와 실패 분류를 확인
+@DisplayName("TossPaymentsClient 테스트")
+class TossPaymentsClientTest {
+
+  private static final String CONFIRMED = """
+      {"paymentKey":"key-1","orderId":"merchant-1","totalAmount":10000}""";
+  private static final PaymentConfirmRequest REQUEST =
+      new PaymentConfirmRequest("key-1", "merchant-1", 10000L);
+
+  private final Queue<Reply> replies = new ConcurrentLinkedQueue<>();
+  private final List<String> idempotencyKeys = new CopyOnWriteArrayList<>();
+
+  private HttpServer server;
+  private TossPaymentsClient client;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext("/", this::handle);
+    server.start();
+    client = newClient(server.getAddress().getPort());
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  @DisplayName("5xx 뒤 성공하면 같은 멱등 키로 재시도한 응답을 반환")
+  void confirm_retryThenSuccess() {
+    // given
+    replies.add(Reply.status(503));
+    replies.add(Reply.ok(CONFIRMED));
+
+    // when
+    PaymentConfirmResponse response = client.confirm(REQUEST);
+
+    // then
+    assertThat(response.paymentKey()).isEqualTo("key-1");
+    assertThat(idempotencyKeys).containsExactly("confirm-merchant-1", "confirm-merchant-1");
+  }
+
+  @Test
+  @DisplayName("4xx 거절은 재시도하지 않고 호출별 거절 코드로 실패")
+  void confirm_rejected() {
+    // given
+    replies.add(Reply.status(400));
+
+    // when & then
+    assertThatThrownBy(() -> client.confirm(REQUEST))
+        .isExactlyInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.PG_PAYMENT_CONFIRM_FAILED.getMessage());
+    assertThat(idempotencyKeys).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("5xx 로 재시도를 모두 쓰면 결과를 모르는 것으로 분류")
+  void confirm_serverErrorsExhausted() {
+    // given
+    replies.add(Reply.status(500));
+    replies.add(Reply.status(500));
+    replies.add(Reply.status(500));
+
+    // when & then
+    assertThatThrownBy(() -> client.confirm(REQUEST))
+        .isInstanceOf(PgResultUnknownException.class);
+    assertThat(idempotencyKeys).hasSize(3);
+  }
+
+  @Test
+  @DisplayName("모든 시도가 429 면 PG 가 처리하지 않았으므로 PG_UNAVAILABLE")
+  void confirm_tooManyRequestsExhausted() {
+    // given
+    replies.add(Reply.status(429));
+    replies.add(Reply.status(429));
+    replies.add(Reply.status(429));
+
+    // when & then
+    assertThatThrownBy(() -> client.confirm(REQUEST))
+        .isExactlyInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.PG_UNAVAILABLE.getMessage());
+  }
+
+  @Test
+  @DisplayName("연결하지 못하면 PG_UNAVAILABLE")
+  void confirm_connectionRefused() {
+    // given
+    int port = server.getAddress().getPort();
+    server.stop(0);
+    TossPaymentsClient unreachable = newClient(port);
+
+    // when & then
+    assertThatThrownBy(() -> unreachable.confirm(REQUEST))
+        .isExactlyInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.PG_UNAVAILABLE.getMessage());
+  }
+
+  @Test
+  @DisplayName("앞선 시도가 응답 타임아웃이면 마지막 시도가 4xx 여도 결과를 모르는 것으로 분류")
+  void confirm_timeoutThenRejected() {
+    // given
+    replies.add(Reply.delayed(Duration.ofSeconds(1)));
+    replies.add(Reply.status(409));
+
+    // when & then
+    assertThatThrownBy(() -> client.confirm(REQUEST))
+        .isInstanceOf(PgResultUnknownException.class);
+    assertThat(idempotencyKeys).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("앞선 시도가 5xx 면 마지막 시도가 429 여도 결과를 모르는 것으로 분류")
+  void confirm_serverErrorThenTooManyRequests() {
+    // given
+    replies.add(Reply.status(500));
+    replies.add(Reply.status(429));
+    replies.add(Reply.status(429));
+
+    // when & then
+    assertThatThrownBy(() -> client.confirm(REQUEST))
+        .isInstanceOf(PgResultUnknownException.class);
+  }
+
+  private TossPaymentsClient newClient(int port) {
+    TossPaymentsConfig config = new TossPaymentsConfig();
+    config.setSecretKey("test-secret");
+    config.setTossUrl("http://127.0.0.1:" + port);
+    config.setResponseTimeout(Duration.ofMillis(300));
+    config.setRetryBackoff(Duration.ofMillis(10));
+    config.setDeadline(Duration.ofSeconds(5));
+    // 테스트 중 서킷이 열리지 않도록
+    config.setMinimumNumberOfCalls(100);
+    return new TossPaymentsClient(config, WebClient.builder());
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    idempotencyKeys.add(exchange.getRequestHeaders().getFirst("Idempotency-Key"));
+    exchange.getRequestBody().readAllBytes();
+    Reply reply = replies.poll();
+    if (reply == null) {
+      reply = Reply.status(500);
+    }
+
+    try {
+      Thread.sleep(reply.delay().toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    byte[] body = reply.body().getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    try (OutputStream out = exchange.getResponseBody()) {
+      exchange.sendResponseHeaders(reply.status(), body.length == 0 ? -1 : body.length);
+      out.write(body);
+    } catch (IOException e) {
+      // 응답 타임아웃으로 클라이언트가 먼저 연결을 닫음
+    }
+  }
+
+  private record Reply(int status, String body, Duration delay) {
+
+    static Reply ok(String body) {
+      return new Reply(200, body, Duration.ZERO);
+    }
+
+    static Reply status(int status) {
+      return new Reply(status, "", Duration.ZERO);
+    }
+
+    static Reply delayed(Duration delay) {
+      return new Reply(200, CONFIRMED, delay);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.deliveranything.domain.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.payment.dto.ReconciliationResult;
+import com.deliveranything.domain.payment.dto.projection.PaymentReconcileProjection;
+import com.deliveranything.domain.payment.enums.PaymentStatus;
+import com.deliveranything.domain.payment.enums.PgTransactionStatus;
+import com.deliveranything.domain.payment.enums.ReconciliationMismatchType;
+import com.deliveranything.domain.payment.event.PaymentMismatchDetectedEvent;
+import com.deliveranything.domain.payment.repository.PaymentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentReconciliationService 테스트")
+class PaymentReconciliationServiceTest {
+
+  private static final LocalDate SETTLEMENT_DATE = LocalDate.of(2026, 10, 18);
+  private static final LocalDateTime NOON = SETTLEMENT_DATE.atTime(12, 0);
+
+  @InjectMocks
+  private PaymentReconciliationService paymentReconciliationService;
+
+  @Mock
+  private PaymentRepository paymentRepository;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+  @Mock
+  private TransactionTemplate transactionTemplate;
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+
+  @TempDir
+  private Path tempDir;
+
+  // 청크 경계를 지나도록 작게 잡음
+  private final List<PaymentReconcileProjection> locals = List.of(
+      local("m-01", 10000L, PaymentStatus.PAID, NOON),
+      local("m-02", 5000L, PaymentStatus.CONFIRMING, NOON),
+      local("m-03", 7000L, PaymentStatus.PAID, NOON),
+      local("m-05", 2000L, PaymentStatus.PAID, NOON),
+      local("m-06", 1000L, PaymentStatus.READY, NOON),
+      local("m-07", 1000L, PaymentStatus.PAID, SETTLEMENT_DATE.atStartOfDay().minusMinutes(10)),
+      local("m-08", 4000L, PaymentStatus.CANCELED, NOON));
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(paymentReconciliationService, "chunkSize", 2);
+    ReflectionTestUtils.setField(paymentReconciliationService, "windowMarginMinutes", 30L);
+    lenient().doAnswer(invocation -> {
+      invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+      return null;
+    }).when(transactionTemplate).executeWithoutResult(any());
+    lenient().when(paymentRepository.findReconcileChunk(any(), any(), any(), any(), any()))
+        .thenAnswer(invocation -> {
+          LocalDate date = invocation.getArgument(0);
+          String after = invocation.getArgument(1);
+          Limit limit = invocation.getArgument(4);
+          return locals.stream()
+              .filter(payment -> payment.createdAt().toLocalDate().equals(date))
+              .filter(payment -> payment.merchantUid().compareTo(after) > 0)
+              .limit(limit.max())
+              .toList();
+        });
+  }
+
+  @Test
+  @DisplayName("정산 파일과 결제를 병합 조인해 불일치만 이벤트로 발행")
+  void reconcile_publishesMismatches() throws Exception {
+    Path file = Path.of(getClass().getResource("/payment/settlement-20261018.csv").toURI());
+
+    ReconciliationResult result = paymentReconciliationService.reconcile(file, SETTLEMENT_DATE);
+
+    assertThat(result).isEqualTo(new ReconciliationResult(5, 7, 2, 4));
+    then(eventPublisher).should().publishEvent(new PaymentMismatchDetectedEvent("m-02",
+        ReconciliationMismatchType.STATUS_MISMATCH, PaymentStatus.CONFIRMING,
+        PgTransactionStatus.DONE, 5000L, 5000L));
+    then(eventPublisher).should().publishEvent(new PaymentMismatchDetectedEvent("m-03",
+        ReconciliationMismatchType.AMOUNT_MISMATCH, PaymentStatus.PAID,
+        PgTransactionStatus.DONE, 7000L, 7500L));
+    then(eventPublisher).should().publishEvent(new PaymentMismatchDetectedEvent("m-04",
+        ReconciliationMismatchType.MISSING_LOCALLY, null, PgTransactionStatus.DONE, null,
+        3000L));
+    then(eventPublisher).should().publishEvent(new PaymentMismatchDetectedEvent("m-05",
+        ReconciliationMismatchType.MISSING_IN_PG, PaymentStatus.PAID, null, 2000L, null));
+    then(eventPublisher).shouldHaveNoMoreInteractions();
+  }
+
+  @Test
+  @DisplayName("JSON Lines 정산 파일도 같은 방식으로 대사")
+  void reconcile_jsonLines() throws Exception {
+    Path file = Files.writeString(tempDir.resolve("20261018.jsonl"), """
+        {"orderId":"m-01","paymentKey":"key-01","amount":10000,"status":"DONE","method":"카드"}
+        {"orderId":"m-08","paymentKey":"key-08","amount":4000,"status":"CANCELED"}
+        """);
+    given(paymentRepository.findReconcileChunk(any(), any(), any(), any(), any()))
+        .willAnswer(invocation -> SETTLEMENT_DATE.equals(invocation.getArgument(0))
+            && "".equals(invocation.getArgument(1))
+            ? List.of(local("m-01", 10000L, PaymentStatus.PAID, NOON),
+            local("m-08", 4000L, PaymentStatus.CANCELED, NOON))
+            : List.of());
+
+    ReconciliationResult result = paymentReconciliationService.reconcile(file, SETTLEMENT_DATE);
+
+    assertThat(result).isEqualTo(new ReconciliationResult(2, 2, 2, 0));
+    then(eventPublisher).should(never()).publishEvent(any(Object.class));
+  }
+
+  @Test
+  @DisplayName("주문 번호 순으로 정렬되지 않은 정산 파일은 실패")
+  void reconcile_unsortedFile() throws Exception {
+    Path file = Files.writeString(tempDir.resolve("20261018.csv"), """
+        orderId,paymentKey,amount,status
+        m-02,key-02,5000,DONE
+        m-01,key-01,10000,DONE
+        """);
+
+    assertThatThrownBy(() -> paymentReconciliationService.reconcile(file, SETTLEMENT_DATE))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("not sorted");
+  }
+
+  private static PaymentReconcileProjection local(String merchantUid, Long amount,
+      PaymentStatus status, LocalDateTime createdAt) {
+    return new PaymentReconcileProjection(merchantUid, "key-" + merchantUid.substring(2),
+        amount, status, createdAt);
+  }
+}
@@ -0,0 +1,246 @@
+package com.deliveranything.domain.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.order.enums.Publisher;
+import com.deliveranything.domain.payment.client.PgResultUnknownException;
+import com.deliveranything.domain.payment.client.TossPaymentsClient;
+import com.deliveranything.domain.payment.dto.PaymentCancelResponse;
+import com.deliveranything.domain.payment.dto.PaymentCancelResponse.CancelInfo;
+import com.deliveranything.domain.payment.dto.PaymentConfirmRequest;
+import com.deliveranything.domain.payment.dto.PaymentConfirmResponse;
+import com.deliveranything.domain.payment.dto.PaymentInquiryResponse;
+import com.deliveranything.domain.payment.entitiy.Payment;
+import com.deliveranything.domain.payment.enums.PaymentStatus;
+import com.deliveranything.domain.payment.event.PaymentCancelFailedEvent;
+import com.deliveranything.domain.payment.event.PaymentCancelSuccessEvent;
+import com.deliveranything.domain.payment.event.PaymentFailedEvent;
+import com.deliveranything.domain.payment.event.PaymentSuccessEvent;
+import com.deliveranything.domain.payment.repository.PaymentRepository;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentService 테스트")
+class PaymentServiceTest {
+
+  @InjectMocks
+  private PaymentService paymentService;
+
+  @Mock
+  private TossPaymentsClient tossPaymentsClient;
+  @Mock
+  private PaymentRepository paymentRepository;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  private final Payment payment = new Payment("merchant-1", 10000L);
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(transactionTemplate.execute(any())).thenAnswer(
+        invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    lenient().doAnswer(invocation -> {
+      invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+      return null;
+    }).when(transactionTemplate).executeWithoutResult(any());
+    lenient().when(paymentRepository.findByMerchantUidAndStatus(eq("merchant-1"), any()))
+        .thenReturn(Optional.of(payment));
+  }
+
+  @Test
+  @DisplayName("승인 성공 시 CONFIRMING 을 거쳐 PAID 로 변경하고 결제 성공 이벤트 발행")
+  void confirmPayment_success() {
+    given(tossPaymentsClient.confirm(new PaymentConfirmRequest("key-1", "merchant-1", 10000L)))
+        .willReturn(new PaymentConfirmResponse("key-1", "merchant-1", 10000L));
+
+    paymentService.confirmPayment("key-1", "merchant-1", 10000L);
+
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PAID);
+    assertThat(payment.getPaymentKey()).isEqualTo("key-1");
+    then(eventPublisher).should().publishEvent(new PaymentSuccessEvent("merchant-1"));
+  }
+
+  @Test
+  @DisplayName("PG 응답을 받지 못하면 CONFIRMING 으로 남기고 이벤트를 발행하지 않음")
+  void confirmPayment_resultUnknown() {
+    given(tossPaymentsClient.confirm(any())).willThrow(new PgResultUnknownException());
+
+    assertThatThrownBy(() -> paymentService.confirmPayment("key-1", "merchant-1", 10000L))
+        .isInstanceOf(PgResultUnknownException.class);
+
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CONFIRMING);
+    then(eventPublisher).should(never()).publishEvent(any(Object.class));
+  }
+
+  @Test
+  @DisplayName("PG 가 거절하면 FAILED 로 변경하고 결제 실패 이벤트 발행")
+  void confirmPayment_rejected() {
+    given(tossPaymentsClient.confirm(any()))
+        .willThrow(new CustomException(ErrorCode.PG_PAYMENT_CONFIRM_FAILED));
+
+    assertThatThrownBy(() -> paymentService.confirmPayment("key-1", "merchant-1", 10000L))
+        .isInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.PG_PAYMENT_CONFIRM_FAILED.getMessage());
+
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+    then(eventPublisher).should().publishEvent(new PaymentFailedEvent("merchant-1"));
+  }
+
+  @Test
+  @DisplayName("주문 금액이 다르면 PG 를 호출하지 않고 실패 처리")
+  void confirmPayment_amountMismatch() {
+    assertThatThrownBy(() -> paymentService.confirmPayment("key-1", "merchant-1", 5000L))
+        .isInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.PAYMENT_AMOUNT_INVALID.getMessage());
+
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+    then(tossPaymentsClient).should(never()).confirm(any());
+  }
+
+  @Test
+  @DisplayName("취소가 확정 실패한 결제는 새 멱등 키로 다시 취소")
+  void cancelPayment_retryAfterCancelFailed() {
+    // given
+    payment.startConfirm("key-1");
+    payment.updateStatus(PaymentStatus.PAID);
+    given(paymentRepository.findByMerchantUidAndStatusIn(eq("merchant-1"), any()))
+        .willReturn(Optional.of(payment));
+    given(tossPaymentsClient.cancel(eq("cancel-merchant-1-0"), any()))
+        .willThrow(new CustomException(ErrorCode.PG_PAYMENT_CANCEL_FAILED));
+    given(tossPaymentsClient.cancel(eq("cancel-merchant-1-1"), any()))
+        .willReturn(new PaymentCancelResponse("key-1", "merchant-1",
+            List.of(new CancelInfo(10000L))));
+
+    // when - 첫 시도는 PG 거절 (실패 이벤트로 알리고 예외는 넘기지 않음)
+    paymentService.cancelPayment("merchant-1", "고객 요청", Publisher.CUSTOMER);
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCEL_FAILED);
+    then(eventPublisher).should().publishEvent(new PaymentCancelFailedEvent("merchant-1"));
+
+    paymentService.cancelPayment("merchant-1", "고객 요청", Publisher.CUSTOMER);
+
+    // then
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELED);
+    then(eventPublisher).should()
+        .publishEvent(new PaymentCancelSuccessEvent("merchant-1", Publisher.CUSTOMER));
+  }
+
+  @Test
+  @DisplayName("취소 응답을 받지 못하면 CANCELING 으로 남기고 같은 시도의 멱등 키를 유지")
+  void cancelPayment_resultUnknown() {
+    // given
+    payment.startConfirm("key-1");
+    payment.updateStatus(PaymentStatus.PAID);
+    given(paymentRepository.findByMerchantUidAndStatusIn(eq("merchant-1"), any()))
+        .willReturn(Optional.of(payment));
+    given(tossPaymentsClient.cancel(eq("cancel-merchant-1-0"), any()))
+        .willThrow(new PgResultUnknownException());
+
+    // when & then
+    assertThatThrownBy(() -> paymentService.cancelPayment("merchant-1", "고객 요청",
+        Publisher.CUSTOMER)).isInstanceOf(PgResultUnknownException.class);
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELING);
+    assertThat(payment.cancelIdempotencyKey()).isEqualTo("cancel-merchant-1-0");
+  }
+
+  @Test
+  @DisplayName("승인 결과를 모르는 결제는 PG 에서 승인됐으면 PAID 로 확정")
+  void resolvePending_confirmDone() {
+    // given
+    payment.startConfirm("key-1");
+    given(paymentRepository.findWithLockByMerchantUid("merchant-1"))
+        .willReturn(Optional.of(payment));
+    given(tossPaymentsClient.inquire("key-1"))
+        .willReturn(new PaymentInquiryResponse("key-1", "merchant-1", "DONE", 10000L));
+
+    // when
+    boolean resolved = paymentService.resolvePending(payment);
+
+    // then
+    assertThat(resolved).isTrue();
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PAID);
+    then(eventPublisher).should().publishEvent(new PaymentSuccessEvent("merchant-1"));
+  }
+
+  @Test
+  @DisplayName("승인 요청이 PG 에 닿지 않았으면 FAILED 로 확정")
+  void resolvePending_confirmNotReached() {
+    // given
+    payment.startConfirm("key-1");
+    given(paymentRepository.findWithLockByMerchantUid("merchant-1"))
+        .willReturn(Optional.of(payment));
+    given(tossPaymentsClient.inquire("key-1"))
+        .willReturn(new PaymentInquiryResponse("key-1", "merchant-1", "IN_PROGRESS", 10000L));
+
+    // when
+    boolean resolved = paymentService.resolvePending(payment);
+
+    // then
+    assertThat(resolved).isTrue();
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+    then(eventPublisher).should().publishEvent(new PaymentFailedEvent("merchant-1"));
+  }
+
+  @Test
+  @DisplayName("취소 결과를 모르는 결제가 PG 에서 취소되지 않았으면 CANCEL_FAILED 로 확정")
+  void resolvePending_cancelNotApplied() {
+    // given
+    payment.startConfirm("key-1");
+    payment.updateStatus(PaymentStatus.PAID);
+    payment.startCancel(Publisher.CUSTOMER);
+    given(paymentRepository.findWithLockByMerchantUid("merchant-1"))
+        .willReturn(Optional.of(payment));
+    given(tossPaymentsClient.inquire("key-1"))
+        .willReturn(new PaymentInquiryResponse("key-1", "merchant-1", "DONE", 10000L));
+
+    // when
+    boolean resolved = paymentService.resolvePending(payment);
+
+    // then
+    assertThat(resolved).isTrue();
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCEL_FAILED);
+    then(eventPublisher).should().publishEvent(new PaymentCancelFailedEvent("merchant-1"));
+  }
+
+  @Test
+  @DisplayName("PG 에서 아직 진행 중인 결제는 그대로 둠")
+  void resolvePending_stillPending() {
+    // given
+    payment.startConfirm("key-1");
+    given(paymentRepository.findWithLockByMerchantUid("merchant-1"))
+        .willReturn(Optional.of(payment));
+    given(tossPaymentsClient.inquire("key-1")).willReturn(
+        new PaymentInquiryResponse("key-1", "merchant-1", "WAITING_FOR_DEPOSIT", 10000L));
+
+    // when
+    boolean resolved = paymentService.resolvePending(payment);
+
+    // then
+    assertThat(resolved).isFalse();
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CONFIRMING);
+    then(eventPublisher).should(never()).publishEvent(any());
+  }
+}
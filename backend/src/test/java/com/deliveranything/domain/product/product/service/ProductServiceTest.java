@@ -18,13 +18,17 @@ import com.deliveranything.domain.product.product.dto.ProductSearchRequest;
 import com.deliveranything.domain.product.product.dto.ProductUpdateRequest;
 import com.deliveranything.domain.product.product.entity.Product;
 import com.deliveranything.domain.product.product.repository.ProductRepository;
+import com.deliveranything.domain.product.stock.engine.StockEngine;
 import com.deliveranything.domain.product.stock.entity.Stock;
+import com.deliveranything.domain.product.stock.enums.StockAvailability;
+import com.deliveranything.domain.product.stock.service.StockAvailabilityService;
 import com.deliveranything.domain.store.store.entity.Store;
 import com.deliveranything.domain.store.store.service.StoreService;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -48,6 +52,12 @@ class ProductServiceTest {
   @Mock
   private KeywordGenerationService keywordGenerationService;
 
+  @Mock
+  private StockEngine stockEngine;
+
+  @Mock
+  private StockAvailabilityService stockAvailabilityService;
+
   @Mock
   private ApplicationEventPublisher eventPublisher; // Add mock for event publisher
 
@@ -188,7 +198,7 @@ class ProductServiceTest {
     assertThat(response.name()).isEqualTo("Updated Product");
     assertThat(response.price()).isEqualTo(2000);
     assertThat(response.imageUrl()).isEqualTo("updated.jpg");
-    assertThat(existingProduct.getStock().getTotalQuantity()).isEqualTo(20);
+    verify(stockEngine).changeTotal(existingProduct.getStock(), 20);
     verify(productRepository).getById(productId);
     verify(keywordGenerationService).generateAndSaveKeywords(productId);
   }
@@ -225,6 +235,8 @@ class ProductServiceTest {
 
     when(storeService.getStoreById(storeId)).thenReturn(store);
     when(productRepository.search(storeId, request)).thenReturn(productSlice);
+    when(stockAvailabilityService.getAvailableQuantities(storeId, List.of(1L)))
+        .thenReturn(Map.of(1L, 3));
 
     // when
     var responseSlice = productService.searchProducts(storeId, request);
@@ -232,6 +244,8 @@ class ProductServiceTest {
     // then
     assertThat(responseSlice.getContent()).hasSize(1);
     assertThat(responseSlice.getContent().get(0).name()).isEqualTo("Found Product");
+    assertThat(responseSlice.getContent().get(0).availableQuantity()).isEqualTo(3);
+    assertThat(responseSlice.getContent().get(0).availability()).isEqualTo(StockAvailability.LOW);
     verify(storeService).getStoreById(storeId);
     verify(productRepository).search(storeId, request);
   }
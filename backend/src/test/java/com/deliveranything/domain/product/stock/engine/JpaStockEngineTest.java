@@ -0,0 +1,85 @@
+package com.deliveranything.domain.product.stock.engine;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.stock.dto.projection.StockState;
+import com.deliveranything.domain.product.stock.enums.StockOperation;
+import com.deliveranything.domain.product.stock.repository.StockJdbcRepository;
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JpaStockEngine 테스트")
+class JpaStockEngineTest {
+
+  @InjectMocks
+  private JpaStockEngine jpaStockEngine;
+
+  @Mock
+  private StockRepository stockRepository;
+
+  @Mock
+  private StockJdbcRepository stockJdbcRepository;
+
+  private final List<OrderItemInfo> items = List.of(
+      new OrderItemInfo(20L, 1), new OrderItemInfo(10L, 2));
+
+  @Test
+  @DisplayName("모든 상품이 조건을 만족하면 상품 ID 순서로 한 번에 반영")
+  void reserve_success() {
+    givenStates(5L);
+    given(stockJdbcRepository.applyIfSufficient(eq(StockOperation.RESERVE), anyMap()))
+        .willReturn(new boolean[]{true, true});
+
+    jpaStockEngine.reserve(1L, 5L, items);
+
+    then(stockJdbcRepository).should()
+        .applyIfSufficient(StockOperation.RESERVE, Map.of(10L, 2, 20L, 1));
+    then(stockJdbcRepository).should(never()).revert(any(), anyMap());
+  }
+
+  @Test
+  @DisplayName("일부 상품만 반영되면 되돌리고 PRODUCT_OUT_OF_STOCK")
+  void reserve_partialFailure() {
+    givenStates(5L);
+    given(stockJdbcRepository.applyIfSufficient(eq(StockOperation.RESERVE), anyMap()))
+        .willReturn(new boolean[]{true, false});
+
+    assertThatThrownBy(() -> jpaStockEngine.reserve(1L, 5L, items))
+        .isInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.PRODUCT_OUT_OF_STOCK.getMessage());
+    then(stockJdbcRepository).should().revert(StockOperation.RESERVE, Map.of(10L, 2));
+  }
+
+  @Test
+  @DisplayName("다른 상점 상품이 섞여 있으면 UPDATE 없이 PRODUCT_STORE_MISMATCH")
+  void reserve_storeMismatch() {
+    givenStates(6L);
+
+    assertThatThrownBy(() -> jpaStockEngine.reserve(1L, 5L, items))
+        .isInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.PRODUCT_STORE_MISMATCH.getMessage());
+    then(stockJdbcRepository).should(never()).applyIfSufficient(any(), anyMap());
+  }
+
+  private void givenStates(Long storeId) {
+    given(stockRepository.findStatesByProductIdIn(any())).willReturn(List.of(
+        new StockState(10L, storeId, 5, 0, 0), new StockState(20L, storeId, 5, 0, 0)));
+  }
+}
@@ -0,0 +1,97 @@
+package com.deliveranything.domain.product.stock.engine;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.stock.dto.projection.StockSnapshot;
+import com.deliveranything.domain.product.stock.enums.StockOperation;
+import com.deliveranything.domain.product.stock.repository.StockRedisRepository;
+import com.deliveranything.domain.product.stock.repository.StockRedisRepository.ApplyResult;
+import com.deliveranything.domain.product.stock.repository.StockRedisRepository.ApplyStatus;
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisStockEngine 테스트")
+class RedisStockEngineTest {
+
+  @InjectMocks
+  private RedisStockEngine redisStockEngine;
+
+  @Mock
+  private StockRedisRepository stockRedisRepository;
+
+  @Mock
+  private StockRepository stockRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Test
+  @DisplayName("같은 상품의 주문 항목은 수량을 합산해 한 번에 예약")
+  void reserve_mergesItems() {
+    Map<Long, Integer> quantities = Map.of(10L, 3, 20L, 1);
+    given(stockRedisRepository.apply(StockOperation.RESERVE, 1L, 5L, quantities))
+        .willReturn(new ApplyResult(ApplyStatus.APPLIED, List.of()));
+
+    redisStockEngine.reserve(1L, 5L, List.of(
+        new OrderItemInfo(10L, 2), new OrderItemInfo(20L, 1), new OrderItemInfo(10L, 1)));
+
+    then(stockRedisRepository).should().apply(StockOperation.RESERVE, 1L, 5L, quantities);
+    then(stockRepository).should(never()).findSnapshotsByProductIdIn(any());
+  }
+
+  @Test
+  @DisplayName("캐시가 없는 상품은 DB 재고로 채운 뒤 재시도")
+  void reserve_seedsMissingStocks() {
+    Map<Long, Integer> quantities = Map.of(10L, 2);
+    List<StockSnapshot> snapshots = List.of(new StockSnapshot(10L, 5, 0, 5L));
+    given(stockRedisRepository.apply(StockOperation.RESERVE, 1L, 5L, quantities))
+        .willReturn(new ApplyResult(ApplyStatus.MISSING, List.of(10L)))
+        .willReturn(new ApplyResult(ApplyStatus.APPLIED, List.of()));
+    given(stockRepository.findSnapshotsByProductIdIn(List.of(10L))).willReturn(snapshots);
+
+    redisStockEngine.reserve(1L, 5L, List.of(new OrderItemInfo(10L, 2)));
+
+    then(stockRedisRepository).should().seed(snapshots);
+  }
+
+  @Test
+  @DisplayName("재고가 부족하면 PRODUCT_OUT_OF_STOCK")
+  void reserve_insufficient() {
+    given(stockRedisRepository.apply(any(), any(), any(), any()))
+        .willReturn(new ApplyResult(ApplyStatus.INSUFFICIENT, List.of(10L)));
+
+    assertThatThrownBy(() -> redisStockEngine.reserve(1L, 5L, List.of(new OrderItemInfo(10L, 2))))
+        .isInstanceOf(CustomException.class)
+        .extracting(e -> ((CustomException) e).getCode())
+        .isEqualTo(ErrorCode.PRODUCT_OUT_OF_STOCK.getCode());
+    then(stockRedisRepository).should(never()).seed(anyList());
+  }
+
+  @Test
+  @DisplayName("이미 적용된 주문 명령은 재전달되어도 성공으로 처리")
+  void commit_alreadyApplied() {
+    given(stockRedisRepository.apply(any(), any(), any(), any()))
+        .willReturn(new ApplyResult(ApplyStatus.ALREADY_APPLIED, List.of()));
+
+    redisStockEngine.commit(1L, 5L, List.of(new OrderItemInfo(10L, 2)));
+
+    then(stockRedisRepository).should(never()).seed(anyList());
+  }
+}
@@ -0,0 +1,189 @@
+package com.deliveranything.domain.product.stock.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.product.entity.Product;
+import com.deliveranything.domain.product.stock.entity.Stock;
+import com.deliveranything.domain.product.stock.repository.StockJdbcRepository;
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import com.deliveranything.domain.store.category.entity.StoreCategory;
+import com.deliveranything.domain.store.store.entity.Store;
+import com.deliveranything.global.config.QuerydslConfig;
+import com.deliveranything.global.util.PointUtil;
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 주문 1건(상품 10개) 재고 예약 비용 비교 - 상품별 엔티티 로드 루프 vs IN 조회 + 조건부 UPDATE batch
+ * <p>
+ * 일반 빌드에서는 제외되며 {@code ./gradlew benchmark} 로 실행합니다. 쿼리 수는 DB 왕복(execute* 호출) 기준입니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({QuerydslConfig.class, StockJdbcRepository.class, JpaStockEngine.class,
+    StockEngineBenchmarkTest.QueryCountingConfig.class})
+@DisplayName("재고 예약 벤치마크")
+class StockEngineBenchmarkTest {
+
+  private static final int ITEMS_PER_ORDER = 10;
+  private static final int WARMUP_ORDERS = 50;
+  private static final int MEASURED_ORDERS = 500;
+
+  private static final AtomicLong roundTrips = new AtomicLong();
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private StockRepository stockRepository;
+
+  @Autowired
+  private JpaStockEngine jpaStockEngine;
+
+  @Test
+  @DisplayName("엔티티 루프 대비 쿼리 수와 지연 시간 비교")
+  void compareReservePaths() {
+    Long storeId = seed();
+    List<OrderItemInfo> items = stockRepository.findAll().stream()
+        .map(stock -> new OrderItemInfo(stock.getProduct().getId(), 1))
+        .toList();
+    entityManager.clear();
+
+    run(WARMUP_ORDERS, () -> reserveByEntityLoop(storeId, items));
+    run(WARMUP_ORDERS, () -> jpaStockEngine.reserve(null, storeId, items));
+
+    Result entityLoop = run(MEASURED_ORDERS, () -> reserveByEntityLoop(storeId, items));
+    Result bulk = run(MEASURED_ORDERS, () -> jpaStockEngine.reserve(null, storeId, items));
+
+    log.info("entity loop : {} round trips/order, {} us/order", entityLoop.roundTripsPerOrder(),
+        entityLoop.microsPerOrder());
+    log.info("bulk update : {} round trips/order, {} us/order", bulk.roundTripsPerOrder(),
+        bulk.microsPerOrder());
+
+    // 엔티티 루프: 상품당 최소 SELECT + UPDATE (지연 로딩 추가) / 벌크: IN 조회 1 + batch 1
+    assertThat(entityLoop.roundTripsPerOrder()).isGreaterThanOrEqualTo(ITEMS_PER_ORDER * 2);
+    assertThat(bulk.roundTripsPerOrder()).isEqualTo(2);
+  }
+
+  // 기존 StockFacadeService 의 상품별 처리 방식
+  private void reserveByEntityLoop(Long storeId, List<OrderItemInfo> items) {
+    for (OrderItemInfo item : items) {
+      Stock stock = stockRepository.getByProductId(item.productId());
+      stock.getProduct().validateStore(storeId);
+      stock.reserve(item.quantity());
+    }
+    entityManager.flush();
+  }
+
+  private Result run(int orders, Runnable reserve) {
+    long startRoundTrips = roundTrips.get();
+    long start = System.nanoTime();
+    for (int i = 0; i < orders; i++) {
+      reserve.run();
+      // 다음 주문이 영속성 컨텍스트 캐시를 재사용하지 않도록 비움
+      entityManager.clear();
+    }
+    long elapsed = System.nanoTime() - start;
+    return new Result((double) (roundTrips.get() - startRoundTrips) / orders,
+        elapsed / 1_000.0 / orders);
+  }
+
+  private Long seed() {
+    StoreCategory category = new StoreCategory("벤치마크");
+    entityManager.persist(category);
+
+    Store store = Store.builder()
+        .sellerProfileId(1L)
+        .storeCategory(category)
+        .name("벤치마크 상점")
+        .roadAddr("서울시 중구")
+        .location(PointUtil.createPoint(37.5665, 126.9780))
+        .build();
+    entityManager.persist(store);
+
+    List<Product> products = new ArrayList<>();
+    for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+      products.add(Product.builder()
+          .store(store)
+          .name("상품 " + i)
+          .price(1000)
+          .imageUrl("image.jpg")
+          .initialStock(1_000_000)
+          .build());
+    }
+    products.forEach(entityManager::persist);
+    entityManager.flush();
+    return store.getId();
+  }
+
+  private record Result(double roundTripsPerOrder, double microsPerOrder) {
+
+  }
+
+  @TestConfiguration
+  static class QueryCountingConfig {
+
+    @Bean
+    static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          return bean instanceof DataSource dataSource
+              ? proxy(DataSource.class, dataSource) : bean;
+        }
+      };
+    }
+
+    // DataSource -> Connection -> Statement 순으로 감싸 execute* 호출만 센다
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target) {
+      return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+          (proxy, method, args) -> {
+            String name = method.getName();
+            if (Statement.class.isAssignableFrom(type) && name.startsWith("execute")) {
+              roundTrips.incrementAndGet();
+            }
+            Object result;
+            try {
+              result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+              throw e.getCause();
+            }
+            if (result instanceof Connection connection) {
+              return proxy(Connection.class, connection);
+            }
+            if (result instanceof Statement statement && name.startsWith("prepare")) {
+              return proxy((Class<Statement>) method.getReturnType(), statement);
+            }
+            if (result instanceof Statement statement && name.equals("createStatement")) {
+              return proxy(Statement.class, statement);
+            }
+            return result;
+          });
+    }
+  }
+}
@@ -0,0 +1,186 @@
+package com.deliveranything.domain.product.stock.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.deliveranything.domain.product.stock.dto.projection.StockOperationKey;
+import com.deliveranything.domain.product.stock.dto.projection.StockState;
+import com.deliveranything.domain.product.stock.engine.StockStripe.StockCommand;
+import com.deliveranything.domain.product.stock.enums.StockOperation;
+import com.deliveranything.domain.product.stock.repository.StockJdbcRepository;
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockStripe 테스트")
+class StockStripeTest {
+
+  @Mock
+  private StockRepository stockRepository;
+
+  @Mock
+  private StockJdbcRepository stockJdbcRepository;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  private static final StockOperationKey RESERVED =
+      new StockOperationKey(1L, StockOperation.RESERVE, 10L);
+
+  private StockStripe stockStripe;
+
+  @BeforeEach
+  void setUp() {
+    stockStripe = new StockStripe(0, 100, stockRepository, stockJdbcRepository,
+        transactionTemplate);
+    lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+        invocation.<TransactionCallback<Boolean>>getArgument(0)
+            .doInTransaction(mock(TransactionStatus.class)));
+    lenient().when(stockRepository.findStatesByProductIdIn(any()))
+        .thenReturn(List.of(new StockState(10L, 5L, 3, 0, 7)));
+  }
+
+  @Test
+  @DisplayName("같은 상품 명령을 순서대로 적용하고 한 번의 batch 로 기록")
+  @SuppressWarnings("unchecked")
+  void process_appliesInOrderAndWritesOnce() {
+    given(stockJdbcRepository.updateQuantitiesIfVersionMatches(anyList())).willReturn(true);
+    StockCommand first = reserve(1L, 2);
+    StockCommand second = reserve(2L, 2);
+
+    stockStripe.process(List.of(first, second));
+
+    assertThat(first.result()).isCompleted().isNotCompletedExceptionally();
+    assertThat(second.result()).isCompletedExceptionally();
+    assertThat(second.result().exceptionNow())
+        .isInstanceOf(CustomException.class)
+        .extracting(e -> ((CustomException) e).getCode())
+        .isEqualTo(ErrorCode.PRODUCT_OUT_OF_STOCK.getCode());
+
+    ArgumentCaptor<List<StockState>> captor = ArgumentCaptor.forClass(List.class);
+    then(stockJdbcRepository).should().updateQuantitiesIfVersionMatches(captor.capture());
+    assertThat(captor.getValue()).containsExactly(new StockState(10L, 5L, 3, 2, 7));
+  }
+
+  @Test
+  @DisplayName("version 충돌 시 적용한 명령을 실패시키고 다음 배치에서 다시 적재")
+  void process_versionConflict() {
+    given(stockJdbcRepository.updateQuantitiesIfVersionMatches(anyList())).willReturn(false);
+    StockCommand command = reserve(1L, 1);
+
+    stockStripe.process(List.of(command));
+    stockStripe.process(List.of(reserve(2L, 1)));
+
+    assertThat(command.result().exceptionNow())
+        .extracting(e -> ((CustomException) e).getCode())
+        .isEqualTo(ErrorCode.STOCK_CHANGE_CONFLICT.getCode());
+    then(stockRepository).should(times(2)).findStatesByProductIdIn(any());
+  }
+
+  @Test
+  @DisplayName("적용 기록을 재고 변경과 같은 배치 트랜잭션에 저장하고, 기록된 명령은 다시 적용하지 않음")
+  void process_skipsRecorded() {
+    given(stockJdbcRepository.updateQuantitiesIfVersionMatches(anyList())).willReturn(true);
+    given(stockJdbcRepository.findOperationRecords(Set.of(1L)))
+        .willReturn(Set.of(), Set.of(RESERVED));
+
+    stockStripe.process(List.of(reserve(1L, 1)));
+    StockCommand duplicate = reserve(1L, 1);
+    stockStripe.process(List.of(duplicate));
+
+    assertThat(duplicate.result()).isCompleted().isNotCompletedExceptionally();
+    then(stockJdbcRepository).should(times(1)).updateQuantitiesIfVersionMatches(anyList());
+    then(stockJdbcRepository).should().insertOperationRecords(Set.of(RESERVED));
+  }
+
+  @Test
+  @DisplayName("다른 노드가 같은 명령을 먼저 기록했으면 충돌로 실패시키고 캐시를 비움")
+  void process_recordConflict() {
+    given(stockJdbcRepository.updateQuantitiesIfVersionMatches(anyList())).willReturn(true);
+    willThrow(new DuplicateKeyException("duplicate"))
+        .given(stockJdbcRepository).insertOperationRecords(any());
+    StockCommand command = reserve(1L, 1);
+
+    stockStripe.process(List.of(command));
+    stockStripe.process(List.of(reserve(2L, 1)));
+
+    assertThat(command.result().exceptionNow())
+        .extracting(e -> ((CustomException) e).getCode())
+        .isEqualTo(ErrorCode.STOCK_CHANGE_CONFLICT.getCode());
+    then(stockRepository).should(times(2)).findStatesByProductIdIn(any());
+  }
+
+  @Test
+  @DisplayName("호출자가 타임아웃으로 취소한 명령은 적용하지 않음")
+  void process_skipsCancelled() {
+    StockCommand command = reserve(1L, 1);
+    command.result().cancel(false);
+
+    stockStripe.process(List.of(command));
+
+    then(stockRepository).shouldHaveNoInteractions();
+    then(stockJdbcRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("되돌리기는 예약 기록이 있는 상품만 해제하고 기록을 지움")
+  @SuppressWarnings("unchecked")
+  void process_compensatesRecordedReservation() {
+    given(stockRepository.findStatesByProductIdIn(any()))
+        .willReturn(List.of(new StockState(10L, 5L, 3, 1, 7)));
+    given(stockJdbcRepository.updateQuantitiesIfVersionMatches(anyList())).willReturn(true);
+    given(stockJdbcRepository.findOperationRecords(Set.of(1L))).willReturn(Set.of(RESERVED));
+
+    stockStripe.process(List.of(compensation(1L, 1)));
+
+    ArgumentCaptor<List<StockState>> captor = ArgumentCaptor.forClass(List.class);
+    then(stockJdbcRepository).should().updateQuantitiesIfVersionMatches(captor.capture());
+    assertThat(captor.getValue()).containsExactly(new StockState(10L, 5L, 3, 0, 7));
+    then(stockJdbcRepository).should().deleteOperationRecords(Set.of(RESERVED));
+  }
+
+  @Test
+  @DisplayName("예약이 적용되지 않은 스트라이프의 되돌리기는 아무것도 하지 않음")
+  void process_compensationWithoutReservation() {
+    StockCommand compensation = compensation(1L, 1);
+
+    stockStripe.process(List.of(compensation));
+
+    assertThat(compensation.result()).isCompleted().isNotCompletedExceptionally();
+    then(stockJdbcRepository).should(never()).updateQuantitiesIfVersionMatches(anyList());
+  }
+
+  private StockCommand reserve(Long orderId, int quantity) {
+    return new StockCommand(StockOperation.RESERVE, orderId, 5L, Map.of(10L, quantity), false,
+        new CompletableFuture<>());
+  }
+
+  private StockCommand compensation(Long orderId, int quantity) {
+    return new StockCommand(StockOperation.RELEASE, orderId, 5L, Map.of(10L, quantity), true,
+        new CompletableFuture<>());
+  }
+}
@@ -0,0 +1,82 @@
+package com.deliveranything.domain.product.stock.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.stock.repository.StockHoldRepository;
+import com.deliveranything.domain.product.stock.repository.StockHoldRepository.ExpiredHold;
+import com.deliveranything.domain.product.stock.service.StockFacadeService;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockHoldSweeper 테스트")
+class StockHoldSweeperTest {
+
+  @InjectMocks
+  private StockHoldSweeper stockHoldSweeper;
+
+  @Mock
+  private StockHoldRepository stockHoldRepository;
+
+  @Mock
+  private StockFacadeService stockFacadeService;
+
+  private final ExpiredHold hold = new ExpiredHold(1L, 5L, List.of(new OrderItemInfo(10L, 2)));
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(stockHoldSweeper, "batchSize", 100);
+    ReflectionTestUtils.setField(stockHoldSweeper, "maxBatchesPerRun", 10);
+    ReflectionTestUtils.setField(stockHoldSweeper, "retryDelay", Duration.ofMinutes(1));
+    given(stockHoldRepository.claimExpired(any(), anyInt())).willReturn(List.of(hold));
+  }
+
+  @Test
+  @DisplayName("만료된 예약을 해제")
+  void sweep_releasesExpiredHolds() {
+    stockHoldSweeper.sweep();
+
+    then(stockFacadeService).should().handleHoldExpired(1L, 5L, hold.items());
+    then(stockHoldRepository).should(never()).restore(any(), any());
+  }
+
+  @Test
+  @DisplayName("이미 해제된 예약은 다시 등록하지 않음")
+  void sweep_skipsAlreadyReleased() {
+    willThrow(new CustomException(ErrorCode.STOCK_CHANGE_INVALID))
+        .given(stockFacadeService).handleHoldExpired(any(), any(), any());
+
+    stockHoldSweeper.sweep();
+
+    then(stockHoldRepository).should(never()).restore(any(), any());
+  }
+
+  @Test
+  @DisplayName("인프라 오류로 실패하면 인덱스에 되돌려 재시도")
+  void sweep_restoresOnFailure() {
+    willThrow(new QueryTimeoutException("timeout"))
+        .given(stockFacadeService).handleHoldExpired(any(), any(), any());
+
+    stockHoldSweeper.sweep();
+
+    then(stockHoldRepository).should().restore(eq(hold), any());
+  }
+}
@@ -0,0 +1,98 @@
+package com.deliveranything.domain.product.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.product.stock.dto.StockAvailabilityResponse;
+import com.deliveranything.domain.product.stock.dto.projection.StockSnapshot;
+import com.deliveranything.domain.product.stock.engine.StockEngine;
+import com.deliveranything.domain.product.stock.enums.StockAvailability;
+import com.deliveranything.domain.product.stock.event.StockAvailabilityChangedEvent;
+import com.deliveranything.domain.product.stock.repository.StockAvailabilityRepository;
+import com.deliveranything.domain.product.stock.websocket.StockWebSocketPublisher;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockAvailabilityService 테스트")
+class StockAvailabilityServiceTest {
+
+  @InjectMocks
+  private StockAvailabilityService stockAvailabilityService;
+
+  @Mock
+  private StockAvailabilityRepository stockAvailabilityRepository;
+
+  @Mock
+  private StockEngine stockEngine;
+
+  @Mock
+  private StockWebSocketPublisher stockWebSocketPublisher;
+
+  @Test
+  @DisplayName("캐시에 없는 상품만 재고 엔진에서 채움")
+  void getAvailableQuantities_loadsMissingOnly() {
+    given(stockAvailabilityRepository.findAll(1L, List.of(10L, 11L)))
+        .willReturn(new HashMap<>(Map.of(10L, 7)));
+    given(stockEngine.findSnapshots(List.of(11L)))
+        .willReturn(List.of(new StockSnapshot(11L, 5, 2, 1L)));
+
+    Map<Long, Integer> quantities = stockAvailabilityService.getAvailableQuantities(1L,
+        List.of(10L, 11L));
+
+    assertThat(quantities).containsEntry(10L, 7).containsEntry(11L, 3);
+    then(stockAvailabilityRepository).should().putIfAbsent(1L, Map.of(11L, 3));
+  }
+
+  @Test
+  @DisplayName("다른 상점 상품은 캐시에 채우지 않음")
+  void getAvailableQuantities_ignoresOtherStore() {
+    given(stockAvailabilityRepository.findAll(1L, List.of(11L))).willReturn(new HashMap<>());
+    given(stockEngine.findSnapshots(List.of(11L)))
+        .willReturn(List.of(new StockSnapshot(11L, 5, 0, 2L)));
+
+    Map<Long, Integer> quantities = stockAvailabilityService.getAvailableQuantities(1L,
+        List.of(11L));
+
+    assertThat(quantities).isEmpty();
+  }
+
+  @Test
+  @DisplayName("품절로 바뀐 상품은 구독자에게 전달")
+  void onAvailabilityChanged_publishesSoldOut() {
+    given(stockEngine.findSnapshots(List.of(10L)))
+        .willReturn(List.of(new StockSnapshot(10L, 4, 4, 1L)));
+    given(stockAvailabilityRepository.put(eq(1L), anyMap())).willReturn(Map.of(10L, 2));
+
+    stockAvailabilityService.onAvailabilityChanged(
+        new StockAvailabilityChangedEvent(1L, List.of(10L)));
+
+    then(stockWebSocketPublisher).should().publishAvailability(1L,
+        new StockAvailabilityResponse(10L, 0, StockAvailability.SOLD_OUT));
+  }
+
+  @Test
+  @DisplayName("재고 상태가 그대로면 전달하지 않음")
+  void onAvailabilityChanged_skipsSameAvailability() {
+    given(stockEngine.findSnapshots(List.of(10L)))
+        .willReturn(List.of(new StockSnapshot(10L, 100, 10, 1L)));
+    given(stockAvailabilityRepository.put(eq(1L), anyMap())).willReturn(Map.of(10L, 91));
+
+    stockAvailabilityService.onAvailabilityChanged(
+        new StockAvailabilityChangedEvent(1L, List.of(10L)));
+
+    then(stockWebSocketPublisher).should(never()).publishAvailability(any(), any());
+  }
+}
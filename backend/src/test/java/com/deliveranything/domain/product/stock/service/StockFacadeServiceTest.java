@@ -0,0 +1,187 @@
+package com.deliveranything.domain.product.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.stock.engine.StockEngine;
+import com.deliveranything.domain.product.stock.entity.StockOperationRecord;
+import com.deliveranything.domain.product.stock.enums.StockOperation;
+import com.deliveranything.domain.product.stock.event.StockCommitFailedEvent;
+import com.deliveranything.domain.product.stock.event.StockCommittedEvent;
+import com.deliveranything.domain.product.stock.repository.StockHoldRepository;
+import com.deliveranything.domain.product.stock.repository.StockOperationRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockFacadeService 테스트")
+class StockFacadeServiceTest {
+
+  private static final Long ORDER_ID = 1L;
+  private static final Long STORE_ID = 5L;
+  private static final List<OrderItemInfo> ITEMS = List.of(new OrderItemInfo(10L, 2));
+
+  @InjectMocks
+  private StockFacadeService stockFacadeService;
+
+  @Mock
+  private StockCommandService stockCommandService;
+
+  @Mock
+  private StockEngine stockEngine;
+
+  @Mock
+  private StockHoldRepository stockHoldRepository;
+
+  @Mock
+  private StockOperationRepository stockOperationRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Test
+  @DisplayName("재고 변경 직후 같은 트랜잭션에서 적용 기록을 저장")
+  void handleOrderPaymentSucceeded_recordsInSameUnitOfWork() {
+    // when
+    stockFacadeService.handleOrderPaymentSucceeded(ORDER_ID, STORE_ID, ITEMS);
+
+    // then
+    InOrder inOrder = inOrder(stockEngine, stockOperationRepository);
+    inOrder.verify(stockEngine).commit(ORDER_ID, STORE_ID, ITEMS);
+    ArgumentCaptor<StockOperationRecord> record =
+        ArgumentCaptor.forClass(StockOperationRecord.class);
+    inOrder.verify(stockOperationRepository).saveAndFlush(record.capture());
+    assertThat(record.getValue().getOrderId()).isEqualTo(ORDER_ID);
+    assertThat(record.getValue().getOperation()).isEqualTo(StockOperation.COMMIT);
+    then(eventPublisher).should().publishEvent(new StockCommittedEvent(ORDER_ID));
+  }
+
+  @Test
+  @DisplayName("이미 적용된 명령이면 재고를 건드리지 않고 결과 이벤트만 다시 발행")
+  void handleOrderPaymentSucceeded_alreadyApplied() {
+    // given
+    given(stockOperationRepository.existsByOrderIdAndOperation(ORDER_ID, StockOperation.COMMIT))
+        .willReturn(true);
+
+    // when
+    stockFacadeService.handleOrderPaymentSucceeded(ORDER_ID, STORE_ID, ITEMS);
+
+    // then
+    then(stockEngine).shouldHaveNoInteractions();
+    then(stockOperationRepository).should(never()).saveAndFlush(any());
+    then(eventPublisher).should().publishEvent(new StockCommittedEvent(ORDER_ID));
+  }
+
+  @Test
+  @DisplayName("결제 확정 전에 예약이 만료되었으면 재고를 차감하지 않고 확정 실패(환불) 이벤트 발행")
+  void handleOrderPaymentSucceeded_holdExpired() {
+    // given
+    given(stockHoldRepository.isExpired(ORDER_ID)).willReturn(true);
+
+    // when
+    stockFacadeService.handleOrderPaymentSucceeded(ORDER_ID, STORE_ID, ITEMS);
+
+    // then
+    then(stockEngine).shouldHaveNoInteractions();
+    ArgumentCaptor<StockOperationRecord> record =
+        ArgumentCaptor.forClass(StockOperationRecord.class);
+    then(stockOperationRepository).should().saveAndFlush(record.capture());
+    assertThat(record.getValue().getOperation()).isEqualTo(StockOperation.REPLENISH);
+    then(eventPublisher).should().publishEvent(any(StockCommitFailedEvent.class));
+    then(eventPublisher).should(never()).publishEvent(any(StockCommittedEvent.class));
+  }
+
+  @Test
+  @DisplayName("동시에 처리된 중복 명령은 적용 기록의 유니크 키 위반으로 실패 (트랜잭션 롤백)")
+  void handleOrderPaymentSucceeded_concurrentDuplicateFails() {
+    // given
+    given(stockOperationRepository.saveAndFlush(any(StockOperationRecord.class)))
+        .willThrow(new DataIntegrityViolationException("uk_stock_operation_records"));
+
+    // when & then
+    assertThatThrownBy(() -> stockFacadeService.handleOrderPaymentSucceeded(ORDER_ID, STORE_ID,
+        ITEMS)).isInstanceOf(DataIntegrityViolationException.class);
+    then(eventPublisher).should(never()).publishEvent(any(StockCommittedEvent.class));
+  }
+
+  @Test
+  @DisplayName("확정 트랜잭션이 커밋되지 않으면 꺼낸 예약을 원래 만료 시각으로 되돌림")
+  void handleOrderPaymentSucceeded_restoresHoldOnRollback() {
+    // given
+    Instant expiresAt = Instant.parse("2026-01-01T00:20:00Z");
+    given(stockHoldRepository.remove(ORDER_ID)).willReturn(Optional.of(expiresAt));
+    willThrow(new IllegalStateException("stock commit failed")).given(stockEngine)
+        .commit(ORDER_ID, STORE_ID, ITEMS);
+
+    // when
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      assertThatThrownBy(() -> stockFacadeService.handleOrderPaymentSucceeded(ORDER_ID, STORE_ID,
+          ITEMS)).isInstanceOf(IllegalStateException.class);
+      then(stockHoldRepository).should(never()).register(any(), any(), any(), any());
+
+      TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+          synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    // then
+    then(stockHoldRepository).should().register(ORDER_ID, STORE_ID, ITEMS, expiresAt);
+  }
+
+  @Test
+  @DisplayName("확정이 커밋되면 예약을 되돌리지 않음")
+  void handleOrderPaymentSucceeded_keepsHoldRemovedOnCommit() {
+    // given
+    given(stockHoldRepository.remove(ORDER_ID)).willReturn(Optional.of(Instant.now()));
+
+    // when
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      stockFacadeService.handleOrderPaymentSucceeded(ORDER_ID, STORE_ID, ITEMS);
+      TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+          synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    // then
+    then(stockHoldRepository).should(never()).register(any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("이미 확정된 주문의 예약이 만료되면 재고를 해제하지 않음")
+  void handleHoldExpired_skipsCommittedOrder() {
+    // given
+    given(stockOperationRepository.existsByOrderIdAndOperation(ORDER_ID, StockOperation.COMMIT))
+        .willReturn(true);
+
+    // when
+    stockFacadeService.handleHoldExpired(ORDER_ID, STORE_ID, ITEMS);
+
+    // then
+    then(stockEngine).shouldHaveNoInteractions();
+    then(stockOperationRepository).should(never()).saveAndFlush(any());
+  }
+}
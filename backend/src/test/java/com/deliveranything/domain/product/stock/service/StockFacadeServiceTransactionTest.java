@@ -0,0 +1,159 @@
+package com.deliveranything.domain.product.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.stock.engine.StockEngine;
+import com.deliveranything.domain.product.stock.event.StockReserveFailedEvent;
+import com.deliveranything.domain.product.stock.repository.StockHoldRepository;
+import com.deliveranything.domain.product.stock.repository.StockOperationRepository;
+import com.deliveranything.domain.store.store.entity.Store;
+import com.deliveranything.domain.store.store.repository.StoreRepository;
+import com.deliveranything.global.exception.ErrorCode;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.SmartTransactionObject;
+
+// 트랜잭션 프록시와 실제 트랜잭션 매니저 흐름(참여, rollback-only, 커밋)을 거쳐 실행
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockFacadeService 트랜잭션 테스트")
+class StockFacadeServiceTransactionTest {
+
+  private static final Long ORDER_ID = 1L;
+  private static final Long STORE_ID = 5L;
+  private static final List<OrderItemInfo> ITEMS = List.of(new OrderItemInfo(10L, 2));
+
+  @Mock
+  private StoreRepository storeRepository;
+
+  @Mock
+  private StockEngine stockEngine;
+
+  @Mock
+  private StockHoldRepository stockHoldRepository;
+
+  @Mock
+  private StockOperationRepository stockOperationRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+
+  private StockFacadeService stockFacadeService;
+
+  @BeforeEach
+  void setUp() {
+    StockCommandService stockCommandService = transactional(
+        new StockCommandService(storeRepository));
+    stockFacadeService = transactional(new StockFacadeService(stockCommandService, stockEngine,
+        stockHoldRepository, stockOperationRepository, eventPublisher));
+  }
+
+  @Test
+  @DisplayName("닫힌 상점이면 예약 실패 이벤트와 함께 트랜잭션이 커밋됨")
+  void handleOrderCreated_storeClosedCommits() {
+    given(storeRepository.findById(STORE_ID)).willReturn(Optional.of(Store.builder().build()));
+
+    assertThatNoException().isThrownBy(
+        () -> stockFacadeService.handleOrderCreated(ORDER_ID, STORE_ID, ITEMS));
+
+    assertThat(transactionManager.committed).isTrue();
+    then(stockEngine).shouldHaveNoInteractions();
+    then(eventPublisher).should().publishEvent(
+        new StockReserveFailedEvent(ORDER_ID, ErrorCode.STORE_CLOSED.getMessage()));
+  }
+
+  @Test
+  @DisplayName("없는 상점이면 예약 실패 이벤트와 함께 트랜잭션이 커밋됨")
+  void handleOrderCreated_storeNotFoundCommits() {
+    given(storeRepository.findById(STORE_ID)).willReturn(Optional.empty());
+
+    assertThatNoException().isThrownBy(
+        () -> stockFacadeService.handleOrderCreated(ORDER_ID, STORE_ID, ITEMS));
+
+    assertThat(transactionManager.committed).isTrue();
+    then(eventPublisher).should().publishEvent(
+        new StockReserveFailedEvent(ORDER_ID, ErrorCode.STORE_NOT_FOUND.getMessage()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T transactional(T target) {
+    ProxyFactory factory = new ProxyFactory(target);
+    factory.setProxyTargetClass(true);
+    factory.addAdvice(new TransactionInterceptor(transactionManager,
+        new AnnotationTransactionAttributeSource()));
+    return (T) factory.getProxy();
+  }
+
+  // 참여 트랜잭션이 rollback-only 를 남기면 바깥 커밋이 UnexpectedRollbackException 으로 실패
+  private static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+    private TransactionState active;
+    private boolean committed;
+
+    @Override
+    protected Object doGetTransaction() {
+      return active != null ? active : new TransactionState();
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+      return transaction == active;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+      active = (TransactionState) transaction;
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+      committed = true;
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+      ((TransactionState) status.getTransaction()).rollbackOnly = true;
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+      active = null;
+    }
+  }
+
+  private static class TransactionState implements SmartTransactionObject {
+
+    private boolean rollbackOnly;
+
+    @Override
+    public boolean isRollbackOnly() {
+      return rollbackOnly;
+    }
+
+    @Override
+    public void flush() {
+    }
+  }
+}
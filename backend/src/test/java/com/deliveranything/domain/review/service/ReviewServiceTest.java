@@ -15,7 +15,9 @@ import static org.mockito.Mockito.when;
 
 import com.deliveranything.domain.auth.auth.enums.SocialProvider;
 import com.deliveranything.domain.notification.enums.NotificationType;
+import com.deliveranything.domain.notification.repository.NotificationDigestRepository;
 import com.deliveranything.domain.notification.repository.NotificationRepository;
+import com.deliveranything.domain.notification.repository.NotificationUnreadCountRepository;
 import com.deliveranything.domain.review.dto.ReviewCreateRequest;
 import com.deliveranything.domain.review.dto.ReviewCreateResponse;
 import com.deliveranything.domain.review.dto.ReviewRatingAndListResponseDto;
@@ -44,7 +46,6 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -54,7 +55,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SetOperations;
 
@@ -78,13 +78,16 @@ class ReviewServiceTest {
   private NotificationRepository notificationRepository;
 
   @Mock
-  private RedisTemplate<String, Object> redisTemplate;
+  private NotificationUnreadCountRepository notificationUnreadCountRepository;
 
   @Mock
-  private UserService userService;
+  private NotificationDigestRepository notificationDigestRepository;
+
+  @Mock
+  private RedisTemplate<String, Object> redisTemplate;
 
   @Mock
-  private HashOperations<String, Object, Object> hashOperations;
+  private UserService userService;
 
   @Mock
   private SetOperations<String, Object> setOperations;
@@ -127,13 +130,10 @@ class ReviewServiceTest {
     verify(customerProfileService).getProfileByUserId(11L);
     verify(reviewRepository).save(any());
     verify(reviewPhotoRepository).saveAll(any());
-    verify(redisTemplate).opsForHash();
-    verify(hashOperations)
-        .increment("notifications:hourly:profile:" + reviewCreateRequest.targetId(),
-            NotificationType.NEW_REVIEW, 1);
-    verify(redisTemplate).expire("notifications:hourly:profile:" + reviewCreateRequest.targetId(),
-        2, TimeUnit.HOURS);
+    verify(notificationDigestRepository)
+        .increment(reviewCreateRequest.targetId(), NotificationType.NEW_REVIEW);
     verify(notificationRepository).save(any());
+    verify(notificationUnreadCountRepository).increment(reviewCreateRequest.targetId());
   }
 
   @Test
@@ -534,7 +534,6 @@ class ReviewServiceTest {
   //====================================================
   private ReviewCreateResponse createReviewResponseForTest(Long profileId) throws Exception {
     when(customerProfileService.getProfileByUserId(profileId)).thenReturn(customerProfile);
-    when(redisTemplate.opsForHash()).thenReturn(hashOperations);
     when(reviewRepository.save(any())).thenAnswer(invocation -> {
       Review r = invocation.getArgument(0);
       Field idField = Review.class.getSuperclass().getDeclaredField("id");
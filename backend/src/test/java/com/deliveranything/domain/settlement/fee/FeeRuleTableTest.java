@@ -0,0 +1,107 @@
+package com.deliveranything.domain.settlement.fee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.deliveranything.domain.settlement.entity.SettlementFeeRule;
+import com.deliveranything.domain.settlement.enums.SettlementFeeTarget;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("FeeRuleTable 테스트")
+class FeeRuleTableTest {
+
+  private static final Map<SettlementFeeTarget, Integer> DEFAULTS = Map.of(
+      SettlementFeeTarget.SELLER, 800, SettlementFeeTarget.RIDER, 0);
+  private static final Long STORE_ID = 3L;
+  private static final Long CATEGORY_ID = 2L;
+  // 2026-10-18 은 일요일
+  private static final LocalDateTime SUNDAY_NOON = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+  @Test
+  @DisplayName("규칙이 없으면 대상별 기본 요율을 정수 연산으로 적용")
+  void feeOf_defaultRate() {
+    FeeRuleTable table = FeeRuleTable.compile(List.of(), DEFAULTS);
+
+    assertThat(seller(table, 12345L, SUNDAY_NOON)).isEqualTo(987L);
+    assertThat(table.feeOf(SettlementFeeTarget.RIDER, 3000L, STORE_ID, CATEGORY_ID,
+        SUNDAY_NOON)).isZero();
+  }
+
+  @Test
+  @DisplayName("우선순위가 같으면 상점 규칙이 카테고리, 전체 규칙보다 우선")
+  void feeOf_storeRuleWinsOnTie() {
+    FeeRuleTable table = FeeRuleTable.compile(List.of(
+        rule(1L, sellerRule().rateBasisPoints(1000)),
+        rule(2L, sellerRule().storeCategoryId(CATEGORY_ID).rateBasisPoints(700)),
+        rule(3L, sellerRule().storeId(STORE_ID).rateBasisPoints(500))), DEFAULTS);
+
+    assertThat(seller(table, 10000L, SUNDAY_NOON)).isEqualTo(500L);
+    assertThat(table.feeOf(SettlementFeeTarget.SELLER, 10000L, 99L, CATEGORY_ID, SUNDAY_NOON))
+        .isEqualTo(700L);
+    assertThat(table.feeOf(SettlementFeeTarget.SELLER, 10000L, 99L, 98L, SUNDAY_NOON))
+        .isEqualTo(1000L);
+  }
+
+  @Test
+  @DisplayName("기간 한정 프로모션은 높은 우선순위로 기간 안에서만 적용")
+  void feeOf_promotionWithinPeriod() {
+    FeeRuleTable table = FeeRuleTable.compile(List.of(
+        rule(1L, sellerRule().storeId(STORE_ID).rateBasisPoints(500)),
+        rule(2L, sellerRule().rateBasisPoints(0).priority(10)
+            .validFrom(SUNDAY_NOON.minusDays(1)).validUntil(SUNDAY_NOON))), DEFAULTS);
+
+    assertThat(seller(table, 10000L, SUNDAY_NOON.minusHours(1))).isZero();
+    assertThat(seller(table, 10000L, SUNDAY_NOON)).isEqualTo(500L);
+  }
+
+  @Test
+  @DisplayName("요일과 자정을 넘는 시간대 조건을 확인")
+  void feeOf_dayAndTimeWindow() {
+    int weekend = 1 << 5 | 1 << 6;
+    FeeRuleTable table = FeeRuleTable.compile(List.of(
+        rule(1L, SettlementFeeRule.builder().target(SettlementFeeTarget.RIDER)
+            .rateBasisPoints(0).fixedAmount(200L).daysOfWeek(weekend)
+            .startMinute(22 * 60).endMinute(2 * 60))), DEFAULTS);
+
+    assertThat(rider(table, 3000L, SUNDAY_NOON.withHour(23))).isEqualTo(200L);
+    assertThat(rider(table, 3000L, SUNDAY_NOON.withHour(1))).isEqualTo(200L);
+    assertThat(rider(table, 3000L, SUNDAY_NOON)).isZero();
+    assertThat(rider(table, 3000L, SUNDAY_NOON.plusDays(1).withHour(23))).isZero();
+    // 고정 수수료가 정산 금액보다 크면 금액까지만
+    assertThat(rider(table, 150L, SUNDAY_NOON.withHour(23))).isEqualTo(150L);
+  }
+
+  @Test
+  @DisplayName("범위를 벗어난 규칙이 있으면 테이블을 만들지 않음")
+  void compile_invalidRule() {
+    List<SettlementFeeRule> rules = List.of(
+        rule(1L, sellerRule().rateBasisPoints(10001)));
+
+    assertThatThrownBy(() -> FeeRuleTable.compile(rules, DEFAULTS))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static long seller(FeeRuleTable table, long amount, LocalDateTime at) {
+    return table.feeOf(SettlementFeeTarget.SELLER, amount, STORE_ID, CATEGORY_ID, at);
+  }
+
+  private static long rider(FeeRuleTable table, long amount, LocalDateTime at) {
+    return table.feeOf(SettlementFeeTarget.RIDER, amount, STORE_ID, CATEGORY_ID, at);
+  }
+
+  private static SettlementFeeRule.SettlementFeeRuleBuilder sellerRule() {
+    return SettlementFeeRule.builder().target(SettlementFeeTarget.SELLER);
+  }
+
+  private static SettlementFeeRule rule(Long id,
+      SettlementFeeRule.SettlementFeeRuleBuilder builder) {
+    SettlementFeeRule rule = builder.build();
+    ReflectionTestUtils.setField(rule, "id", id);
+    return rule;
+  }
+}
@@ -4,10 +4,12 @@ import com.deliveranything.domain.settlement.dto.SettlementResponse;
 import com.deliveranything.domain.settlement.dto.SummaryResponse;
 import com.deliveranything.domain.settlement.dto.UnsettledResponse;
 import com.deliveranything.domain.settlement.dto.projection.SettlementProjection;
-import com.deliveranything.domain.settlement.dto.projection.SettlementSummaryProjection;
 import com.deliveranything.domain.settlement.entity.SettlementBatch;
-import com.deliveranything.domain.settlement.entity.SettlementDetail;
+import com.deliveranything.domain.settlement.entity.SettlementRollup;
+import com.deliveranything.domain.settlement.enums.SettlementPeriodType;
+import com.deliveranything.domain.settlement.enums.SettlementStatus;
 import com.deliveranything.domain.settlement.repository.SettlementBatchRepository;
+import com.deliveranything.domain.settlement.repository.SettlementRollupRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,9 +19,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -30,6 +32,8 @@ class SettlementBatchServiceTest {
     @Mock
     private SettlementBatchRepository settlementBatchRepository;
     @Mock
+    private SettlementRollupRepository settlementRollupRepository;
+    @Mock
     private SettlementDetailService settlementDetailService;
 
     @InjectMocks
@@ -43,51 +47,6 @@ class SettlementBatchServiceTest {
         // 각 테스트 전에 Mock 초기화
     }
 
-    @Test
-    @DisplayName("일별 정산 처리 성공 - 정산 대상이 없는 경우")
-    void processDailySettlements_noDetails_success() {
-        // Given
-        when(settlementDetailService.getYesterdayUnsettledDetails()).thenReturn(Collections.emptyList());
-
-        // When
-        settlementBatchService.processDailySettlements();
-
-        // Then
-        verify(settlementDetailService, times(1)).getYesterdayUnsettledDetails();
-        verifyNoInteractions(settlementBatchRepository); // 정산 대상이 없으므로 repository와 상호작용 없음
-    }
-
-    @Test
-    @DisplayName("일별 정산 처리 성공 - 정산 대상이 있는 경우")
-    void processDailySettlements_withDetails_success() {
-        // Given
-        SettlementDetail detail1 = mock(SettlementDetail.class);
-        when(detail1.getTargetId()).thenReturn(TEST_TARGET_ID);
-        when(detail1.getTargetAmount()).thenReturn(10000L);
-        when(detail1.getPlatformFee()).thenReturn(1000L);
-
-        SettlementDetail detail2 = mock(SettlementDetail.class);
-        when(detail2.getTargetId()).thenReturn(TEST_TARGET_ID);
-        when(detail2.getTargetAmount()).thenReturn(20000L);
-        when(detail2.getPlatformFee()).thenReturn(2000L);
-
-        List<SettlementDetail> settlementDetails = Arrays.asList(detail1, detail2);
-        when(settlementDetailService.getYesterdayUnsettledDetails()).thenReturn(settlementDetails);
-
-        SettlementBatch savedBatch = mock(SettlementBatch.class);
-        when(savedBatch.getId()).thenReturn(1L);
-        when(settlementBatchRepository.save(any(SettlementBatch.class))).thenReturn(savedBatch);
-
-        // When
-        settlementBatchService.processDailySettlements();
-
-        // Then
-        verify(settlementDetailService, times(1)).getYesterdayUnsettledDetails();
-        verify(settlementBatchRepository, times(1)).save(any(SettlementBatch.class));
-        verify(detail1, times(1)).process(savedBatch.getId());
-        verify(detail2, times(1)).process(savedBatch.getId());
-    }
-
     @Test
     @DisplayName("일별 정산 조회 성공")
     void getSettlementsByDay_success() {
@@ -100,7 +59,8 @@ class SettlementBatchServiceTest {
                 .settledAmount(9000L)
                 .transactionCount(1)
                 .build();
-        when(settlementBatchRepository.findAllByTargetId(TEST_TARGET_ID)).thenReturn(Collections.singletonList(mockBatch));
+        when(settlementBatchRepository.findAllByTargetIdAndStatus(TEST_TARGET_ID, SettlementStatus.COMPLETED))
+                .thenReturn(Collections.singletonList(mockBatch));
 
         // When
         List<SettlementResponse> result = settlementBatchService.getSettlementsByDay(TEST_TARGET_ID);
@@ -108,22 +68,17 @@ class SettlementBatchServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).startDate()).isEqualTo(TEST_DATE);
-        verify(settlementBatchRepository, times(1)).findAllByTargetId(TEST_TARGET_ID);
+        verify(settlementBatchRepository, times(1)).findAllByTargetIdAndStatus(TEST_TARGET_ID, SettlementStatus.COMPLETED);
     }
 
     @Test
     @DisplayName("주별 정산 조회 성공")
     void getSettlementsByWeek_success() {
         // Given
-        SettlementProjection mockProjection = mock(SettlementProjection.class);
-        when(mockProjection.minDate()).thenReturn(TEST_DATE);
-        when(mockProjection.targetTotalAmount()).thenReturn(50000L);
-        when(mockProjection.totalPlatformFee()).thenReturn(5000L);
-        when(mockProjection.settledAmount()).thenReturn(45000L);
-        when(mockProjection.transactionCount()).thenReturn(5L);
-
-        when(settlementBatchRepository.findWeeklySettlementsByTargetId(TEST_TARGET_ID))
-                .thenReturn(Collections.singletonList(mockProjection));
+        SettlementRollup mockRollup = mockRollup(50000L, 5000L, 45000L, 5L);
+        when(settlementRollupRepository.findAllByTargetIdAndPeriodTypeOrderByPeriodStartDesc(
+                TEST_TARGET_ID, SettlementPeriodType.WEEK))
+                .thenReturn(Collections.singletonList(mockRollup));
 
         // When
         List<SettlementResponse> result = settlementBatchService.getSettlementsByWeek(TEST_TARGET_ID);
@@ -131,22 +86,18 @@ class SettlementBatchServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).startDate()).isEqualTo(TEST_DATE);
-        verify(settlementBatchRepository, times(1)).findWeeklySettlementsByTargetId(TEST_TARGET_ID);
+        assertThat(result.get(0).transactionCount()).isEqualTo(5);
+        verify(settlementBatchRepository, never()).findAllByTargetIdAndStatus(any(), any());
     }
 
     @Test
     @DisplayName("월별 정산 조회 성공")
     void getSettlementsByMonth_success() {
         // Given
-        SettlementProjection mockProjection = mock(SettlementProjection.class);
-        when(mockProjection.minDate()).thenReturn(TEST_DATE);
-        when(mockProjection.targetTotalAmount()).thenReturn(100000L);
-        when(mockProjection.totalPlatformFee()).thenReturn(10000L);
-        when(mockProjection.settledAmount()).thenReturn(90000L);
-        when(mockProjection.transactionCount()).thenReturn(10L);
-
-        when(settlementBatchRepository.findMonthlySettlementsByTargetId(TEST_TARGET_ID))
-                .thenReturn(Collections.singletonList(mockProjection));
+        SettlementRollup mockRollup = mockRollup(100000L, 10000L, 90000L, 10L);
+        when(settlementRollupRepository.findAllByTargetIdAndPeriodTypeOrderByPeriodStartDesc(
+                TEST_TARGET_ID, SettlementPeriodType.MONTH))
+                .thenReturn(Collections.singletonList(mockRollup));
 
         // When
         List<SettlementResponse> result = settlementBatchService.getSettlementsByMonth(TEST_TARGET_ID);
@@ -154,7 +105,7 @@ class SettlementBatchServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).startDate()).isEqualTo(TEST_DATE);
-        verify(settlementBatchRepository, times(1)).findMonthlySettlementsByTargetId(TEST_TARGET_ID);
+        assertThat(result.get(0).settledAmount()).isEqualTo(90000L);
     }
 
     @Test
@@ -187,23 +138,53 @@ class SettlementBatchServiceTest {
     @DisplayName("정산 요약 조회 성공")
     void getSettlementSummary_success() {
         // Given
-        SettlementSummaryProjection mockBatchSummary = mock(SettlementSummaryProjection.class);
-        when(mockBatchSummary.totalSettledAmount()).thenReturn(100000L);
+        LocalDate today = LocalDate.now();
+        SettlementRollup thisWeek = mock(SettlementRollup.class);
+        when(thisWeek.getTransactionCount()).thenReturn(2L);
+        when(thisWeek.getSettledAmount()).thenReturn(20000L);
+        SettlementRollup thisMonth = mock(SettlementRollup.class);
+        when(thisMonth.getPeriodStart()).thenReturn(today.withDayOfMonth(1));
+        when(thisMonth.getTransactionCount()).thenReturn(10L);
+        when(thisMonth.getSettledAmount()).thenReturn(100000L);
+        SettlementRollup lastMonth = mock(SettlementRollup.class);
+        when(lastMonth.getPeriodStart()).thenReturn(today.withDayOfMonth(1).minusMonths(1));
+        when(lastMonth.getTransactionCount()).thenReturn(5L);
+        when(lastMonth.getSettledAmount()).thenReturn(50000L);
 
         UnsettledResponse mockUnsettledResponse = mock(UnsettledResponse.class);
         when(mockUnsettledResponse.scheduledTransactionCount()).thenReturn(1);
         when(mockUnsettledResponse.scheduledSettleAmount()).thenReturn(4500L);
 
-        when(settlementBatchRepository.findSettlementSummaryByTargetId(TEST_TARGET_ID)).thenReturn(mockBatchSummary);
+        when(settlementRollupRepository.findByTargetIdAndPeriodTypeAndPeriodStart(TEST_TARGET_ID,
+                SettlementPeriodType.WEEK, SettlementPeriodType.WEEK.startOf(today)))
+                .thenReturn(Optional.of(thisWeek));
+        when(settlementRollupRepository.findAllByTargetIdAndPeriodTypeOrderByPeriodStartDesc(
+                TEST_TARGET_ID, SettlementPeriodType.MONTH))
+                .thenReturn(List.of(thisMonth, lastMonth));
         when(settlementDetailService.getUnsettledDetail(TEST_TARGET_ID)).thenReturn(mockUnsettledResponse);
 
         // When
         SummaryResponse result = settlementBatchService.getSettlementSummary(TEST_TARGET_ID);
 
         // Then
-        assertThat(result.totalSettledAmount()).isEqualTo(100000L);
+        assertThat(result.totalTransactionCount()).isEqualTo(16);
+        assertThat(result.weeklyTransactionCount()).isEqualTo(3);
+        assertThat(result.weeklySettledAmount()).isEqualTo(20000L);
+        assertThat(result.monthlySettledAmount()).isEqualTo(100000L);
+        assertThat(result.totalSettledAmount()).isEqualTo(150000L);
         assertThat(result.scheduledSettleAmount()).isEqualTo(4500L);
-        verify(settlementBatchRepository, times(1)).findSettlementSummaryByTargetId(TEST_TARGET_ID);
         verify(settlementDetailService, times(1)).getUnsettledDetail(TEST_TARGET_ID);
     }
+
+    private SettlementRollup mockRollup(Long totalAmount, Long platformFee, Long settledAmount,
+            Long transactionCount) {
+        SettlementRollup rollup = mock(SettlementRollup.class);
+        when(rollup.getTargetTotalAmount()).thenReturn(totalAmount);
+        when(rollup.getTotalPlatformFee()).thenReturn(platformFee);
+        when(rollup.getSettledAmount()).thenReturn(settledAmount);
+        when(rollup.getTransactionCount()).thenReturn(transactionCount);
+        when(rollup.getFirstSettlementDate()).thenReturn(TEST_DATE);
+        when(rollup.getLastSettlementDate()).thenReturn(TEST_DATE.plusDays(6));
+        return rollup;
+    }
 }
@@ -2,8 +2,12 @@ package com.deliveranything.domain.settlement.service;
 
 import com.deliveranything.domain.settlement.dto.SettlementDetailResponse;
 import com.deliveranything.domain.settlement.dto.UnsettledResponse;
+import com.deliveranything.domain.settlement.entity.SettlementBatch;
 import com.deliveranything.domain.settlement.entity.SettlementDetail;
+import com.deliveranything.domain.settlement.enums.SettlementFeeTarget;
 import com.deliveranything.domain.settlement.enums.SettlementStatus;
+import com.deliveranything.domain.settlement.fee.SettlementFeeCalculator;
+import com.deliveranything.domain.settlement.repository.SettlementBatchRepository;
 import com.deliveranything.domain.settlement.repository.SettlementDetailRepository;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
@@ -11,7 +15,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,7 +22,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +34,10 @@ class SettlementDetailServiceTest {
 
     @Mock
     private SettlementDetailRepository settlementDetailRepository;
+    @Mock
+    private SettlementBatchRepository settlementBatchRepository;
+    @Mock
+    private SettlementFeeCalculator settlementFeeCalculator;
 
     @InjectMocks
     private SettlementDetailService settlementDetailService;
@@ -40,6 +46,10 @@ class SettlementDetailServiceTest {
     private final Long TEST_PROFILE_ID = 10L;
     private final Long TEST_STORE_PRICE = 100000L;
     private final Long TEST_DELIVERY_PRICE = 5000L;
+    private final Long TEST_BATCH_ID = 100L;
+    private final Long TEST_STORE_ID = 3L;
+    private final Long TEST_CATEGORY_ID = 2L;
+    private final LocalDateTime TEST_COMPLETED_AT = LocalDateTime.of(2026, 10, 18, 12, 0);
 
     @BeforeEach
     void setUp() {
@@ -50,38 +60,88 @@ class SettlementDetailServiceTest {
     @DisplayName("판매자 정산 생성 성공")
     void createSellerSettlement_success() {
         // Given
-        ArgumentCaptor<SettlementDetail> captor = ArgumentCaptor.forClass(SettlementDetail.class);
+        long platformFee = 8000L;
+        when(settlementFeeCalculator.feeOf(SettlementFeeTarget.SELLER, TEST_STORE_PRICE, TEST_STORE_ID,
+                TEST_CATEGORY_ID, TEST_COMPLETED_AT)).thenReturn(platformFee);
+        givenNotSettledYet(TEST_STORE_PRICE - platformFee, platformFee);
+        givenOpenBatch();
 
         // When
-        settlementDetailService.createSellerSettlement(TEST_ORDER_ID, TEST_PROFILE_ID, TEST_STORE_PRICE);
+        settlementDetailService.createSellerSettlement(TEST_ORDER_ID, TEST_PROFILE_ID, TEST_STORE_PRICE,
+                TEST_STORE_ID, TEST_CATEGORY_ID, TEST_COMPLETED_AT);
 
         // Then
-        verify(settlementDetailRepository, times(1)).save(captor.capture());
-        SettlementDetail savedDetail = captor.getValue();
-        assertThat(savedDetail.getOrderId()).isEqualTo(TEST_ORDER_ID);
-        assertThat(savedDetail.getTargetId()).isEqualTo(TEST_PROFILE_ID);
-        assertThat(savedDetail.getTargetAmount()).isEqualTo(TEST_STORE_PRICE - (long) (TEST_STORE_PRICE * 0.08));
-        assertThat(savedDetail.getPlatformFee()).isEqualTo((long) (TEST_STORE_PRICE * 0.08));
-        assertThat(savedDetail.getStatus()).isEqualTo(SettlementStatus.PENDING);
+        verify(settlementBatchRepository, times(1)).accumulate(eq(TEST_PROFILE_ID), any(LocalDate.class),
+                eq(TEST_STORE_PRICE), eq(platformFee), eq(TEST_STORE_PRICE - platformFee), any(LocalDateTime.class));
+        verify(settlementDetailRepository, times(1)).assignBatch(eq(TEST_ORDER_ID), eq(TEST_PROFILE_ID), eq(TEST_BATCH_ID),
+                any(LocalDate.class));
     }
 
     @Test
     @DisplayName("라이더 정산 생성 성공")
     void createRiderSettlement_success() {
         // Given
-        ArgumentCaptor<SettlementDetail> captor = ArgumentCaptor.forClass(SettlementDetail.class);
+        when(settlementFeeCalculator.feeOf(SettlementFeeTarget.RIDER, TEST_DELIVERY_PRICE, TEST_STORE_ID,
+                TEST_CATEGORY_ID, TEST_COMPLETED_AT)).thenReturn(300L);
+        givenNotSettledYet(TEST_DELIVERY_PRICE - 300L, 300L);
+        givenOpenBatch();
+
+        // When
+        settlementDetailService.createRiderSettlement(TEST_ORDER_ID, TEST_PROFILE_ID, TEST_DELIVERY_PRICE,
+                TEST_STORE_ID, TEST_CATEGORY_ID, TEST_COMPLETED_AT);
+
+        // Then
+        verify(settlementBatchRepository, times(1)).accumulate(eq(TEST_PROFILE_ID), any(LocalDate.class),
+                eq(TEST_DELIVERY_PRICE), eq(300L), eq(TEST_DELIVERY_PRICE - 300L), any(LocalDateTime.class));
+        verify(settlementDetailRepository, times(1)).assignBatch(eq(TEST_ORDER_ID), eq(TEST_PROFILE_ID), eq(TEST_BATCH_ID),
+                any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("정산 생성 - 유니크 키에 막혀 저장되지 않으면(이미 정산됨) 다시 집계하지 않음")
+    void createSellerSettlement_duplicate_skipped() {
+        // Given
+        when(settlementFeeCalculator.feeOf(SettlementFeeTarget.SELLER, TEST_STORE_PRICE, TEST_STORE_ID,
+                TEST_CATEGORY_ID, TEST_COMPLETED_AT)).thenReturn(8000L);
+        when(settlementDetailRepository.insertIfAbsent(eq(TEST_ORDER_ID), eq(TEST_PROFILE_ID), anyLong(),
+                anyLong(), any(LocalDate.class), any(LocalDateTime.class))).thenReturn(0);
 
         // When
-        settlementDetailService.createRiderSettlement(TEST_ORDER_ID, TEST_PROFILE_ID, TEST_DELIVERY_PRICE);
+        settlementDetailService.createSellerSettlement(TEST_ORDER_ID, TEST_PROFILE_ID, TEST_STORE_PRICE,
+                TEST_STORE_ID, TEST_CATEGORY_ID, TEST_COMPLETED_AT);
 
         // Then
-        verify(settlementDetailRepository, times(1)).save(captor.capture());
-        SettlementDetail savedDetail = captor.getValue();
-        assertThat(savedDetail.getOrderId()).isEqualTo(TEST_ORDER_ID);
-        assertThat(savedDetail.getTargetId()).isEqualTo(TEST_PROFILE_ID);
-        assertThat(savedDetail.getTargetAmount()).isEqualTo(TEST_DELIVERY_PRICE);
-        assertThat(savedDetail.getPlatformFee()).isEqualTo(0L);
-        assertThat(savedDetail.getStatus()).isEqualTo(SettlementStatus.PENDING);
+        verifyNoInteractions(settlementBatchRepository);
+        verify(settlementDetailRepository, never()).assignBatch(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("정산 생성 - 그날 집계가 이미 마감됐으면 오늘 집계로 넘겨 누적")
+    void createSellerSettlement_sealedBatch_redirected() {
+        // Given
+        LocalDate openDate = TEST_COMPLETED_AT.toLocalDate().plusDays(1);
+        when(settlementFeeCalculator.feeOf(SettlementFeeTarget.SELLER, TEST_STORE_PRICE, TEST_STORE_ID,
+                TEST_CATEGORY_ID, TEST_COMPLETED_AT)).thenReturn(8000L);
+        givenNotSettledYet(TEST_STORE_PRICE - 8000L, 8000L);
+        SettlementBatch sealed = mock(SettlementBatch.class);
+        when(sealed.getStatus()).thenReturn(SettlementStatus.COMPLETED);
+        SettlementBatch open = mock(SettlementBatch.class);
+        when(open.getId()).thenReturn(TEST_BATCH_ID);
+        when(open.getStatus()).thenReturn(SettlementStatus.PENDING);
+        when(open.getSettlementDate()).thenReturn(openDate);
+        // 첫 조회는 자정 전에 읽은 날짜(이미 마감), 두 번째는 오늘
+        when(settlementBatchRepository.findByTargetIdAndSettlementDate(eq(TEST_PROFILE_ID), any(LocalDate.class)))
+                .thenReturn(Optional.of(sealed), Optional.of(open));
+
+        // When
+        settlementDetailService.createSellerSettlement(TEST_ORDER_ID, TEST_PROFILE_ID, TEST_STORE_PRICE,
+                TEST_STORE_ID, TEST_CATEGORY_ID, TEST_COMPLETED_AT);
+
+        // Then
+        verify(settlementBatchRepository, times(2)).accumulate(eq(TEST_PROFILE_ID), any(LocalDate.class),
+                eq(TEST_STORE_PRICE), eq(8000L), eq(TEST_STORE_PRICE - 8000L), any(LocalDateTime.class));
+        verify(settlementDetailRepository, times(1)).assignBatch(TEST_ORDER_ID, TEST_PROFILE_ID, TEST_BATCH_ID,
+                openDate);
     }
 
     @Test
@@ -144,21 +204,16 @@ class SettlementDetailServiceTest {
                 any(LocalDateTime.class), any(LocalDateTime.class));
     }
 
-    @Test
-    @DisplayName("어제 미정산 정보 조회 성공")
-    void getYesterdayUnsettledDetails_success() {
-        // Given
-        List<SettlementDetail> mockDetails = Collections.singletonList(mock(SettlementDetail.class));
-        when(settlementDetailRepository.findAllByStatusAndDateTime(eq(SettlementStatus.PENDING),
-                any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(mockDetails);
-
-        // When
-        List<SettlementDetail> result = settlementDetailService.getYesterdayUnsettledDetails();
+    private void givenOpenBatch() {
+        SettlementBatch batch = mock(SettlementBatch.class);
+        when(batch.getId()).thenReturn(TEST_BATCH_ID);
+        when(batch.getStatus()).thenReturn(SettlementStatus.PENDING);
+        when(settlementBatchRepository.findByTargetIdAndSettlementDate(eq(TEST_PROFILE_ID), any(LocalDate.class)))
+                .thenReturn(Optional.of(batch));
+    }
 
-        // Then
-        assertThat(result).hasSize(1);
-        verify(settlementDetailRepository, times(1)).findAllByStatusAndDateTime(eq(SettlementStatus.PENDING),
-                any(LocalDateTime.class), any(LocalDateTime.class));
+    private void givenNotSettledYet(long targetAmount, long platformFee) {
+        when(settlementDetailRepository.insertIfAbsent(eq(TEST_ORDER_ID), eq(TEST_PROFILE_ID), eq(targetAmount),
+                eq(platformFee), any(LocalDate.class), any(LocalDateTime.class))).thenReturn(1);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,178 @@
+package com.deliveranything.domain.settlement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.when;
+
+import com.deliveranything.domain.settlement.enums.SettlementExportFormat;
+import com.deliveranything.domain.settlement.repository.SettlementDetailJdbcRepository;
+import com.deliveranything.domain.settlement.repository.SettlementDetailJdbcRepository.ExportCursor;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SettlementExportService 테스트")
+class SettlementExportServiceTest {
+
+  private static final Long TARGET_ID = 7L;
+  private static final LocalDate START = LocalDate.of(2026, 10, 1);
+  private static final LocalDate END = LocalDate.of(2026, 10, 18);
+
+  @InjectMocks
+  private SettlementExportService settlementExportService;
+
+  @Mock
+  private SettlementDetailJdbcRepository settlementDetailJdbcRepository;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(settlementExportService, "fetchSize", 100);
+    ReflectionTestUtils.setField(settlementExportService, "maxDays", 366L);
+    ReflectionTestUtils.setField(settlementExportService, "maxConcurrent", 1);
+    settlementExportService.initPermits();
+  }
+
+  @Test
+  @DisplayName("커서에서 읽은 정산 상세를 CSV 로 응답에 씀")
+  void export_csv() throws Exception {
+    // given
+    givenRows(row(1L, 101L, 9200L, 800L), row(2L, 102L, 4600L, 400L));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    settlementExportService.export(TARGET_ID, START, END, null, SettlementExportFormat.CSV,
+        response);
+
+    // then
+    assertThat(response.getContentType()).startsWith("text/csv");
+    assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION))
+        .contains("settlements-2026-10-01-2026-10-18.csv");
+    assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("""
+        id,orderId,targetId,settlementDate,targetAmount,platformFee,status,createdAt
+        1,101,7,2026-10-18,9200,800,PENDING,2026-10-18T12:00
+        2,102,7,2026-10-18,4600,400,PENDING,2026-10-18T12:00
+        """);
+    then(settlementDetailJdbcRepository).should()
+        .streamForExport(eq(TARGET_ID), eq(START), eq(END), isNull(), eq(100), any());
+  }
+
+  @Test
+  @DisplayName("마지막으로 받은 행의 (정산일, id) 다음부터 헤더 없이 이어서 내보냄")
+  void export_resumeAfterId() throws Exception {
+    // given
+    given(settlementDetailJdbcRepository.findSettlementDate(TARGET_ID, 1L))
+        .willReturn(Optional.of(END));
+    givenRows(row(2L, 102L, 4600L, 400L));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    settlementExportService.export(TARGET_ID, START, END, 1L, SettlementExportFormat.CSV,
+        response);
+
+    // then
+    assertThat(response.getContentAsString(StandardCharsets.UTF_8))
+        .isEqualTo("2,102,7,2026-10-18,4600,400,PENDING,2026-10-18T12:00\n");
+    then(settlementDetailJdbcRepository).should().streamForExport(eq(TARGET_ID), eq(START),
+        eq(END), eq(new ExportCursor(END, 1L)), eq(100), any());
+  }
+
+  @Test
+  @DisplayName("이어 받을 행이 다른 대상의 것이거나 없으면 내보내지 않고 실패")
+  void export_invalidCursor() {
+    given(settlementDetailJdbcRepository.findSettlementDate(TARGET_ID, 99L))
+        .willReturn(Optional.empty());
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    assertThatThrownBy(() -> settlementExportService.export(TARGET_ID, START, END, 99L,
+        SettlementExportFormat.CSV, response))
+        .isInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.SETTLEMENT_EXPORT_INVALID_CURSOR.getMessage());
+    then(settlementDetailJdbcRepository).should(never())
+        .streamForExport(any(), any(), any(), any(), anyInt(), any());
+  }
+
+  @Test
+  @DisplayName("gzip 형식이면 압축해서 내보냄")
+  void export_gzip() throws Exception {
+    // given
+    givenRows(row(1L, 101L, 9200L, 800L));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // when
+    settlementExportService.export(TARGET_ID, START, END, null, SettlementExportFormat.GZIP,
+        response);
+
+    // then
+    assertThat(response.getContentType()).isEqualTo("application/gzip");
+    try (GZIPInputStream in = new GZIPInputStream(
+        new ByteArrayInputStream(response.getContentAsByteArray()))) {
+      assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+          .endsWith("1,101,7,2026-10-18,9200,800,PENDING,2026-10-18T12:00\n");
+    }
+  }
+
+  @Test
+  @DisplayName("시작일이 종료일보다 늦으면 조회하지 않고 실패")
+  void export_invalidRange() {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    assertThatThrownBy(() -> settlementExportService.export(TARGET_ID, END, START, null,
+        SettlementExportFormat.CSV, response))
+        .isInstanceOf(CustomException.class);
+    then(settlementDetailJdbcRepository).should(never())
+        .streamForExport(any(), any(), any(), any(), anyInt(), any());
+  }
+
+  private void givenRows(ResultSet... rows) {
+    willAnswer(invocation -> {
+      RowCallbackHandler handler = invocation.getArgument(5);
+      for (ResultSet row : List.of(rows)) {
+        handler.processRow(row);
+      }
+      return null;
+    }).given(settlementDetailJdbcRepository)
+        .streamForExport(any(), any(), any(), any(), anyInt(), any());
+  }
+
+  private static ResultSet row(Long id, Long orderId, Long targetAmount, Long platformFee)
+      throws Exception {
+    ResultSet rs = mock(ResultSet.class);
+    when(rs.getLong("id")).thenReturn(id);
+    when(rs.getLong("order_id")).thenReturn(orderId);
+    when(rs.getLong("target_id")).thenReturn(TARGET_ID);
+    when(rs.getObject("settlement_date", LocalDate.class)).thenReturn(END);
+    when(rs.getLong("target_amount")).thenReturn(targetAmount);
+    when(rs.getLong("platform_fee")).thenReturn(platformFee);
+    when(rs.getString("status")).thenReturn("PENDING");
+    when(rs.getObject("created_at", LocalDateTime.class)).thenReturn(END.atTime(12, 0));
+    return rs;
+  }
+}
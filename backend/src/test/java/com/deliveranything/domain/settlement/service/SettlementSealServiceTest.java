@@ -0,0 +1,142 @@
+package com.deliveranything.domain.settlement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.settlement.entity.SettlementCheckpoint;
+import com.deliveranything.domain.settlement.enums.SettlementStatus;
+import com.deliveranything.domain.settlement.repository.SettlementBatchRepository;
+import com.deliveranything.domain.settlement.repository.SettlementCheckpointRepository;
+import com.deliveranything.domain.settlement.repository.SettlementDetailRepository;
+import com.deliveranything.domain.settlement.repository.SettlementRollupRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SettlementSealService 테스트")
+class SettlementSealServiceTest {
+
+  private static final LocalDate DATE = LocalDate.of(2026, 10, 18);
+
+  @InjectMocks
+  private SettlementSealService settlementSealService;
+
+  @Mock
+  private SettlementBatchRepository settlementBatchRepository;
+  @Mock
+  private SettlementDetailRepository settlementDetailRepository;
+  @Mock
+  private SettlementCheckpointRepository settlementCheckpointRepository;
+  @Mock
+  private SettlementRollupRepository settlementRollupRepository;
+
+  @Test
+  @DisplayName("체크포인트 이후 정산 대상 한 청크를 마감하고 체크포인트를 옮김")
+  void sealChunk_resumesFromCheckpoint() {
+    // given
+    SettlementCheckpoint checkpoint = new SettlementCheckpoint(DATE, 1);
+    checkpoint.advance(9L);
+    given(settlementCheckpointRepository.findBySettlementDateAndPartitionNo(DATE, 1))
+        .willReturn(Optional.of(checkpoint));
+    given(settlementBatchRepository.findTargetIdsForPartition(DATE, SettlementStatus.PENDING, 4,
+        1, 9L, Limit.of(2))).willReturn(List.of(13L, 17L));
+
+    // when
+    int sealed = settlementSealService.sealChunk(DATE, 1, 4, 2);
+
+    // then
+    assertThat(sealed).isEqualTo(2);
+    then(settlementBatchRepository).should().updateStatusByTargetIds(DATE, List.of(13L, 17L),
+        SettlementStatus.PENDING, SettlementStatus.COMPLETED);
+    then(settlementDetailRepository).should().updateStatusByTargetIds(DATE, List.of(13L, 17L),
+        SettlementStatus.PENDING, SettlementStatus.COMPLETED);
+    then(settlementRollupRepository).should().addBatches(eq("WEEK"),
+        eq(LocalDate.of(2026, 10, 12)), eq(DATE), eq(List.of(13L, 17L)), any());
+    then(settlementRollupRepository).should().addBatches(eq("MONTH"),
+        eq(LocalDate.of(2026, 10, 1)), eq(DATE), eq(List.of(13L, 17L)), any());
+    assertThat(checkpoint.getLastTargetId()).isEqualTo(17L);
+    assertThat(checkpoint.isCompleted()).isFalse();
+    then(settlementCheckpointRepository).should().save(checkpoint);
+  }
+
+  @Test
+  @DisplayName("마지막 청크를 마감하면 파티션 완료로 표시")
+  void sealChunk_lastChunkCompletesPartition() {
+    // given
+    SettlementCheckpoint checkpoint = new SettlementCheckpoint(DATE, 0);
+    given(settlementCheckpointRepository.findBySettlementDateAndPartitionNo(DATE, 0))
+        .willReturn(Optional.empty());
+    given(settlementCheckpointRepository.save(any(SettlementCheckpoint.class)))
+        .willReturn(checkpoint);
+    given(settlementBatchRepository.findTargetIdsForPartition(DATE, SettlementStatus.PENDING, 4,
+        0, 0L, Limit.of(2))).willReturn(List.of(4L));
+
+    // when
+    int sealed = settlementSealService.sealChunk(DATE, 0, 4, 2);
+
+    // then
+    assertThat(sealed).isEqualTo(1);
+    assertThat(checkpoint.getLastTargetId()).isEqualTo(4L);
+    assertThat(checkpoint.isCompleted()).isTrue();
+  }
+
+  @Test
+  @DisplayName("이미 완료된 파티션에 남은 미마감 집계가 없으면 다시 마감하지 않음")
+  void sealChunk_completedPartitionSkipped() {
+    // given
+    SettlementCheckpoint checkpoint = new SettlementCheckpoint(DATE, 2);
+    checkpoint.complete();
+    given(settlementCheckpointRepository.findBySettlementDateAndPartitionNo(DATE, 2))
+        .willReturn(Optional.of(checkpoint));
+    given(settlementBatchRepository.findTargetIdsForPartition(DATE, SettlementStatus.PENDING, 4,
+        2, 0L, Limit.of(1))).willReturn(List.of());
+
+    // when
+    int sealed = settlementSealService.sealChunk(DATE, 2, 4, 2);
+
+    // then
+    assertThat(sealed).isZero();
+    then(settlementBatchRepository).should(never()).updateStatusByTargetIds(any(), any(), any(),
+        any());
+    then(settlementRollupRepository).shouldHaveNoInteractions();
+    then(settlementCheckpointRepository).should(never()).save(any());
+  }
+
+  @Test
+  @DisplayName("완료된 파티션에 마감 뒤 생긴 미마감 집계가 있으면 다시 열어 마감")
+  void sealChunk_completedPartitionReopened() {
+    // given
+    SettlementCheckpoint checkpoint = new SettlementCheckpoint(DATE, 2);
+    checkpoint.advance(30L);
+    checkpoint.complete();
+    given(settlementCheckpointRepository.findBySettlementDateAndPartitionNo(DATE, 2))
+        .willReturn(Optional.of(checkpoint));
+    given(settlementBatchRepository.findTargetIdsForPartition(DATE, SettlementStatus.PENDING, 4,
+        2, 0L, Limit.of(1))).willReturn(List.of(6L));
+    given(settlementBatchRepository.findTargetIdsForPartition(DATE, SettlementStatus.PENDING, 4,
+        2, 0L, Limit.of(2))).willReturn(List.of(6L));
+
+    // when
+    int sealed = settlementSealService.sealChunk(DATE, 2, 4, 2);
+
+    // then
+    assertThat(sealed).isEqualTo(1);
+    then(settlementBatchRepository).should().updateStatusByTargetIds(DATE, List.of(6L),
+        SettlementStatus.PENDING, SettlementStatus.COMPLETED);
+    assertThat(checkpoint.getLastTargetId()).isEqualTo(6L);
+    assertThat(checkpoint.isCompleted()).isTrue();
+    then(settlementCheckpointRepository).should().save(checkpoint);
+  }
+}
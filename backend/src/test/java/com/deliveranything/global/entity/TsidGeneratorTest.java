@@ -0,0 +1,32 @@
+package com.deliveranything.global.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TsidGenerator 테스트")
+class TsidGeneratorTest {
+
+  @Test
+  @DisplayName("설정한 노드 번호가 ID 의 노드 자리에 들어가고 ID 는 계속 증가")
+  void nextId_usesConfiguredNode() {
+    TsidGenerator.configure(5);
+
+    long first = TsidGenerator.nextId();
+    long second = TsidGenerator.nextId();
+
+    assertThat((first >>> 12) & 0x3FF).isEqualTo(5);
+    assertThat(second).isGreaterThan(first);
+  }
+
+  @Test
+  @DisplayName("범위를 벗어난 노드 번호는 설정 실패")
+  void configure_fail_outOfRange() {
+    assertThatThrownBy(() -> TsidGenerator.configure(1024))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> TsidGenerator.configure(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
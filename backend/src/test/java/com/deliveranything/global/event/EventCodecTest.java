@@ -0,0 +1,52 @@
+package com.deliveranything.global.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.deliveranything.domain.order.event.OrderCreatedEvent;
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.store.store.event.StoreDeletedEvent;
+import com.deliveranything.domain.store.store.event.StoreSavedEvent;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EventCodecTest {
+
+  private final EventCodec eventCodec = new EventCodec();
+
+  @Test
+  @DisplayName("인코딩 후 디코딩 시 같은 채널과 페이로드 복원")
+  void encodeAndDecodeTest() {
+    OrderCreatedEvent event = new OrderCreatedEvent(1L, 2L,
+        List.of(new OrderItemInfo(10L, 3), new OrderItemInfo(11L, 1)));
+
+    byte[] bytes = eventCodec.encode(EventChannel.ORDER_CREATED, event);
+    EventEnvelope<?> envelope = eventCodec.decode(bytes);
+
+    assertThat(bytes[0]).isEqualTo(EventCodec.MAGIC);
+    assertThat(envelope.channel()).isSameAs(EventChannel.ORDER_CREATED);
+    assertThat(envelope.version()).isEqualTo(EventChannel.ORDER_CREATED.version());
+    assertThat(envelope.payload()).isEqualTo(event);
+  }
+
+  @Test
+  @DisplayName("같은 Redis 채널을 공유해도 스키마 ID 로 타입 구분")
+  void sharedChannelTest() {
+    EventEnvelope<?> saved = eventCodec.decode(
+        eventCodec.encode(EventChannel.STORE_SAVED, new StoreSavedEvent(5L)));
+    EventEnvelope<?> deleted = eventCodec.decode(
+        eventCodec.encode(EventChannel.STORE_DELETED, new StoreDeletedEvent(5L)));
+
+    assertThat(EventChannel.STORE_SAVED.channel()).isEqualTo(EventChannel.STORE_DELETED.channel());
+    assertThat(saved.payload()).isInstanceOf(StoreSavedEvent.class);
+    assertThat(deleted.payload()).isInstanceOf(StoreDeletedEvent.class);
+  }
+
+  @Test
+  @DisplayName("헤더가 없는 메시지 디코딩 시 예외 발생")
+  void decodeInvalidMessageTest() {
+    assertThatThrownBy(() -> eventCodec.decode("{\"orderId\":1}".getBytes()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,138 @@
+package com.deliveranything.global.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.store.store.event.StoreDeletedEvent;
+import com.deliveranything.domain.store.store.event.StoreSavedEvent;
+import com.deliveranything.global.event.EventDispatcher.StreamGroup;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.RecordId;
+
+@ExtendWith(MockitoExtension.class)
+class EventDispatcherTest {
+
+  @Mock
+  private RedisConnectionFactory connectionFactory;
+
+  @Mock
+  private EventStreamOperations streamOperations;
+
+  @Mock
+  private EventMetrics eventMetrics;
+
+  private final EventCodec eventCodec = new EventCodec();
+
+  private EventDispatcher eventDispatcher;
+
+  private final StreamGroup searchGroup = new StreamGroup(
+      EventStreamOperations.streamKey(EventChannel.STORE_SAVED), EventGroup.SEARCH.groupName());
+  private final RecordId recordId = RecordId.of("1-0");
+
+  @BeforeEach
+  void setUp() {
+    eventDispatcher = new EventDispatcher(connectionFactory, streamOperations, eventCodec,
+        eventMetrics);
+  }
+
+  @Test
+  @DisplayName("핸들러 처리 성공 시 ACK")
+  void processSuccessTest() {
+    List<StoreSavedEvent> received = new ArrayList<>();
+    eventDispatcher.subscribe(EventChannel.STORE_SAVED, EventGroup.SEARCH, received::add);
+
+    boolean acked = eventDispatcher.process(searchGroup, recordId,
+        eventCodec.encode(EventChannel.STORE_SAVED, new StoreSavedEvent(1L)));
+
+    assertThat(acked).isTrue();
+    assertThat(received).containsExactly(new StoreSavedEvent(1L));
+    then(streamOperations).should().acknowledge(searchGroup.streamKey(), searchGroup.group(),
+        recordId);
+  }
+
+  @Test
+  @DisplayName("핸들러 실패 시 ACK 하지 않고 pending 으로 남김")
+  void processFailureTest() {
+    eventDispatcher.subscribe(EventChannel.STORE_SAVED, EventGroup.SEARCH, event -> {
+      throw new IllegalStateException("boom");
+    });
+
+    boolean acked = eventDispatcher.process(searchGroup, recordId,
+        eventCodec.encode(EventChannel.STORE_SAVED, new StoreSavedEvent(1L)));
+
+    assertThat(acked).isFalse();
+    then(streamOperations).should(never()).acknowledge(any(), any(), any());
+    then(eventMetrics).should().handled(eq(EventChannel.STORE_SAVED), anyLong(), eq(false));
+  }
+
+  @Test
+  @DisplayName("재시도해도 같은 업무 거절은 재전달하지 않고 데드레터로 이동")
+  void processRejectedTest() {
+    eventDispatcher.subscribe(EventChannel.STORE_SAVED, EventGroup.SEARCH, event -> {
+      throw new CustomException(ErrorCode.STORE_NOT_FOUND);
+    });
+    byte[] payload = eventCodec.encode(EventChannel.STORE_SAVED, new StoreSavedEvent(1L));
+
+    boolean acked = eventDispatcher.process(searchGroup, recordId, payload);
+
+    assertThat(acked).isTrue();
+    then(streamOperations).should().deadLetter(searchGroup.streamKey(), searchGroup.group(),
+        recordId, payload, "rejected");
+    then(streamOperations).should(never()).acknowledge(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("인프라 오류(5xx)는 pending 으로 남겨 재전달")
+  void processInfrastructureFailureTest() {
+    eventDispatcher.subscribe(EventChannel.STORE_SAVED, EventGroup.SEARCH, event -> {
+      throw new CustomException(ErrorCode.PG_UNAVAILABLE);
+    });
+
+    boolean acked = eventDispatcher.process(searchGroup, recordId,
+        eventCodec.encode(EventChannel.STORE_SAVED, new StoreSavedEvent(1L)));
+
+    assertThat(acked).isFalse();
+    then(streamOperations).should(never()).deadLetter(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("같은 스트림의 다른 타입 이벤트는 핸들러 호출 없이 ACK")
+  void processUnsubscribedTypeTest() {
+    List<StoreSavedEvent> received = new ArrayList<>();
+    eventDispatcher.subscribe(EventChannel.STORE_SAVED, EventGroup.SEARCH, received::add);
+
+    boolean acked = eventDispatcher.process(searchGroup, recordId,
+        eventCodec.encode(EventChannel.STORE_DELETED, new StoreDeletedEvent(1L)));
+
+    assertThat(acked).isTrue();
+    assertThat(received).isEmpty();
+    then(eventMetrics).should(never()).handled(any(), anyLong(), anyBoolean());
+  }
+
+  @Test
+  @DisplayName("디코딩 실패 메시지는 데드레터로 이동")
+  void processDecodeFailureTest() {
+    byte[] payload = "invalid".getBytes();
+
+    boolean acked = eventDispatcher.process(searchGroup, recordId, payload);
+
+    assertThat(acked).isTrue();
+    then(streamOperations).should().deadLetter(searchGroup.streamKey(), searchGroup.group(),
+        recordId, payload, "decode-failed");
+  }
+}
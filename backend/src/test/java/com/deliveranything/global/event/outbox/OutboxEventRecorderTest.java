@@ -0,0 +1,86 @@
+package com.deliveranything.global.event.outbox;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.domain.order.event.OrderCompletedEvent;
+import com.deliveranything.global.event.EventChannel;
+import com.deliveranything.global.event.EventCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxEventRecorder 테스트")
+class OutboxEventRecorderTest {
+
+  @InjectMocks
+  private OutboxEventRecorder outboxEventRecorder;
+
+  @Mock
+  private OutboxEventRepository outboxEventRepository;
+
+  @Mock
+  private EventCodec eventCodec;
+
+  private final OrderCompletedEvent event = new OrderCompletedEvent(1L, 2L, 3L, 10000L, 3000L,
+      4L, 5L, null);
+
+  @Test
+  @DisplayName("쓰기 트랜잭션에서는 outbox 에 기록")
+  void record_readWriteTransaction() {
+    given(eventCodec.encode(EventChannel.ORDER_COMPLETED, event)).willReturn(new byte[]{1});
+
+    template(false).executeWithoutResult(status -> outboxEventRecorder.record(event));
+
+    then(outboxEventRepository).should().save(any(OutboxEvent.class));
+  }
+
+  @Test
+  @DisplayName("읽기 전용 트랜잭션에서 발행하면 기록하지 않고 바로 실패")
+  void record_readOnlyTransactionFails() {
+    assertThatThrownBy(() -> template(true)
+        .executeWithoutResult(status -> outboxEventRecorder.record(event)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("read-only");
+    then(outboxEventRepository).should(never()).save(any());
+  }
+
+  // 트랜잭션 동기화(읽기 전용 플래그 포함)는 실제 AbstractPlatformTransactionManager 가 관리
+  private static TransactionTemplate template(boolean readOnly) {
+    TransactionTemplate template = new TransactionTemplate(new NoOpTransactionManager());
+    template.setReadOnly(readOnly);
+    template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+    return template;
+  }
+
+  private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+      return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package com.deliveranything.global.event.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+import com.deliveranything.global.event.EventChannel;
+import com.deliveranything.global.event.EventMetrics;
+import com.deliveranything.global.event.EventStreamOperations;
+import com.deliveranything.global.event.EventStreamOperations.StreamEntry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelayService 테스트")
+class OutboxRelayServiceTest {
+
+  @InjectMocks
+  private OutboxRelayService outboxRelayService;
+
+  @Mock
+  private OutboxEventRepository outboxEventRepository;
+
+  @Mock
+  private OutboxRelayPartitionRepository outboxRelayPartitionRepository;
+
+  @Mock
+  private EventStreamOperations streamOperations;
+
+  @Mock
+  private EventMetrics eventMetrics;
+
+  @Test
+  @DisplayName("미발행 이벤트를 파이프라인으로 발행 후 일괄 완료 처리")
+  @SuppressWarnings("unchecked")
+  void relayBatch() {
+    OutboxEvent created = outboxEvent(1L, EventChannel.ORDER_CREATED, new byte[]{1, 2});
+    OutboxEvent completed = outboxEvent(2L, EventChannel.ORDER_COMPLETED, new byte[]{3});
+    givenPartitionLock(0);
+    given(outboxEventRepository.findUnsent(4, 0, Limit.of(100)))
+        .willReturn(List.of(created, completed));
+
+    int relayed = outboxRelayService.relayBatch(4, 0, 100);
+
+    assertThat(relayed).isEqualTo(2);
+    ArgumentCaptor<List<StreamEntry>> captor = ArgumentCaptor.forClass(List.class);
+    then(streamOperations).should().addAll(captor.capture());
+    assertThat(captor.getValue()).extracting(StreamEntry::streamKey).containsExactly(
+        EventStreamOperations.streamKey(EventChannel.ORDER_CREATED),
+        EventStreamOperations.streamKey(EventChannel.ORDER_COMPLETED));
+    then(outboxEventRepository).should().markSent(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+  }
+
+  @Test
+  @DisplayName("파티션 잠금을 잡은 뒤 조회하고, 잠금 행이 없으면 만들어서 잡음")
+  void relayBatch_locksPartitionFirst() {
+    given(outboxRelayPartitionRepository.findByPartitionNo(3)).willReturn(Optional.empty());
+    given(outboxEventRepository.findUnsent(4, 3, Limit.of(100))).willReturn(List.of());
+
+    outboxRelayService.relayBatch(4, 3, 100);
+
+    InOrder inOrder = inOrder(outboxRelayPartitionRepository, outboxEventRepository);
+    inOrder.verify(outboxRelayPartitionRepository).findByPartitionNo(3);
+    inOrder.verify(outboxRelayPartitionRepository).saveAndFlush(any(OutboxRelayPartition.class));
+    inOrder.verify(outboxEventRepository).findUnsent(4, 3, Limit.of(100));
+  }
+
+  @Test
+  @DisplayName("Redis 발행 실패 시 완료 처리하지 않음 (롤백 후 재시도)")
+  void relayBatch_publishFailed() {
+    OutboxEvent created = outboxEvent(1L, EventChannel.ORDER_CREATED, new byte[]{1});
+    givenPartitionLock(1);
+    given(outboxEventRepository.findUnsent(4, 1, Limit.of(100)))
+        .willReturn(List.of(created));
+    willThrow(new RedisConnectionFailureException("down")).given(streamOperations).addAll(anyList());
+
+    assertThatThrownBy(() -> outboxRelayService.relayBatch(4, 1, 100))
+        .isInstanceOf(RedisConnectionFailureException.class);
+
+    then(outboxEventRepository).should(never()).markSent(anyList(), any());
+  }
+
+  @Test
+  @DisplayName("미발행 이벤트가 없으면 아무것도 하지 않음")
+  void relayBatch_empty() {
+    givenPartitionLock(2);
+    given(outboxEventRepository.findUnsent(4, 2, Limit.of(100))).willReturn(List.of());
+
+    int relayed = outboxRelayService.relayBatch(4, 2, 100);
+
+    assertThat(relayed).isZero();
+    then(streamOperations).shouldHaveNoInteractions();
+  }
+
+  private void givenPartitionLock(int partition) {
+    given(outboxRelayPartitionRepository.findByPartitionNo(partition))
+        .willReturn(Optional.of(new OutboxRelayPartition(partition)));
+  }
+
+  private OutboxEvent outboxEvent(Long id, EventChannel<?> channel, byte[] payload) {
+    OutboxEvent event = OutboxEvent.of(channel, payload);
+    ReflectionTestUtils.setField(event, "id", id);
+    ReflectionTestUtils.setField(event, "createdAt", LocalDateTime.now().minusSeconds(1));
+    return event;
+  }
+}